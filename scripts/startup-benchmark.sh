@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# 콜드 스타트 측정: 프로세스 시작부터 GET /api/boards 가 처음 200을 반환할 때까지의 시간(ms)
+# 사용법: ./gradlew -Paot bootJar && scripts/startup-benchmark.sh [반복 횟수]
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+JAR="${JAR:-$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)}"
+WORK_DIR="$(mktemp -d)"
+APP_PID=""
+
+cleanup() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+    fi
+    rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+# CDS는 추출된 클래스패스에서만 동작하므로 모든 변형을 같은 레이아웃에서 실행한다
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR/app" > /dev/null
+APP="$WORK_DIR/app/$(basename "$JAR")"
+
+echo "Training run for CDS archive..."
+java -XX:ArchiveClassesAtExit="$WORK_DIR/app.jsa" \
+    -Dspring.context.exit=onRefresh \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=faststart \
+    -jar "$APP" > "$WORK_DIR/training.log" 2>&1
+
+measure() {
+    local label="$1"
+    shift
+    local total=0 best=0 worst=0
+    for ((run = 1; run <= RUNS; run++)); do
+        local started finished elapsed
+        started=$(date +%s%N)
+        java "$@" -Dserver.port="$PORT" -jar "$APP" > "$WORK_DIR/run.log" 2>&1 &
+        APP_PID=$!
+        until curl -sf -o /dev/null "http://localhost:$PORT/api/boards"; do
+            if ! kill -0 "$APP_PID" 2> /dev/null; then
+                echo "$label: application exited before serving requests" >&2
+                cat "$WORK_DIR/run.log" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        finished=$(date +%s%N)
+        kill "$APP_PID"
+        wait "$APP_PID" 2> /dev/null || true
+        APP_PID=""
+
+        elapsed=$(((finished - started) / 1000000))
+        total=$((total + elapsed))
+        if ((best == 0 || elapsed < best)); then best=$elapsed; fi
+        if ((elapsed > worst)); then worst=$elapsed; fi
+    done
+    printf "%-16s avg=%6d ms  best=%6d ms  worst=%6d ms  (%d runs)\n" \
+        "$label" $((total / RUNS)) "$best" "$worst" "$RUNS"
+}
+
+echo "=== Time to first successful GET /api/boards ==="
+measure "default"
+measure "lazy" -Dspring.profiles.active=faststart
+measure "lazy+aot" -Dspring.profiles.active=faststart -Dspring.aot.enabled=true
+measure "lazy+aot+cds" -XX:SharedArchiveFile="$WORK_DIR/app.jsa" \
+    -Dspring.profiles.active=faststart -Dspring.aot.enabled=true
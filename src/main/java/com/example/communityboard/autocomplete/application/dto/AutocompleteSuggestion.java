@@ -0,0 +1,7 @@
+package com.example.communityboard.autocomplete.application.dto;
+
+import com.example.communityboard.autocomplete.domain.AutocompleteType;
+
+// 게시판이면 text가 제목, 회원이면 닉네임이다
+public record AutocompleteSuggestion(AutocompleteType type, Long id, String text) {
+}
@@ -0,0 +1,22 @@
+package com.example.communityboard.autocomplete.application.dto.response;
+
+import com.example.communityboard.autocomplete.application.dto.AutocompleteSuggestion;
+import com.example.communityboard.autocomplete.domain.AutocompleteType;
+import lombok.Getter;
+
+@Getter
+public class AutocompleteSuggestionResponse {
+    private final AutocompleteType type;
+    private final Long id;
+    private final String text;
+
+    private AutocompleteSuggestionResponse(AutocompleteSuggestion suggestion) {
+        this.type = suggestion.type();
+        this.id = suggestion.id();
+        this.text = suggestion.text();
+    }
+
+    public static AutocompleteSuggestionResponse from(AutocompleteSuggestion suggestion) {
+        return new AutocompleteSuggestionResponse(suggestion);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.communityboard.autocomplete.application.service;
+
+import com.example.communityboard.autocomplete.domain.AutocompleteType;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSource;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSourceRepository;
+import com.example.communityboard.common.config.AutocompleteProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+// 요청을 받기 시작한 뒤 백그라운드에서 게시판과 회원을 모두 읽어 자동완성을 채운다.
+// 적재 중에 작성/수정된 항목은 이미 최신 내용으로 들어 있으므로 덮어쓰지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteLoader {
+
+    private final AutocompleteSourceRepository autocompleteSourceRepository;
+    private final AutocompleteService autocompleteService;
+    private final AutocompleteProperties properties;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        int boards = loadAll(autocompleteSourceRepository::findBoardsAfter,
+                source -> autocompleteService.putIfAbsent(AutocompleteType.BOARD, source));
+        int members = loadAll(autocompleteSourceRepository::findMembersAfter,
+                source -> autocompleteService.putIfAbsent(AutocompleteType.MEMBER, source));
+        log.info("Loaded autocomplete: {} boards, {} members in {} ms",
+                boards, members, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 게시판은 수가 적어 전부 다시 읽어도 싸다
+    @Scheduled(fixedDelayString = "${app.autocomplete.board-refresh-interval:PT5M}",
+            initialDelayString = "${app.autocomplete.board-refresh-interval:PT5M}")
+    public void refreshBoardWeights() {
+        try {
+            loadAll(autocompleteSourceRepository::findBoardsAfter,
+                    source -> autocompleteService.updateWeight(AutocompleteType.BOARD, source));
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh board popularity for autocomplete", e);
+        }
+    }
+
+    private int loadAll(BiFunction<Long, Integer, List<AutocompleteSource>> reader,
+                        Consumer<AutocompleteSource> apply) {
+        int loaded = 0;
+        long afterId = 0;
+        while (true) {
+            List<AutocompleteSource> batch = reader.apply(afterId, properties.getLoadBatchSize());
+            for (AutocompleteSource source : batch) {
+                apply.accept(source);
+            }
+            loaded += batch.size();
+            if (batch.size() < properties.getLoadBatchSize()) {
+                return loaded;
+            }
+            afterId = batch.get(batch.size() - 1).id();
+        }
+    }
+}
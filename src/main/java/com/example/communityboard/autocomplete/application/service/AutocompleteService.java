@@ -0,0 +1,93 @@
+package com.example.communityboard.autocomplete.application.service;
+
+import com.example.communityboard.autocomplete.application.dto.AutocompleteSuggestion;
+import com.example.communityboard.autocomplete.domain.AutocompleteType;
+import com.example.communityboard.autocomplete.domain.PrefixTrie;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSource;
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.post.domain.entity.Post;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 게시판 제목과 회원 닉네임의 접두어 자동완성. 입력할 때마다 DB를 LIKE로 읽지 않고 메모리의 PrefixTrie만 읽는다.
+// 게시판은 조회수, 회원은 작성한 글 수 순으로 추천하며, 작성/수정/닉네임 변경/글 작성은 커밋 후 해당 항목만 고친다.
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    public static final int MAX_SIZE = 10;
+    public static final int MAX_QUERY_LENGTH = 30;
+
+    private final PrefixTrie boards = new PrefixTrie(MAX_SIZE);
+    private final PrefixTrie members = new PrefixTrie(MAX_SIZE);
+
+    public List<AutocompleteSuggestion> suggest(String query, String type, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("자동완성 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        AutocompleteType target = AutocompleteType.from(type, query);
+        String prefix = query.startsWith("@") ? query.substring(1) : query;
+        return trie(target).suggest(prefix, size).stream()
+                .map(suggestion -> new AutocompleteSuggestion(target, suggestion.id(), suggestion.text()))
+                .toList();
+    }
+
+    public void putBoardAfterCommit(Board board) {
+        long id = board.getId();
+        String title = board.getTitle();
+        long viewCount = board.getViewCount();
+        afterCommit("board " + id, () -> boards.rename(id, title, viewCount));
+    }
+
+    public void putMemberAfterCommit(Member member) {
+        long id = member.getId();
+        String nickname = member.getNickname().getValue();
+        afterCommit("member " + id, () -> members.rename(id, nickname, 0));
+    }
+
+    public void recordPostAfterCommit(Post post) {
+        long authorId = post.getAuthor().getId();
+        afterCommit("member " + authorId, () -> members.addWeight(authorId, 1));
+    }
+
+    // 이미 있는 항목은 건너뛴다 (AutocompleteLoader 참고)
+    public boolean putIfAbsent(AutocompleteType type, AutocompleteSource source) {
+        return trie(type).putIfAbsent(source.id(), source.text(), source.weight());
+    }
+
+    // 조회수는 따로 모아 DB에 반영되므로(ViewCountService) 주기적으로 다시 읽어 순위에만 반영한다
+    public void updateWeight(AutocompleteType type, AutocompleteSource source) {
+        trie(type).updateWeight(source.id(), source.weight());
+    }
+
+    public int size(AutocompleteType type) {
+        return trie(type).size();
+    }
+
+    private PrefixTrie trie(AutocompleteType type) {
+        return type == AutocompleteType.BOARD ? boards : members;
+    }
+
+    // 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에만 고친다 (롤백된 이름이 추천되지 않도록)
+    private void afterCommit(String target, Runnable update) {
+        AfterCommit.run(() -> applyQuietly(target, update));
+    }
+
+    private void applyQuietly(String target, Runnable update) {
+        try {
+            update.run();
+        } catch (RuntimeException e) {
+            log.warn("Failed to update autocomplete for {}", target, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.communityboard.autocomplete.domain;
+
+import java.util.Locale;
+
+public enum AutocompleteType {
+    BOARD,
+    MEMBER;
+
+    // 없으면 검색어가 @로 시작할 때 회원, 아니면 게시판
+    public static AutocompleteType from(String value, String query) {
+        if (value == null || value.isBlank()) {
+            return query != null && query.startsWith("@") ? MEMBER : BOARD;
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("자동완성 대상은 BOARD 또는 MEMBER여야 합니다.");
+        }
+    }
+}
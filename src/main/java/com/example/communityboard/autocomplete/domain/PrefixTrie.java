@@ -0,0 +1,355 @@
+package com.example.communityboard.autocomplete.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 접두어로 인기 있는 항목을 찾는 radix 트리. 자식이 하나뿐인 노드는 간선 하나로 합쳐 노드 수를 키 수 정도로 유지한다.
+// 노드마다 아래에 있는 항목 중 가중치 상위 maxSuggestions개를 미리 골라 두므로, 조회는 접두어 길이만큼 내려가 그 목록을 읽기만 한다.
+// 항목은 전체 텍스트와 공백 뒤의 단어 시작마다 색인해 "게시판"으로 "자유 게시판"도 찾는다.
+// 쓰기는 드물고 조회는 입력할 때마다 들어오므로, 쓸 때 경로의 상위 목록을 고쳐 두는 비용을 받아들인다.
+public final class PrefixTrie {
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text)
+            .thenComparingLong(Suggestion::id);
+    private static final Suggestion[] EMPTY = new Suggestion[0];
+
+    private final int maxSuggestions;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private final Map<Long, Suggestion> entries = new HashMap<>();
+
+    public PrefixTrie(int maxSuggestions) {
+        if (maxSuggestions < 1) {
+            throw new IllegalArgumentException("추천 개수는 1 이상이어야 합니다.");
+        }
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    // 같은 id가 있으면 텍스트와 가중치를 바꾼다
+    public void put(long id, String text, long weight) {
+        lock.writeLock().lock();
+        try {
+            replace(id, new Suggestion(id, text, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이미 있으면 건너뛴다. 전체 적재 중에 들어온 더 최신 내용을 덮어쓰지 않기 위해 쓴다
+    public boolean putIfAbsent(long id, String text, long weight) {
+        lock.writeLock().lock();
+        try {
+            if (entries.containsKey(id)) {
+                return false;
+            }
+            replace(id, new Suggestion(id, text, weight));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 텍스트만 바꾸고 가중치는 유지한다. 없으면 initialWeight로 넣는다
+    public void rename(long id, String text, long initialWeight) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.get(id);
+            replace(id, new Suggestion(id, text, previous == null ? initialWeight : previous.weight()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 없는 id면 무시한다
+    public void updateWeight(long id, long weight) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.get(id);
+            if (previous != null && previous.weight() != weight) {
+                replace(id, new Suggestion(id, previous.text(), weight));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addWeight(long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.get(id);
+            if (previous != null && delta != 0) {
+                replace(id, new Suggestion(id, previous.text(), previous.weight() + delta));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.remove(id);
+            if (previous == null) {
+                return false;
+            }
+            for (String key : keys(previous.text())) {
+                removeKey(key, previous);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두어로 시작하는 단어가 있는 항목을 가중치 순으로 최대 limit개(maxSuggestions 이하) 돌려준다
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefixLength(child.label, key, i);
+                if (common < child.label.length() && i + common < key.length()) {
+                    return List.of();
+                }
+                node = child;
+                i += common;
+            }
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 대소문자를 구분하지 않고 연속된 공백은 하나로 본다
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> keys(String text) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private void replace(long id, Suggestion next) {
+        Suggestion previous = entries.put(id, next);
+        if (previous != null && previous.text().equals(next.text()) && previous.weight() <= next.weight()) {
+            for (String key : keys(next.text())) {
+                raiseKey(key, previous, next);
+            }
+            return;
+        }
+        if (previous != null) {
+            for (String key : keys(previous.text())) {
+                removeKey(key, previous);
+            }
+        }
+        for (String key : keys(next.text())) {
+            insertKey(key, next);
+        }
+    }
+
+    private void insertKey(String key, Suggestion entry) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(child.label.charAt(0), child);
+                path.add(child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            path.add(child);
+            node = child;
+            i += common;
+        }
+        node.terminals.add(entry);
+        for (Node onPath : path) {
+            onPath.top = withEntry(onPath.top, entry);
+        }
+    }
+
+    // 가중치가 오르기만 하면 들어 있던 상위 목록에서 빠지지 않으므로 목록을 다시 모으지 않고 자리만 옮긴다.
+    // 인기도는 대부분 글 작성처럼 1씩 오르므로 이 경로를 탄다
+    private void raiseKey(String key, Suggestion previous, Suggestion next) {
+        Node node = root;
+        int i = 0;
+        while (true) {
+            node.top = withEntry(without(node.top, previous), next);
+            if (i == key.length()) {
+                break;
+            }
+            node = node.children.get(key.charAt(i));
+            i += node.label.length();
+        }
+        node.terminals.remove(previous);
+        node.terminals.add(next);
+    }
+
+    // 간선 중간에서 갈라지면 앞부분을 새 노드로 떼어 낸다. 떼어 낸 노드의 아래는 원래 노드와 같으므로 상위 목록도 같다
+    private Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top = child.top;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private void removeKey(String key, Suggestion entry) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.children.get(key.charAt(i));
+            i += node.label.length();
+            path.add(node);
+        }
+        node.terminals.remove(entry);
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node onPath = path.get(depth);
+            if (depth > 0 && onPath.terminals.isEmpty() && onPath.children.size() <= 1) {
+                Node parent = path.get(depth - 1);
+                if (onPath.children.isEmpty()) {
+                    parent.children.remove(onPath.label.charAt(0));
+                    continue;
+                }
+                // 항목 없이 자식 하나로만 이어지는 노드는 자식과 합친다
+                Node only = onPath.children.values().iterator().next();
+                only.label = onPath.label + only.label;
+                parent.children.put(only.label.charAt(0), only);
+                continue;
+            }
+            if (contains(onPath.top, entry)) {
+                onPath.top = collectTop(onPath);
+            }
+        }
+    }
+
+    private Suggestion[] collectTop(Node node) {
+        List<Suggestion> candidates = new ArrayList<>(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANKING);
+        List<Suggestion> top = new ArrayList<>(maxSuggestions);
+        for (Suggestion candidate : candidates) {
+            if (top.size() == maxSuggestions) {
+                break;
+            }
+            if (!top.contains(candidate)) {
+                top.add(candidate);
+            }
+        }
+        return top.toArray(EMPTY);
+    }
+
+    private Suggestion[] withEntry(Suggestion[] top, Suggestion entry) {
+        if (contains(top, entry)) {
+            return top;
+        }
+        int position = 0;
+        while (position < top.length && RANKING.compare(top[position], entry) < 0) {
+            position++;
+        }
+        if (position == maxSuggestions) {
+            return top;
+        }
+        int length = Math.min(top.length + 1, maxSuggestions);
+        Suggestion[] next = new Suggestion[length];
+        System.arraycopy(top, 0, next, 0, position);
+        next[position] = entry;
+        System.arraycopy(top, position, next, position + 1, length - position - 1);
+        return next;
+    }
+
+    private static Suggestion[] without(Suggestion[] top, Suggestion entry) {
+        for (int i = 0; i < top.length; i++) {
+            if (top[i].equals(entry)) {
+                Suggestion[] next = new Suggestion[top.length - 1];
+                System.arraycopy(top, 0, next, 0, i);
+                System.arraycopy(top, i + 1, next, i, top.length - i - 1);
+                return next;
+            }
+        }
+        return top;
+    }
+
+    private static boolean contains(Suggestion[] top, Suggestion entry) {
+        for (Suggestion suggestion : top) {
+            if (suggestion.equals(entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    public record Suggestion(long id, String text, long weight) {
+    }
+
+    // top은 통째로 바꿔 끼우므로 조회가 읽는 배열은 바뀌지 않는다
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+        private Suggestion[] top = EMPTY;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.communityboard.autocomplete.domain.repository;
+
+// 자동완성 후보. 게시판은 조회수, 회원은 작성한 글 수가 인기도다
+public record AutocompleteSource(long id, String text, long weight) {
+}
@@ -0,0 +1,11 @@
+package com.example.communityboard.autocomplete.domain.repository;
+
+import java.util.List;
+
+// 자동완성 후보를 id 순으로 나눠 읽는다. 전체 적재에만 쓰며 입력할 때마다 읽지 않는다.
+public interface AutocompleteSourceRepository {
+
+    List<AutocompleteSource> findBoardsAfter(long afterId, int size);
+
+    List<AutocompleteSource> findMembersAfter(long afterId, int size);
+}
@@ -0,0 +1,39 @@
+package com.example.communityboard.autocomplete.infrastructure.persistence;
+
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSource;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 필요한 컬럼만 JDBC로 읽는다. 회원별 글 수는 idx_post_author 인덱스 범위만 센다
+@Repository
+@RequiredArgsConstructor
+public class JdbcAutocompleteSourceRepository implements AutocompleteSourceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AutocompleteSource> findBoardsAfter(long afterId, int size) {
+        return jdbcTemplate.query(
+                "select id, title, view_count from board where id > ? order by id limit ?",
+                (rs, rowNum) -> new AutocompleteSource(rs.getLong("id"), rs.getString("title"),
+                        rs.getLong("view_count")),
+                afterId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AutocompleteSource> findMembersAfter(long afterId, int size) {
+        return jdbcTemplate.query(
+                "select m.id, m.nickname, (select count(*) from post p where p.author_id = m.id) as post_count"
+                        + " from members m where m.id > ? order by m.id limit ?",
+                (rs, rowNum) -> new AutocompleteSource(rs.getLong("id"), rs.getString("nickname"),
+                        rs.getLong("post_count")),
+                afterId, size);
+    }
+}
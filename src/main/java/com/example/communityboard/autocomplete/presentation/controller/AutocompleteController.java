@@ -0,0 +1,33 @@
+package com.example.communityboard.autocomplete.presentation.controller;
+
+import com.example.communityboard.autocomplete.application.dto.response.AutocompleteSuggestionResponse;
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
+import com.example.communityboard.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    // type은 BOARD 또는 MEMBER. 없으면 q가 @로 시작할 때 회원, 아니면 게시판
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AutocompleteSuggestionResponse>>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "5") int size) {
+        List<AutocompleteSuggestionResponse> responses = autocompleteService.suggest(q, type, size).stream()
+                .map(AutocompleteSuggestionResponse::from)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+}
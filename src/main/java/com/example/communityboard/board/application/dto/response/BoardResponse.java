@@ -12,19 +12,27 @@ public class BoardResponse {
     private final String title;
     private final String description;
     private final BoardType boardType;
+    private final long viewCount;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
 
-    private BoardResponse(Board board) {
+    private BoardResponse(Board board, long viewCount) {
         this.id = board.getId();
         this.title = board.getTitle();
         this.description = board.getDescription();
         this.boardType = board.getBoardType();
+        this.viewCount = viewCount;
         this.createdAt = board.getCreatedAt();
         this.updatedAt = board.getUpdatedAt();
     }
 
     public static BoardResponse from(Board board) {
-        return new BoardResponse(board);
+        return new BoardResponse(board, board.getViewCount());
     }
+
+    // 아직 DB에 반영되지 않은 조회수까지 합친 값으로 응답할 때 사용
+    public static BoardResponse from(Board board, long viewCount) {
+        return new BoardResponse(board, viewCount);
+    }
+
 }
\ No newline at end of file
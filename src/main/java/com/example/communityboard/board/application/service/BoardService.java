@@ -1,8 +1,10 @@
 package com.example.communityboard.board.application.service;
 
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
 import com.example.communityboard.board.domain.entity.Board;
 import com.example.communityboard.board.domain.entity.BoardType;
 import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.search.application.service.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,11 +17,15 @@ import java.util.List;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final SearchIndexService searchIndexService;
+    private final AutocompleteService autocompleteService;
 
     @Transactional
     public Board createBoard(String title, String description, BoardType boardType) {
-        Board board = Board.create(title, description, boardType);
-        return boardRepository.save(board);
+        Board board = boardRepository.save(Board.create(title, description, boardType));
+        searchIndexService.indexBoardAfterCommit(board);
+        autocompleteService.putBoardAfterCommit(board);
+        return board;
     }
 
     public Board getBoard(Long boardId) {
@@ -35,6 +41,8 @@ public class BoardService {
     public Board updateBoard(Long boardId, String title, String description) {
         Board board = getBoard(boardId);
         board.updateBoardInfo(title, description);
+        searchIndexService.indexBoardAfterCommit(board);
+        autocompleteService.putBoardAfterCommit(board);
         return boardRepository.save(board);
     }
 }
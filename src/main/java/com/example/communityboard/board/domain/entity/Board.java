@@ -1,7 +1,9 @@
 package com.example.communityboard.board.domain.entity;
 
 import com.example.communityboard.common.BaseEntity;
+import com.example.communityboard.moderation.domain.ContentFilter;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,6 +27,10 @@ public class Board extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private BoardType boardType;
 
+    // 조회수는 ViewCountFlusher만 증가시킨다. 엔티티 저장 시 덮어쓰지 않도록 updatable = false
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
 
 
     private Board(String title, String description, BoardType boardType) {
@@ -46,6 +52,9 @@ public class Board extends BaseEntity {
         if (title.length() > 50) {
             throw new IllegalArgumentException("제목은 50자를 초과할 수 없습니다.");
         }
+        if (ContentFilter.containsBannedTerm(title)) {
+            throw new IllegalArgumentException("제목에 사용할 수 없는 단어가 포함되어 있습니다.");
+        }
     }
 
     private void validateBoardType(BoardType boardType) {
@@ -2,6 +2,7 @@ package com.example.communityboard.board.domain.repository;
 
 import com.example.communityboard.board.domain.entity.Board;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,6 @@ public interface BoardRepository {
     Optional<Board> findById(Long id);
     
     List<Board> findAll();
+
+    List<Board> findAllByIds(Collection<Long> ids);
 }
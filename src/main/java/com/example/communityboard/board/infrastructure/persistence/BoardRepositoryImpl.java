@@ -6,6 +6,7 @@ import com.example.communityboard.board.domain.repository.BoardRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +31,12 @@ public class BoardRepositoryImpl implements BoardRepository {
         return boardJpaRepository.findAll();
     }
 
+    @Override
+    public List<Board> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return boardJpaRepository.findAllById(ids);
+    }
+
 }
@@ -6,6 +6,11 @@ import com.example.communityboard.board.application.dto.response.BoardResponse;
 import com.example.communityboard.board.application.service.BoardService;
 import com.example.communityboard.board.domain.entity.Board;
 import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.trending.application.service.TrendingService;
+import com.example.communityboard.viewcount.application.service.ViewCountService;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.application.service.VisitorService;
+import com.example.communityboard.visitor.presentation.VisitorIdentity;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -22,6 +27,9 @@ import java.util.stream.Collectors;
 public class BoardController {
 
     private final BoardService boardService;
+    private final ViewCountService viewCountService;
+    private final VisitorService visitorService;
+    private final TrendingService trendingService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')") //운영자만 게시판 생성 가능
@@ -35,14 +43,17 @@ public class BoardController {
     @GetMapping("/{boardId}")
     public ResponseEntity<ApiResponse<BoardResponse>> getBoard(@PathVariable Long boardId) {
         Board board = boardService.getBoard(boardId);
-        return ResponseEntity.ok(ApiResponse.success(BoardResponse.from(board)));
+        viewCountService.recordView(ViewTarget.BOARD, boardId);
+        visitorService.recordVisit(ViewTarget.BOARD, boardId, VisitorIdentity.current());
+        trendingService.recordBoardRead(boardId);
+        return ResponseEntity.ok(ApiResponse.success(toResponse(board)));
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<BoardResponse>>> getAllBoards() {
         List<Board> boards = boardService.getAllBoards();
         List<BoardResponse> responses = boards.stream()
-                .map(BoardResponse::from)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
@@ -53,6 +64,12 @@ public class BoardController {
             @PathVariable Long boardId,
             @Valid @RequestBody UpdateBoardRequest request) {
         Board board = boardService.updateBoard(boardId, request.getTitle(), request.getDescription());
-        return ResponseEntity.ok(ApiResponse.success(BoardResponse.from(board), "게시판 설정이 변경되었습니다."));
+        return ResponseEntity.ok(ApiResponse.success(toResponse(board), "게시판 설정이 변경되었습니다."));
     }
+
+    private BoardResponse toResponse(Board board) {
+        long viewCount = viewCountService.currentCount(ViewTarget.BOARD, board.getId(), board.getViewCount());
+        return BoardResponse.from(board, viewCount);
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.example.communityboard.comment.application.dto;
+
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class CommentNode {
+    private final CommentRow comment;
+    private final List<CommentNode> replies = new ArrayList<>();
+
+    public CommentNode(CommentRow comment) {
+        this.comment = comment;
+    }
+}
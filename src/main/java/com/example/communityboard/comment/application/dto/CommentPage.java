@@ -0,0 +1,10 @@
+package com.example.communityboard.comment.application.dto;
+
+import java.util.List;
+
+public record CommentPage(List<CommentNode> comments, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
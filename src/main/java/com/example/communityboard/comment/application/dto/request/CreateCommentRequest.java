@@ -0,0 +1,25 @@
+package com.example.communityboard.comment.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateCommentRequest {
+
+    @NotNull(message = "작성자는 필수입니다.")
+    private Long authorId;
+
+    // 답글이면 부모 댓글 ID
+    private Long parentId;
+
+    @NotBlank(message = "내용은 필수입니다.")
+    @Size(max = 1000, message = "댓글은 1000자를 초과할 수 없습니다.")
+    private String content;
+
+}
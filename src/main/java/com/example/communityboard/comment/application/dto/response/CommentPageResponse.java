@@ -0,0 +1,34 @@
+package com.example.communityboard.comment.application.dto.response;
+
+import com.example.communityboard.comment.application.dto.CommentNode;
+import com.example.communityboard.comment.application.dto.CommentPage;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentPageResponse {
+    private final List<CommentResponse> comments;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CommentPageResponse(CommentPage page, AuthorLoader authors) {
+        page.comments().forEach(node -> register(node, authors));
+        this.comments = page.comments().stream()
+                .map(node -> CommentResponse.from(node, authors))
+                .toList();
+        this.nextCursor = page.nextCursor();
+        this.hasNext = page.hasNext();
+    }
+
+    public static CommentPageResponse from(CommentPage page, AuthorLoader authors) {
+        return new CommentPageResponse(page, authors);
+    }
+
+    // 답글 작성자까지 먼저 모아 두어야 페이지 전체의 닉네임을 한 번에 읽는다
+    private static void register(CommentNode node, AuthorLoader authors) {
+        authors.register(node.getComment().authorId(), node.getComment().authorNickname());
+        node.getReplies().forEach(reply -> register(reply, authors));
+    }
+}
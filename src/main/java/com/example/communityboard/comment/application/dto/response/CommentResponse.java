@@ -0,0 +1,45 @@
+package com.example.communityboard.comment.application.dto.response;
+
+import com.example.communityboard.comment.application.dto.CommentNode;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class CommentResponse {
+    private final Long id;
+    private final Long parentId;
+    private final Long authorId;
+    private final String authorNickname;
+    private final String content;
+    private final int depth;
+    private final LocalDateTime createdAt;
+    private final List<CommentResponse> replies;
+
+    private CommentResponse(CommentRow row, String authorNickname, List<CommentResponse> replies) {
+        this.id = row.id();
+        this.parentId = row.parentId();
+        this.authorId = row.authorId();
+        this.authorNickname = authorNickname;
+        this.content = row.content();
+        this.depth = row.depth();
+        this.createdAt = row.createdAt();
+        this.replies = replies;
+    }
+
+    public static CommentResponse from(CommentRow row, AuthorLoader authors) {
+        return new CommentResponse(row, authors.nicknameOf(row.authorId(), row.authorNickname()), List.of());
+    }
+
+    // 작성자는 호출하는 쪽에서 답글까지 모두 등록해 둔다 (CommentPageResponse 참고)
+    public static CommentResponse from(CommentNode node, AuthorLoader authors) {
+        List<CommentResponse> replies = node.getReplies().stream()
+                .map(reply -> from(reply, authors))
+                .toList();
+        CommentRow row = node.getComment();
+        return new CommentResponse(row, authors.nicknameOf(row.authorId(), row.authorNickname()), replies);
+    }
+}
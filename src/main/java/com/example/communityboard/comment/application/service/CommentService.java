@@ -0,0 +1,80 @@
+package com.example.communityboard.comment.application.service;
+
+import com.example.communityboard.comment.application.dto.CommentPage;
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final HotPostRankingService hotPostRankingService;
+    private final CommentWriter commentWriter;
+
+    // 그룹 커밋 대기열에서 기다리는 동안 커넥션을 쥐고 있지 않도록 트랜잭션 밖에서 실행한다.
+    // 조회는 리포지토리 호출마다 짧은 트랜잭션으로, 저장은 CommentWriter가 자기 트랜잭션으로 처리한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommentRow createComment(Long postId, Long authorId, Long parentId, String content) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + postId));
+        Member author = memberRepository.findById(authorId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. ID: " + authorId));
+
+        Comment comment;
+        if (parentId == null) {
+            comment = Comment.create(post, author, content);
+        } else {
+            Comment parent = commentRepository.findById(parentId)
+                    .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다. ID: " + parentId));
+            if (!parent.getPost().getId().equals(postId)) {
+                throw new IllegalArgumentException("다른 게시글의 댓글에는 답글을 달 수 없습니다.");
+            }
+            comment = Comment.reply(parent, author, content);
+        }
+
+        CommentRow saved = commentWriter.write(comment);
+        hotPostRankingService.record(post.getBoard().getId(), postId, HotScoreEvent.COMMENT);
+        return saved;
+    }
+
+    // 트리를 전위 순회 순서로 size건씩 잘라 읽는다. 페이지마다 (post_id, path) 인덱스 범위 탐색 한 번이다.
+    public CommentPage getComments(Long postId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        String afterPath = null;
+        if (cursor != null && !cursor.isBlank()) {
+            if (!CommentPath.isValid(cursor)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            afterPath = cursor;
+        }
+        List<CommentRow> rows = commentRepository.findTreeSlice(postId, afterPath, size + 1);
+        if (rows.size() <= size) {
+            return new CommentPage(CommentTreeAssembler.assemble(rows), null);
+        }
+        List<CommentRow> page = rows.subList(0, size);
+        return new CommentPage(CommentTreeAssembler.assemble(page), page.get(size - 1).path());
+    }
+}
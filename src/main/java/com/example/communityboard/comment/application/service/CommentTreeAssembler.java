@@ -0,0 +1,33 @@
+package com.example.communityboard.comment.application.service;
+
+import com.example.communityboard.comment.application.dto.CommentNode;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    // rows는 path 순서여야 한다. 부모가 항상 자식보다 먼저 나오므로 한 번 순회로 트리를 만든다 (O(n)).
+    // 부모가 rows에 없는 댓글(이전 페이지에 부모가 있는 경우)은 최상위로 둔다. parentId로 이어 붙일 수 있다.
+    public static List<CommentNode> assemble(List<CommentRow> rows) {
+        Map<Long, CommentNode> nodes = new HashMap<>(rows.size() * 2);
+        List<CommentNode> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            CommentNode node = new CommentNode(row);
+            nodes.put(row.id(), node);
+            CommentNode parent = row.parentId() == null ? null : nodes.get(row.parentId());
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.getReplies().add(node);
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.communityboard.comment.application.service;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+
+// 검증을 마친 댓글을 저장하고 id와 경로가 채워진 결과를 돌려준다.
+// 반환 시점에는 이미 커밋되어 있다.
+public interface CommentWriter {
+
+    CommentRow write(Comment comment);
+}
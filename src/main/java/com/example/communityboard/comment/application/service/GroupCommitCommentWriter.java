@@ -0,0 +1,22 @@
+package com.example.communityboard.comment.application.service;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.common.groupcommit.GroupCommitQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 다른 요청의 댓글과 모아 한 트랜잭션으로 저장한다
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitCommentWriter implements CommentWriter {
+
+    private final GroupCommitQueue<Comment, CommentRow> commentWriteQueue;
+
+    @Override
+    public CommentRow write(Comment comment) {
+        return commentWriteQueue.write(comment);
+    }
+}
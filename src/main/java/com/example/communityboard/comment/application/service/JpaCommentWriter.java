@@ -0,0 +1,28 @@
+package com.example.communityboard.comment.application.service;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 요청마다 트랜잭션 하나로 저장한다
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.group-commit", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class JpaCommentWriter implements CommentWriter {
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    @Transactional
+    public CommentRow write(Comment comment) {
+        // IDENTITY라 저장해야 id가 정해진다. 경로는 같은 트랜잭션 안에서 채워진다.
+        Comment saved = commentRepository.save(comment);
+        saved.assignPath();
+        return new CommentRow(saved.getId(), saved.getParentId(), saved.getAuthor().getId(), saved.getContent(),
+                saved.getDepth(), saved.getPath(), saved.getCreatedAt(), saved.getAuthorNickname());
+    }
+}
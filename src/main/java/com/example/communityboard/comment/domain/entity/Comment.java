@@ -0,0 +1,126 @@
+package com.example.communityboard.comment.domain.entity;
+
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import com.example.communityboard.common.BaseEntity;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.moderation.domain.ContentFilter;
+import com.example.communityboard.post.domain.entity.Post;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "comment", indexes = {
+        // 게시글의 댓글 트리 전체(또는 path 이후 일부)를 정렬 없이 한 번의 범위 탐색으로 읽는다
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path"),
+        // 닉네임 전파(NicknamePropagator)가 회원의 댓글을 id 순으로 나눠 읽는다
+        @Index(name = "idx_comment_author", columnList = "author_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment extends BaseEntity {
+
+    private static final int CONTENT_MAX_LENGTH = 1000;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "author_id", nullable = false)
+    private Member author;
+
+    // 작성 시점의 닉네임. 바뀐 닉네임은 NicknamePropagator만 고친다 (Post.authorNickname 참고)
+    @Column(name = "author_nickname", updatable = false)
+    private String authorNickname;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    // 저장 직후에는 부모 경로만 들어 있고, id가 정해지면 assignPath로 자기 구간을 붙인다
+    @Column(nullable = false, length = CommentPath.MAX_LENGTH)
+    private String path;
+
+    @Column(nullable = false, length = CONTENT_MAX_LENGTH)
+    private String content;
+
+    private Comment(Post post, Member author, Comment parent, String content) {
+        validatePost(post);
+        validateAuthor(author);
+        validateContent(content);
+        this.post = post;
+        this.author = author;
+        this.authorNickname = author.getNickname().getValue();
+        this.content = content;
+        if (parent == null) {
+            this.depth = 0;
+            this.path = "";
+        } else {
+            validateParent(parent);
+            this.parentId = parent.getId();
+            this.depth = parent.getDepth() + 1;
+            this.path = parent.getPath();
+        }
+    }
+
+    public static Comment create(Post post, Member author, String content) {
+        return new Comment(post, author, null, content);
+    }
+
+    public static Comment reply(Comment parent, Member author, String content) {
+        if (parent == null) {
+            throw new IllegalArgumentException("부모 댓글은 필수입니다.");
+        }
+        return new Comment(parent.getPost(), author, parent, content);
+    }
+
+    public void assignPath() {
+        if (id == null) {
+            throw new IllegalStateException("저장되지 않은 댓글입니다.");
+        }
+        if (path.length() == depth * CommentPath.SEGMENT_LENGTH) {
+            this.path = CommentPath.append(path, id);
+        }
+    }
+
+    private void validatePost(Post post) {
+        if (post == null) {
+            throw new IllegalArgumentException("게시글은 필수입니다.");
+        }
+    }
+
+    private void validateAuthor(Member author) {
+        if (author == null) {
+            throw new IllegalArgumentException("작성자는 필수입니다.");
+        }
+    }
+
+    private void validateParent(Comment parent) {
+        if (parent.getId() == null || !CommentPath.isValid(parent.getPath())) {
+            throw new IllegalArgumentException("저장되지 않은 댓글에는 답글을 달 수 없습니다.");
+        }
+
+        if (parent.getDepth() + 1 >= CommentPath.MAX_DEPTH) {
+            throw new IllegalArgumentException("답글은 " + CommentPath.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+        }
+    }
+
+    private void validateContent(String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("내용은 공백이 불가합니다.");
+        }
+        if (content.length() > CONTENT_MAX_LENGTH) {
+            throw new IllegalArgumentException("댓글은 1000자를 초과할 수 없습니다.");
+        }
+        if (ContentFilter.containsBannedTerm(content)) {
+            throw new IllegalArgumentException("댓글에 사용할 수 없는 단어가 포함되어 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.communityboard.comment.domain.repository;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+
+import java.util.List;
+
+public interface CommentBatchRepository {
+
+    // 아직 저장되지 않은 댓글들을 한 번에 넣고 경로까지 채운 결과를 입력 순서대로 돌려준다
+    List<CommentRow> insertAll(List<Comment> comments);
+}
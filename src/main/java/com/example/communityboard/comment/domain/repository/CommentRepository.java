@@ -0,0 +1,16 @@
+package com.example.communityboard.comment.domain.repository;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository {
+
+    Comment save(Comment comment);
+
+    Optional<Comment> findById(Long id);
+
+    // afterPath 이후의 댓글을 path 순서로 size건 읽는다. afterPath가 null이면 처음부터.
+    List<CommentRow> findTreeSlice(Long postId, String afterPath, int size);
+}
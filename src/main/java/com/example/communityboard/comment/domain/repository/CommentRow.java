@@ -0,0 +1,9 @@
+package com.example.communityboard.comment.domain.repository;
+
+import java.time.LocalDateTime;
+
+// 트리 조회용 프로젝션. path 순서(전위 순회)로 읽힌다.
+// authorNickname은 작성 시점의 닉네임이라 바뀌는 중일 수 있다 (AuthorLoader 참고)
+public record CommentRow(Long id, Long parentId, Long authorId, String content, int depth, String path,
+                         LocalDateTime createdAt, String authorNickname) {
+}
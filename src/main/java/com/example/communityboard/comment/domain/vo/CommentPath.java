@@ -0,0 +1,42 @@
+package com.example.communityboard.comment.domain.vo;
+
+// 댓글의 materialized path. 루트부터 자기 자신까지 각 댓글 id를 8자리 base36으로 이어 붙인다.
+// 자리수가 고정이라 문자열 정렬 = 트리 전위 순회 순서이고, 같은 부모 아래에서는 id(작성) 순서가 된다.
+public final class CommentPath {
+
+    public static final int SEGMENT_LENGTH = 8;
+    public static final int MAX_DEPTH = 16;
+    public static final int MAX_LENGTH = SEGMENT_LENGTH * MAX_DEPTH;
+
+    private static final int RADIX = 36;
+    // 36^8. 이 이상의 id는 8자리로 표현할 수 없다.
+    private static final long MAX_ID = 2_821_109_907_456L;
+
+    private CommentPath() {
+    }
+
+    public static String segment(long id) {
+        if (id < 0 || id >= MAX_ID) {
+            throw new IllegalArgumentException("댓글 경로로 표현할 수 없는 ID입니다: " + id);
+        }
+        String encoded = Long.toString(id, RADIX);
+        return "0".repeat(SEGMENT_LENGTH - encoded.length()) + encoded;
+    }
+
+    public static String append(String parentPath, long id) {
+        return parentPath + segment(id);
+    }
+
+    public static boolean isValid(String path) {
+        if (path == null || path.isEmpty() || path.length() > MAX_LENGTH || path.length() % SEGMENT_LENGTH != 0) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
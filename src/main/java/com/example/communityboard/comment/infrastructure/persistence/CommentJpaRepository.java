@@ -0,0 +1,22 @@
+package com.example.communityboard.comment.infrastructure.persistence;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CommentJpaRepository extends JpaRepository<Comment, Long> {
+
+    @Query("select new com.example.communityboard.comment.domain.repository.CommentRow("
+            + "c.id, c.parentId, c.author.id, c.content, c.depth, c.path, c.createdAt, c.authorNickname) "
+            + "from Comment c "
+            + "where c.post.id = :postId and c.path > :afterPath "
+            + "order by c.path")
+    List<CommentRow> findTreeSlice(@Param("postId") Long postId,
+                                   @Param("afterPath") String afterPath,
+                                   Limit limit);
+}
@@ -0,0 +1,34 @@
+package com.example.communityboard.comment.infrastructure.persistence;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepository {
+
+    private final CommentJpaRepository commentJpaRepository;
+
+    @Override
+    public Comment save(Comment comment) {
+        return commentJpaRepository.save(comment);
+    }
+
+    @Override
+    public Optional<Comment> findById(Long id) {
+        return commentJpaRepository.findById(id);
+    }
+
+    @Override
+    public List<CommentRow> findTreeSlice(Long postId, String afterPath, int size) {
+        // 빈 문자열은 모든 path보다 앞선다
+        return commentJpaRepository.findTreeSlice(postId, afterPath == null ? "" : afterPath, Limit.of(size));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.communityboard.comment.infrastructure.persistence;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentBatchRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcCommentBatchRepository implements CommentBatchRepository {
+
+    private static final String INSERT_SQL = "insert into comment "
+            + "(post_id, author_id, author_nickname, parent_id, depth, path, content, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PATH_SQL = "update comment set path = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 경로 끝 구간은 자기 id라서 INSERT로 id를 받은 뒤 UPDATE 배치로 한 번 더 채운다.
+    // 건당 두 문장이지만 배치 전체가 왕복 두 번, 커밋 한 번이다.
+    @Override
+    @Transactional
+    public List<CommentRow> insertAll(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Comment comment = comments.get(i);
+                        ps.setLong(1, comment.getPost().getId());
+                        ps.setLong(2, comment.getAuthor().getId());
+                        ps.setString(3, comment.getAuthorNickname());
+                        if (comment.getParentId() == null) {
+                            ps.setNull(4, Types.BIGINT);
+                        } else {
+                            ps.setLong(4, comment.getParentId());
+                        }
+                        ps.setInt(5, comment.getDepth());
+                        ps.setString(6, comment.getPath());
+                        ps.setString(7, comment.getContent());
+                        ps.setTimestamp(8, now);
+                        ps.setTimestamp(9, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return comments.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != comments.size()) {
+            throw new IllegalStateException("생성된 댓글 id 수가 요청 수와 다릅니다.");
+        }
+        List<CommentRow> rows = new ArrayList<>(comments.size());
+        List<Object[]> pathArgs = new ArrayList<>(comments.size());
+        for (int i = 0; i < comments.size(); i++) {
+            Comment comment = comments.get(i);
+            long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            String path = CommentPath.append(comment.getPath(), id);
+            pathArgs.add(new Object[]{path, id});
+            rows.add(new CommentRow(id, comment.getParentId(), comment.getAuthor().getId(), comment.getContent(),
+                    comment.getDepth(), path, now.toLocalDateTime(), comment.getAuthorNickname()));
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PATH_SQL, pathArgs);
+        return rows;
+    }
+}
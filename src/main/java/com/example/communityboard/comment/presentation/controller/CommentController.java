@@ -0,0 +1,45 @@
+package com.example.communityboard.comment.presentation.controller;
+
+import com.example.communityboard.comment.application.dto.CommentPage;
+import com.example.communityboard.comment.application.dto.request.CreateCommentRequest;
+import com.example.communityboard.comment.application.dto.response.CommentPageResponse;
+import com.example.communityboard.comment.application.dto.response.CommentResponse;
+import com.example.communityboard.comment.application.service.CommentService;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/posts/{postId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final AuthorLoader authorLoader;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<CommentResponse>> createComment(
+            @PathVariable Long postId,
+            @Valid @RequestBody CreateCommentRequest request) {
+        CommentRow comment = commentService.createComment(
+
+                postId, request.getAuthorId(), request.getParentId(), request.getContent());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(CommentResponse.from(comment, authorLoader), "댓글이 작성되었습니다."));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        CommentPage page = commentService.getComments(postId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(CommentPageResponse.from(page, authorLoader)));
+    }
+}
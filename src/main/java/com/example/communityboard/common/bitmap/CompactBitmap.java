@@ -0,0 +1,391 @@
+package com.example.communityboard.common.bitmap;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+// 음이 아닌 long(회원 id 등) 집합을 담는 roaring 방식 비트맵.
+// 하위 16비트를 뗀 값으로 구간을 나누고, 구간마다 원소가 적으면 정렬된 char 배열(원소당 2바이트),
+// 4096개를 넘으면 8KB 비트맵으로 담는다. 희소한 집합도 조밀한 집합도 작게 유지되고 조회는 이진 탐색 한 번이다.
+// 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+public final class CompactBitmap {
+
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final int BITMAP_WORDS = (1 << 16) / Long.SIZE;
+    private static final byte FORMAT = 1;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int size;
+    private long cardinality;
+
+    public static CompactBitmap of(Iterable<Long> values) {
+        CompactBitmap bitmap = new CompactBitmap();
+        for (Long value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    // 새로 추가되었으면 true, 이미 있었으면 false
+    public boolean add(long value) {
+        checkValue(value);
+        long key = value >>> 16;
+        char low = (char) value;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            insertContainer(-index - 1, key, new ArrayContainer().add(low));
+            cardinality++;
+            return true;
+        }
+        Container container = containers[index];
+        if (container.contains(low)) {
+            return false;
+        }
+        containers[index] = container.add(low);
+        cardinality++;
+        return true;
+    }
+
+    // 제거되었으면 true, 원래 없었으면 false
+    public boolean remove(long value) {
+        checkValue(value);
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        if (index < 0) {
+            return false;
+        }
+        char low = (char) value;
+        Container container = containers[index];
+        if (!container.contains(low)) {
+            return false;
+        }
+        Container removed = container.remove(low);
+        if (removed.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = removed;
+        }
+        cardinality--;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    // 오름차순으로 순회한다
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            long high = keys[i] << 16;
+            containers[i].forEach(low -> action.accept(high | low));
+        }
+    }
+
+    // 컨테이너가 차지하는 대략적인 바이트 수
+    public long sizeInBytes() {
+        long bytes = (long) size * (Long.BYTES + 16);
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    public CompactBitmap copy() {
+        return fromBytes(toBytes());
+    }
+
+    // [형식 1바이트][컨테이너 수] 뒤에 컨테이너마다 [상위 키][원소 수][원소]를 쓴다.
+    // 원소는 메모리에서와 같이 4096개 이하면 char 배열, 넘으면 비트맵 그대로라 원소 수로 종류를 구별한다.
+    public byte[] toBytes() {
+        int length = 1 + Integer.BYTES;
+        for (int i = 0; i < size; i++) {
+            length += Long.BYTES + Integer.BYTES + containers[i].encodedSize();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(FORMAT).putInt(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putLong(keys[i]).putInt(containers[i].cardinality());
+            containers[i].writeTo(buffer);
+        }
+        return buffer.array();
+    }
+
+    public static CompactBitmap fromBytes(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != FORMAT) {
+                throw invalidFormat();
+            }
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / (Long.BYTES + Integer.BYTES)) {
+                throw invalidFormat();
+            }
+            CompactBitmap bitmap = new CompactBitmap();
+            bitmap.keys = new long[count];
+            bitmap.containers = new Container[count];
+            for (int i = 0; i < count; i++) {
+                long key = buffer.getLong();
+                if (key < 0 || key > Long.MAX_VALUE >>> 16 || (i > 0 && key <= bitmap.keys[i - 1])) {
+                    throw invalidFormat();
+                }
+                int cardinality = buffer.getInt();
+                if (cardinality < 1 || cardinality > 1 << 16) {
+                    throw invalidFormat();
+                }
+                bitmap.keys[i] = key;
+                bitmap.containers[i] = cardinality <= ARRAY_CONTAINER_MAX
+                        ? ArrayContainer.readFrom(buffer, cardinality)
+                        : BitmapContainer.readFrom(buffer, cardinality);
+                bitmap.cardinality += cardinality;
+            }
+            if (buffer.hasRemaining()) {
+                throw invalidFormat();
+            }
+            bitmap.size = count;
+            return bitmap;
+        } catch (BufferUnderflowException e) {
+            throw invalidFormat();
+        }
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private static void checkValue(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 담을 수 없습니다: " + value);
+        }
+    }
+
+    private static IllegalArgumentException invalidFormat() {
+        return new IllegalArgumentException("비트맵 형식이 올바르지 않습니다.");
+    }
+
+    private interface Container {
+
+        boolean contains(char low);
+
+        // 원소 수에 따라 다른 종류로 바뀔 수 있으므로 결과 컨테이너를 돌려준다
+        Container add(char low);
+
+        Container remove(char low);
+
+        int cardinality();
+
+        void forEach(LongConsumer action);
+
+        long sizeInBytes();
+
+        int encodedSize();
+
+        void writeTo(ByteBuffer buffer);
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_CONTAINER_MAX) {
+                return toBitmap().add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(values[i]);
+            }
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + (long) values.length * Character.BYTES;
+        }
+
+        @Override
+        public int encodedSize() {
+            return cardinality * Character.BYTES;
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buffer) {
+            for (int i = 0; i < cardinality; i++) {
+                buffer.putChar(values[i]);
+            }
+        }
+
+        static ArrayContainer readFrom(ByteBuffer buffer, int cardinality) {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[cardinality];
+            for (int i = 0; i < cardinality; i++) {
+                char low = buffer.getChar();
+                if (i > 0 && low <= array.values[i - 1]) {
+                    throw invalidFormat();
+                }
+                array.values[i] = low;
+            }
+            array.cardinality = cardinality;
+            return array;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            long before = words[low >>> 6];
+            long after = before | (1L << low);
+            if (before != after) {
+                words[low >>> 6] = after;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            long before = words[low >>> 6];
+            long after = before & ~(1L << low);
+            if (before == after) {
+                return this;
+            }
+            words[low >>> 6] = after;
+            cardinality--;
+            return cardinality <= ARRAY_CONTAINER_MAX ? toArray() : this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(((long) i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + (long) words.length * Long.BYTES;
+        }
+
+        @Override
+        public int encodedSize() {
+            return BITMAP_WORDS * Long.BYTES;
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buffer) {
+            for (long word : words) {
+                buffer.putLong(word);
+            }
+        }
+
+        static BitmapContainer readFrom(ByteBuffer buffer, int cardinality) {
+            BitmapContainer bitmap = new BitmapContainer();
+            int counted = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                bitmap.words[i] = buffer.getLong();
+                counted += Long.bitCount(bitmap.words[i]);
+            }
+            if (counted != cardinality) {
+                throw invalidFormat();
+            }
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            forEach(low -> array.add((char) low));
+            return array;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.communityboard.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 백그라운드 작업은 별도 풀을 만들지 않고 @Async/@Scheduled로 Boot가 구성한 실행기를 사용한다.
+// spring.threads.virtual.enabled=true 이면 두 실행기 모두 가상 스레드로 바뀐다.
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,28 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.author")
+public class AuthorProperties {
+
+    // 목록에 붙일 작성자 닉네임을 메모리에 두는 시간. 이 인스턴스에서 바꾼 닉네임은 커밋 후 바로 다시 읽는다
+    private Duration nicknameTtl = Duration.ofSeconds(30);
+
+    // 메모리에 둘 닉네임 수. 넘으면 만료된 것부터 내리고, 그래도 넘으면 모두 비운다
+    private int maxCachedNicknames = 100_000;
+
+    // 바뀐 닉네임을 게시글/댓글에 써 넣을 때 한 트랜잭션에서 고칠 행 수
+    private int propagationChunkSize = 500;
+
+    // 청크 사이에 쉬는 시간. 닉네임 전파가 글쓰기와 복제 지연을 밀어내지 않도록 한다
+    private Duration propagationPause = Duration.ofMillis(50);
+
+    // 남은 전파 작업을 확인하는 주기. 다른 인스턴스에서 바뀐 닉네임도 이 주기로 읽을 때 반영한다
+    private Duration propagationInterval = Duration.ofSeconds(30);
+}
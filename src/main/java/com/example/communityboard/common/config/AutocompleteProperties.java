@@ -0,0 +1,14 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.autocomplete")
+public class AutocompleteProperties {
+
+    // 기동 시 전체 적재에서 한 번에 읽는 행 수
+    private int loadBatchSize = 1000;
+}
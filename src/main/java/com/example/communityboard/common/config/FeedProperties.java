@@ -0,0 +1,19 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.feed")
+public class FeedProperties {
+
+    // 게시판마다 메모리에 둘 최신 글 수. 피드 첫 페이지는 대부분 이 안에서 채워진다
+    private int headSize = 50;
+
+    // 최신 글을 다시 읽는 주기. 이 인스턴스에서 작성/수정된 글은 커밋 후 바로 다시 읽는다
+    private Duration headTtl = Duration.ofSeconds(10);
+}
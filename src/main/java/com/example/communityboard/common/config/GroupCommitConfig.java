@@ -0,0 +1,51 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentBatchRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.common.datasource.ReadYourWritesTracker;
+import com.example.communityboard.common.datasource.StickyKeyResolver;
+import com.example.communityboard.common.groupcommit.BatchWriter;
+import com.example.communityboard.common.groupcommit.GroupCommitQueue;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostBatchRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// app.group-commit.enabled=true 이면 게시글/댓글 INSERT를 대기열에 모아 배치 트랜잭션으로 커밋한다.
+@Configuration
+@ConditionalOnProperty(prefix = "app.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitConfig {
+
+    @Bean
+    public GroupCommitQueue<Comment, CommentRow> commentWriteQueue(
+            CommentBatchRepository commentBatchRepository, GroupCommitProperties properties,
+            PlatformTransactionManager transactionManager, ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        return createQueue("comment", commentBatchRepository::insertAll, properties, transactionManager,
+                readYourWritesTracker);
+    }
+
+    @Bean
+    public GroupCommitQueue<Post, Long> postWriteQueue(
+            PostBatchRepository postBatchRepository, GroupCommitProperties properties,
+            PlatformTransactionManager transactionManager, ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        return createQueue("post", postBatchRepository::insertAll, properties, transactionManager,
+                readYourWritesTracker);
+    }
+
+    // 커밋은 작업 스레드에서 일어나 라우팅 DataSource가 요청자를 알 수 없다.
+    // 기다리던 요청 스레드에서 직접 기록해야 뒤이은 조회가 primary로 간다.
+    private <T, R> GroupCommitQueue<T, R> createQueue(String name, BatchWriter<T, R> writer,
+                                                      GroupCommitProperties properties,
+                                                      PlatformTransactionManager transactionManager,
+                                                      ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        StickyKeyResolver stickyKeyResolver = StickyKeyResolver.currentRequester();
+        return new GroupCommitQueue<>(name, properties.getQueueCapacity(), properties.getMaxBatch(),
+                properties.getMaxWait(), new TransactionTemplate(transactionManager), writer,
+                () -> readYourWritesTracker.ifAvailable(tracker -> tracker.recordWrite(stickyKeyResolver.resolve())));
+    }
+}
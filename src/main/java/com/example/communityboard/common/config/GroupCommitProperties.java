@@ -0,0 +1,25 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.group-commit")
+public class GroupCommitProperties {
+
+    // 켜면 게시글/댓글 작성이 요청마다 트랜잭션을 여는 대신 대기열을 거쳐 배치로 커밋된다
+    private boolean enabled = false;
+
+    // 대기열이 가득 차면 작성 요청을 503으로 거절한다
+    private int queueCapacity = 4096;
+
+    // 한 트랜잭션에 담는 최대 INSERT 수
+    private int maxBatch = 128;
+
+    // 첫 요청이 들어온 뒤 배치를 채우려고 더 기다리는 최대 시간. 0이면 쌓여 있는 만큼만 바로 쓴다.
+    private Duration maxWait = Duration.ZERO;
+}
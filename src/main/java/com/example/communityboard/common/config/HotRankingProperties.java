@@ -0,0 +1,21 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.hot-ranking")
+public class HotRankingProperties {
+
+    // 이 시간이 지나면 점수가 절반이 된다
+    private Duration halfLife = Duration.ofHours(6);
+
+    // 게시판마다 점수를 유지하는 게시글 수. 노출 개수보다 넉넉히 잡아 순위 밖 글도 점수를 쌓을 수 있게 한다.
+    private int capacity = 200;
+
+    private Duration rebaseInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,32 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.live.domain.OverflowPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.live")
+public class LiveProperties {
+
+    // 구독자마다 아직 보내지 못한 이벤트를 이만큼까지 둔다
+    private int bufferSize = 32;
+
+    // 대기열이 가득 찬 느린 구독자를 어떻게 할지
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    // 이 간격 동안 아무것도 보내지 않은 연결에만 하트비트를 보낸다
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // 연결을 이만큼 유지한 뒤 끊는다. 클라이언트는 Last-Event-ID로 다시 붙는다
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // 인스턴스 하나가 유지하는 전체 연결 수 상한
+    private int maxSubscribers = 50_000;
+
+    // 다시 붙은 구독자에게 보낼 수 있도록 게시판마다 남겨 두는 최근 이벤트 수
+    private int replaySize = 50;
+}
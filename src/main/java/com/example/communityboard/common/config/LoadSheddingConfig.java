@@ -0,0 +1,50 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.common.overload.AdaptiveConcurrencyLimiter;
+import com.example.communityboard.common.overload.ConcurrencyLimiters;
+import com.example.communityboard.common.overload.GradientConcurrencyLimit;
+import com.example.communityboard.common.overload.LoadSheddingFilter;
+import com.example.communityboard.common.overload.LoadSheddingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+public class LoadSheddingConfig {
+
+    @Bean
+    public ConcurrencyLimiters concurrencyLimiters(LoadSheddingProperties properties) {
+        return new ConcurrencyLimiters(
+                limiter("members", properties.getMembers()),
+                limiter("boards", properties.getBoards()));
+    }
+
+    // 보안 필터보다 먼저 실행해 거절할 요청에 인증 처리 비용을 쓰지 않는다
+    @Bean
+    @ConditionalOnProperty(prefix = "app.load-shedding", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(ConcurrencyLimiters limiters,
+                                                                         LoadSheddingProperties properties,
+                                                                         ObjectMapper objectMapper) {
+        Map<String, AdaptiveConcurrencyLimiter> limitersByPrefix = new LinkedHashMap<>();
+        limitersByPrefix.put("/api/members", limiters.members());
+        limitersByPrefix.put("/api/boards", limiters.boards());
+        limitersByPrefix.put("/api/posts", limiters.boards());
+
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(
+                new LoadSheddingFilter(limitersByPrefix, properties.getRetryAfter().toSeconds(), objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String name, LoadSheddingProperties.Limit limit) {
+        return new AdaptiveConcurrencyLimiter(name,
+                new GradientConcurrencyLimit(limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.moderation")
+public class ModerationProperties {
+
+    // 금칙어 사전 위치. 운영 중에 고치려면 file: 경로를 지정하고 다시 읽기를 요청한다
+    private String bannedTermsLocation = "classpath:moderation/banned-terms.txt";
+}
@@ -0,0 +1,14 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.pinned-notice")
+public class PinnedNoticeProperties {
+
+    // 목록 위에 붙이는 고정 공지 최대 개수. 넘으면 최신 공지부터 채운다.
+    private int maxSize = 10;
+}
@@ -0,0 +1,14 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.read-state")
+public class ReadStateProperties {
+
+    // 메모리에 둘 (회원, 게시판) 읽음 상태 수. 넘으면 가장 오래 쓰지 않은 상태부터 내린다
+    private int maxCachedStates = 100_000;
+}
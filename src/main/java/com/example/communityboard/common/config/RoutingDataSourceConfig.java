@@ -0,0 +1,82 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.common.datasource.ReadWriteRoutingDataSource;
+import com.example.communityboard.common.datasource.ReadYourWritesListener;
+import com.example.communityboard.common.datasource.ReadYourWritesTracker;
+import com.example.communityboard.common.datasource.ReplicaHealthChecker;
+import com.example.communityboard.common.datasource.StickyKeyResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// app.datasource.routing.enabled=true 이면 spring.datasource.* 대신 primary/replica 두 풀을 구성한다.
+// 스키마 생성/마이그레이션은 primary에서만 수행되므로 replica는 실제 복제본이어야 한다.
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(RoutingDataSourceProperties properties) {
+        return createPool("primary", properties.getPrimary(), false);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(RoutingDataSourceProperties properties) {
+        return createPool("replica", properties.getReplica(), true);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(RoutingDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickyWindow());
+    }
+
+    // 부트가 TransactionExecutionListener 빈을 트랜잭션 매니저에 등록한다
+    @Bean
+    public ReadYourWritesListener readYourWritesListener(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesListener(readYourWritesTracker, StickyKeyResolver.currentRequester());
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                     RoutingDataSourceProperties properties) {
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(replicaDataSource,
+                properties.getHealthCheckTimeout(), properties.getMaxReplicaLag(), properties.getLagQuery());
+        checker.check();
+        return checker;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ReplicaHealthChecker replicaHealthChecker) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, readYourWritesTracker, replicaHealthChecker,
+                StickyKeyResolver.currentRequester());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createPool(String name, RoutingDataSourceProperties.Pool pool, boolean readOnly) {
+        if (pool.getUrl() == null || pool.getUrl().isBlank()) {
+            throw new IllegalStateException("app.datasource.routing." + name + ".url 설정이 필요합니다.");
+        }
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(pool.getUrl());
+        dataSource.setUsername(pool.getUsername());
+        dataSource.setPassword(pool.getPassword());
+        if (pool.getDriverClassName() != null) {
+            dataSource.setDriverClassName(pool.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setReadOnly(readOnly);
+        return dataSource;
+    }
+}
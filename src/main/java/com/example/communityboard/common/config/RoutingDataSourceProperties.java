@@ -0,0 +1,45 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private final Pool primary = new Pool();
+
+    private final Pool replica = new Pool();
+
+    // 쓰기 커밋 후 같은 회원(클라이언트)의 읽기를 primary로 고정하는 시간
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    private Duration maxReplicaLag = Duration.ofSeconds(3);
+
+    // 복제 지연(초)을 반환하는 쿼리. 비어 있으면 커넥션 유효성만 확인한다.
+    // 예) MySQL: SELECT TIMESTAMPDIFF(SECOND, MAX(ts), NOW()) FROM heartbeat
+    private String lagQuery;
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        private String driverClassName;
+
+        private int maximumPoolSize = 10;
+    }
+}
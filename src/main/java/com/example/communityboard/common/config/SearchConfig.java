@@ -0,0 +1,35 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.search.domain.RebuildableSearchIndex;
+import com.example.communityboard.search.domain.SearchIndexStorage;
+import com.example.communityboard.search.infrastructure.index.DiskSearchIndexStorage;
+import com.example.communityboard.search.infrastructure.index.MemorySearchIndexStorage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+
+@Configuration
+public class SearchConfig {
+
+    // 세그먼트 병합은 @Async와 같은 실행기에서 돌린다
+    @Bean
+    public SearchIndexStorage searchIndexStorage(
+            SearchProperties properties,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        if (properties.getIndexDirectory().isBlank()) {
+            return new MemorySearchIndexStorage();
+        }
+        return new DiskSearchIndexStorage(Path.of(properties.getIndexDirectory()),
+                properties.getBufferMaxDocuments(), properties.getMergeFactor(), executor);
+    }
+
+    // 종료 시 close()가 호출되어 색인 파일을 닫는다
+    @Bean
+    public RebuildableSearchIndex searchIndex(SearchIndexStorage searchIndexStorage) {
+        return new RebuildableSearchIndex(searchIndexStorage);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    // 기동 시 전체 적재에서 한 번에 읽는 행 수
+    private int loadBatchSize = 1000;
+
+    // 지정하면 색인을 이 디렉터리의 세그먼트 파일로 유지해 재시작해도 다시 적재하지 않는다.
+    // 비워 두면 메모리에만 둔다 (기본 H2 메모리 DB처럼 DB도 재시작하면 비는 환경용)
+    private String indexDirectory = "";
+
+    // 메모리 버퍼에 모았다가 세그먼트 하나로 내려쓰는 문서 수
+    private int bufferMaxDocuments = 10_000;
+
+    // 비슷한 크기의 세그먼트가 이만큼 쌓이면 하나로 합친다
+    private int mergeFactor = 10;
+
+    private final Rebuild rebuild = new Rebuild();
+
+    @Getter
+    @Setter
+    public static class Rebuild {
+
+        // 테이블마다 id 구간을 이만큼 나눠 동시에 읽는다. 구간마다 읽는 동안 커넥션 하나를 쥔다
+        private int partitions = 4;
+
+        // 스트리밍 쿼리가 한 번에 받아 오는 행 수이자 토큰화 작업 하나가 맡는 문서 수
+        private int fetchSize = 500;
+
+        // 토큰화 fork-join 풀의 스레드 수. 0 이하면 CPU 코어 수에서 하나를 뺀 값
+        private int parallelism = 0;
+
+        // 초당 읽는 행 수 상한. 0 이하면 제한하지 않는다
+        private int maxRowsPerSecond = 5_000;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.spam.domain.SpamAction;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.spam")
+public class SpamProperties {
+
+    // 이 시간 안에 올라온 글과만 비교한다
+    private Duration window = Duration.ofHours(1);
+
+    // MinHash 서명을 rows개씩 bands개 구간으로 나눈다. 서명 길이는 bands * rows.
+    // 기본값(16 x 4)이면 유사도 0.8인 글은 사실상 항상, 0.3인 글은 약 12% 확률로만 비교 후보가 된다
+    private int bands = 16;
+    private int rows = 4;
+
+    // 기억하는 최근 글 수. 넘으면 window가 지나지 않았어도 오래된 글부터 잊는다
+    private int maxEntries = 50_000;
+
+    // 글자와 숫자만 센 길이가 이보다 짧은 글은 검사하지 않는다 ("감사합니다" 같은 짧은 글이 서로 걸리지 않도록)
+    private int minLength = 30;
+
+    // 게시판 종류별 설정이 없을 때 쓴다
+    private Policy defaults = new Policy();
+
+    private Map<BoardType, Policy> boards = new EnumMap<>(BoardType.class);
+
+    public Policy policy(BoardType boardType) {
+        return boards.getOrDefault(boardType, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private SpamAction action = SpamAction.BLOCK;
+
+        // 최근 글과 추정 유사도(조각 집합의 자카드 유사도)가 이 값 이상이면 거의 같은 글로 본다
+        private double similarity = 0.8;
+    }
+}
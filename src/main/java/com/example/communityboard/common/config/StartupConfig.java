@@ -0,0 +1,51 @@
+package com.example.communityboard.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// spring.main.lazy-initialization=true (faststart 프로필)에서도 즉시 생성할 빈을 정한다.
+// 첫 요청이 느려지지 않도록 컨트롤러-서비스-리포지토리-JPA 경로와,
+// 지연 생성되면 등록되지 않는 @Scheduled 빈은 기동 시점에 만든다.
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter requestCriticalBeans() {
+        return (beanName, beanDefinition, beanType) -> isRequestCritical(beanType) || hasScheduledMethods(beanType);
+    }
+
+    private static boolean isRequestCritical(Class<?> beanType) {
+        return AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                || AnnotatedElementUtils.hasAnnotation(beanType, Service.class)
+                || AnnotatedElementUtils.hasAnnotation(beanType, Repository.class)
+                || RepositoryFactoryBeanSupport.class.isAssignableFrom(beanType)
+                || DataSource.class.isAssignableFrom(beanType)
+                || EntityManagerFactory.class.isAssignableFrom(beanType)
+                || SecurityFilterChain.class.isAssignableFrom(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        if (!AnnotationUtils.isCandidateClass(beanType, Scheduled.class)) {
+            return false;
+        }
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                method -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return found.get();
+    }
+}
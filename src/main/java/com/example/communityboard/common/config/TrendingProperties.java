@@ -0,0 +1,26 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.trending")
+public class TrendingProperties {
+
+    // 이 기간 동안의 조회/검색으로 순위를 매긴다
+    private Duration window = Duration.ofHours(1);
+
+    // window를 이만큼 나눠 한 칸씩 비운다. 많을수록 기간 경계가 정확하지만 조회 시 더할 칸이 늘어난다
+    private int buckets = 12;
+
+    // count-min sketch 크기. 어림 오차는 대개 칸 하나의 전체 횟수 / width 이내다
+    private int depth = 4;
+    private int width = 2048;
+
+    // 칸마다 순위 후보로 남기는 키 수. 노출 개수보다 넉넉히 잡는다
+    private int capacity = 100;
+}
@@ -0,0 +1,61 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.common.datasource.ConcurrencyLimitedDataSource;
+import com.example.communityboard.common.thread.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// spring.threads.virtual.enabled=true 일 때만 활성화된다 (application-virtual.properties).
+// 요청 스레드 수에 상한이 없어지므로 커넥션 풀 앞에 동시성 제한을 두고, 피닝을 JFR로 감시한다.
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.virtual-threads.connection-limit", name = "enabled",
+            havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            ObjectProvider<VirtualThreadProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                VirtualThreadProperties.ConnectionLimit limit = properties.getObject().getConnectionLimit();
+                int maxConcurrency = limit.getMaxConcurrency() > 0
+                        ? limit.getMaxConcurrency()
+                        : poolSizeOf(dataSource);
+                if (maxConcurrency <= 0) {
+                    return bean;
+                }
+                log.info("Limiting concurrent connection checkouts on '{}' to {}", beanName, maxConcurrency);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, limit.getAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.virtual-threads.pinning-monitor", name = "enabled",
+            havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties) {
+        return new VirtualThreadPinningMonitor(properties.getPinningMonitor().getThreshold());
+    }
+
+    private static int poolSizeOf(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return 0;
+    }
+}
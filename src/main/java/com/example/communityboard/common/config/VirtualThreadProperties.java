@@ -0,0 +1,38 @@
+package com.example.communityboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public class VirtualThreadProperties {
+
+    private final ConnectionLimit connectionLimit = new ConnectionLimit();
+
+    private final PinningMonitor pinningMonitor = new PinningMonitor();
+
+    @Getter
+    @Setter
+    public static class ConnectionLimit {
+
+        private boolean enabled = true;
+
+        // 0 이하면 커넥션 풀의 maximumPoolSize를 그대로 사용한다
+        private int maxConcurrency = 0;
+
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class PinningMonitor {
+
+        private boolean enabled = true;
+
+        private Duration threshold = Duration.ofMillis(20);
+    }
+}
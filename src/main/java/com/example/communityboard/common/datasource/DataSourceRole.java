@@ -0,0 +1,6 @@
+package com.example.communityboard.common.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,    // 쓰기 및 읽기 전용이 아닌 트랜잭션
+    REPLICA     // readOnly = true 트랜잭션
+}
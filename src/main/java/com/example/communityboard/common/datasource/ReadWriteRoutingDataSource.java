@@ -0,0 +1,41 @@
+package com.example.communityboard.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// @Transactional(readOnly = true) 트랜잭션은 replica로, 나머지는 primary로 보낸다.
+// 트랜잭션 매니저는 readOnly 플래그를 커넥션을 얻은 뒤에 설정하므로
+// 반드시 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 라우팅되도록 해야 한다.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaHealthChecker replicaHealthChecker;
+    private final StickyKeyResolver stickyKeyResolver;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReadYourWritesTracker readYourWritesTracker,
+                                      ReplicaHealthChecker replicaHealthChecker,
+                                      StickyKeyResolver stickyKeyResolver) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaHealthChecker = replicaHealthChecker;
+        this.stickyKeyResolver = stickyKeyResolver;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.PRIMARY;
+        }
+        if (readYourWritesTracker.isWithinStickyWindow(stickyKeyResolver.resolve())
+                || !replicaHealthChecker.isReplicaAvailable()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+}
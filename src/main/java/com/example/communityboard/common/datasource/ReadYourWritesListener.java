@@ -0,0 +1,24 @@
+package com.example.communityboard.common.datasource;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+// 실제로 커밋된 쓰기 트랜잭션만 읽기 고정으로 기록한다.
+// 커넥션을 고르는 시점에는 롤백 여부를 알 수 없으므로 트랜잭션 매니저의 커밋 콜백에서 기록한다.
+public class ReadYourWritesListener implements TransactionExecutionListener {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final StickyKeyResolver stickyKeyResolver;
+
+    public ReadYourWritesListener(ReadYourWritesTracker readYourWritesTracker, StickyKeyResolver stickyKeyResolver) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.stickyKeyResolver = stickyKeyResolver;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            readYourWritesTracker.recordWrite(stickyKeyResolver.resolve());
+        }
+    }
+}
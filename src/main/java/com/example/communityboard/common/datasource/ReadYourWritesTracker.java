@@ -0,0 +1,57 @@
+package com.example.communityboard.common.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 쓰기 트랜잭션이 커밋된 뒤 일정 시간 동안 같은 주체의 읽기를 primary로 보낸다.
+// 복제 지연 때문에 방금 쓴 데이터가 replica에 아직 없는 경우를 막기 위함이다.
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    public void recordWrite(String key) {
+        if (key != null) {
+            lastWriteAt.put(key, clock.getAsLong());
+        }
+    }
+
+    public boolean isWithinStickyWindow(String key) {
+        if (key == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(key);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (clock.getAsLong() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteAt.remove(key, writtenAt);
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.sticky-eviction-interval:PT1M}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    public int size() {
+        return lastWriteAt.size();
+    }
+}
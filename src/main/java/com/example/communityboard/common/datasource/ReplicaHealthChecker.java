@@ -0,0 +1,82 @@
+package com.example.communityboard.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// replica 커넥션 유효성과 복제 지연을 주기적으로 확인한다.
+// 확인에 실패하거나 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary로 보낸다.
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private final DataSource replicaDataSource;
+    private final Duration timeout;
+    private final Duration maxLag;
+    private final String lagQuery;
+
+    private volatile boolean available;
+
+    public ReplicaHealthChecker(DataSource replicaDataSource, Duration timeout, Duration maxLag, String lagQuery) {
+        this.replicaDataSource = replicaDataSource;
+        this.timeout = timeout;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:PT5S}")
+    public void check() {
+        int timeoutSeconds = (int) Math.max(1, timeout.toSeconds());
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                update(false, "connection is not valid");
+                return;
+            }
+            if (lagQuery == null) {
+                update(true, null);
+                return;
+            }
+            double lagSeconds = queryLagSeconds(connection, timeoutSeconds);
+            if (lagSeconds * 1000 > maxLag.toMillis()) {
+                update(false, String.format("replication lag %.1fs exceeds %dms", lagSeconds, maxLag.toMillis()));
+            } else {
+                update(true, null);
+            }
+        } catch (SQLException | RuntimeException e) {
+            update(false, e.getMessage());
+        }
+    }
+
+    private double queryLagSeconds(Connection connection, int timeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    throw new SQLException("lag query returned no rows");
+                }
+                double lag = resultSet.getDouble(1);
+                // 복제가 멈춘 경우(MySQL Seconds_Behind_Source = NULL)는 무한 지연으로 본다
+                return resultSet.wasNull() ? Double.POSITIVE_INFINITY : lag;
+            }
+        }
+    }
+
+    private void update(boolean healthy, String reason) {
+        boolean previous = available;
+        available = healthy;
+        if (previous && !healthy) {
+            log.warn("Replica unavailable, routing read-only transactions to primary: {}", reason);
+        } else if (!previous && healthy) {
+            log.info("Replica available, routing read-only transactions to replica");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.communityboard.common.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// 자신이 쓴 데이터를 곧바로 다시 읽는 주체를 식별한다. null이면 고정 라우팅을 하지 않는다.
+@FunctionalInterface
+public interface StickyKeyResolver {
+
+    String resolve();
+
+    // 인증된 회원이면 회원 기준, 아니면 요청한 클라이언트 주소 기준
+    static StickyKeyResolver currentRequester() {
+        return () -> {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "member:" + authentication.getName();
+            }
+            if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+                return "client:" + attributes.getRequest().getRemoteAddr();
+            }
+            return null;
+        };
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.communityboard.common.exception;
 
 import com.example.communityboard.common.dto.ErrorResponse;
+import com.example.communityboard.common.groupcommit.GroupCommitRejectedException;
+import com.example.communityboard.live.application.exception.LiveSubscriptionLimitException;
 import com.example.communityboard.member.application.exception.DuplicateEmailException;
 import com.example.communityboard.member.application.exception.DuplicateLoginIdException;
+import com.example.communityboard.member.application.exception.DuplicateNicknameException;
 import com.example.communityboard.member.application.exception.InvalidLoginException;
+import com.example.communityboard.post.application.exception.PostAccessDeniedException;
+import com.example.communityboard.search.application.exception.SearchRebuildInProgressException;
+import com.example.communityboard.spam.application.exception.SpamDetectedException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -42,6 +48,42 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.CONFLICT, e.getMessage(), request);
     }
 
+    @ExceptionHandler(DuplicateNicknameException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateNicknameException(
+            DuplicateNicknameException e, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.CONFLICT, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(PostAccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handlePostAccessDeniedException(
+            PostAccessDeniedException e, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.FORBIDDEN, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(SearchRebuildInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleSearchRebuildInProgressException(
+            SearchRebuildInProgressException e, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.CONFLICT, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(SpamDetectedException.class)
+    public ResponseEntity<ErrorResponse> handleSpamDetectedException(
+            SpamDetectedException e, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.CONFLICT, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(GroupCommitRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleGroupCommitRejectedException(
+            GroupCommitRejectedException e, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(LiveSubscriptionLimitException.class)
+    public ResponseEntity<ErrorResponse> handleLiveSubscriptionLimitException(
+            LiveSubscriptionLimitException e, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), request);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException e, HttpServletRequest request) {
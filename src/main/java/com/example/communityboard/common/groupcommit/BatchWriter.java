@@ -0,0 +1,11 @@
+package com.example.communityboard.common.groupcommit;
+
+import java.util.List;
+
+// 모인 항목을 한 번에 쓰고, 입력과 같은 순서로 항목별 결과(대개 생성된 id)를 돌려준다.
+// 트랜잭션은 GroupCommitQueue가 열어 두므로 구현은 그 안에서 실행된다.
+@FunctionalInterface
+public interface BatchWriter<T, R> {
+
+    List<R> write(List<T> items);
+}
@@ -0,0 +1,206 @@
+package com.example.communityboard.common.groupcommit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+// 여러 요청의 INSERT를 모아 트랜잭션 하나, JDBC 배치 하나로 쓴다.
+// 커밋(로그 플러시) 비용을 배치 안의 요청들이 나눠 내므로 요청마다 트랜잭션을 여는 것보다 처리량이 높다.
+// 대기열은 고정 크기 배열 링 버퍼(ArrayBlockingQueue)라 가득 차면 기다리지 않고 바로 거절한다.
+@Slf4j
+public class GroupCommitQueue<T, R> implements SmartLifecycle {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final String name;
+    private final BlockingQueue<Pending<T, R>> queue;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final TransactionOperations transactionOperations;
+    private final BatchWriter<T, R> writer;
+    private final Runnable afterCommit;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public GroupCommitQueue(String name, int capacity, int maxBatch, Duration maxWait,
+                            TransactionOperations transactionOperations, BatchWriter<T, R> writer) {
+        this(name, capacity, maxBatch, maxWait, transactionOperations, writer, () -> {
+        });
+    }
+
+    public GroupCommitQueue(String name, int capacity, int maxBatch, Duration maxWait,
+                            TransactionOperations transactionOperations, BatchWriter<T, R> writer,
+                            Runnable afterCommit) {
+        if (capacity < 1 || maxBatch < 1 || maxBatch > capacity) {
+            throw new IllegalArgumentException("대기열 크기와 배치 크기는 1 이상이고, 배치 크기는 대기열 크기 이하여야 합니다.");
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("최대 대기 시간은 음수일 수 없습니다.");
+        }
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.transactionOperations = transactionOperations;
+        this.writer = writer;
+        this.afterCommit = afterCommit;
+    }
+
+    // 배치가 커밋될 때까지 기다렸다가 이 항목의 결과를 돌려준다.
+    // 호출하는 쪽은 트랜잭션 밖이어야 한다. 트랜잭션 안에서 기다리면 커넥션을 쥔 채로 대기하게 된다.
+    public R write(T item) {
+        try {
+            R result = submit(item).join();
+            afterCommit.run();
+            return result;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<R> submit(T item) {
+        if (!running) {
+            throw new GroupCommitRejectedException(name + " 쓰기 대기열이 동작 중이 아닙니다.");
+        }
+        Pending<T, R> pending = new Pending<>(item, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new GroupCommitRejectedException(name + " 쓰기 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        // 종료와 엇갈려 작업 스레드가 이미 빠져나갔다면 넣은 항목을 도로 꺼내 거절한다.
+        // 꺼내지 못했다면 작업 스레드가 가져간 것이므로 결과가 채워진다.
+        if (!running && queue.remove(pending)) {
+            throw new GroupCommitRejectedException(name + " 쓰기 대기열이 동작 중이 아닙니다.");
+        }
+        return pending.future();
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<Pending<T, R>> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException ignored) {
+                // 종료는 running으로만 판단한다. 이미 모은 항목은 그대로 쓴다.
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 항목이 들어오면 maxBatch가 찰 때까지 최대 maxWait만큼 더 모은다.
+    // maxWait가 0이면 기다리지 않고 그 순간 쌓여 있는 만큼만 가져간다. 이전 배치가 커밋되는 동안
+    // 쌓인 요청이 다음 배치가 되므로, 부하가 낮을 때는 지연이 없고 높을수록 배치가 커진다.
+    private void collect(List<Pending<T, R>> batch) throws InterruptedException {
+        Pending<T, R> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0) {
+                return;
+            }
+            Pending<T, R> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Pending<T, R>> batch) {
+        try {
+            complete(batch, writeInTransaction(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+            // 한 건 때문에(예: 그 사이 삭제된 게시글) 배치 전체가 실패하지 않도록 건별로 다시 쓴다
+            log.warn("Group commit batch of {} on {} failed, retrying one by one", batch.size(), name, e);
+            for (Pending<T, R> pending : batch) {
+                try {
+                    complete(List.of(pending), writeInTransaction(List.of(pending)));
+                } catch (RuntimeException single) {
+                    pending.future().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private List<R> writeInTransaction(List<Pending<T, R>> batch) {
+        List<T> items = batch.stream().map(Pending::item).toList();
+        List<R> results = transactionOperations.execute(status -> writer.write(items));
+        if (results == null || results.size() != items.size()) {
+            throw new IllegalStateException(name + " 배치 쓰기 결과 수가 요청 수와 다릅니다.");
+        }
+        return results;
+    }
+
+    private void complete(List<Pending<T, R>> batch, List<R> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(results.get(i));
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("group-commit-" + name)
+                .daemon(false)
+                .start(this::drainLoop);
+    }
+
+    // 웹 서버가 요청을 더 받지 않은 뒤, DataSource가 닫히기 전에 대기열에 남은 쓰기를 모두 반영한다
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> future) {
+    }
+}
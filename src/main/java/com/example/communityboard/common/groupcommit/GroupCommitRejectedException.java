@@ -0,0 +1,8 @@
+package com.example.communityboard.common.groupcommit;
+
+public class GroupCommitRejectedException extends RuntimeException {
+
+    public GroupCommitRejectedException(String message) {
+        super(message);
+    }
+}
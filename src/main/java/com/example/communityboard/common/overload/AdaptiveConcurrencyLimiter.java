@@ -0,0 +1,78 @@
+package com.example.communityboard.common.overload;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 동시에 처리 중인 요청 수를 적응형 한도 아래로 유지한다. 한도를 넘는 요청은 대기시키지 않고 바로 거절한다.
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final GradientConcurrencyLimit limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(String name, GradientConcurrencyLimit limit) {
+        this.name = name;
+        this.limit = limit;
+    }
+
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit.getLimit()) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return Optional.of(new Permit(System.nanoTime(), current + 1));
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LimiterSnapshot snapshot() {
+        return new LimiterSnapshot(name, limit.getLimit(), inflight.get(), accepted.sum(), rejected.sum(),
+                limit.getLongRttMillis());
+    }
+
+    public final class Permit {
+
+        private final long startedNanos;
+        private final int inflightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startedNanos, int inflightAtStart) {
+            this.startedNanos = startedNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        public void onSuccess() {
+            release(false);
+        }
+
+        public void onDropped() {
+            release(true);
+        }
+
+        // 비동기 요청(SSE 등)처럼 지연 시간이 처리 능력을 나타내지 않는 경우 표본 없이 반납한다
+        public void onIgnore() {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+            }
+        }
+
+        private void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+                limit.onSample(System.nanoTime() - startedNanos, inflightAtStart, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.communityboard.common.overload;
+
+import java.util.List;
+
+// 부하 차단 필터가 사용하는 경로 그룹별 한도. 현재 상태를 조회할 때도 사용한다.
+public record ConcurrencyLimiters(AdaptiveConcurrencyLimiter members, AdaptiveConcurrencyLimiter boards) {
+
+    public List<LimiterSnapshot> snapshots() {
+        return List.of(members.snapshot(), boards.snapshot());
+    }
+}
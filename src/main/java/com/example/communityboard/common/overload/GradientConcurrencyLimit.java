@@ -0,0 +1,75 @@
+package com.example.communityboard.common.overload;
+
+// 지연 시간 기울기로 동시 처리 한도를 조정한다 (Netflix concurrency-limits Gradient2 방식).
+// 장기 평균 RTT 대비 최근 RTT가 늘어나면 큐가 쌓이고 있다는 신호이므로 한도를 줄이고,
+// 그렇지 않으면 sqrt(limit) 만큼의 여유(queueSize)를 더해 천천히 늘린다.
+public class GradientConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long sampleCount;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("0 < minLimit <= initialLimit <= maxLimit 이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public synchronized double getLongRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (dropped) {
+            // 타임아웃이나 서버 오류는 과부하 신호로 보고 즉시 물러난다
+            apply(estimatedLimit * DROP_BACKOFF);
+            return;
+        }
+
+        sampleCount++;
+        if (sampleCount <= WARMUP_SAMPLES) {
+            longRttNanos += (rttNanos - longRttNanos) / sampleCount;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        }
+        // 부하가 줄어든 뒤 장기 평균이 높게 남아 있으면 한도가 계속 커지므로 끌어내린다
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+        // 한도의 절반도 쓰지 않고 있다면 지연 시간이 한도에 대해 알려주는 것이 없다
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double target = estimatedLimit * gradient + queueSize;
+        apply(estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private void apply(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
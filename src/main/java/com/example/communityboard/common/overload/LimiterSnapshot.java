@@ -0,0 +1,5 @@
+package com.example.communityboard.common.overload;
+
+public record LimiterSnapshot(String name, int limit, int inflight, long accepted, long rejected,
+                              double longRttMillis) {
+}
@@ -0,0 +1,86 @@
+package com.example.communityboard.common.overload;
+
+import com.example.communityboard.common.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 경로별 적응형 동시성 한도를 넘는 요청을 503 + Retry-After 로 즉시 거절한다.
+// Tomcat 큐에 쌓여 모든 요청의 지연이 함께 늘어나는 대신, 초과분만 빠르게 실패시킨다.
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final String REJECT_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limitersByPrefix;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public LoadSheddingFilter(Map<String, AdaptiveConcurrencyLimiter> limitersByPrefix, long retryAfterSeconds,
+                              ObjectMapper objectMapper) {
+        this.limitersByPrefix = new LinkedHashMap<>(limitersByPrefix);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = limiterFor(request.getRequestURI().substring(request.getContextPath().length()));
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AdaptiveConcurrencyLimiter.Permit> acquired = limiter.tryAcquire();
+        if (acquired.isEmpty()) {
+            reject(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = acquired.get();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                permit.onIgnore();
+            } else if (failed || response.getStatus() >= 500) {
+                permit.onDropped();
+            } else {
+                permit.onSuccess();
+            }
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiterFor(String path) {
+        for (Map.Entry<String, AdaptiveConcurrencyLimiter> entry : limitersByPrefix.entrySet()) {
+            String prefix = entry.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse body = ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, REJECT_MESSAGE, request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.communityboard.common.overload;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // /api/members/** - 로그인/회원가입의 BCrypt 해싱으로 CPU가 병목
+    private final Limit members = new Limit(16, 2, 128);
+
+    // /api/boards/** - DB 조회가 병목
+    private final Limit boards = new Limit(64, 8, 512);
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int initialLimit;
+
+        private int minLimit;
+
+        private int maxLimit;
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.communityboard.common.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.common.overload.ConcurrencyLimiters;
+import com.example.communityboard.common.overload.LimiterSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/load-shedding")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class LoadSheddingController {
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+
+    // 현재 한도, 처리 중인 요청 수, 누적 수락/거절 수
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<LimiterSnapshot>>> getLimits() {
+        return ResponseEntity.ok(ApiResponse.success(concurrencyLimiters.snapshots()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.communityboard.common.seed;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.member.domain.entity.Role;
+import com.example.communityboard.member.domain.vo.Email;
+import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.domain.vo.Nickname;
+import com.example.communityboard.moderation.domain.ContentFilter;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+// 시드와 행 번호만으로 회원/게시판 데이터를 결정적으로 만들어낸다.
+// 행마다 독립된 난수 스트림을 쓰므로 어느 구간부터 생성하든 결과가 같다.
+public class SeedDataGenerator {
+
+    // 닉네임(최대 10자) = 한글 2자 + base36 행 번호(최대 8자)
+    private static final long MAX_ROWS = 2_821_109_907_456L; // 36^8
+    private static final long MEMBER_STREAM = 0x6D656D62L;
+    private static final long BOARD_STREAM = 0x626F6172L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final String LOGIN_ID_LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    // 닉네임 접미사의 a~z를 대신할 글자
+    private static final String SUFFIX_HANGUL = "가나다라마바사아자차카타파하거너더러머버서어저처커터";
+    private static final String[] NICKNAME_PREFIXES = {
+            "하늘", "바다", "구름", "별빛", "달빛", "노을", "새벽", "여름", "가을", "겨울", "봄날", "숲속"
+    };
+    private static final String[] EMAIL_DOMAINS = {"seed.example.com", "mail.example.org", "test.example.net"};
+    private static final String[] TITLE_SUBJECTS = {
+            "자유", "질문", "개발", "여행", "맛집", "게임", "음악", "영화", "운동", "독서", "사진", "반려동물"
+    };
+    private static final String[] TITLE_SUFFIXES = {"게시판", "라운지", "광장", "모임", "이야기"};
+    private static final String[] DESCRIPTIONS = {
+            "자유롭게 이야기를 나누는 공간입니다.",
+            "궁금한 점을 묻고 답하는 곳입니다.",
+            "관심사가 같은 회원들이 모이는 게시판입니다.",
+            "운영진이 관리하는 게시판입니다."
+    };
+    private static final BoardType[] BOARD_TYPES = BoardType.values();
+
+    private final long seed;
+
+    public SeedDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public MemberSeed member(long index) {
+        validateIndex(index);
+        SplittableRandom random = randomFor(MEMBER_STREAM, index);
+        String suffix = Long.toString(index, 36);
+
+        StringBuilder loginId = new StringBuilder(3 + suffix.length());
+        for (int i = 0; i < 3; i++) {
+            loginId.append(LOGIN_ID_LETTERS.charAt(random.nextInt(LOGIN_ID_LETTERS.length())));
+        }
+        loginId.append(suffix);
+
+        String prefix = NICKNAME_PREFIXES[random.nextInt(NICKNAME_PREFIXES.length)];
+        String nickname = prefix + suffix;
+        // 36진수 접미사가 금칙어가 되면(fuck) 영문자를 한글로 바꿔 쓴다. 다른 닉네임의 접미사는 영숫자뿐이라 겹치지 않는다
+        if (ContentFilter.containsBannedTerm(nickname)) {
+            nickname = prefix + toHangul(suffix);
+        }
+        String email = loginId + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+        Role role = index == 0 ? Role.ADMIN : Role.MEMBER;
+        LocalDateTime createdAt = BASE_TIME.plusSeconds(index * 30 + random.nextInt(30));
+
+        return new MemberSeed(
+                LoginId.of(loginId.toString()).getValue(),
+                Nickname.of(nickname).getValue(),
+                Email.of(email).getValue(),
+                role,
+                createdAt
+        );
+    }
+
+    public BoardSeed board(long index) {
+        validateIndex(index);
+        SplittableRandom random = randomFor(BOARD_STREAM, index);
+
+        // 앞쪽 행은 모든 타입을 한 번씩 거치도록 해 작은 데이터셋에서도 타입이 빠지지 않게 한다
+        BoardType boardType = index < BOARD_TYPES.length
+                ? BOARD_TYPES[(int) index]
+                : BOARD_TYPES[random.nextInt(BOARD_TYPES.length)];
+        String title = TITLE_SUBJECTS[random.nextInt(TITLE_SUBJECTS.length)] + " "
+                + TITLE_SUFFIXES[random.nextInt(TITLE_SUFFIXES.length)] + " " + (index + 1);
+        String description = random.nextInt(5) == 0 ? null : DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+        LocalDateTime createdAt = BASE_TIME.plusSeconds(index * 300 + random.nextInt(300));
+
+        Board board = Board.create(title, description, boardType);
+        return new BoardSeed(board.getTitle(), board.getDescription(), board.getBoardType(), createdAt);
+    }
+
+    private static String toHangul(String suffix) {
+        StringBuilder converted = new StringBuilder(suffix.length());
+        for (int i = 0; i < suffix.length(); i++) {
+            char c = suffix.charAt(i);
+            converted.append(c >= 'a' && c <= 'z' ? SUFFIX_HANGUL.charAt(c - 'a') : c);
+        }
+        return converted.toString();
+    }
+
+    private SplittableRandom randomFor(long stream, long index) {
+        return new SplittableRandom(mix(seed ^ stream) + index * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void validateIndex(long index) {
+        if (index < 0 || index >= MAX_ROWS) {
+            throw new IllegalArgumentException("시드 행 번호가 범위를 벗어났습니다: " + index);
+        }
+    }
+
+    public record MemberSeed(String loginId, String nickname, String email, Role role, LocalDateTime createdAt) {
+    }
+
+    public record BoardSeed(String title, String description, BoardType boardType, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.communityboard.common.seed;
+
+import com.example.communityboard.common.seed.SeedDataGenerator.BoardSeed;
+import com.example.communityboard.common.seed.SeedDataGenerator.MemberSeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+// JPA를 거치지 않고 JDBC 배치로 시드 데이터를 적재한다.
+// 영속성 컨텍스트와 IDENTITY 조회 비용 없이 배치 단위로 바로 INSERT 한다.
+@Component
+@RequiredArgsConstructor
+public class SeedDataLoader {
+
+    private static final String INSERT_MEMBER_SQL =
+            "INSERT INTO members (login_id, password, nickname, email, role, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BOARD_SQL =
+            "INSERT INTO board (title, description, board_type, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertMembers(SeedDataGenerator generator, long count, String encodedPassword, int batchSize) {
+        validateBatchSize(batchSize);
+        for (long start = 0; start < count; start += batchSize) {
+            long offset = start;
+            int size = (int) Math.min(batchSize, count - start);
+            jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    MemberSeed member = generator.member(offset + i);
+                    Timestamp createdAt = Timestamp.valueOf(member.createdAt());
+                    ps.setString(1, member.loginId());
+                    ps.setString(2, encodedPassword);
+                    ps.setString(3, member.nickname());
+                    ps.setString(4, member.email());
+                    ps.setString(5, member.role().name());
+                    ps.setTimestamp(6, createdAt);
+                    ps.setTimestamp(7, createdAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    public void insertBoards(SeedDataGenerator generator, long count, int batchSize) {
+        validateBatchSize(batchSize);
+        for (long start = 0; start < count; start += batchSize) {
+            long offset = start;
+            int size = (int) Math.min(batchSize, count - start);
+            jdbcTemplate.batchUpdate(INSERT_BOARD_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    BoardSeed board = generator.board(offset + i);
+                    Timestamp createdAt = Timestamp.valueOf(board.createdAt());
+                    ps.setString(1, board.title());
+                    if (board.description() == null) {
+                        ps.setNull(2, Types.VARCHAR);
+                    } else {
+                        ps.setString(2, board.description());
+                    }
+                    ps.setString(3, board.boardType().name());
+                    ps.setTimestamp(4, createdAt);
+                    ps.setTimestamp(5, createdAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private void validateBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.communityboard.common.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+
+    private long members = 10_000;
+
+    private long boards = 1_000;
+
+    // 같은 시드면 항상 같은 데이터셋이 생성된다
+    private long randomSeed = 42L;
+
+    private int batchSize = 1_000;
+
+    // 모든 시드 회원이 공유하는 평문 비밀번호 (BCrypt는 적재 시작 시 한 번만 수행)
+    private String password = "password123!";
+}
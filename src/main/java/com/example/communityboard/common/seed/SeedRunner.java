@@ -0,0 +1,41 @@
+package com.example.communityboard.common.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class SeedRunner implements ApplicationRunner {
+
+    private final SeedProperties seedProperties;
+    private final SeedDataLoader seedDataLoader;
+    private final PasswordEncoder passwordEncoder;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SeedDataGenerator generator = new SeedDataGenerator(seedProperties.getRandomSeed());
+        // 모든 회원이 같은 해시를 공유한다 - 행마다 BCrypt를 돌리면 백만 건에 수 시간이 걸린다
+        String encodedPassword = passwordEncoder.encode(seedProperties.getPassword());
+
+        long started = System.nanoTime();
+        seedDataLoader.insertMembers(generator, seedProperties.getMembers(), encodedPassword,
+                seedProperties.getBatchSize());
+        long membersLoaded = System.nanoTime();
+        seedDataLoader.insertBoards(generator, seedProperties.getBoards(), seedProperties.getBatchSize());
+        long boardsLoaded = System.nanoTime();
+
+        log.info("Seeded {} members in {} ms, {} boards in {} ms (seed={})",
+                seedProperties.getMembers(), TimeUnit.NANOSECONDS.toMillis(membersLoaded - started),
+                seedProperties.getBoards(), TimeUnit.NANOSECONDS.toMillis(boardsLoaded - membersLoaded),
+                seedProperties.getRandomSeed());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.communityboard.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에만 실행하고, 트랜잭션 밖에서 호출되면 바로 실행한다.
+// 롤백된 변경이 캐시, 색인, 순위 같은 메모리 상태에 남지 않게 할 때 쓴다.
+// 커밋 뒤 작업이 던진 예외는 호출한 쪽으로 올라가므로, 실패해도 요청을 실패시키면 안 되는 작업은 스스로 잡는다.
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.communityboard.feed.application.dto.response;
+
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.example.communityboard.post.application.dto.response.PostSummaryResponse;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class FeedResponse {
+    private final List<PostSummaryResponse> posts;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private FeedResponse(PostPage page, AuthorLoader authors) {
+        this.posts = PostSummaryResponse.fromAll(page.posts(), authors);
+        this.nextCursor = page.nextCursor();
+        this.hasNext = page.hasNext();
+    }
+
+    public static FeedResponse from(PostPage page, AuthorLoader authors) {
+        return new FeedResponse(page, authors);
+    }
+}
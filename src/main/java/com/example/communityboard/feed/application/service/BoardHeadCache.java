@@ -0,0 +1,102 @@
+package com.example.communityboard.feed.application.service;
+
+import com.example.communityboard.common.config.FeedProperties;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 게시판마다 최신 글 headSize건을 메모리에 둔다. 피드를 열 때마다 구독 게시판 수만큼 쿼리하지 않도록
+// 합치기(FeedMerger)가 게시판을 읽을 때 먼저 여기서 채우고, 그보다 깊은 위치만 DB에서 읽는다.
+// 게시판 수는 많지 않으므로 캐시 크기는 게시판 수 × headSize로 묶인다.
+@Component
+public class BoardHeadCache {
+
+    private final PostRepository postRepository;
+    private final int headSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final Map<Long, Head> heads = new ConcurrentHashMap<>();
+    // 게시판의 최신 글이 마지막으로 바뀐 시각. 그 전에 읽기 시작한 목록은 캐시에 넣지 않는다
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BoardHeadCache(PostRepository postRepository, FeedProperties properties) {
+        this(postRepository, properties, System::nanoTime);
+    }
+
+    BoardHeadCache(PostRepository postRepository, FeedProperties properties, LongSupplier clock) {
+        if (properties.getHeadSize() < 1) {
+            throw new IllegalArgumentException("캐시할 최신 글 수는 1 이상이어야 합니다.");
+        }
+        this.postRepository = postRepository;
+        this.headSize = properties.getHeadSize();
+        this.ttlNanos = properties.getHeadTtl().toNanos();
+        this.clock = clock;
+    }
+
+    // BoardPageReader 구현. 캐시한 최신 글로 채울 수 있으면 DB를 읽지 않는다
+    public List<PostSummary> read(Long boardId, PostCursor after, int limit) {
+        Head head = head(boardId);
+        List<PostSummary> cached = head.after(after);
+        if (cached.size() >= limit) {
+            return cached.subList(0, limit);
+        }
+        if (head.complete()) {
+            return cached;
+        }
+        return postRepository.findPageByBoardId(boardId, after, limit);
+    }
+
+    // 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에 비운다
+    public void evictAfterCommit(Long boardId) {
+        AfterCommit.run(() -> evict(boardId));
+    }
+
+    void evict(Long boardId) {
+        changedAt.put(boardId, clock.getAsLong());
+        heads.remove(boardId);
+    }
+
+    private Head head(Long boardId) {
+        long now = clock.getAsLong();
+        Head head = heads.get(boardId);
+        if (head != null && now - head.loadedAt() < ttlNanos) {
+            return head;
+        }
+        List<PostSummary> posts = postRepository.findPageByBoardId(boardId, null, headSize);
+        Head loaded = new Head(List.copyOf(posts), posts.size() < headSize, now);
+        // 읽는 사이 비워졌다면 방금 읽은 목록이 오래됐을 수 있으므로 이번 요청에만 쓴다
+        heads.compute(boardId, (id, current) -> {
+            Long changed = changedAt.get(id);
+            return changed != null && changed - now >= 0 ? current : loaded;
+        });
+        return loaded;
+    }
+
+    // posts는 최신순. complete면 게시판의 글이 이것뿐이다
+    private record Head(List<PostSummary> posts, boolean complete, long loadedAt) {
+
+        private List<PostSummary> after(PostCursor cursor) {
+            if (cursor == null) {
+                return posts;
+            }
+            for (int i = 0; i < posts.size(); i++) {
+                PostSummary post = posts.get(i);
+                int byTime = post.createdAt().compareTo(cursor.createdAt());
+                if (byTime < 0 || (byTime == 0 && post.id() < cursor.id())) {
+                    return posts.subList(i, posts.size());
+                }
+            }
+            return List.of();
+        }
+    }
+}
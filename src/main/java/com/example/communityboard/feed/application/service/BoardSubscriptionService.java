@@ -0,0 +1,52 @@
+package com.example.communityboard.feed.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.feed.domain.entity.BoardSubscription;
+import com.example.communityboard.feed.domain.repository.BoardSubscriptionRepository;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardSubscriptionService {
+
+    // 피드 한 페이지를 합칠 때 게시판마다 한 번은 읽으므로 구독 수를 묶어 둔다
+    public static final int MAX_SUBSCRIPTIONS = 100;
+
+    private final BoardSubscriptionRepository boardSubscriptionRepository;
+    private final MemberRepository memberRepository;
+    private final BoardRepository boardRepository;
+
+    // 이미 구독했으면 그대로 둔다
+    @Transactional
+    public List<Long> subscribe(Long memberId, Long boardId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. ID: " + memberId));
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. ID: " + boardId));
+        if (!boardSubscriptionRepository.exists(memberId, boardId)) {
+            if (boardSubscriptionRepository.countByMemberId(memberId) >= MAX_SUBSCRIPTIONS) {
+                throw new IllegalArgumentException("게시판은 " + MAX_SUBSCRIPTIONS + "개까지 구독할 수 있습니다.");
+            }
+            boardSubscriptionRepository.save(BoardSubscription.create(member, board));
+        }
+        return boardSubscriptionRepository.findBoardIdsByMemberId(memberId);
+    }
+
+    @Transactional
+    public List<Long> unsubscribe(Long memberId, Long boardId) {
+        boardSubscriptionRepository.delete(memberId, boardId);
+        return boardSubscriptionRepository.findBoardIdsByMemberId(memberId);
+    }
+
+    public List<Long> getSubscribedBoardIds(Long memberId) {
+        return boardSubscriptionRepository.findBoardIdsByMemberId(memberId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.communityboard.feed.application.service;
+
+import com.example.communityboard.feed.domain.FeedCursor;
+import com.example.communityboard.feed.domain.FeedMerger;
+import com.example.communityboard.feed.domain.repository.BoardSubscriptionRepository;
+import com.example.communityboard.post.application.dto.PostPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 회원이 구독한 게시판의 글을 최신순으로 합친 홈 피드 (FeedMerger 참고).
+// 게시판마다 최신 글은 BoardHeadCache에서 읽으므로 첫 페이지는 대개 구독 목록 쿼리 하나로 끝난다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final BoardSubscriptionRepository boardSubscriptionRepository;
+    private final BoardHeadCache boardHeadCache;
+
+    public PostPage getFeed(Long memberId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        FeedCursor after = (cursor == null || cursor.isBlank()) ? null : FeedCursor.decode(cursor);
+        List<Long> boardIds = boardSubscriptionRepository.findBoardIdsByMemberId(memberId);
+        if (boardIds.isEmpty()) {
+            return new PostPage(List.of(), null);
+        }
+        FeedMerger.Result result = FeedMerger.merge(boardIds, after, size, boardHeadCache::read);
+        FeedCursor next = result.nextCursor();
+        return new PostPage(result.posts(), next == null ? null : next.encode());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.communityboard.feed.domain;
+
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostSummary;
+
+import java.util.List;
+
+// 게시판 하나의 글을 최신순으로 after 다음부터 최대 limit건 읽는다. limit보다 적게 돌려주면 더 읽을 글이 없다
+@FunctionalInterface
+public interface BoardPageReader {
+
+    List<PostSummary> read(Long boardId, PostCursor after, int limit);
+}
@@ -0,0 +1,56 @@
+package com.example.communityboard.feed.domain;
+
+import com.example.communityboard.post.domain.repository.PostCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// 피드 다음 페이지의 시작 위치.
+// 합치기는 모든 게시판을 같은 (created_at desc, id desc) 순서로 내보내므로, 아직 남은 게시판은 모두 마지막으로 내보낸 글의
+// 위치 다음부터 읽으면 된다. 게시판마다 위치를 따로 담지 않고 그 위치 하나와 더 읽을 글이 없는 게시판만 담는다.
+// 중간에 구독한 게시판도 같은 위치부터 읽으므로 순서가 어긋나지 않는다.
+public record FeedCursor(PostCursor position, Set<Long> exhaustedBoardIds) {
+
+    private static final String SEPARATOR = "|";
+    private static final String ID_SEPARATOR = ",";
+
+    public FeedCursor {
+        if (position == null) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        exhaustedBoardIds = Set.copyOf(exhaustedBoardIds);
+    }
+
+    public static FeedCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            PostCursor position = new PostCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            Set<Long> exhausted = new TreeSet<>();
+            if (!parts[2].isEmpty()) {
+                for (String id : parts[2].split(ID_SEPARATOR)) {
+                    exhausted.add(Long.parseLong(id));
+                }
+            }
+            return new FeedCursor(position, exhausted);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String exhausted = new TreeSet<>(exhaustedBoardIds).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_SEPARATOR));
+        String raw = position.createdAt() + SEPARATOR + position.id() + SEPARATOR + exhausted;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
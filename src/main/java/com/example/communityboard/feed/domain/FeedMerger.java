@@ -0,0 +1,116 @@
+package com.example.communityboard.feed.domain;
+
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostSummary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// 구독한 게시판마다 키셋 커서로 최신 글을 조금씩 읽어 힙으로 합친다 (k-way merge).
+// - 게시판마다 (board_id, created_at, id) 인덱스 범위만 읽으므로 board_id IN (...)처럼 구독 게시판의 글을 모아 정렬하지 않는다.
+// - 처음에는 게시판마다 페이지를 나눠 가질 만큼만 읽고, 읽어 둔 글을 다 쓴 게시판만 남은 칸만큼 더 읽는다.
+//   읽는 행 수는 페이지 크기 + 게시판 수 정도로, 전체 글 수와 상관없다.
+public final class FeedMerger {
+
+    static final Comparator<PostSummary> NEWEST_FIRST = Comparator.comparing(PostSummary::createdAt)
+            .thenComparing(PostSummary::id)
+            .reversed();
+
+    private FeedMerger() {
+    }
+
+    public static Result merge(Collection<Long> boardIds, FeedCursor after, int size, BoardPageReader reader) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        PostCursor position = after == null ? null : after.position();
+        Set<Long> subscribed = new LinkedHashSet<>(boardIds);
+        Set<Long> exhausted = new HashSet<>();
+        if (after != null) {
+            after.exhaustedBoardIds().stream().filter(subscribed::contains).forEach(exhausted::add);
+        }
+
+        PriorityQueue<BoardStream> heap = new PriorityQueue<>(subscribed.size() + 1,
+                Comparator.comparing(BoardStream::peek, NEWEST_FIRST));
+        int initial = Math.min(size + 1, size / Math.max(1, subscribed.size()) + 2);
+        for (Long boardId : subscribed) {
+            if (exhausted.contains(boardId)) {
+                continue;
+            }
+            BoardStream stream = new BoardStream(boardId, position);
+            stream.fill(reader, initial);
+            if (stream.isEmpty()) {
+                exhausted.add(boardId);
+            } else {
+                heap.add(stream);
+            }
+        }
+
+        List<PostSummary> page = new ArrayList<>(size);
+        while (page.size() < size && !heap.isEmpty()) {
+            BoardStream stream = heap.poll();
+            page.add(stream.next());
+            // 페이지가 찼어도 남은 게시판이 없으면 다음 페이지가 있는지 알기 위해 한 건은 더 읽는다
+            if (stream.isEmpty() && stream.more && (page.size() < size || heap.isEmpty())) {
+                stream.fill(reader, size - page.size() + 1);
+            }
+            if (!stream.isEmpty()) {
+                heap.add(stream);
+            } else if (!stream.more) {
+                exhausted.add(stream.boardId);
+            }
+        }
+
+        if (heap.isEmpty()) {
+            return new Result(page, null);
+        }
+        PostCursor last = PostCursor.from(page.get(page.size() - 1));
+        return new Result(page, new FeedCursor(last, exhausted));
+    }
+
+    // nextCursor가 null이면 마지막 페이지
+    public record Result(List<PostSummary> posts, FeedCursor nextCursor) {
+    }
+
+    private static final class BoardStream {
+
+        private final Long boardId;
+        private final ArrayDeque<PostSummary> buffer = new ArrayDeque<>();
+        private PostCursor position;
+        // 마지막으로 읽을 때 요청한 만큼 받았으면 더 있을 수 있다
+        private boolean more = true;
+
+        private BoardStream(Long boardId, PostCursor position) {
+            this.boardId = boardId;
+            this.position = position;
+        }
+
+        private void fill(BoardPageReader reader, int limit) {
+            List<PostSummary> rows = reader.read(boardId, position, limit);
+            buffer.addAll(rows);
+            more = rows.size() >= limit;
+            if (!rows.isEmpty()) {
+                position = PostCursor.from(rows.get(rows.size() - 1));
+            }
+        }
+
+        private PostSummary peek() {
+            return buffer.peekFirst();
+        }
+
+        private PostSummary next() {
+            return buffer.pollFirst();
+        }
+
+        private boolean isEmpty() {
+            return buffer.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.communityboard.feed.domain.entity;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.common.BaseEntity;
+import com.example.communityboard.member.domain.entity.Member;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원이 홈 피드로 받아 볼 게시판
+@Entity
+@Table(name = "board_subscription", uniqueConstraints = {
+        // 회원당 게시판 하나에 한 번. 피드를 열 때 회원의 구독 게시판도 이 인덱스 범위로 읽는다
+        @UniqueConstraint(name = "uk_board_subscription_member_board", columnNames = {"member_id", "board_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardSubscription extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Board board;
+
+    private BoardSubscription(Member member, Board board) {
+        if (member == null) {
+            throw new IllegalArgumentException("회원은 필수입니다.");
+        }
+        if (board == null) {
+            throw new IllegalArgumentException("게시판은 필수입니다.");
+        }
+        this.member = member;
+        this.board = board;
+    }
+
+    public static BoardSubscription create(Member member, Board board) {
+        return new BoardSubscription(member, board);
+    }
+}
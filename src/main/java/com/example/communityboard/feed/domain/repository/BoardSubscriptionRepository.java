@@ -0,0 +1,20 @@
+package com.example.communityboard.feed.domain.repository;
+
+import com.example.communityboard.feed.domain.entity.BoardSubscription;
+
+import java.util.List;
+
+public interface BoardSubscriptionRepository {
+
+    BoardSubscription save(BoardSubscription subscription);
+
+    boolean exists(Long memberId, Long boardId);
+
+    long countByMemberId(Long memberId);
+
+    // 구독한 순서로
+    List<Long> findBoardIdsByMemberId(Long memberId);
+
+    // 구독하지 않았으면 false
+    boolean delete(Long memberId, Long boardId);
+}
@@ -0,0 +1,23 @@
+package com.example.communityboard.feed.infrastructure.persistence;
+
+import com.example.communityboard.feed.domain.entity.BoardSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BoardSubscriptionJpaRepository extends JpaRepository<BoardSubscription, Long> {
+
+    boolean existsByMemberIdAndBoardId(Long memberId, Long boardId);
+
+    long countByMemberId(Long memberId);
+
+    @Query("select s.board.id from BoardSubscription s where s.member.id = :memberId order by s.id")
+    List<Long> findBoardIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from BoardSubscription s where s.member.id = :memberId and s.board.id = :boardId")
+    int deleteByMemberIdAndBoardId(@Param("memberId") Long memberId, @Param("boardId") Long boardId);
+}
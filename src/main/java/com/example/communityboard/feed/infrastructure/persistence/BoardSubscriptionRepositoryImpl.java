@@ -0,0 +1,40 @@
+package com.example.communityboard.feed.infrastructure.persistence;
+
+import com.example.communityboard.feed.domain.entity.BoardSubscription;
+import com.example.communityboard.feed.domain.repository.BoardSubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardSubscriptionRepositoryImpl implements BoardSubscriptionRepository {
+
+    private final BoardSubscriptionJpaRepository boardSubscriptionJpaRepository;
+
+    @Override
+    public BoardSubscription save(BoardSubscription subscription) {
+        return boardSubscriptionJpaRepository.save(subscription);
+    }
+
+    @Override
+    public boolean exists(Long memberId, Long boardId) {
+        return boardSubscriptionJpaRepository.existsByMemberIdAndBoardId(memberId, boardId);
+    }
+
+    @Override
+    public long countByMemberId(Long memberId) {
+        return boardSubscriptionJpaRepository.countByMemberId(memberId);
+    }
+
+    @Override
+    public List<Long> findBoardIdsByMemberId(Long memberId) {
+        return boardSubscriptionJpaRepository.findBoardIdsByMemberId(memberId);
+    }
+
+    @Override
+    public boolean delete(Long memberId, Long boardId) {
+        return boardSubscriptionJpaRepository.deleteByMemberIdAndBoardId(memberId, boardId) > 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.communityboard.feed.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.feed.application.dto.response.FeedResponse;
+import com.example.communityboard.feed.application.service.BoardSubscriptionService;
+import com.example.communityboard.feed.application.service.FeedService;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/members/{memberId}")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+    private final BoardSubscriptionService boardSubscriptionService;
+    private final AuthorLoader authorLoader;
+
+    // 같은 회원이 여러 번 구독해도 결과가 같다. 응답은 구독 중인 게시판 ID 목록
+    @PutMapping("/subscriptions/{boardId}")
+    public ResponseEntity<ApiResponse<List<Long>>> subscribe(@PathVariable Long memberId,
+                                                             @PathVariable Long boardId) {
+        List<Long> boardIds = boardSubscriptionService.subscribe(memberId, boardId);
+        return ResponseEntity.ok(ApiResponse.success(boardIds, "게시판을 구독했습니다."));
+    }
+
+    @DeleteMapping("/subscriptions/{boardId}")
+    public ResponseEntity<ApiResponse<List<Long>>> unsubscribe(@PathVariable Long memberId,
+                                                               @PathVariable Long boardId) {
+        List<Long> boardIds = boardSubscriptionService.unsubscribe(memberId, boardId);
+        return ResponseEntity.ok(ApiResponse.success(boardIds, "게시판 구독을 취소했습니다."));
+    }
+
+    @GetMapping("/subscriptions")
+    public ResponseEntity<ApiResponse<List<Long>>> getSubscriptions(@PathVariable Long memberId) {
+        return ResponseEntity.ok(ApiResponse.success(boardSubscriptionService.getSubscribedBoardIds(memberId)));
+    }
+
+    // 구독한 게시판의 글을 최신순으로. 다음 페이지는 응답의 nextCursor를 그대로 보낸다
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<FeedResponse>> getFeed(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        FeedResponse response = FeedResponse.from(feedService.getFeed(memberId, cursor, size), authorLoader);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.communityboard.like.application.dto;
+
+public record LikeStatus(Long postId, boolean liked, long likeCount) {
+}
@@ -0,0 +1,21 @@
+package com.example.communityboard.like.application.dto.response;
+
+import com.example.communityboard.like.application.dto.LikeStatus;
+import lombok.Getter;
+
+@Getter
+public class LikeResponse {
+    private final Long postId;
+    private final boolean liked;
+    private final long likeCount;
+
+    private LikeResponse(LikeStatus status) {
+        this.postId = status.postId();
+        this.liked = status.liked();
+        this.likeCount = status.likeCount();
+    }
+
+    public static LikeResponse from(LikeStatus status) {
+        return new LikeResponse(status);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.communityboard.like.application.service;
+
+import com.example.communityboard.like.domain.repository.LikeChange;
+import com.example.communityboard.like.domain.repository.LikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlusher implements SmartLifecycle {
+
+    private final LikeService likeService;
+    private final LikeRepository likeRepository;
+
+    private volatile boolean running;
+
+    // 스케줄러와 종료 시점의 마지막 반영이 겹치지 않도록 직렬화한다
+    @Scheduled(fixedDelayString = "${app.like.flush-interval:PT1S}")
+    public synchronized void flush() {
+        List<LikeChange> changes = likeService.drain();
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            likeRepository.applyChanges(changes);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} like changes, retrying one by one", changes.size(), e);
+            applyOneByOne(changes);
+        }
+    }
+
+    // 다른 인스턴스가 먼저 넣은 좋아요는 이미 반영된 것으로 보고 버린다.
+    // 그 밖의 실패는 DB 장애일 가능성이 높으므로 남은 변경을 모두 되돌려 다음 주기에 다시 시도한다.
+    private void applyOneByOne(List<LikeChange> changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            try {
+                likeRepository.applyChanges(List.of(changes.get(i)));
+            } catch (DuplicateKeyException e) {
+                log.debug("Like already persisted: {}", changes.get(i));
+            } catch (RuntimeException e) {
+                likeService.restore(changes.subList(i, changes.size()));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 웹 서버가 요청을 더 받지 않은 뒤, DataSource가 닫히기 전에 남은 변경을 모두 반영한다
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
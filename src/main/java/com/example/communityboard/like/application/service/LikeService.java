@@ -0,0 +1,128 @@
+package com.example.communityboard.like.application.service;
+
+import com.example.communityboard.like.application.dto.LikeStatus;
+import com.example.communityboard.like.domain.repository.LikeChange;
+import com.example.communityboard.like.domain.repository.LikeRepository;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글마다 좋아요를 누른 회원을 압축 비트맵으로 메모리에 두고 중복을 걸러낸다.
+// 누를 때마다 SELECT 후 INSERT, UPDATE count를 하지 않고 LikeFlusher가 주기적으로 모아서 반영한다.
+// 한 번 읽은 게시글의 비트맵은 계속 유지된다. 다른 인스턴스에서 누른 좋아요는 이 인스턴스의 비트맵에 보이지 않는다.
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    public static final int MAX_LOOKUP_SIZE = 100;
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final HotPostRankingService hotPostRankingService;
+
+    private final Map<Long, PostLikes> likesByPost = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyPosts = ConcurrentHashMap.newKeySet();
+
+    public LikeStatus like(Long postId, Long memberId) {
+        Post post = findPost(postId);
+        validateMember(memberId);
+        PostLikes likes = loadedLikes(postId);
+        if (likes.like(memberId)) {
+            dirtyPosts.add(postId);
+            hotPostRankingService.record(post.getBoard().getId(), postId, HotScoreEvent.LIKE);
+        }
+        return new LikeStatus(postId, true, likes.count());
+    }
+
+    public LikeStatus unlike(Long postId, Long memberId) {
+        findPost(postId);
+        validateMember(memberId);
+        PostLikes likes = loadedLikes(postId);
+        if (likes.unlike(memberId)) {
+            dirtyPosts.add(postId);
+        }
+        return new LikeStatus(postId, false, likes.count());
+    }
+
+    // 게시글마다 비트맵 조회 한 번이다. 메모리에 없는 게시글만 한 번의 쿼리로 함께 올린다.
+    public Set<Long> findLikedPostIds(Long memberId, Collection<Long> postIds) {
+        if (postIds.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("한 번에 " + MAX_LOOKUP_SIZE + "개까지 조회할 수 있습니다.");
+        }
+        List<Long> missing = postIds.stream()
+                .distinct()
+                .filter(postId -> !isLoaded(postId))
+                .toList();
+        if (!missing.isEmpty()) {
+            likeRepository.findMemberIdsByPostIds(missing).forEach((postId, memberIds) ->
+                    likesByPost.computeIfAbsent(postId, id -> new PostLikes()).load(memberIds));
+        }
+        Set<Long> liked = new LinkedHashSet<>();
+        for (Long postId : postIds) {
+            PostLikes likes = likesByPost.get(postId);
+            if (likes != null && likes.isLikedBy(memberId)) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    // 메모리에 올라와 있으면 아직 반영되지 않은 변경까지 포함한 값, 아니면 DB 값
+    public long currentCount(Long postId, long persistedCount) {
+        PostLikes likes = likesByPost.get(postId);
+        return likes != null && likes.isLoaded() ? likes.count() : persistedCount;
+    }
+
+    // LikeFlusher가 반영할 변경을 꺼낸다. 꺼내기 전에 표시를 지워야 그 사이 들어온 변경이 다음 주기로 넘어간다.
+    List<LikeChange> drain() {
+        List<LikeChange> changes = new ArrayList<>();
+        for (Iterator<Long> iterator = dirtyPosts.iterator(); iterator.hasNext(); ) {
+            Long postId = iterator.next();
+            iterator.remove();
+            changes.addAll(likesByPost.get(postId).drain(postId));
+        }
+        return changes;
+    }
+
+    void restore(List<LikeChange> changes) {
+        for (LikeChange change : changes) {
+            likesByPost.get(change.postId()).restore(change);
+            dirtyPosts.add(change.postId());
+        }
+    }
+
+    private boolean isLoaded(Long postId) {
+        PostLikes likes = likesByPost.get(postId);
+        return likes != null && likes.isLoaded();
+    }
+
+    private PostLikes loadedLikes(Long postId) {
+        PostLikes likes = likesByPost.computeIfAbsent(postId, id -> new PostLikes());
+        likes.loadIfAbsent(() -> likeRepository.findMemberIdsByPostId(postId));
+        return likes;
+    }
+
+    private Post findPost(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + postId));
+    }
+
+    private void validateMember(Long memberId) {
+        memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. ID: " + memberId));
+    }
+}
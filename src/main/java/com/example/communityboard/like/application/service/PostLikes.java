@@ -0,0 +1,84 @@
+package com.example.communityboard.like.application.service;
+
+import com.example.communityboard.common.bitmap.CompactBitmap;
+import com.example.communityboard.like.domain.repository.LikeChange;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 게시글 하나에 좋아요를 누른 회원 집합과, 마지막 반영 이후 바뀐 회원의 DB 상태.
+// 모든 접근은 이 객체로 동기화한다.
+final class PostLikes {
+
+    private final CompactBitmap members = new CompactBitmap();
+
+    // 회원 id -> 마지막으로 DB에 반영된 좋아요 여부
+    private final Map<Long, Boolean> unflushed = new HashMap<>();
+
+    private boolean loaded;
+
+    synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    synchronized void loadIfAbsent(Supplier<? extends Collection<Long>> loader) {
+        if (!loaded) {
+            load(loader.get());
+        }
+    }
+
+    synchronized void load(Collection<Long> memberIds) {
+        if (loaded) {
+            return;
+        }
+        memberIds.forEach(members::add);
+        loaded = true;
+    }
+
+    // 새로 좋아요가 되었으면 true. 이미 눌렀다면 아무것도 바뀌지 않는다.
+    synchronized boolean like(long memberId) {
+        if (!members.add(memberId)) {
+            return false;
+        }
+        unflushed.putIfAbsent(memberId, false);
+        return true;
+    }
+
+    synchronized boolean unlike(long memberId) {
+        if (!members.remove(memberId)) {
+            return false;
+        }
+        unflushed.putIfAbsent(memberId, true);
+        return true;
+    }
+
+    synchronized boolean isLikedBy(long memberId) {
+        return members.contains(memberId);
+    }
+
+    synchronized long count() {
+        return members.cardinality();
+    }
+
+    // DB 상태와 달라진 회원만 변경으로 꺼낸다. 좋아요 후 취소처럼 제자리로 돌아온 회원은 빠진다.
+    synchronized List<LikeChange> drain(Long postId) {
+        List<LikeChange> changes = new ArrayList<>();
+        unflushed.forEach((memberId, persisted) -> {
+            boolean liked = members.contains(memberId);
+            if (liked != persisted) {
+                changes.add(new LikeChange(postId, memberId, liked));
+            }
+        });
+        unflushed.clear();
+        return changes;
+    }
+
+    // 반영에 실패한 변경은 DB가 그 전 상태 그대로다. 그 사이 다시 바뀐 회원이라도 덮어써야 한다.
+    synchronized void restore(LikeChange change) {
+        unflushed.put(change.memberId(), !change.liked());
+    }
+}
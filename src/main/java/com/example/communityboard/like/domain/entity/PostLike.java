@@ -0,0 +1,31 @@
+package com.example.communityboard.like.domain.entity;
+
+import com.example.communityboard.common.BaseEntity;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.post.domain.entity.Post;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 행은 LikeFlusher가 JDBC 배치로만 넣고 지운다. 엔티티는 스키마 정의용이다.
+@Entity
+@Table(name = "post_like", uniqueConstraints = {
+        // 회원당 게시글 하나에 한 번. 게시글의 좋아요 회원 목록도 이 인덱스 범위로 읽는다
+        @UniqueConstraint(name = "uk_post_like_post_member", columnNames = {"post_id", "member_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostLike extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+}
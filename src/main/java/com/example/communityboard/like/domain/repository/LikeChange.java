@@ -0,0 +1,5 @@
+package com.example.communityboard.like.domain.repository;
+
+// 반영할 좋아요 변경. liked가 true면 행을 넣고, false면 지운다.
+public record LikeChange(Long postId, Long memberId, boolean liked) {
+}
@@ -0,0 +1,16 @@
+package com.example.communityboard.like.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface LikeRepository {
+
+    List<Long> findMemberIdsByPostId(Long postId);
+
+    // 존재하는 게시글은 좋아요가 없어도 빈 목록으로 담긴다. 없는 게시글 id는 결과에 없다.
+    Map<Long, List<Long>> findMemberIdsByPostIds(Collection<Long> postIds);
+
+    // 좋아요 행을 넣고 지운 뒤 게시글의 like_count에 증감분을 더한다. 한 트랜잭션이다.
+    void applyChanges(List<LikeChange> changes);
+}
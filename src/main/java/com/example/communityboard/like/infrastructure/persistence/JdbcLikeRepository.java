@@ -0,0 +1,111 @@
+package com.example.communityboard.like.infrastructure.persistence;
+
+import com.example.communityboard.like.domain.repository.LikeChange;
+import com.example.communityboard.like.domain.repository.LikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcLikeRepository implements LikeRepository {
+
+    private static final String INSERT_SQL =
+            "insert into post_like (post_id, member_id, created_at, updated_at) values (?, ?, ?, ?)";
+    private static final String DELETE_SQL = "delete from post_like where post_id = ? and member_id = ?";
+    private static final String ADD_COUNT_SQL = "update post set like_count = like_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findMemberIdsByPostId(Long postId) {
+        return jdbcTemplate.queryForList(
+                "select member_id from post_like where post_id = ? order by member_id", Long.class, postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<Long>> findMemberIdsByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<Long>> memberIdsByPost = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "select p.id as post_id, l.member_id from post p "
+                        + "left join post_like l on l.post_id = p.id where p.id in (:postIds)",
+                new MapSqlParameterSource("postIds", postIds),
+                rs -> {
+                    List<Long> memberIds = memberIdsByPost.computeIfAbsent(rs.getLong("post_id"),
+                            id -> new ArrayList<>());
+                    long memberId = rs.getLong("member_id");
+                    if (!rs.wasNull()) {
+                        memberIds.add(memberId);
+                    }
+                });
+        return memberIdsByPost;
+    }
+
+    // (post_id, member_id) 순으로 정렬해 여러 인스턴스가 동시에 반영해도 잠금 순서가 엇갈리지 않게 한다.
+    // 이미 지워진 행은 증감분에 넣지 않는다. 이미 있는 행을 넣으면 유니크 제약 위반으로 전체가 롤백된다.
+    @Override
+    @Transactional
+    public void applyChanges(List<LikeChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<LikeChange> sorted = changes.stream()
+                .sorted(Comparator.comparing(LikeChange::postId).thenComparing(LikeChange::memberId))
+                .toList();
+        SortedMap<Long, Long> deltas = new TreeMap<>();
+        List<Object[]> inserts = new ArrayList<>();
+        List<LikeChange> deletes = new ArrayList<>();
+        for (LikeChange change : sorted) {
+            if (change.liked()) {
+                inserts.add(new Object[]{change.postId(), change.memberId(), now, now});
+                deltas.merge(change.postId(), 1L, Long::sum);
+            } else {
+                deletes.add(change);
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        if (!deletes.isEmpty()) {
+            int[] deleted = jdbcTemplate.batchUpdate(DELETE_SQL, deletes.stream()
+                    .map(change -> new Object[]{change.postId(), change.memberId()})
+                    .toList());
+            for (int i = 0; i < deleted.length; i++) {
+                // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 지워진 것으로 본다
+                if (deleted[i] != 0) {
+                    deltas.merge(deletes.get(i).postId(), -1L, Long::sum);
+                }
+            }
+        }
+        List<Object[]> counts = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> {
+            if (delta != 0) {
+                counts.add(new Object[]{delta, postId});
+            }
+        });
+        if (!counts.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_COUNT_SQL, counts);
+        }
+    }
+}
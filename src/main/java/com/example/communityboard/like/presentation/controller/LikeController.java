@@ -0,0 +1,40 @@
+package com.example.communityboard.like.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.like.application.dto.response.LikeResponse;
+import com.example.communityboard.like.application.service.LikeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+public class LikeController {
+
+    private final LikeService likeService;
+
+    // 같은 회원이 여러 번 눌러도 결과가 같다
+    @PutMapping("/{postId}/likes/{memberId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> like(@PathVariable Long postId, @PathVariable Long memberId) {
+        LikeResponse response = LikeResponse.from(likeService.like(postId, memberId));
+        return ResponseEntity.ok(ApiResponse.success(response, "좋아요를 눌렀습니다."));
+    }
+
+    @DeleteMapping("/{postId}/likes/{memberId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> unlike(@PathVariable Long postId, @PathVariable Long memberId) {
+        LikeResponse response = LikeResponse.from(likeService.unlike(postId, memberId));
+        return ResponseEntity.ok(ApiResponse.success(response, "좋아요를 취소했습니다."));
+    }
+
+    // 목록 화면에서 회원이 좋아요를 누른 글을 표시할 때 쓴다
+    @GetMapping("/likes")
+    public ResponseEntity<ApiResponse<Set<Long>>> getLikedPostIds(
+            @RequestParam Long memberId,
+            @RequestParam List<Long> postIds) {
+        return ResponseEntity.ok(ApiResponse.success(likeService.findLikedPostIds(memberId, postIds)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.communityboard.live.application.dto;
+
+import com.example.communityboard.post.domain.entity.Post;
+
+import java.time.LocalDateTime;
+
+// 목록에 새 글이 있다는 것만 알리므로 본문은 싣지 않는다. 클라이언트는 필요하면 게시글을 다시 읽는다
+public record PostEvent(PostEventType type, Long postId, Long boardId, Long authorId, String title,
+                        LocalDateTime occurredAt) {
+
+    public static PostEvent of(Post post, PostEventType type) {
+        return new PostEvent(type, post.getId(), post.getBoard().getId(), post.getAuthor().getId(),
+                post.getTitle(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.communityboard.live.application.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PostEventType {
+    CREATED("post-created"),
+    UPDATED("post-updated");
+
+    // SSE 이벤트 이름. 클라이언트는 addEventListener에 이 이름을 쓴다
+    private final String eventName;
+}
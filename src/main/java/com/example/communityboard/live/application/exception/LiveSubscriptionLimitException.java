@@ -0,0 +1,7 @@
+package com.example.communityboard.live.application.exception;
+
+public class LiveSubscriptionLimitException extends RuntimeException {
+    public LiveSubscriptionLimitException() {
+        super("실시간 알림 연결이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.communityboard.live.application.service;
+
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.config.LiveProperties;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.live.application.dto.PostEvent;
+import com.example.communityboard.live.application.dto.PostEventType;
+import com.example.communityboard.live.application.exception.LiveSubscriptionLimitException;
+import com.example.communityboard.live.domain.BoardBroadcaster;
+import com.example.communityboard.live.domain.EventSink;
+import com.example.communityboard.live.domain.Subscription;
+import com.example.communityboard.post.domain.entity.Post;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시판별 새 글/수정 알림을 SSE 구독자에게 보낸다.
+// - 게시글 작성/수정이 커밋되면 이벤트를 한 번만 직렬화해 게시판의 BoardBroadcaster로 발행한다.
+// - 발행은 구독자 대기열에 넣기만 하고, 연결에 쓰는 일은 보낼 것이 있는 구독자만 executor에서 한다.
+//   연결마다 스레드를 잡아 두지 않으므로 대기 중인 연결은 대기열 메모리만 차지한다.
+// - 구독 상태는 인스턴스 메모리에만 있으므로 다른 인스턴스에서 작성된 글은 알리지 않는다.
+@Slf4j
+@Service
+public class LiveFeedService implements SmartLifecycle {
+
+    private final BoardRepository boardRepository;
+    private final ObjectMapper objectMapper;
+    private final LiveProperties properties;
+    private final Executor executor;
+
+    // 게시판 수는 많지 않고 없는 게시판은 구독할 수 없으므로 한 번 만든 broadcaster는 내리지 않는다
+    private final Map<Long, BoardBroadcaster> broadcasters = new ConcurrentHashMap<>();
+    // 재시작 뒤에도 이전 Last-Event-ID보다 큰 id를 쓰도록 시작 시각에서 센다
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private volatile boolean running;
+
+    public LiveFeedService(
+            BoardRepository boardRepository,
+            ObjectMapper objectMapper,
+            LiveProperties properties,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        if (properties.getBufferSize() < 1) {
+            throw new IllegalArgumentException("대기열 크기는 1 이상이어야 합니다.");
+        }
+        this.boardRepository = boardRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    // lastEventId가 있으면 그 뒤의 최근 이벤트부터 받는다
+    public Subscription subscribe(Long boardId, Long lastEventId, EventSink sink) {
+        boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. ID: " + boardId));
+        if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscribers.decrementAndGet();
+            throw new LiveSubscriptionLimitException();
+        }
+        BoardBroadcaster broadcaster = broadcaster(boardId);
+        Subscription subscription = new Subscription(sink, executor, properties.getBufferSize(),
+                properties.getOverflowPolicy(), closed -> {
+                    broadcaster.unsubscribe(closed);
+                    subscribers.decrementAndGet();
+                });
+        if (lastEventId != null) {
+            broadcaster.resume(subscription, lastEventId);
+        } else {
+            broadcaster.subscribe(subscription);
+        }
+        return subscription;
+    }
+
+    // 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에만 보낸다 (롤백된 글이 알려지지 않도록).
+    // 게시글 내용은 지금 읽어 두고, id는 보낼 때 매긴다
+    public void publishAfterCommit(Post post, PostEventType type) {
+        Long boardId = post.getBoard().getId();
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(PostEvent.of(post, type));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {} event for post {}", type, post.getId(), e);
+            return;
+        }
+        AfterCommit.run(() -> publish(boardId, type, data));
+    }
+
+    // 그 사이 이벤트를 받은 연결은 건너뛰므로 하트비트는 조용한 연결에만 간다
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        long idleNanos = properties.getHeartbeatInterval().toNanos();
+        for (BoardBroadcaster broadcaster : broadcasters.values()) {
+            broadcaster.heartbeat(idleNanos);
+        }
+    }
+
+    // 연결을 이만큼 유지한 뒤 끊는다
+    public Duration timeout() {
+        return properties.getTimeout();
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 열린 SSE 요청이 남아 있으면 웹 서버의 graceful shutdown이 timeout까지 기다리므로 그보다 먼저 모두 끊는다
+    @Override
+    public void stop() {
+        for (BoardBroadcaster broadcaster : broadcasters.values()) {
+            broadcaster.closeAll();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    private void publish(Long boardId, PostEventType type, String data) {
+        try {
+            broadcaster(boardId).publish(type.getEventName(), data);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} event to board {}", type, boardId, e);
+        }
+    }
+
+    private BoardBroadcaster broadcaster(Long boardId) {
+        return broadcasters.computeIfAbsent(boardId,
+                id -> new BoardBroadcaster(properties.getReplaySize(), sequence::incrementAndGet));
+    }
+}
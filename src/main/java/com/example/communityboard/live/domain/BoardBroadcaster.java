@@ -0,0 +1,92 @@
+package com.example.communityboard.live.domain;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 게시판 하나의 구독자 목록과 최근 이벤트.
+// 발행은 구독자마다 대기열에 넣기만 하므로 느린 구독자가 있어도 발행하는 스레드는 기다리지 않는다.
+// 최근 replaySize개의 이벤트를 남겨 두어, 끊겼다가 Last-Event-ID로 다시 붙은 구독자가 놓친 이벤트를 받게 한다.
+public final class BoardBroadcaster {
+
+    private final int replaySize;
+    // 여러 게시판이 함께 써도 되며, 이 게시판 안에서 늘어나기만 하면 된다
+    private final LongSupplier ids;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    // 발행과 다시 붙기는 이 목록으로 동기화한다. 놓친 이벤트를 보내는 사이 발행된 이벤트가 빠지거나 두 번 가지 않는다
+    private final ArrayDeque<LiveEvent> recent;
+
+    public BoardBroadcaster(int replaySize, LongSupplier ids) {
+        if (replaySize < 0) {
+            throw new IllegalArgumentException("다시 보낼 이벤트 수는 0 이상이어야 합니다.");
+        }
+        this.replaySize = replaySize;
+        this.ids = ids;
+        this.recent = new ArrayDeque<>(replaySize);
+    }
+
+    public void subscribe(Subscription subscription) {
+        synchronized (recent) {
+            add(subscription);
+        }
+    }
+
+    // lastEventId 뒤의 최근 이벤트를 먼저 넣고 구독한다. 남아 있는 것보다 오래된 이벤트는 다시 보낼 수 없다
+    public void resume(Subscription subscription, long lastEventId) {
+        synchronized (recent) {
+            for (LiveEvent event : recent) {
+                if (event.id() > lastEventId && !subscription.offer(event)) {
+                    return;
+                }
+            }
+            add(subscription);
+        }
+    }
+
+    // id는 잠근 채로 매기므로 최근 이벤트 목록과 구독자가 받는 순서가 id 순서와 같다
+    public LiveEvent publish(String name, String data) {
+        synchronized (recent) {
+            LiveEvent event = new LiveEvent(ids.getAsLong(), name, data);
+            if (replaySize > 0) {
+                if (recent.size() == replaySize) {
+                    recent.pollFirst();
+                }
+                recent.addLast(event);
+            }
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(event);
+            }
+            return event;
+        }
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    // 최근에 아무것도 받지 못한 구독자에게만 하트비트를 보낸다 (Subscription.heartbeatIfIdle 참고)
+    public void heartbeat(long idleNanos) {
+        for (Subscription subscription : subscriptions) {
+            subscription.heartbeatIfIdle(idleNanos);
+        }
+    }
+
+    public void closeAll() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    public int size() {
+        return subscriptions.size();
+    }
+
+    // 넣기 전에 연결이 끊겨 unsubscribe가 먼저 불렸다면 목록에 남기지 않는다
+    private void add(Subscription subscription) {
+        subscriptions.add(subscription);
+        if (subscription.isClosed()) {
+            subscriptions.remove(subscription);
+        }
+    }
+}
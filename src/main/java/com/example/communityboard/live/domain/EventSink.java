@@ -0,0 +1,15 @@
+package com.example.communityboard.live.domain;
+
+import java.io.IOException;
+
+// 구독자 한 명의 연결. 쓰기는 호출한 스레드에서 바로 하며, 연결이 끊겼으면 예외를 던진다
+public interface EventSink {
+
+    void send(LiveEvent event) throws IOException;
+
+    // 보낼 이벤트가 없을 때 연결이 살아 있는지 확인하고 중간 프록시가 끊지 않도록 보낸다
+    void sendHeartbeat() throws IOException;
+
+    // 이미 끊겼으면 아무것도 하지 않는다
+    void close();
+}
@@ -0,0 +1,5 @@
+package com.example.communityboard.live.domain;
+
+// 구독자에게 그대로 보낼 이벤트. data는 발행할 때 한 번만 직렬화해 모든 구독자가 같은 문자열을 쓴다
+public record LiveEvent(long id, String name, String data) {
+}
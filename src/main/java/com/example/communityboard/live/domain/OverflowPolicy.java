@@ -0,0 +1,7 @@
+package com.example.communityboard.live.domain;
+
+// 느린 구독자의 대기열이 가득 찼을 때
+public enum OverflowPolicy {
+    DROP_OLDEST,    // 가장 오래된 이벤트를 버리고 새 이벤트를 넣는다
+    DISCONNECT      // 연결을 끊는다. 클라이언트가 Last-Event-ID로 다시 붙으면 최근 이벤트부터 다시 받는다
+}
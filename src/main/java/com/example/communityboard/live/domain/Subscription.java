@@ -0,0 +1,159 @@
+package com.example.communityboard.live.domain;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+// 구독자 한 명에게 보낼 이벤트 대기열.
+// 발행하는 스레드는 대기열에 넣기만 하고, 연결에 쓰는 일은 executor에서 구독자마다 한 번에 하나의 작업으로 한다.
+// 보낼 것이 없는 구독자는 스레드를 쓰지 않으므로 대기 중인 연결은 대기열 메모리만 차지한다.
+// 대기열이 capacity를 넘으면 정책에 따라 가장 오래된 이벤트를 버리거나 연결을 끊는다.
+public final class Subscription {
+
+    private final EventSink sink;
+    private final Executor executor;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final Consumer<Subscription> onClose;
+    private final LongSupplier clock;
+
+    private final ArrayDeque<LiveEvent> pending = new ArrayDeque<>();
+    // 쓰기 작업이 executor에 올라가 있거나 도는 중이다
+    private boolean draining;
+    private boolean heartbeatPending;
+    private boolean closed;
+    private long dropped;
+    private volatile long lastSentAt;
+
+    public Subscription(EventSink sink, Executor executor, int capacity, OverflowPolicy policy,
+                        Consumer<Subscription> onClose) {
+        this(sink, executor, capacity, policy, onClose, System::nanoTime);
+    }
+
+    Subscription(EventSink sink, Executor executor, int capacity, OverflowPolicy policy,
+                 Consumer<Subscription> onClose, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("대기열 크기는 1 이상이어야 합니다.");
+        }
+        this.sink = sink;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.onClose = onClose;
+        this.clock = clock;
+        this.lastSentAt = clock.getAsLong();
+    }
+
+    // 연결이 끊겨 있거나 이번에 끊었으면 false
+    public boolean offer(LiveEvent event) {
+        boolean overflowed = false;
+        boolean start = false;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            if (pending.size() < capacity) {
+                pending.addLast(event);
+            } else if (policy == OverflowPolicy.DROP_OLDEST) {
+                pending.pollFirst();
+                pending.addLast(event);
+                dropped++;
+            } else {
+                closed = true;
+                pending.clear();
+                overflowed = true;
+            }
+            if (!overflowed && !draining) {
+                draining = true;
+                start = true;
+            }
+        }
+        if (overflowed) {
+            finish();
+            return false;
+        }
+        if (start) {
+            schedule();
+        }
+        return true;
+    }
+
+    // idleNanos 넘게 아무것도 보내지 않았을 때만 하트비트를 보낸다.
+    // 이벤트를 보내는 중이거나 최근에 보냈다면 그것으로 충분하므로 건너뛴다
+    public void heartbeatIfIdle(long idleNanos) {
+        synchronized (this) {
+            if (closed || draining || clock.getAsLong() - lastSentAt < idleNanos) {
+                return;
+            }
+            heartbeatPending = true;
+            draining = true;
+        }
+        schedule();
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        finish();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    // 대기열이 넘쳐 버린 이벤트 수
+    public synchronized long dropped() {
+        return dropped;
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            close();
+        }
+    }
+
+    // 대기열이 빌 때까지 보낸다. 보내는 동안 들어온 이벤트도 이 작업이 이어서 보낸다
+    private void drain() {
+        while (true) {
+            LiveEvent next;
+            boolean heartbeat;
+            synchronized (this) {
+                heartbeat = heartbeatPending;
+                heartbeatPending = false;
+                next = heartbeat ? null : pending.pollFirst();
+                if (closed || (!heartbeat && next == null)) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                if (heartbeat) {
+                    sink.sendHeartbeat();
+                } else {
+                    sink.send(next);
+                }
+                lastSentAt = clock.getAsLong();
+            } catch (Exception e) {
+                close();
+                return;
+            }
+        }
+    }
+
+    private void finish() {
+        try {
+            sink.close();
+        } finally {
+            onClose.accept(this);
+        }
+    }
+}
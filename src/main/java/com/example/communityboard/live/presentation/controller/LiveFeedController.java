@@ -0,0 +1,29 @@
+package com.example.communityboard.live.presentation.controller;
+
+import com.example.communityboard.live.application.service.LiveFeedService;
+import com.example.communityboard.live.domain.Subscription;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/boards")
+@RequiredArgsConstructor
+public class LiveFeedController {
+
+    private final LiveFeedService liveFeedService;
+
+    // 게시판에 글이 작성/수정되면 post-created, post-updated 이벤트를 받는다.
+    // 브라우저 EventSource는 다시 붙을 때 마지막으로 받은 id를 Last-Event-ID로 보낸다
+    @GetMapping(value = "/{boardId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long boardId,
+                                @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(liveFeedService.timeout().toMillis());
+        Subscription subscription = liveFeedService.subscribe(boardId, lastEventId, new SseEventSink(emitter));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.communityboard.live.presentation.controller;
+
+import com.example.communityboard.live.domain.EventSink;
+import com.example.communityboard.live.domain.LiveEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+// 서블릿 비동기 요청으로 열어 둔 SSE 연결. 요청 스레드는 핸들러가 반환하면 돌아가고 연결만 남는다
+class SseEventSink implements EventSink {
+
+    private final SseEmitter emitter;
+
+    SseEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(LiveEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(event.id()))
+                .name(event.name())
+                .data(event.data()));
+    }
+
+    // 주석 줄은 클라이언트의 EventSource가 무시한다
+    @Override
+    public void sendHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
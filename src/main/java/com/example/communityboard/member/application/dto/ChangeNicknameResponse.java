@@ -0,0 +1,11 @@
+package com.example.communityboard.member.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChangeNicknameResponse {
+    private final Long memberId;
+    private final String nickname;
+}
@@ -0,0 +1,65 @@
+package com.example.communityboard.member.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 요청 하나에서 응답을 만드는 동안 작성자 닉네임을 정한다.
+// 게시글/댓글 행에 저장된 닉네임을 쓰되, 바뀌어 아직 다 퍼지지 않은 닉네임은 NicknameOverrides에서 가져온다.
+// 저장된 닉네임이 없는 행(컬럼이 생기기 전에 쓰인 글)만 회원을 읽는다. 응답 DTO는 먼저 작성자를 모두
+// register하고 nicknameOf로 꺼내며, 처음 꺼낼 때 쌓인 ID를 NicknameCache로 한 번에 찾으므로
+// 요청당 회원 쿼리는 많아야 한 번이다.
+// 요청마다 새로 만들어지고 요청을 처리하는 스레드만 쓰므로 동기화하지 않는다.
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class AuthorLoader {
+
+    private final NicknameCache nicknameCache;
+    private final NicknameOverrides nicknameOverrides;
+
+    private final Set<Long> pending = new LinkedHashSet<>();
+    // 없는 회원도 null로 남겨 다시 찾지 않는다
+    private final Map<Long, String> loaded = new HashMap<>();
+
+    // storedNickname은 행에 저장된 작성자 닉네임
+    public void register(Long memberId, String storedNickname) {
+        if (memberId != null && storedNickname == null && !loaded.containsKey(memberId)) {
+            pending.add(memberId);
+        }
+    }
+
+    // 아직 읽지 않은 작성자가 쌓여 있으면 이 회원과 함께 한 번에 읽는다
+    public String nicknameOf(Long memberId, String storedNickname) {
+        if (memberId == null) {
+            return storedNickname;
+        }
+        String changed = nicknameOverrides.get(memberId);
+        if (changed != null) {
+            return changed;
+        }
+        if (storedNickname != null) {
+            return storedNickname;
+        }
+        register(memberId, null);
+        if (!pending.isEmpty()) {
+            dispatch();
+        }
+        return loaded.get(memberId);
+    }
+
+    private void dispatch() {
+        List<Long> batch = List.copyOf(pending);
+        pending.clear();
+        Map<Long, String> nicknames = nicknameCache.getAll(batch);
+        for (Long memberId : batch) {
+            loaded.put(memberId, nicknames.get(memberId));
+        }
+    }
+}
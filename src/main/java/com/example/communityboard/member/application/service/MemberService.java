@@ -1,16 +1,20 @@
 package com.example.communityboard.member.application.service;
 
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
+import com.example.communityboard.member.application.dto.ChangeNicknameResponse;
 import com.example.communityboard.member.application.dto.LoginRequest;
 import com.example.communityboard.member.application.dto.LoginResponse;
 import com.example.communityboard.member.application.dto.SignupRequest;
 import com.example.communityboard.member.application.dto.SignupResponse;
 import com.example.communityboard.member.application.exception.DuplicateEmailException;
 import com.example.communityboard.member.application.exception.DuplicateLoginIdException;
+import com.example.communityboard.member.application.exception.DuplicateNicknameException;
 import com.example.communityboard.member.application.exception.InvalidLoginException;
 import com.example.communityboard.member.domain.entity.Member;
 import com.example.communityboard.member.domain.repository.MemberRepository;
 import com.example.communityboard.member.domain.vo.Email;
 import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.domain.vo.Nickname;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,6 +27,9 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AutocompleteService autocompleteService;
+    private final NicknameCache nicknameCache;
+    private final NicknamePropagator nicknamePropagator;
 
     public LoginResponse login(LoginRequest request) {
         LoginId loginId = LoginId.of(request.getLoginId());
@@ -65,6 +72,7 @@ public class MemberService {
         );
         
         Member savedMember = memberRepository.save(member);
+        autocompleteService.putMemberAfterCommit(savedMember);
         
         return new SignupResponse(
                 savedMember.getId(),
@@ -73,4 +81,22 @@ public class MemberService {
                 savedMember.getEmail().getValue()
         );
     }
+
+    @Transactional
+    public ChangeNicknameResponse changeNickname(Long memberId, String nickname) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. ID: " + memberId));
+        Nickname newNickname = Nickname.of(nickname);
+        if (!newNickname.equals(member.getNickname())) {
+            if (memberRepository.existsByNickname(newNickname)) {
+                throw new DuplicateNicknameException();
+            }
+            member.changeNickname(nickname);
+            autocompleteService.putMemberAfterCommit(member);
+            nicknameCache.evictAfterCommit(member.getId());
+            // 회원이 쓴 게시글/댓글에 저장된 닉네임은 커밋 후 백그라운드에서 고친다
+            nicknamePropagator.request(member.getId(), member.getNickname().getValue());
+        }
+        return new ChangeNicknameResponse(member.getId(), member.getNickname().getValue());
+    }
 }
@@ -0,0 +1,100 @@
+package com.example.communityboard.member.application.service;
+
+import com.example.communityboard.common.config.AuthorProperties;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.member.domain.repository.MemberNickname;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 목록 응답에 붙일 작성자 닉네임을 짧게 캐시한다.
+// 여러 회원을 한 번에 찾고, 캐시에 없는 회원만 IN 쿼리 하나로 읽는다 (AuthorLoader 참고).
+// 다른 인스턴스에서 바뀐 닉네임은 nicknameTtl 안에 반영된다.
+@Component
+public class NicknameCache {
+
+    private final MemberRepository memberRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    // nickname이 null인 항목은 닉네임이 바뀐 시각만 남긴 표시다. 그 전에 읽기 시작한 닉네임은 넣지 않는다
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NicknameCache(MemberRepository memberRepository, AuthorProperties properties) {
+        this(memberRepository, properties, System::nanoTime);
+    }
+
+    NicknameCache(MemberRepository memberRepository, AuthorProperties properties, LongSupplier clock) {
+        if (properties.getMaxCachedNicknames() < 1) {
+            throw new IllegalArgumentException("닉네임 캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.memberRepository = memberRepository;
+        this.ttlNanos = properties.getNicknameTtl().toNanos();
+        this.maxSize = properties.getMaxCachedNicknames();
+        this.clock = clock;
+    }
+
+    // 회원 ID별 닉네임. 없는 회원은 빠진다
+    public Map<Long, String> getAll(Collection<Long> memberIds) {
+        long now = clock.getAsLong();
+        Map<Long, String> nicknames = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long memberId : new LinkedHashSet<>(memberIds)) {
+            Entry entry = entries.get(memberId);
+            if (entry != null && entry.nickname() != null && now - entry.loadedAt() < ttlNanos) {
+                nicknames.put(memberId, entry.nickname());
+            } else {
+                missing.add(memberId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return nicknames;
+        }
+        for (MemberNickname loaded : memberRepository.findNicknamesByIds(missing)) {
+            nicknames.put(loaded.id(), loaded.nickname());
+            Entry entry = new Entry(loaded.nickname(), now);
+            // 읽는 사이 닉네임이 바뀌었다면 방금 읽은 값은 이번 요청에만 쓴다
+            entries.compute(loaded.id(), (id, current) ->
+                    current != null && current.loadedAt() - now >= 0 ? current : entry);
+        }
+        trim(now);
+        return nicknames;
+    }
+
+    // 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에 비운다
+    public void evictAfterCommit(Long memberId) {
+        AfterCommit.run(() -> evict(memberId));
+    }
+
+    void evict(Long memberId) {
+        entries.put(memberId, new Entry(null, clock.getAsLong()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void trim(long now) {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        entries.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+        if (entries.size() > maxSize) {
+            entries.clear();
+        }
+    }
+
+    private record Entry(String nickname, long loadedAt) {
+    }
+}
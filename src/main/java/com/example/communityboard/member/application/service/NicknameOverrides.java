@@ -0,0 +1,60 @@
+package com.example.communityboard.member.application.service;
+
+import com.example.communityboard.member.domain.repository.PendingNickname;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// 게시글/댓글에 아직 다 퍼지지 않은 닉네임. 목록은 행에 저장된 닉네임보다 이것을 먼저 쓴다 (AuthorLoader 참고).
+// 전파 중인 회원만 담으므로 작다. 전파가 끝나도 바로 내리지 않고 다음 확인 때 내려,
+// 목록 캐시(BoardHeadCache 등)에 남은 이전 닉네임이 만료될 시간을 준다.
+@Component
+public class NicknameOverrides {
+
+    private final LongSupplier clock;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public NicknameOverrides() {
+        this(System::nanoTime);
+    }
+
+    NicknameOverrides(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public String get(Long memberId) {
+        Entry entry = entries.get(memberId);
+        return entry != null ? entry.nickname() : null;
+    }
+
+    public void put(Long memberId, String nickname) {
+        entries.put(memberId, new Entry(nickname, clock.getAsLong()));
+    }
+
+    // 남은 작업 목록을 읽어 그것으로 바꾼다. 읽기 시작한 뒤에 들어온 닉네임은 목록에 없어도 남긴다
+    public List<PendingNickname> refresh(Supplier<List<PendingNickname>> reader) {
+        long startedAt = clock.getAsLong();
+        List<PendingNickname> pending = reader.get();
+        Map<Long, String> nicknames = new HashMap<>();
+        for (PendingNickname nickname : pending) {
+            nicknames.put(nickname.memberId(), nickname.nickname());
+        }
+        entries.entrySet().removeIf(entry -> !nicknames.containsKey(entry.getKey())
+                && entry.getValue().addedAt() - startedAt < 0);
+        nicknames.forEach((memberId, nickname) -> entries.compute(memberId, (id, current) ->
+                current != null && current.addedAt() - startedAt >= 0 ? current : new Entry(nickname, startedAt)));
+        return pending;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(String nickname, long addedAt) {
+    }
+}
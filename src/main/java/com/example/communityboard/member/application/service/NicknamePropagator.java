@@ -0,0 +1,142 @@
+package com.example.communityboard.member.application.service;
+
+import com.example.communityboard.common.config.AuthorProperties;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.member.domain.repository.NicknamePropagationRepository;
+import com.example.communityboard.member.domain.repository.PendingNickname;
+import com.example.communityboard.member.domain.repository.PropagationChunk;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 바뀐 닉네임을 게시글/댓글의 author_nickname에 백그라운드로 써 넣는다.
+// - 닉네임을 바꾼 트랜잭션에서 작업을 함께 기록하고, 커밋되면 NicknameOverrides에 올린 뒤 전파를 시작한다.
+// - 회원마다 id 순으로 chunkSize건씩 한 트랜잭션에 고치고 청크 사이에 쉰다. 고친 위치는 작업에 남는다.
+// - 종료나 실패로 멈추면 다음 확인(propagationInterval) 때 남은 위치부터 다시 한다. 첫 확인은 기동 직후다.
+// - 변경이 커밋되기 전에 시작된 글쓰기가 전파가 끝난 뒤에 커밋되면 그 글에는 이전 닉네임이 남는다.
+@Slf4j
+@Component
+public class NicknamePropagator implements SmartLifecycle {
+
+    private final NicknamePropagationRepository nicknamePropagationRepository;
+    private final NicknameOverrides nicknameOverrides;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Executor executor;
+
+    // 한 인스턴스에서는 한 스레드만 전파한다. 도는 중에 요청이 오면 끝난 뒤 한 번 더 돈다
+    private final AtomicBoolean working = new AtomicBoolean();
+    private volatile boolean requested;
+    private volatile boolean running;
+
+    public NicknamePropagator(
+            NicknamePropagationRepository nicknamePropagationRepository,
+            NicknameOverrides nicknameOverrides,
+            AuthorProperties properties,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        if (properties.getPropagationChunkSize() < 1) {
+            throw new IllegalArgumentException("닉네임 전파 청크 크기는 1 이상이어야 합니다.");
+        }
+        this.nicknamePropagationRepository = nicknamePropagationRepository;
+        this.nicknameOverrides = nicknameOverrides;
+        this.chunkSize = properties.getPropagationChunkSize();
+        this.pause = properties.getPropagationPause();
+        this.executor = executor;
+    }
+
+    // 닉네임을 바꾸는 트랜잭션 안에서 부른다. 롤백되면 작업도 목록에 올린 닉네임도 남지 않는다
+    public void request(Long memberId, String nickname) {
+        nicknamePropagationRepository.request(memberId, nickname);
+        AfterCommit.run(() -> {
+            nicknameOverrides.put(memberId, nickname);
+            schedule();
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.author.propagation-interval:PT30S}")
+    public void check() {
+        schedule();
+    }
+
+    // 남은 작업을 모두 끝낼 때까지 돈다
+    void propagatePending() {
+        requested = true;
+        while (requested && running && working.compareAndSet(false, true)) {
+            try {
+                requested = false;
+                propagateAll();
+            } catch (RuntimeException e) {
+                log.warn("Failed to read pending nickname propagations, will retry", e);
+            } finally {
+                working.set(false);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 도는 청크는 끝까지 커밋되거나 롤백된다. 남은 청크는 다음 기동 때 이어서 한다
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::propagatePending);
+        } catch (RejectedExecutionException e) {
+            log.warn("Could not start nickname propagation, will retry on next check", e);
+        }
+    }
+
+    private void propagateAll() {
+        List<PendingNickname> pending = nicknameOverrides.refresh(nicknamePropagationRepository::findAll);
+        for (PendingNickname nickname : pending) {
+            if (!running) {
+                return;
+            }
+            try {
+                propagate(nickname.memberId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to propagate nickname of member {}, will retry", nickname.memberId(), e);
+            }
+        }
+    }
+
+    private void propagate(Long memberId) throws InterruptedException {
+        long updated = 0;
+        while (running) {
+            Optional<PropagationChunk> chunk = nicknamePropagationRepository.propagateChunk(memberId, chunkSize);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            updated += chunk.get().updatedRows();
+            if (chunk.get().finished()) {
+                log.info("Propagated nickname of member {} to {} posts and comments", memberId, updated);
+                return;
+            }
+            Thread.sleep(pause);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.communityboard.member.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 행은 JdbcNicknamePropagationRepository가 JDBC로만 넣고 고친다. 엔티티는 스키마 정의용이다.
+// 닉네임을 바꾼 트랜잭션에서 함께 넣으므로, 전파하던 중에 재시작해도 남은 위치부터 이어서 고친다.
+@Entity
+@Table(name = "nickname_propagation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NicknamePropagation {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // 게시글/댓글에 써 넣을 닉네임. 전파 중에 다시 바뀌면 덮어쓰고 처음부터 다시 고친다
+    @Column(nullable = false)
+    private String nickname;
+
+    // 이 id까지의 게시글/댓글은 고쳤다
+    @Column(name = "last_post_id", nullable = false)
+    private long lastPostId;
+
+    @Column(name = "last_comment_id", nullable = false)
+    private long lastCommentId;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+}
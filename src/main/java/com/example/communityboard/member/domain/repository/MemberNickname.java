@@ -0,0 +1,5 @@
+package com.example.communityboard.member.domain.repository;
+
+// 목록에 작성자를 표시할 때 읽는 프로젝션
+public record MemberNickname(Long id, String nickname) {
+}
@@ -3,15 +3,25 @@ package com.example.communityboard.member.domain.repository;
 import com.example.communityboard.member.domain.entity.Member;
 import com.example.communityboard.member.domain.vo.Email;
 import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.domain.vo.Nickname;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository {
     Member save(Member member);
     
+    Optional<Member> findById(Long id);
+    
     Optional<Member> findByLoginId(LoginId loginId);
     
     boolean existsByLoginId(LoginId loginId);
     
     boolean existsByEmail(Email email);
+    
+    boolean existsByNickname(Nickname nickname);
+
+    // 없는 회원은 빠진다. 순서는 보장하지 않는다
+    List<MemberNickname> findNicknamesByIds(Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.communityboard.member.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+// 바뀐 닉네임을 게시글/댓글의 author_nickname에 나눠서 써 넣는 작업 목록
+public interface NicknamePropagationRepository {
+
+    // 닉네임을 바꾸는 트랜잭션 안에서 부른다. 전파 중이던 작업이 있으면 새 닉네임으로 처음부터 다시 한다
+    void request(Long memberId, String nickname);
+
+    List<PendingNickname> findAll();
+
+    // 작업을 잠그고 게시글, 그다음 댓글을 id 순으로 chunkSize건까지 고친 뒤 위치를 옮긴다.
+    // 한 번에 한 트랜잭션이며, 고칠 것이 없으면 작업을 지운다. 작업이 없으면 empty
+    Optional<PropagationChunk> propagateChunk(Long memberId, int chunkSize);
+}
@@ -0,0 +1,5 @@
+package com.example.communityboard.member.domain.repository;
+
+// 게시글/댓글에 아직 다 퍼지지 않은 닉네임
+public record PendingNickname(Long memberId, String nickname) {
+}
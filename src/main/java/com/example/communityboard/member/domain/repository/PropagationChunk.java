@@ -0,0 +1,5 @@
+package com.example.communityboard.member.domain.repository;
+
+// 닉네임 전파 한 번의 결과. finished면 남은 게시글/댓글이 없어 작업을 지웠다
+public record PropagationChunk(String nickname, int updatedRows, boolean finished) {
+}
@@ -1,5 +1,6 @@
 package com.example.communityboard.member.domain.vo;
 
+import com.example.communityboard.moderation.domain.ContentFilter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
@@ -41,6 +42,9 @@ public class Nickname {
         if (!value.matches(ALLOWED_PATTERN)) {
             throw new IllegalArgumentException("닉네임은 한글, 영문, 숫자만 사용 가능합니다.");
         }
+        if (ContentFilter.containsBannedTerm(value)) {
+            throw new IllegalArgumentException("닉네임에 사용할 수 없는 단어가 포함되어 있습니다.");
+        }
     }
 
     @Override
@@ -0,0 +1,90 @@
+package com.example.communityboard.member.infrastructure.persistence;
+
+import com.example.communityboard.member.domain.repository.NicknamePropagationRepository;
+import com.example.communityboard.member.domain.repository.PendingNickname;
+import com.example.communityboard.member.domain.repository.PropagationChunk;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcNicknamePropagationRepository implements NicknamePropagationRepository {
+
+    private static final String RESET_SQL = "update nickname_propagation "
+            + "set nickname = ?, last_post_id = 0, last_comment_id = 0, requested_at = ? where member_id = ?";
+    private static final String INSERT_SQL = "insert into nickname_propagation "
+            + "(member_id, nickname, last_post_id, last_comment_id, requested_at) values (?, ?, 0, 0, ?)";
+    private static final String LOCK_SQL = "select nickname, last_post_id, last_comment_id "
+            + "from nickname_propagation where member_id = ? for update";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 전파 중인 작업은 잠가서 고치므로 도는 청크가 커밋된 뒤에 처음으로 돌린다.
+    // 작업이 없는 회원의 닉네임이 동시에 두 번 바뀌면 하나는 기본 키 위반으로 닉네임 변경째 롤백된다
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void request(Long memberId, String nickname) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(RESET_SQL, nickname, now, memberId) == 0) {
+            jdbcTemplate.update(INSERT_SQL, memberId, nickname, now);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PendingNickname> findAll() {
+        return jdbcTemplate.query("select member_id, nickname from nickname_propagation order by requested_at",
+                (rs, rowNum) -> new PendingNickname(rs.getLong("member_id"), rs.getString("nickname")));
+    }
+
+    // 고칠 범위는 id로 먼저 정하고 (author_id, id) 인덱스 범위로 고친다. 트랜잭션 크기가 chunkSize로 묶인다
+    @Override
+    @Transactional
+    public Optional<PropagationChunk> propagateChunk(Long memberId, int chunkSize) {
+        List<Job> locked = jdbcTemplate.query(LOCK_SQL,
+                (rs, rowNum) -> new Job(rs.getString("nickname"), rs.getLong("last_post_id"),
+                        rs.getLong("last_comment_id")),
+                memberId);
+        if (locked.isEmpty()) {
+            return Optional.empty();
+        }
+        Job job = locked.get(0);
+        int updated = updateChunk("post", memberId, job.nickname(), job.lastPostId(), chunkSize, "last_post_id");
+        if (updated == 0) {
+            updated = updateChunk("comment", memberId, job.nickname(), job.lastCommentId(), chunkSize,
+                    "last_comment_id");
+        }
+        if (updated == 0) {
+            jdbcTemplate.update("delete from nickname_propagation where member_id = ?", memberId);
+            return Optional.of(new PropagationChunk(job.nickname(), 0, true));
+        }
+        return Optional.of(new PropagationChunk(job.nickname(), updated, false));
+    }
+
+    private int updateChunk(String table, Long memberId, String nickname, long afterId, int chunkSize,
+                            String cursorColumn) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select id from " + table + " where author_id = ? and id > ? order by id limit ?",
+                Long.class, memberId, afterId, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        long lastId = ids.get(ids.size() - 1);
+        jdbcTemplate.update("update " + table + " set author_nickname = ? "
+                + "where author_id = ? and id > ? and id <= ?", nickname, memberId, afterId, lastId);
+        jdbcTemplate.update("update nickname_propagation set " + cursorColumn + " = ? where member_id = ?",
+                lastId, memberId);
+        return ids.size();
+    }
+
+    private record Job(String nickname, long lastPostId, long lastCommentId) {
+    }
+}
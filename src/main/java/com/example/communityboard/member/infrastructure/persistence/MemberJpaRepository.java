@@ -1,10 +1,16 @@
 package com.example.communityboard.member.infrastructure.persistence;
 
 import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberNickname;
 import com.example.communityboard.member.domain.vo.Email;
 import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.domain.vo.Nickname;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberJpaRepository extends JpaRepository<Member, Long> {
@@ -13,4 +19,12 @@ public interface MemberJpaRepository extends JpaRepository<Member, Long> {
     boolean existsByLoginId(LoginId loginId);
     
     boolean existsByEmail(Email email);
+    
+    boolean existsByNickname(Nickname nickname);
+
+    @Query("select new com.example.communityboard.member.domain.repository.MemberNickname("
+            + "m.id, m.nickname.value) "
+            + "from Member m "
+            + "where m.id in :ids")
+    List<MemberNickname> findNicknamesByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -1,18 +1,26 @@
 package com.example.communityboard.member.infrastructure.persistence;
 
 import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberNickname;
 import com.example.communityboard.member.domain.repository.MemberRepository;
 import com.example.communityboard.member.domain.vo.Email;
 import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.domain.vo.Nickname;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class MemberRepositoryImpl implements MemberRepository {
-    
+
+    // IN 목록이 너무 길면 DB가 한 번에 받지 못하거나 실행 계획을 재사용하지 못하므로 나눠 읽는다
+    private static final int IN_CHUNK_SIZE = 500;
+
     private final MemberJpaRepository memberJpaRepository;
     
     @Override
@@ -20,6 +28,11 @@ public class MemberRepositoryImpl implements MemberRepository {
         return memberJpaRepository.save(member);
     }
     
+    @Override
+    public Optional<Member> findById(Long id) {
+        return memberJpaRepository.findById(id);
+    }
+    
     @Override
     public Optional<Member> findByLoginId(LoginId loginId) {
         return memberJpaRepository.findByLoginId(loginId);
@@ -34,4 +47,23 @@ public class MemberRepositoryImpl implements MemberRepository {
     public boolean existsByEmail(Email email) {
         return memberJpaRepository.existsByEmail(email);
     }
+    
+    @Override
+    public boolean existsByNickname(Nickname nickname) {
+        return memberJpaRepository.existsByNickname(nickname);
+    }
+
+    @Override
+    public List<MemberNickname> findNicknamesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> distinct = ids.stream().distinct().toList();
+        List<MemberNickname> nicknames = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + IN_CHUNK_SIZE, distinct.size()));
+            nicknames.addAll(memberJpaRepository.findNicknamesByIds(chunk));
+        }
+        return nicknames;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.example.communityboard.member.presentation.controller;
 
 import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.member.application.dto.ChangeNicknameRequest;
+import com.example.communityboard.member.application.dto.ChangeNicknameResponse;
 import com.example.communityboard.member.application.dto.LoginRequest;
 import com.example.communityboard.member.application.dto.LoginResponse;
 import com.example.communityboard.member.application.dto.SignupRequest;
@@ -9,6 +11,8 @@ import com.example.communityboard.member.application.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -32,4 +36,12 @@ public class MemberController {
         LoginResponse response = memberService.login(request);
         return ResponseEntity.ok(ApiResponse.success(response, "로그인에 성공했습니다."));
     }
+
+    @PatchMapping("/{memberId}/nickname")
+    public ResponseEntity<ApiResponse<ChangeNicknameResponse>> changeNickname(
+            @PathVariable Long memberId,
+            @Valid @RequestBody ChangeNicknameRequest request) {
+        ChangeNicknameResponse response = memberService.changeNickname(memberId, request.getNickname());
+        return ResponseEntity.ok(ApiResponse.success(response, "닉네임이 변경되었습니다."));
+    }
 }
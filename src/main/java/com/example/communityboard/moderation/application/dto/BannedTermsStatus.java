@@ -0,0 +1,6 @@
+package com.example.communityboard.moderation.application.dto;
+
+import java.time.LocalDateTime;
+
+public record BannedTermsStatus(String location, int termCount, int stateCount, LocalDateTime loadedAt) {
+}
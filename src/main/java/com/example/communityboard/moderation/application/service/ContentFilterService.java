@@ -0,0 +1,66 @@
+package com.example.communityboard.moderation.application.service;
+
+import com.example.communityboard.common.config.ModerationProperties;
+import com.example.communityboard.moderation.application.dto.BannedTermsStatus;
+import com.example.communityboard.moderation.domain.AhoCorasickMatcher;
+import com.example.communityboard.moderation.domain.ContentFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 금칙어 사전을 읽어 오토마톤으로 만든 뒤 ContentFilter에 바꿔 끼운다.
+// 새 오토마톤은 검사와 상관없이 따로 만들고 참조만 바꾸므로, 다시 읽는 동안에도 검사는 멈추지 않고 이전 사전을 쓴다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentFilterService {
+
+    private final ResourceLoader resourceLoader;
+    private final ModerationProperties properties;
+    private volatile BannedTermsStatus status;
+
+    // 요청을 받기 전에 읽는다. 사전을 읽지 못하면 기동하지 않는다
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    // 읽다가 실패하면 쓰던 사전을 그대로 둔다
+    public synchronized BannedTermsStatus reload() {
+        String location = properties.getBannedTermsLocation();
+        long start = System.nanoTime();
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(readTerms(resourceLoader.getResource(location)));
+        ContentFilter.install(matcher);
+        status = new BannedTermsStatus(location, matcher.termCount(), matcher.stateCount(), LocalDateTime.now());
+        log.info("Loaded {} banned terms from {} in {} ms", matcher.termCount(), location,
+                (System.nanoTime() - start) / 1_000_000);
+        return status;
+    }
+
+    public BannedTermsStatus status() {
+        return status;
+    }
+
+    private List<String> readTerms(Resource resource) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("금칙어 사전을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+}
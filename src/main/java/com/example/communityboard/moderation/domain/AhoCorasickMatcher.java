@@ -0,0 +1,188 @@
+package com.example.communityboard.moderation.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// 금칙어 사전을 Aho-Corasick 오토마톤으로 만들어 두고, 글을 한 번 훑어 사전의 어느 단어든 들어 있는지 찾는다.
+// 단어마다 contains를 부르면 (단어 수 × 글 길이)지만 이 방식은 단어 수와 상관없이 글 길이에 비례한다.
+// - 상태는 너비 우선 순서로 번호를 매기고, 상태마다 나가는 간선을 글자 순으로 edgeChars/edgeTargets의 한 구간에 담는다.
+//   글자 종류가 많은 한글에서도 상태마다 표를 두지 않고 구간 안을 이진 탐색한다.
+// - 만든 뒤에는 바뀌지 않으므로 여러 스레드가 잠금 없이 함께 읽는다. 사전을 바꿀 때는 새로 만들어 통째로 바꿔 끼운다.
+// 단어와 글은 모두 JamoNormalizer로 고쳐 쓴 뒤 비교하며, 글은 따로 고쳐 쓴 사본을 만들지 않고 훑으면서 고친다.
+public final class AhoCorasickMatcher {
+
+    public static final AhoCorasickMatcher EMPTY = compile(List.of());
+
+    private static final int ROOT = 0;
+    private static final int NO_MATCH = -1;
+
+    private final String[] terms;
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    // 상태에 도달했을 때 끝나는 단어 (실패 링크를 따라 이어지는 더 짧은 단어 포함). 없으면 NO_MATCH
+    private final int[] output;
+
+    private AhoCorasickMatcher(String[] terms, int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] fail,
+                               int[] output) {
+        this.terms = terms;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+    }
+
+    // 빈 단어와 고쳐 쓴 결과가 같은 단어는 하나만 남긴다
+    public static AhoCorasickMatcher compile(Collection<String> terms) {
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String term : terms) {
+            String normalized = JamoNormalizer.normalize(term);
+            if (!normalized.isEmpty()) {
+                unique.putIfAbsent(normalized, term.strip());
+            }
+        }
+
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(NO_MATCH);
+        int termIndex = 0;
+        for (String normalized : unique.keySet()) {
+            int node = ROOT;
+            for (int i = 0; i < normalized.length(); i++) {
+                Integer next = children.get(node).get(normalized.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(NO_MATCH);
+                    children.get(node).put(normalized.charAt(i), next);
+                }
+                node = next;
+            }
+            terminal.set(node, termIndex++);
+        }
+        return flatten(unique.values().toArray(String[]::new), children, terminal);
+    }
+
+    // 들어 있으면 처음 찾은 금칙어(사전에 적힌 그대로)를 돌려준다
+    public Optional<String> findFirst(CharSequence text) {
+        int term = scan(text);
+        return term == NO_MATCH ? Optional.empty() : Optional.of(terms[term]);
+    }
+
+    public boolean matches(CharSequence text) {
+        return scan(text) != NO_MATCH;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    public int stateCount() {
+        return fail.length;
+    }
+
+    private int scan(CharSequence text) {
+        if (terms.length == 0 || text == null) {
+            return NO_MATCH;
+        }
+        char[] buffer = new char[JamoNormalizer.MAX_EXPANSION];
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            int length = JamoNormalizer.expand(text.charAt(i), buffer);
+            for (int j = 0; j < length; j++) {
+                state = next(state, buffer[j]);
+                if (output[state] != NO_MATCH) {
+                    return output[state];
+                }
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = edge(state, c);
+            if (target != NO_MATCH) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int edge(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char candidate = edgeChars[middle];
+            if (candidate < c) {
+                low = middle + 1;
+            } else if (candidate > c) {
+                high = middle - 1;
+            } else {
+                return edgeTargets[middle];
+            }
+        }
+        return NO_MATCH;
+    }
+
+    // 임시 트라이를 너비 우선으로 번호를 다시 매겨 배열에 옮기고 실패 링크를 단다.
+    // 너비 우선 순서로 처리하므로 자식의 실패 링크를 구할 때 더 얕은 상태의 실패 링크는 이미 정해져 있다.
+    private static AhoCorasickMatcher flatten(String[] terms, List<TreeMap<Character, Integer>> children,
+                                              List<Integer> terminal) {
+        int stateCount = children.size();
+        int[] order = new int[stateCount];
+        int[] renumbered = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        int visited = 0;
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            renumbered[node] = visited;
+            order[visited++] = node;
+            queue.addAll(children.get(node).values());
+        }
+
+        int[] edgeStart = new int[stateCount + 1];
+        char[] edgeChars = new char[stateCount - 1];
+        int[] edgeTargets = new int[stateCount - 1];
+        int[] output = new int[stateCount];
+        int edge = 0;
+        for (int state = 0; state < stateCount; state++) {
+            edgeStart[state] = edge;
+            output[state] = terminal.get(order[state]);
+            for (Map.Entry<Character, Integer> child : children.get(order[state]).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = renumbered[child.getValue()];
+                edge++;
+            }
+        }
+        edgeStart[stateCount] = edge;
+
+        int[] fail = new int[stateCount];
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(terms, edgeStart, edgeChars, edgeTargets, fail, output);
+        for (int state = 0; state < stateCount; state++) {
+            for (int i = edgeStart[state]; i < edgeStart[state + 1]; i++) {
+                int child = edgeTargets[i];
+                fail[child] = state == ROOT ? ROOT : matcher.next(fail[state], edgeChars[i]);
+                if (output[child] == NO_MATCH) {
+                    output[child] = output[fail[child]];
+                }
+            }
+        }
+        return matcher;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.communityboard.moderation.domain;
+
+// 닉네임, 게시판 제목, 게시글, 댓글을 검증할 때 쓰는 금칙어 사전.
+// 값 객체와 엔티티는 빈을 주입받지 않으므로 지금 쓰는 사전을 여기에 두고, ContentFilterService가 읽어서 바꿔 끼운다.
+// 바꿔 끼우기 전까지는 빈 사전이라 아무것도 막지 않는다.
+public final class ContentFilter {
+
+    private static volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.EMPTY;
+
+    private ContentFilter() {
+    }
+
+    public static boolean containsBannedTerm(CharSequence text) {
+        return matcher.matches(text);
+    }
+
+    public static AhoCorasickMatcher matcher() {
+        return matcher;
+    }
+
+    // 검사 중이던 글은 이전 사전으로 끝까지 검사하고, 이후 검사부터 새 사전을 쓴다
+    public static void install(AhoCorasickMatcher next) {
+        matcher = next;
+    }
+}
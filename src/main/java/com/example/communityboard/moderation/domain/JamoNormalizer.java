@@ -0,0 +1,86 @@
+package com.example.communityboard.moderation.domain;
+
+// 금칙어 비교용으로 글자를 고쳐 쓴다. 자모를 풀어 쓰거나("ㅆㅣ발") 사이에 공백/전각 문자를 끼워 넣어 피해 가는 것을 막는다.
+// - 한글 음절은 초성/중성/종성 호환 자모로 푼다 (씨 -> ㅆ ㅣ). 따로 입력한 자모와 같은 글자가 된다.
+// - 조합형 자모(U+1100~)도 같은 호환 자모로 바꾼다.
+// - 공백과 폭 없는 문자는 버리고, 전각 영숫자는 반각으로, 영문은 소문자로 바꾼다.
+// 음절 경계가 사라지므로 초성만으로 된 금칙어(ㅅㅂ)는 받침과 다음 초성(맛보기 -> ㅁㅏㅅㅂㅗㄱㅣ)에도 걸린다. 사전에 넣지 않는다.
+public final class JamoNormalizer {
+
+    // 한 글자가 풀리는 최대 길이 (초성 + 중성 + 종성)
+    public static final int MAX_EXPANSION = 3;
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    // 0번은 받침 없음
+    private static final char[] JONGSEONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ',
+            'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char FIRST_VOWEL = 'ㅏ';
+
+    // 조합형 자모의 초성, 중성, 종성 구간
+    private static final char CONJOINING_CHOSEONG_FIRST = '\u1100';
+    private static final char CONJOINING_CHOSEONG_LAST = '\u1112';
+    private static final char CONJOINING_JUNGSEONG_FIRST = '\u1161';
+    private static final char CONJOINING_JUNGSEONG_LAST = '\u1175';
+    private static final char CONJOINING_JONGSEONG_FIRST = '\u11A8';
+    private static final char CONJOINING_JONGSEONG_LAST = '\u11C2';
+    // 전각 영숫자/기호는 같은 반각 글자에서 이만큼 떨어져 있다
+    private static final char FULLWIDTH_FIRST = '\uFF01';
+    private static final char FULLWIDTH_LAST = '\uFF5E';
+    private static final int FULLWIDTH_OFFSET = 0xFEE0;
+
+    private JamoNormalizer() {
+    }
+
+    // c를 고쳐 쓴 글자를 out에 넣고 개수를 돌려준다. 버리는 글자면 0이다
+    public static int expand(char c, char[] out) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int index = c - SYLLABLE_BASE;
+            int jongseong = index % JONGSEONG_COUNT;
+            out[0] = CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+            out[1] = (char) (FIRST_VOWEL + index / JONGSEONG_COUNT % JUNGSEONG_COUNT);
+            if (jongseong == 0) {
+                return 2;
+            }
+            out[2] = JONGSEONG[jongseong];
+            return 3;
+        }
+        if (c >= CONJOINING_CHOSEONG_FIRST && c <= CONJOINING_CHOSEONG_LAST) {
+            out[0] = CHOSEONG[c - CONJOINING_CHOSEONG_FIRST];
+            return 1;
+        }
+        if (c >= CONJOINING_JUNGSEONG_FIRST && c <= CONJOINING_JUNGSEONG_LAST) {
+            out[0] = (char) (FIRST_VOWEL + (c - CONJOINING_JUNGSEONG_FIRST));
+            return 1;
+        }
+        if (c >= CONJOINING_JONGSEONG_FIRST && c <= CONJOINING_JONGSEONG_LAST) {
+            out[0] = JONGSEONG[c - CONJOINING_JONGSEONG_FIRST + 1];
+            return 1;
+        }
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c) || Character.getType(c) == Character.FORMAT) {
+            return 0;
+        }
+        if (c >= FULLWIDTH_FIRST && c <= FULLWIDTH_LAST) {
+            c = (char) (c - FULLWIDTH_OFFSET);
+        }
+        out[0] = Character.toLowerCase(c);
+        return 1;
+    }
+
+    public static String normalize(CharSequence text) {
+        StringBuilder normalized = new StringBuilder(text.length() * 2);
+        char[] buffer = new char[MAX_EXPANSION];
+        for (int i = 0; i < text.length(); i++) {
+            normalized.append(buffer, 0, expand(text.charAt(i), buffer));
+        }
+        return normalized.toString();
+    }
+}
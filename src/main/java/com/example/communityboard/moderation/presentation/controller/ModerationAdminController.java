@@ -0,0 +1,32 @@
+package com.example.communityboard.moderation.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.moderation.application.dto.BannedTermsStatus;
+import com.example.communityboard.moderation.application.service.ContentFilterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/moderation/banned-terms")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ModerationAdminController {
+
+    private final ContentFilterService contentFilterService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<BannedTermsStatus>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success(contentFilterService.status()));
+    }
+
+    // 사전 파일을 고친 뒤 다시 읽어 바꿔 끼운다
+    @PostMapping("/reload")
+    public ResponseEntity<ApiResponse<BannedTermsStatus>> reload() {
+        return ResponseEntity.ok(ApiResponse.success(contentFilterService.reload(), "금칙어 사전을 다시 읽었습니다."));
+    }
+}
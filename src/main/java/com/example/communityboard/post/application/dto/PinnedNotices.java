@@ -0,0 +1,28 @@
+package com.example.communityboard.post.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 고정 공지 목록을 직렬화한 JSON 배열과 그 내용으로 만든 버전.
+// 버전이 내용에서 나오므로 인스턴스가 달라도, 다시 읽어도 공지가 같으면 버전이 같다.
+public record PinnedNotices(String version, String json) {
+
+    public static PinnedNotices of(String json) {
+        return new PinnedNotices(versionOf(json), json);
+    }
+
+    public boolean isVersion(String version) {
+        return this.version.equals(version);
+    }
+
+    private static String versionOf(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.communityboard.post.application.dto;
+
+import com.example.communityboard.post.domain.repository.PostSummary;
+
+import java.util.List;
+
+public record PostPage(List<PostSummary> posts, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
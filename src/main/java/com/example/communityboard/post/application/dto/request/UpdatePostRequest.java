@@ -0,0 +1,26 @@
+package com.example.communityboard.post.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdatePostRequest {
+
+    @NotNull(message = "작성자는 필수입니다.")
+    private Long authorId;
+
+    @NotBlank(message = "제목은 필수입니다.")
+    @Size(min = 2, max = 100, message = "제목은 2자 이상 100자 이하여야 합니다.")
+    private String title;
+
+    @NotBlank(message = "내용은 필수입니다.")
+    @Size(max = 10000, message = "내용은 10000자를 초과할 수 없습니다.")
+    private String content;
+
+}
@@ -0,0 +1,33 @@
+package com.example.communityboard.post.application.dto.response;
+
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.post.application.dto.PinnedNotices;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PostPageResponse {
+    private final String noticeVersion;
+    // 미리 직렬화해 둔 고정 공지 배열을 그대로 내보낸다. 클라이언트가 가진 버전과 같으면 null
+    @JsonRawValue
+    private final String notices;
+    private final List<PostSummaryResponse> posts;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private PostPageResponse(PostPage page, PinnedNotices notices, String knownNoticeVersion, AuthorLoader authors) {
+        this.noticeVersion = notices.version();
+        this.notices = notices.isVersion(knownNoticeVersion) ? null : notices.json();
+        this.posts = PostSummaryResponse.fromAll(page.posts(), authors);
+        this.nextCursor = page.nextCursor();
+        this.hasNext = page.hasNext();
+    }
+
+    public static PostPageResponse from(PostPage page, PinnedNotices notices, String knownNoticeVersion,
+                                        AuthorLoader authors) {
+        return new PostPageResponse(page, notices, knownNoticeVersion, authors);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.communityboard.post.application.dto.response;
+
+import com.example.communityboard.post.domain.entity.Post;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PostResponse {
+    private final Long id;
+    private final Long boardId;
+    private final Long authorId;
+    private final String title;
+    private final String content;
+    private final long viewCount;
+    private final long likeCount;
+    private final boolean pinned;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    private PostResponse(Post post, long viewCount, long likeCount) {
+        this.id = post.getId();
+        this.boardId = post.getBoard().getId();
+        this.authorId = post.getAuthor().getId();
+        this.title = post.getTitle();
+        this.content = post.getContent();
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.pinned = post.isPinned();
+        this.createdAt = post.getCreatedAt();
+        this.updatedAt = post.getUpdatedAt();
+    }
+
+    public static PostResponse from(Post post) {
+        return new PostResponse(post, post.getViewCount(), post.getLikeCount());
+    }
+
+    public static PostResponse from(Post post, long viewCount, long likeCount) {
+        return new PostResponse(post, viewCount, likeCount);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.example.communityboard.post.application.dto.response;
+
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class PostSummaryResponse {
+    private final Long id;
+    private final Long boardId;
+    private final Long authorId;
+    private final String authorNickname;
+    private final String title;
+    private final LocalDateTime createdAt;
+
+    private PostSummaryResponse(PostSummary summary, String authorNickname) {
+        this.id = summary.id();
+        this.boardId = summary.boardId();
+        this.authorId = summary.authorId();
+        this.authorNickname = authorNickname;
+        this.title = summary.title();
+        this.createdAt = summary.createdAt();
+    }
+
+    public static PostSummaryResponse from(PostSummary summary, String authorNickname) {
+        return new PostSummaryResponse(summary, authorNickname);
+    }
+
+    // 작성자를 모두 등록한 뒤 꺼내므로 목록 전체의 닉네임을 한 번에 읽는다
+    public static List<PostSummaryResponse> fromAll(List<PostSummary> summaries, AuthorLoader authors) {
+        summaries.forEach(summary -> authors.register(summary.authorId(), summary.authorNickname()));
+        return summaries.stream()
+                .map(summary -> from(summary, authors.nicknameOf(summary.authorId(), summary.authorNickname())))
+                .toList();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.communityboard.post.application.exception;
+
+public class PostAccessDeniedException extends RuntimeException {
+    public PostAccessDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.communityboard.post.application.service;
+
+import com.example.communityboard.common.groupcommit.GroupCommitQueue;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 다른 요청의 게시글과 모아 한 트랜잭션으로 저장한다
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitPostWriter implements PostWriter {
+
+    private final GroupCommitQueue<Post, Long> postWriteQueue;
+    private final PostRepository postRepository;
+
+    // 배치 INSERT는 영속성 컨텍스트를 거치지 않으므로 응답에 쓸 엔티티를 id로 다시 읽는다.
+    // 게시글은 댓글보다 작성 빈도가 훨씬 낮아 이 조회 한 번은 부담이 되지 않는다.
+    @Override
+    public Post write(Post post) {
+        Long id = postWriteQueue.write(post);
+        return postRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("저장한 게시글을 찾을 수 없습니다. ID: " + id));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.communityboard.post.application.service;
+
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 요청마다 트랜잭션 하나로 저장한다
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.group-commit", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class JpaPostWriter implements PostWriter {
+
+    private final PostRepository postRepository;
+
+    @Override
+    @Transactional
+    public Post write(Post post) {
+        return postRepository.save(post);
+    }
+}
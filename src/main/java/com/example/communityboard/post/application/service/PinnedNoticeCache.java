@@ -0,0 +1,73 @@
+package com.example.communityboard.post.application.service;
+
+import com.example.communityboard.common.config.PinnedNoticeProperties;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.member.application.service.NicknameCache;
+import com.example.communityboard.post.application.dto.PinnedNotices;
+import com.example.communityboard.post.application.dto.response.PostSummaryResponse;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// 고정 공지 목록을 미리 직렬화해 두고 모든 게시판 목록 응답에 그대로 끼워 넣는다.
+// 목록을 볼 때마다 공지를 조회하지 않고, 공지를 작성/수정/고정/해제할 때만 다시 읽는다.
+// 다른 인스턴스에서 바뀐 공지는 주기적으로 다시 읽어 반영한다. 작성자 닉네임도 그때 함께 다시 읽는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PinnedNoticeCache {
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+    private final PinnedNoticeProperties properties;
+    private final NicknameCache nicknameCache;
+
+    private volatile PinnedNotices current;
+
+    public PinnedNotices get() {
+        PinnedNotices notices = current;
+        return notices != null ? notices : refresh();
+    }
+
+    // 동시에 갱신해도 나중에 읽은 목록이 마지막에 남도록 직렬화한다
+    public synchronized PinnedNotices refresh() {
+        List<PostSummary> pinned = postRepository.findPinnedNotices(properties.getMaxSize());
+        Map<Long, String> nicknames = nicknameCache.getAll(pinned.stream().map(PostSummary::authorId).toList());
+        List<PostSummaryResponse> notices = pinned.stream()
+                .map(summary -> PostSummaryResponse.from(summary, nicknames.get(summary.authorId())))
+                .toList();
+        PinnedNotices refreshed = PinnedNotices.of(serialize(notices));
+        current = refreshed;
+        return refreshed;
+    }
+
+    // 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에 다시 읽는다
+    public void refreshAfterCommit() {
+        AfterCommit.run(() -> refresh());
+    }
+
+    @Scheduled(fixedDelayString = "${app.pinned-notice.refresh-interval:PT30S}")
+    public void refreshPeriodically() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh pinned notices, keeping the previous list", e);
+        }
+    }
+
+    private String serialize(List<PostSummaryResponse> notices) {
+        try {
+            return objectMapper.writeValueAsString(notices);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("고정 공지를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
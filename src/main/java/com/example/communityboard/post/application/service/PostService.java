@@ -0,0 +1,119 @@
+package com.example.communityboard.post.application.service;
+
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.feed.application.service.BoardHeadCache;
+import com.example.communityboard.live.application.dto.PostEventType;
+import com.example.communityboard.live.application.service.LiveFeedService;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.example.communityboard.post.application.exception.PostAccessDeniedException;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.search.application.service.SearchIndexService;
+import com.example.communityboard.spam.application.dto.SpamInspection;
+import com.example.communityboard.spam.application.service.SpamDetectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final BoardRepository boardRepository;
+    private final MemberRepository memberRepository;
+    private final PostWriter postWriter;
+    private final PinnedNoticeCache pinnedNoticeCache;
+    private final SearchIndexService searchIndexService;
+    private final AutocompleteService autocompleteService;
+    private final SpamDetectionService spamDetectionService;
+    private final LiveFeedService liveFeedService;
+    private final BoardHeadCache boardHeadCache;
+
+    // 그룹 커밋 대기열에서 기다리는 동안 커넥션을 쥐고 있지 않도록 트랜잭션 밖에서 실행한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Post createPost(Long boardId, Long authorId, String title, String content) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. ID: " + boardId));
+        Member author = memberRepository.findById(authorId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. ID: " + authorId));
+        if (board.getBoardType() == BoardType.NOTICE && !author.isAdmin()) {
+            throw new PostAccessDeniedException("공지사항 게시판에는 관리자만 글을 작성할 수 있습니다.");
+        }
+        Post created = Post.create(board, author, title, content);
+        SpamInspection inspection = spamDetectionService.inspect(board.getBoardType(), title, content);
+        Post post = postWriter.write(created);
+        spamDetectionService.record(post.getId(), inspection);
+        searchIndexService.indexPostAfterCommit(post);
+        autocompleteService.recordPostAfterCommit(post);
+        liveFeedService.publishAfterCommit(post, PostEventType.CREATED);
+        boardHeadCache.evictAfterCommit(board.getId());
+        return post;
+    }
+
+    public Post getPost(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + postId));
+    }
+
+    // offset 대신 마지막으로 본 (createdAt, id) 다음부터 읽으므로 몇 번째 페이지든 비용이 같다.
+    // 한 건을 더 읽어 다음 페이지 존재 여부를 판단한다.
+    public PostPage getPosts(Long boardId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        PostCursor after = (cursor == null || cursor.isBlank()) ? null : PostCursor.decode(cursor);
+        List<PostSummary> rows = postRepository.findPageByBoardId(boardId, after, size + 1);
+        if (rows.size() <= size) {
+            return new PostPage(rows, null);
+        }
+        List<PostSummary> page = rows.subList(0, size);
+        return new PostPage(List.copyOf(page), PostCursor.from(page.get(size - 1)).encode());
+    }
+
+    @Transactional
+    public Post updatePost(Long postId, Long authorId, String title, String content) {
+        Post post = getPost(postId);
+        if (!post.isWrittenBy(authorId)) {
+            throw new PostAccessDeniedException("게시글 작성자만 수정할 수 있습니다.");
+        }
+        post.update(title, content);
+        if (post.isPinned()) {
+            pinnedNoticeCache.refreshAfterCommit();
+        }
+        searchIndexService.indexPostAfterCommit(post);
+        liveFeedService.publishAfterCommit(post, PostEventType.UPDATED);
+        boardHeadCache.evictAfterCommit(post.getBoard().getId());
+        return postRepository.save(post);
+    }
+
+    @Transactional
+    public Post pinNotice(Long postId) {
+        Post post = getPost(postId);
+        post.pin();
+        pinnedNoticeCache.refreshAfterCommit();
+        return postRepository.save(post);
+    }
+
+    @Transactional
+    public Post unpinNotice(Long postId) {
+        Post post = getPost(postId);
+        post.unpin();
+        pinnedNoticeCache.refreshAfterCommit();
+        return postRepository.save(post);
+    }
+}
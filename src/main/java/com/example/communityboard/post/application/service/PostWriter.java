@@ -0,0 +1,9 @@
+package com.example.communityboard.post.application.service;
+
+import com.example.communityboard.post.domain.entity.Post;
+
+// 검증을 마친 게시글을 저장한다. 반환 시점에는 이미 커밋되어 있다.
+public interface PostWriter {
+
+    Post write(Post post);
+}
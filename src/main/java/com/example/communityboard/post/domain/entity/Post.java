@@ -0,0 +1,156 @@
+package com.example.communityboard.post.domain.entity;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.common.BaseEntity;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.moderation.domain.ContentFilter;
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+@Entity
+@Table(name = "post", indexes = {
+        // 게시판별 목록의 키셋 정렬 순서 그대로 만들고, 목록에 필요한 컬럼까지 담아 커버링 인덱스로 쓴다
+        @Index(name = "idx_post_board_list",
+                columnList = "board_id, created_at DESC, id DESC, author_id, author_nickname, title"),
+        // 고정된 공지는 몇 건뿐이라 전체 게시글을 훑지 않고 이 인덱스 앞부분만 읽는다
+        @Index(name = "idx_post_pinned", columnList = "pinned, created_at DESC, id DESC"),
+        // 자동완성 인기도로 쓰는 회원별 작성 글 수를 셀 때 게시글 전체를 훑지 않는다.
+        // 닉네임 전파(NicknamePropagator)도 회원의 글을 id 순으로 나눠 읽는다
+        @Index(name = "idx_post_author", columnList = "author_id, id"),
+        // 안 읽은 글 수를 셀 때 게시판에서 읽음 위치 뒤의 id 구간만 읽는다
+        @Index(name = "idx_post_board_id", columnList = "board_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Post extends BaseEntity {
+
+    private static final int TITLE_MIN_LENGTH = 2;
+    private static final int TITLE_MAX_LENGTH = 100;
+    private static final int CONTENT_MAX_LENGTH = 10_000;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Board board;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "author_id", nullable = false)
+    private Member author;
+
+    // 목록마다 회원을 읽지 않도록 작성 시점의 닉네임을 함께 둔다. 바뀐 닉네임은 NicknamePropagator만 고친다.
+    // 이 컬럼이 생기기 전에 쓰인 글은 비어 있다 (AuthorLoader가 회원에서 읽는다)
+    @Column(name = "author_nickname", updatable = false)
+    private String authorNickname;
+
+    @Column(nullable = false, length = TITLE_MAX_LENGTH)
+    private String title;
+
+    // 본문은 목록 조회에서 제외된다 (PostSummary 프로젝션 참고)
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    // 조회수는 ViewCountFlusher만 증가시킨다. 엔티티 저장 시 덮어쓰지 않도록 updatable = false
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    // 좋아요 수는 LikeFlusher만 바꾼다
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount;
+
+    // 고정된 공지는 모든 게시판 목록 위에 붙는다 (PinnedNoticeCache 참고)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean pinned;
+
+    private Post(Board board, Member author, String title, String content) {
+        validateBoard(board);
+        validateAuthor(author);
+        validateTitle(title);
+        validateContent(content);
+        this.board = board;
+        this.author = author;
+        this.authorNickname = author.getNickname().getValue();
+        this.title = title;
+        this.content = content;
+    }
+
+    public static Post create(Board board, Member author, String title, String content) {
+        return new Post(board, author, title, content);
+    }
+
+    public void update(String title, String content) {
+        validateTitle(title);
+        validateContent(content);
+        this.title = title;
+        this.content = content;
+    }
+
+    public void pin() {
+        if (!isNotice()) {
+            throw new IllegalArgumentException("공지사항 게시판의 글만 고정할 수 있습니다.");
+        }
+        this.pinned = true;
+    }
+
+    public void unpin() {
+        this.pinned = false;
+    }
+
+    public boolean isNotice() {
+        return board.getBoardType() == BoardType.NOTICE;
+    }
+
+    public boolean isWrittenBy(Long memberId) {
+        return memberId != null && Objects.equals(author.getId(), memberId);
+    }
+
+    private void validateBoard(Board board) {
+        if (board == null) {
+            throw new IllegalArgumentException("게시판은 필수입니다.");
+        }
+    }
+
+    private void validateAuthor(Member author) {
+        if (author == null) {
+            throw new IllegalArgumentException("작성자는 필수입니다.");
+        }
+    }
+
+    private void validateTitle(String title) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("제목은 공백이 불가합니다.");
+        }
+        if (title.length() < TITLE_MIN_LENGTH) {
+            throw new IllegalArgumentException("제목은 2자 이상이어야 합니다.");
+        }
+        if (title.length() > TITLE_MAX_LENGTH) {
+            throw new IllegalArgumentException("제목은 100자를 초과할 수 없습니다.");
+        }
+        if (ContentFilter.containsBannedTerm(title)) {
+            throw new IllegalArgumentException("제목에 사용할 수 없는 단어가 포함되어 있습니다.");
+        }
+    }
+
+    private void validateContent(String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("내용은 공백이 불가합니다.");
+        }
+        if (content.length() > CONTENT_MAX_LENGTH) {
+            throw new IllegalArgumentException("내용은 10000자를 초과할 수 없습니다.");
+        }
+        if (ContentFilter.containsBannedTerm(content)) {
+            throw new IllegalArgumentException("내용에 사용할 수 없는 단어가 포함되어 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.communityboard.post.domain.repository;
+
+import com.example.communityboard.post.domain.entity.Post;
+
+import java.util.List;
+
+public interface PostBatchRepository {
+
+    // 아직 저장되지 않은 게시글들을 한 번에 넣고 생성된 id를 입력 순서대로 돌려준다
+    List<Long> insertAll(List<Post> posts);
+}
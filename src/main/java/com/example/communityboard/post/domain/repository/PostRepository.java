@@ -0,0 +1,29 @@
+package com.example.communityboard.post.domain.repository;
+
+import com.example.communityboard.post.domain.entity.Post;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PostRepository {
+
+    Post save(Post post);
+
+    Optional<Post> findById(Long id);
+
+    // cursor가 null이면 첫 페이지. 어느 페이지든 인덱스에서 cursor 위치부터 size건만 읽는다.
+    List<PostSummary> findPageByBoardId(Long boardId, PostCursor cursor, int size);
+
+    // 순서는 보장하지 않는다
+    List<PostSummary> findSummariesByIds(Collection<Long> ids);
+
+    // 고정된 공지를 최신순으로
+    List<PostSummary> findPinnedNotices(int size);
+
+    // 게시판에서 id가 afterId보다 큰 게시글 수
+    long countByBoardIdAfter(Long boardId, long afterId);
+
+    Optional<Long> findLastIdByBoardId(Long boardId);
+
+}
@@ -0,0 +1,9 @@
+package com.example.communityboard.post.domain.repository;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 프로젝션. 커버링 인덱스(idx_post_board_list)에 있는 컬럼만 담는다.
+// authorNickname은 작성 시점의 닉네임이라 바뀌는 중일 수 있다 (AuthorLoader 참고)
+public record PostSummary(Long id, Long boardId, Long authorId, String title, LocalDateTime createdAt,
+                          String authorNickname) {
+}
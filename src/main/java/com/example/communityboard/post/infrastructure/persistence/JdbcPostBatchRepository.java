@@ -0,0 +1,70 @@
+package com.example.communityboard.post.infrastructure.persistence;
+
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcPostBatchRepository implements PostBatchRepository {
+
+    private static final String INSERT_SQL = "insert into post "
+            + "(board_id, author_id, author_nickname, title, content, view_count, like_count, pinned, "
+            + "created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, 0, 0, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<Long> insertAll(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Post post = posts.get(i);
+                        ps.setLong(1, post.getBoard().getId());
+                        ps.setLong(2, post.getAuthor().getId());
+                        ps.setString(3, post.getAuthorNickname());
+                        ps.setString(4, post.getTitle());
+                        ps.setString(5, post.getContent());
+                        ps.setBoolean(6, post.isPinned());
+                        ps.setTimestamp(7, now);
+                        ps.setTimestamp(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return posts.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != posts.size()) {
+            throw new IllegalStateException("생성된 게시글 id 수가 요청 수와 다릅니다.");
+        }
+        return keys.stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.communityboard.post.infrastructure.persistence;
+
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostJpaRepository extends JpaRepository<Post, Long> {
+
+    @Query("select new com.example.communityboard.post.domain.repository.PostSummary("
+            + "p.id, p.board.id, p.author.id, p.title, p.createdAt, p.authorNickname) "
+            + "from Post p "
+            + "where p.board.id = :boardId "
+            + "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findFirstPage(@Param("boardId") Long boardId, Limit limit);
+
+    // (created_at, id) < (:createdAt, :id) 를 JPQL로 풀어 쓴 키셋 조건
+    @Query("select new com.example.communityboard.post.domain.repository.PostSummary("
+            + "p.id, p.board.id, p.author.id, p.title, p.createdAt, p.authorNickname) "
+            + "from Post p "
+            + "where p.board.id = :boardId "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findPageAfter(@Param("boardId") Long boardId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Limit limit);
+
+    @Query("select new com.example.communityboard.post.domain.repository.PostSummary("
+            + "p.id, p.board.id, p.author.id, p.title, p.createdAt, p.authorNickname) "
+            + "from Post p "
+            + "where p.id in :ids")
+    List<PostSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.example.communityboard.post.domain.repository.PostSummary("
+            + "p.id, p.board.id, p.author.id, p.title, p.createdAt, p.authorNickname) "
+            + "from Post p "
+            + "where p.pinned = true "
+            + "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findPinned(Limit limit);
+
+    @Query("select count(p) from Post p where p.board.id = :boardId and p.id > :afterId")
+    long countByBoardIdAfter(@Param("boardId") Long boardId, @Param("afterId") long afterId);
+
+    @Query("select max(p.id) from Post p where p.board.id = :boardId")
+    Long findLastIdByBoardId(@Param("boardId") Long boardId);
+}
@@ -0,0 +1,62 @@
+package com.example.communityboard.post.infrastructure.persistence;
+
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepository {
+
+    private final PostJpaRepository postJpaRepository;
+
+    @Override
+    public Post save(Post post) {
+        return postJpaRepository.save(post);
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        return postJpaRepository.findById(id);
+    }
+
+    @Override
+    public List<PostSummary> findPageByBoardId(Long boardId, PostCursor cursor, int size) {
+        if (cursor == null) {
+            return postJpaRepository.findFirstPage(boardId, Limit.of(size));
+        }
+        return postJpaRepository.findPageAfter(boardId, cursor.createdAt(), cursor.id(), Limit.of(size));
+    }
+
+    @Override
+    public List<PostSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return postJpaRepository.findSummariesByIds(ids);
+    }
+
+    @Override
+    public List<PostSummary> findPinnedNotices(int size) {
+        return postJpaRepository.findPinned(Limit.of(size));
+    }
+
+    @Override
+    public long countByBoardIdAfter(Long boardId, long afterId) {
+        return postJpaRepository.countByBoardIdAfter(boardId, afterId);
+    }
+
+    @Override
+    public Optional<Long> findLastIdByBoardId(Long boardId) {
+        return Optional.ofNullable(postJpaRepository.findLastIdByBoardId(boardId));
+    }
+
+}
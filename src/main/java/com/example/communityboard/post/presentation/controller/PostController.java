@@ -0,0 +1,102 @@
+package com.example.communityboard.post.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.like.application.service.LikeService;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.example.communityboard.post.application.dto.request.CreatePostRequest;
+import com.example.communityboard.post.application.dto.request.UpdatePostRequest;
+import com.example.communityboard.post.application.dto.response.PostPageResponse;
+import com.example.communityboard.post.application.dto.response.PostResponse;
+import com.example.communityboard.post.application.service.PinnedNoticeCache;
+import com.example.communityboard.post.application.service.PostService;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import com.example.communityboard.trending.application.service.TrendingService;
+import com.example.communityboard.viewcount.application.service.ViewCountService;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.application.service.VisitorService;
+import com.example.communityboard.visitor.presentation.VisitorIdentity;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostService postService;
+    private final PinnedNoticeCache pinnedNoticeCache;
+    private final ViewCountService viewCountService;
+    private final HotPostRankingService hotPostRankingService;
+    private final LikeService likeService;
+    private final VisitorService visitorService;
+    private final TrendingService trendingService;
+    private final AuthorLoader authorLoader;
+
+    @PostMapping("/boards/{boardId}/posts")
+    public ResponseEntity<ApiResponse<PostResponse>> createPost(
+            @PathVariable Long boardId,
+            @Valid @RequestBody CreatePostRequest request) {
+        Post post = postService.createPost(boardId, request.getAuthorId(), request.getTitle(), request.getContent());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(PostResponse.from(post), "게시글이 작성되었습니다."));
+    }
+
+    // 고정 공지는 DB를 읽지 않고 캐시에서 붙인다. 받은 적 있는 noticeVersion을 보내면 공지 본문은 생략된다.
+    @GetMapping("/boards/{boardId}/posts")
+    public ResponseEntity<ApiResponse<PostPageResponse>> getPosts(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String noticeVersion) {
+        PostPage page = postService.getPosts(boardId, cursor, size);
+        trendingService.recordBoardRead(boardId);
+        return ResponseEntity.ok(ApiResponse.success(
+                PostPageResponse.from(page, pinnedNoticeCache.get(), noticeVersion, authorLoader)));
+    }
+
+    @GetMapping("/posts/{postId}")
+    public ResponseEntity<ApiResponse<PostResponse>> getPost(@PathVariable Long postId) {
+        Post post = postService.getPost(postId);
+        viewCountService.recordView(ViewTarget.POST, postId);
+        visitorService.recordVisit(ViewTarget.POST, postId, VisitorIdentity.current());
+        hotPostRankingService.record(post.getBoard().getId(), postId, HotScoreEvent.VIEW);
+
+        return ResponseEntity.ok(ApiResponse.success(toResponse(post)));
+    }
+
+    @PutMapping("/posts/{postId}")
+    public ResponseEntity<ApiResponse<PostResponse>> updatePost(
+            @PathVariable Long postId,
+            @Valid @RequestBody UpdatePostRequest request) {
+        Post post = postService.updatePost(postId, request.getAuthorId(), request.getTitle(), request.getContent());
+        return ResponseEntity.ok(ApiResponse.success(toResponse(post), "게시글이 수정되었습니다."));
+    }
+
+    @PutMapping("/posts/{postId}/pin")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PostResponse>> pinNotice(@PathVariable Long postId) {
+        Post post = postService.pinNotice(postId);
+        return ResponseEntity.ok(ApiResponse.success(toResponse(post), "공지를 고정했습니다."));
+    }
+
+    @DeleteMapping("/posts/{postId}/pin")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PostResponse>> unpinNotice(@PathVariable Long postId) {
+        Post post = postService.unpinNotice(postId);
+        return ResponseEntity.ok(ApiResponse.success(toResponse(post), "공지 고정을 해제했습니다."));
+    }
+
+    private PostResponse toResponse(Post post) {
+        long viewCount = viewCountService.currentCount(ViewTarget.POST, post.getId(), post.getViewCount());
+        long likeCount = likeService.currentCount(post.getId(), post.getLikeCount());
+        return PostResponse.from(post, viewCount, likeCount);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.communityboard.ranking.application.dto;
+
+import com.example.communityboard.post.domain.repository.PostSummary;
+
+public record HotPost(PostSummary summary, double score) {
+}
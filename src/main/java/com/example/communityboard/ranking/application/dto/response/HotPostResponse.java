@@ -0,0 +1,42 @@
+package com.example.communityboard.ranking.application.dto.response;
+
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.ranking.application.dto.HotPost;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class HotPostResponse {
+    private final Long id;
+    private final Long boardId;
+    private final Long authorId;
+    private final String authorNickname;
+    private final String title;
+    private final LocalDateTime createdAt;
+    private final double score;
+
+    private HotPostResponse(HotPost hotPost, String authorNickname) {
+        this.id = hotPost.summary().id();
+        this.boardId = hotPost.summary().boardId();
+        this.authorId = hotPost.summary().authorId();
+        this.authorNickname = authorNickname;
+        this.title = hotPost.summary().title();
+        this.createdAt = hotPost.summary().createdAt();
+        this.score = hotPost.score();
+    }
+
+    public static HotPostResponse from(HotPost hotPost, String authorNickname) {
+        return new HotPostResponse(hotPost, authorNickname);
+    }
+
+    // 작성자를 모두 등록한 뒤 꺼내므로 목록 전체의 닉네임을 한 번에 읽는다
+    public static List<HotPostResponse> fromAll(List<HotPost> hotPosts, AuthorLoader authors) {
+        hotPosts.forEach(hotPost -> authors.register(hotPost.summary().authorId(), hotPost.summary().authorNickname()));
+        return hotPosts.stream()
+                .map(hotPost -> from(hotPost,
+                        authors.nicknameOf(hotPost.summary().authorId(), hotPost.summary().authorNickname())))
+                .toList();
+    }
+}
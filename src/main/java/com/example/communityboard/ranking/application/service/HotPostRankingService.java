@@ -0,0 +1,78 @@
+package com.example.communityboard.ranking.application.service;
+
+import com.example.communityboard.common.config.HotRankingProperties;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.ranking.application.dto.HotPost;
+import com.example.communityboard.ranking.domain.DecayingTopN;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시판별 인기 글 순위를 메모리에서 점진적으로 유지한다.
+// 순위는 ORDER BY로 계산하지 않으며, 화면에 필요한 제목 등은 순위에 든 id로만 기본키 조회한다.
+@Service
+@RequiredArgsConstructor
+public class HotPostRankingService {
+
+    public static final int MAX_SIZE = 50;
+
+    private final HotRankingProperties properties;
+    private final PostRepository postRepository;
+
+    private final Map<Long, DecayingTopN> rankings = new ConcurrentHashMap<>();
+
+    public void record(Long boardId, Long postId, HotScoreEvent event) {
+        rankings.computeIfAbsent(boardId,
+                        id -> new DecayingTopN(properties.getHalfLife(), properties.getCapacity()))
+                .add(postId, event.getWeight());
+    }
+
+    // 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에만 점수에 반영한다 (롤백된 댓글/좋아요가 순위에 남지 않도록)
+    public void recordAfterCommit(Long boardId, Long postId, HotScoreEvent event) {
+        AfterCommit.run(() -> record(boardId, postId, event));
+    }
+
+    public List<DecayingTopN.ScoredId> getRanking(Long boardId, int size) {
+        DecayingTopN ranking = rankings.get(boardId);
+        return ranking == null ? List.of() : ranking.top(size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<HotPost> getHotPosts(Long boardId, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("인기 글 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        List<DecayingTopN.ScoredId> ranked = getRanking(boardId, size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> summaries = postRepository
+                .findSummariesByIds(ranked.stream().map(DecayingTopN.ScoredId::id).toList())
+                .stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        List<HotPost> hotPosts = new ArrayList<>(ranked.size());
+        for (DecayingTopN.ScoredId scored : ranked) {
+            PostSummary summary = summaries.get(scored.id());
+            if (summary != null) {
+                hotPosts.add(new HotPost(summary, scored.score()));
+            }
+        }
+        return hotPosts;
+    }
+
+    @Scheduled(fixedDelayString = "${app.hot-ranking.rebase-interval:PT1H}")
+    public void rebaseAll() {
+        rankings.values().forEach(DecayingTopN::rebase);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.communityboard.ranking.domain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.LongSupplier;
+
+// 지수 감쇠 점수로 상위 capacity개 id를 유지한다.
+// 점수는 "기준 시각(epoch) 시점 값"으로 저장한다. 이벤트 가중치에 e^(λ·(t - epoch))를 곱해 더하면
+// 모든 항목이 같은 비율로 감쇠하므로 시간이 지나도 순서를 다시 계산할 필요가 없다.
+// 대신 저장값이 시간에 따라 지수적으로 커지므로 주기적으로 epoch를 현재로 옮긴다(rebase).
+public class DecayingTopN {
+
+    // e^60 ≈ 1.1e26. 이 이상 커지기 전에 rebase해 double 정밀도와 오버플로를 걱정하지 않게 한다.
+    private static final double MAX_EXPONENT = 60.0;
+    // rebase 시 현재 점수가 이 값보다 작은 항목은 정리한다 (조회 한 번의 1/1000)
+    private static final double MIN_SCORE = 1e-3;
+
+    private static final Comparator<Entry> BY_SCORE_DESC = Comparator
+            .comparingDouble(Entry::raw).reversed()
+            .thenComparingLong(Entry::id);
+
+    private final double lambdaPerNano;
+    private final int capacity;
+    private final LongSupplier clock;
+    private final Object lock = new Object();
+
+    // 읽기는 state를 한 번만 읽어 epoch와 정렬 집합을 일관되게 본다. 쓰기는 lock 안에서만 한다.
+    private volatile State state;
+
+    public DecayingTopN(Duration halfLife, int capacity) {
+        this(halfLife, capacity, System::nanoTime);
+    }
+
+    DecayingTopN(Duration halfLife, int capacity, LongSupplier clock) {
+        if (halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("halfLife must be positive");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.lambdaPerNano = Math.log(2) / halfLife.toNanos();
+        this.capacity = capacity;
+        this.clock = clock;
+        this.state = new State(clock.getAsLong());
+    }
+
+    // 정렬 집합에서 이전 항목을 빼고 새 항목을 넣으므로 O(log n)
+    public void add(long id, double weight) {
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            State current = state;
+            if (exponent(current, now) > MAX_EXPONENT) {
+                current = rebaseLocked(now);
+            }
+            double increment = weight * Math.exp(exponent(current, now));
+            Entry previous = current.byId.get(id);
+            double raw = (previous == null ? 0 : previous.raw()) + increment;
+            if (previous == null && current.byId.size() >= capacity) {
+                Entry tail = current.ranked.last();
+                if (raw <= tail.raw()) {
+                    return;
+                }
+                current.ranked.remove(tail);
+                current.byId.remove(tail.id());
+            }
+            Entry updated = new Entry(id, raw);
+            if (previous != null) {
+                current.ranked.remove(previous);
+            }
+            current.ranked.add(updated);
+            current.byId.put(id, updated);
+        }
+    }
+
+    // 락 없이 메모리에서 상위 limit개를 읽는다. 갱신 중인 항목이 잠시 빠지거나 겹쳐 보일 수 있어 id로 중복을 거른다.
+    public List<ScoredId> top(int limit) {
+        State current = state;
+        double decay = Math.exp(-exponent(current, clock.getAsLong()));
+        List<ScoredId> result = new ArrayList<>(Math.min(limit, capacity));
+        Set<Long> seen = new HashSet<>();
+        for (Entry entry : current.ranked) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (seen.add(entry.id())) {
+                result.add(new ScoredId(entry.id(), entry.raw() * decay));
+            }
+        }
+        return result;
+    }
+
+    public void rebase() {
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            rebaseLocked(now);
+        }
+    }
+
+    public int size() {
+        return state.byId.size();
+    }
+
+    private State rebaseLocked(long now) {
+        State current = state;
+        double decay = Math.exp(-exponent(current, now));
+        State rebased = new State(now);
+        for (Entry entry : current.ranked) {
+            double score = entry.raw() * decay;
+            if (score < MIN_SCORE) {
+                // 점수 내림차순이므로 이후 항목은 모두 더 작다
+                break;
+            }
+            Entry moved = new Entry(entry.id(), score);
+            rebased.ranked.add(moved);
+            rebased.byId.put(entry.id(), moved);
+        }
+        state = rebased;
+        return rebased;
+    }
+
+    private double exponent(State current, long now) {
+        return lambdaPerNano * (now - current.epoch);
+    }
+
+    public record ScoredId(long id, double score) {
+    }
+
+    private record Entry(long id, double raw) {
+    }
+
+    private static final class State {
+        private final long epoch;
+        private final ConcurrentSkipListSet<Entry> ranked = new ConcurrentSkipListSet<>(BY_SCORE_DESC);
+        private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+        private State(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
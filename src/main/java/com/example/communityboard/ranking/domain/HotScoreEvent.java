@@ -0,0 +1,18 @@
+package com.example.communityboard.ranking.domain;
+
+// 인기 점수에 반영되는 활동과 가중치
+public enum HotScoreEvent {
+    VIEW(1.0),
+    LIKE(3.0),
+    COMMENT(5.0);
+
+    private final double weight;
+
+    HotScoreEvent(double weight) {
+        this.weight = weight;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+}
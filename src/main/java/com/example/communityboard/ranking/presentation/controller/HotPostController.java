@@ -0,0 +1,29 @@
+package com.example.communityboard.ranking.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.ranking.application.dto.response.HotPostResponse;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/boards")
+@RequiredArgsConstructor
+public class HotPostController {
+
+    private final HotPostRankingService hotPostRankingService;
+    private final AuthorLoader authorLoader;
+
+    @GetMapping("/{boardId}/posts/hot")
+    public ResponseEntity<ApiResponse<List<HotPostResponse>>> getHotPosts(
+            @PathVariable Long boardId,
+            @RequestParam(defaultValue = "20") int size) {
+        List<HotPostResponse> responses = HotPostResponse.fromAll(
+                hotPostRankingService.getHotPosts(boardId, size), authorLoader);
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+}
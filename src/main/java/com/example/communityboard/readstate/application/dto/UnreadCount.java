@@ -0,0 +1,4 @@
+package com.example.communityboard.readstate.application.dto;
+
+public record UnreadCount(Long boardId, long unreadCount) {
+}
@@ -0,0 +1,61 @@
+package com.example.communityboard.readstate.application.service;
+
+import com.example.communityboard.readstate.domain.ReadBitmap;
+import com.example.communityboard.readstate.domain.repository.ReadStateRepository;
+import com.example.communityboard.readstate.domain.vo.ReadStateKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadStateFlusher implements SmartLifecycle {
+
+    private final ReadStateService readStateService;
+    private final ReadStateRepository readStateRepository;
+
+    private volatile boolean running;
+
+    // 스케줄러와 종료 시점의 마지막 반영이 겹치지 않도록 직렬화한다
+    @Scheduled(fixedDelayString = "${app.read-state.flush-interval:PT30S}")
+    public synchronized void flush() {
+        Map<ReadStateKey, ReadBitmap> states = readStateService.drain();
+        if (states.isEmpty()) {
+            return;
+        }
+        try {
+            readStateRepository.mergeAll(states);
+            readStateService.completeFlush();
+        } catch (RuntimeException e) {
+            readStateService.restore();
+            log.warn("Failed to flush {} read states, will retry", states.size(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 웹 서버가 요청을 더 받지 않은 뒤, DataSource가 닫히기 전에 남은 읽음 표시를 모두 반영한다
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
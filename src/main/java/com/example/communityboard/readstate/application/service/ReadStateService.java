@@ -0,0 +1,253 @@
+package com.example.communityboard.readstate.application.service;
+
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.config.ReadStateProperties;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.readstate.application.dto.UnreadCount;
+import com.example.communityboard.readstate.domain.ReadBitmap;
+import com.example.communityboard.readstate.domain.repository.ReadStateRepository;
+import com.example.communityboard.readstate.domain.vo.ReadStateKey;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+// 회원이 게시판마다 어떤 글을 읽었는지 (회원, 게시판)별 ReadBitmap으로 메모리에 두고,
+// 안 읽은 글 수는 읽음 위치 뒤의 게시글 수에서 비트맵 원소 수를 빼서 구한다. (회원, 게시글) 쌍을 저장하지 않는다.
+// 읽음 표시는 메모리에만 바로 반영하고 ReadStateFlusher가 주기적으로 저장된 상태에 합친다.
+// 최근에 쓴 상태만 maxCachedStates개까지 두고, 아직 저장하지 않은 상태는 저장될 때까지 내리지 않는다.
+@Service
+public class ReadStateService {
+
+    public static final int MAX_LOOKUP_SIZE = 50;
+
+    private final ReadStateRepository readStateRepository;
+    private final PostRepository postRepository;
+    private final BoardRepository boardRepository;
+    private final MemberRepository memberRepository;
+    private final int maxCachedStates;
+
+    // 최근에 쓴 순서로 둔다. cache, evicted, flushing은 모두 cache로 동기화한다
+    private final LinkedHashMap<ReadStateKey, CachedState> cache = new LinkedHashMap<>(16, 0.75f, true);
+    // 캐시에서 밀려났지만 아직 저장되지 않은 상태. 그 사이 다시 쓰이면 DB에서 읽지 않고 캐시로 되돌린다
+    private final Map<ReadStateKey, CachedState> evicted = new HashMap<>();
+    // 꺼내서 DB에 합치는 중인 상태. 실패하면 다시 저장 대상으로 돌린다
+    private final Set<CachedState> flushing = new HashSet<>();
+    private final Set<CachedState> dirtyStates = ConcurrentHashMap.newKeySet();
+
+    public ReadStateService(ReadStateRepository readStateRepository, PostRepository postRepository,
+                            BoardRepository boardRepository, MemberRepository memberRepository,
+                            ReadStateProperties properties) {
+        if (properties.getMaxCachedStates() < 1) {
+            throw new IllegalArgumentException("읽음 상태 캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.readStateRepository = readStateRepository;
+        this.postRepository = postRepository;
+        this.boardRepository = boardRepository;
+        this.memberRepository = memberRepository;
+        this.maxCachedStates = properties.getMaxCachedStates();
+    }
+
+    // 게시글을 연 회원의 읽음 표시. 게시판은 요청을 믿지 않고 저장된 게시글에서 찾는다
+    @Transactional(readOnly = true)
+    public UnreadCount markPostRead(Long memberId, Long postId) {
+        Long boardId = postRepository.findById(postId)
+                .map(post -> post.getBoard().getId())
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + postId));
+        markRead(memberId, boardId, postId);
+        return count(new ReadStateKey(memberId, boardId));
+    }
+
+    // 게시글이 그 게시판의 글인지는 호출하는 쪽에서 확인한다
+    public void markRead(Long memberId, Long boardId, Long postId) {
+        update(new ReadStateKey(memberId, boardId), state -> state.markRead(postId));
+    }
+
+    // 지금 게시판에 있는 글을 모두 읽은 것으로 한다. 그 사이 올라온 글이 있으면 안 읽은 글로 남는다
+    @Transactional(readOnly = true)
+    public UnreadCount markAllRead(Long memberId, Long boardId) {
+        boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. ID: " + boardId));
+        ReadStateKey key = new ReadStateKey(memberId, boardId);
+        postRepository.findLastIdByBoardId(boardId).ifPresent(lastId ->
+                update(key, state -> state.markReadUpTo(lastId)));
+        return count(key);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UnreadCount> countUnread(Long memberId, List<Long> boardIds) {
+        if (boardIds.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("한 번에 " + MAX_LOOKUP_SIZE + "개까지 조회할 수 있습니다.");
+        }
+        return boardIds.stream()
+                .distinct()
+                .map(boardId -> count(new ReadStateKey(memberId, boardId)))
+                .toList();
+    }
+
+    // ReadStateFlusher가 반영할 상태의 사본을 꺼낸다. 표시를 먼저 지우므로 그 사이 읽은 글은 다음 주기에 다시 합친다.
+    Map<ReadStateKey, ReadBitmap> drain() {
+        synchronized (cache) {
+            Map<ReadStateKey, ReadBitmap> pending = new HashMap<>();
+            for (Iterator<CachedState> iterator = dirtyStates.iterator(); iterator.hasNext(); ) {
+                CachedState state = iterator.next();
+                iterator.remove();
+                synchronized (state) {
+                    if (!state.dirty) {
+                        continue;
+                    }
+                    state.dirty = false;
+                    flushing.add(state);
+                    pending.put(state.key, state.reads.copy());
+                }
+            }
+            return pending;
+        }
+    }
+
+    // 저장을 마친 상태 중 캐시에서 밀려난 것은 이제 내려도 된다
+    void completeFlush() {
+        synchronized (cache) {
+            for (CachedState state : flushing) {
+                synchronized (state) {
+                    if (state.evicted && !state.dirty) {
+                        evicted.remove(state.key, state);
+                    }
+                }
+            }
+            flushing.clear();
+        }
+    }
+
+    // 합치지 못한 상태를 다시 표시해 다음 주기에 다시 시도한다. 합치기는 합집합이라 사본이 겹쳐도 된다
+    void restore() {
+        synchronized (cache) {
+            for (CachedState state : flushing) {
+                synchronized (state) {
+                    state.dirty = true;
+                }
+                dirtyStates.add(state);
+            }
+            flushing.clear();
+        }
+    }
+
+    int cachedSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    // 읽음 위치 뒤의 게시글 수를 인덱스 범위로 세고, 그 뒤에 따로 읽은 글 수를 뺀다.
+    // 비트맵에는 그 게시판의 글만 들어가고 게시글은 지워지지 않으므로 빼도 음수가 되지 않는다
+    private UnreadCount count(ReadStateKey key) {
+        CachedState state = cached(key);
+        long readUpTo;
+        long readAfter;
+        synchronized (state) {
+            readUpTo = state.reads.readUpTo();
+            readAfter = state.reads.readAfterCount();
+        }
+        long after = postRepository.countByBoardIdAfter(key.boardId(), readUpTo);
+        return new UnreadCount(key.boardId(), Math.max(0, after - readAfter));
+    }
+
+    private void update(ReadStateKey key, Predicate<ReadBitmap> change) {
+        while (true) {
+            CachedState state = cached(key);
+            synchronized (state) {
+                // 잠그기 직전에 캐시에서 밀려났다면 밀려난 상태를 다시 찾아 쓴다. 내려간 사본에 쓰면 저장 뒤에 유실된다
+                if (state.evicted) {
+                    continue;
+                }
+                if (change.test(state.reads)) {
+                    state.dirty = true;
+                    dirtyStates.add(state);
+                }
+                return;
+            }
+        }
+    }
+
+    private CachedState cached(ReadStateKey key) {
+        synchronized (cache) {
+            CachedState state = lookup(key);
+            if (state != null) {
+                return state;
+            }
+        }
+        // DB는 잠금 밖에서 읽는다. 그 사이 다른 스레드가 먼저 올렸으면 그쪽을 쓴다
+        ReadBitmap loaded = load(key);
+        synchronized (cache) {
+            CachedState state = lookup(key);
+            if (state != null) {
+                return state;
+            }
+            state = new CachedState(key, loaded);
+            cache.put(key, state);
+            evictOverflow();
+            return state;
+        }
+    }
+
+    private CachedState lookup(ReadStateKey key) {
+        CachedState state = cache.get(key);
+        if (state != null) {
+            return state;
+        }
+        state = evicted.remove(key);
+        if (state != null) {
+            synchronized (state) {
+                state.evicted = false;
+            }
+            cache.put(key, state);
+            evictOverflow();
+        }
+        return state;
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedState> eldest = cache.values().iterator();
+        while (cache.size() > maxCachedStates) {
+            CachedState state = eldest.next();
+            eldest.remove();
+            synchronized (state) {
+                state.evicted = true;
+                if (state.dirty || flushing.contains(state)) {
+                    evicted.put(state.key, state);
+                }
+            }
+        }
+    }
+
+    // 저장된 상태가 없으면 처음 읽는 회원이다. 없는 회원의 상태를 만들지 않도록 이때만 회원을 확인한다
+    private ReadBitmap load(ReadStateKey key) {
+        return readStateRepository.find(key).orElseGet(() -> {
+            memberRepository.findById(key.memberId())
+                    .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. ID: " + key.memberId()));
+            return new ReadBitmap();
+        });
+    }
+
+    private static final class CachedState {
+
+        private final ReadStateKey key;
+        private final ReadBitmap reads;
+        private boolean dirty;
+        private boolean evicted;
+
+        private CachedState(ReadStateKey key, ReadBitmap reads) {
+            this.key = key;
+            this.reads = reads;
+        }
+    }
+}
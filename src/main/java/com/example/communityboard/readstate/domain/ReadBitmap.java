@@ -0,0 +1,93 @@
+package com.example.communityboard.readstate.domain;
+
+import com.example.communityboard.common.bitmap.CompactBitmap;
+
+// 회원 한 명이 게시판 하나에서 읽은 게시글.
+// readUpTo 이하의 글은 모두 읽은 것으로 보고, 그 뒤에 읽은 글만 압축 비트맵에 담는다.
+// "모두 읽음"은 비트맵을 비우고 readUpTo만 올리므로, 자주 쓰는 회원은 게시판마다 몇 바이트만 차지한다.
+// 읽은 글은 늘기만 하므로 두 상태를 합치면 둘 중 어느 쪽에서 읽은 글이든 읽은 것으로 남는다.
+// 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+public final class ReadBitmap {
+
+    private long readUpTo;
+    private CompactBitmap reads;
+
+    public ReadBitmap() {
+        this(0, new CompactBitmap());
+    }
+
+    private ReadBitmap(long readUpTo, CompactBitmap reads) {
+        this.readUpTo = readUpTo;
+        this.reads = reads;
+    }
+
+    // encodedReads는 encodeReads의 결과
+    public static ReadBitmap of(long readUpTo, byte[] encodedReads) {
+        if (readUpTo < 0) {
+            throw new IllegalArgumentException("읽음 위치는 음수일 수 없습니다: " + readUpTo);
+        }
+        return new ReadBitmap(readUpTo, CompactBitmap.fromBytes(encodedReads));
+    }
+
+    // 새로 읽은 글이면 true
+    public boolean markRead(long postId) {
+        if (postId <= readUpTo) {
+            return false;
+        }
+        return reads.add(postId);
+    }
+
+    // postId 이하의 글을 모두 읽은 것으로 한다. 위치가 앞으로 나아갔으면 true
+    public boolean markReadUpTo(long postId) {
+        if (postId <= readUpTo) {
+            return false;
+        }
+        readUpTo = postId;
+        dropCovered();
+        return true;
+    }
+
+    public boolean isRead(long postId) {
+        return postId <= readUpTo || reads.contains(postId);
+    }
+
+    public long readUpTo() {
+        return readUpTo;
+    }
+
+    // readUpTo 뒤에 따로 읽은 글 수
+    public long readAfterCount() {
+        return reads.cardinality();
+    }
+
+    public void merge(ReadBitmap other) {
+        markReadUpTo(other.readUpTo);
+        other.reads.forEach(this::markRead);
+    }
+
+    public ReadBitmap copy() {
+        return new ReadBitmap(readUpTo, reads.copy());
+    }
+
+    public byte[] encodeReads() {
+        return reads.toBytes();
+    }
+
+    public long sizeInBytes() {
+        return Long.BYTES + reads.sizeInBytes();
+    }
+
+    // readUpTo 이하는 비트맵에 둘 필요가 없다
+    private void dropCovered() {
+        if (reads.isEmpty()) {
+            return;
+        }
+        CompactBitmap kept = new CompactBitmap();
+        reads.forEach(postId -> {
+            if (postId > readUpTo) {
+                kept.add(postId);
+            }
+        });
+        reads = kept;
+    }
+}
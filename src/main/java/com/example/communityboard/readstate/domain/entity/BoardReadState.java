@@ -0,0 +1,35 @@
+package com.example.communityboard.readstate.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 행은 ReadStateFlusher가 JDBC 배치로만 넣고 고친다. 엔티티는 스키마 정의용이다.
+// (회원, 게시글)마다 한 행을 두지 않고 (회원, 게시판)마다 한 행에 읽은 글을 비트맵으로 담는다.
+@Entity
+@Table(name = "board_read_state", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_board_read_state_member_board", columnNames = {"member_id", "board_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardReadState {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    // 이 id 이하의 게시글은 모두 읽었다
+    @Column(name = "read_up_to", nullable = false)
+    private long readUpTo;
+
+    // read_up_to 뒤에 읽은 게시글 id. CompactBitmap.toBytes 형식
+    @Lob
+    @Column(name = "read_posts", nullable = false)
+    private byte[] readPosts;
+}
@@ -0,0 +1,15 @@
+package com.example.communityboard.readstate.domain.repository;
+
+import com.example.communityboard.readstate.domain.ReadBitmap;
+import com.example.communityboard.readstate.domain.vo.ReadStateKey;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface ReadStateRepository {
+
+    Optional<ReadBitmap> find(ReadStateKey key);
+
+    // 저장된 상태와 합친다. 같은 상태를 다시 합쳐도 결과가 같다. 실패하면 전체가 반영되지 않는다.
+    void mergeAll(Map<ReadStateKey, ReadBitmap> states);
+}
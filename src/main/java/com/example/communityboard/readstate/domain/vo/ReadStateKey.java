@@ -0,0 +1,5 @@
+package com.example.communityboard.readstate.domain.vo;
+
+// 회원 한 명의 게시판 하나에 대한 읽음 상태
+public record ReadStateKey(long memberId, long boardId) {
+}
@@ -0,0 +1,99 @@
+package com.example.communityboard.readstate.infrastructure.persistence;
+
+import com.example.communityboard.readstate.domain.ReadBitmap;
+import com.example.communityboard.readstate.domain.repository.ReadStateRepository;
+import com.example.communityboard.readstate.domain.vo.ReadStateKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcReadStateRepository implements ReadStateRepository {
+
+    private static final int LOCK_BATCH_SIZE = 500;
+    private static final Comparator<ReadStateKey> LOCK_ORDER = Comparator.comparingLong(ReadStateKey::memberId)
+            .thenComparingLong(ReadStateKey::boardId);
+    private static final String LOCK_SQL = "select board_id, read_up_to, read_posts from board_read_state "
+            + "where member_id = :memberId and board_id in (:boardIds) "
+            + "order by board_id for update";
+    private static final String UPDATE_SQL =
+            "update board_read_state set read_up_to = ?, read_posts = ? where member_id = ? and board_id = ?";
+    private static final String INSERT_SQL =
+            "insert into board_read_state (member_id, board_id, read_up_to, read_posts) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReadBitmap> find(ReadStateKey key) {
+        return jdbcTemplate.query(
+                "select read_up_to, read_posts from board_read_state where member_id = ? and board_id = ?",
+                (rs, rowNum) -> ReadBitmap.of(rs.getLong("read_up_to"), rs.getBytes("read_posts")),
+                key.memberId(), key.boardId()).stream().findFirst();
+    }
+
+    // (회원, 게시판) 순으로 잠가 여러 인스턴스가 동시에 반영해도 잠금 순서가 엇갈리지 않게 한다.
+    // 다른 인스턴스가 같은 행을 먼저 넣으면 유니크 제약 위반으로 전체가 롤백되고, 다음 주기에 갱신으로 다시 반영된다.
+    @Override
+    @Transactional
+    public void mergeAll(Map<ReadStateKey, ReadBitmap> states) {
+        if (states.isEmpty()) {
+            return;
+        }
+        List<ReadStateKey> keys = states.keySet().stream().sorted(LOCK_ORDER).toList();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        int from = 0;
+        while (from < keys.size()) {
+            long memberId = keys.get(from).memberId();
+            int to = from;
+            while (to < keys.size() && to - from < LOCK_BATCH_SIZE && keys.get(to).memberId() == memberId) {
+                to++;
+            }
+            List<ReadStateKey> group = keys.subList(from, to);
+            Map<Long, ReadBitmap> stored = lockStored(memberId, group);
+            for (ReadStateKey key : group) {
+                ReadBitmap existing = stored.get(key.boardId());
+                if (existing == null) {
+                    ReadBitmap state = states.get(key);
+                    inserts.add(new Object[]{key.memberId(), key.boardId(), state.readUpTo(), state.encodeReads()});
+                    continue;
+                }
+                existing.merge(states.get(key));
+                updates.add(new Object[]{existing.readUpTo(), existing.encodeReads(), key.memberId(), key.boardId()});
+            }
+            from = to;
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    private Map<Long, ReadBitmap> lockStored(long memberId, List<ReadStateKey> keys) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("boardIds", keys.stream().map(ReadStateKey::boardId).toList());
+        Map<Long, ReadBitmap> stored = new HashMap<>();
+        namedParameterJdbcTemplate.query(LOCK_SQL, params,
+                rs -> {
+                    stored.put(rs.getLong("board_id"),
+                            ReadBitmap.of(rs.getLong("read_up_to"), rs.getBytes("read_posts")));
+                });
+        return stored;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.communityboard.readstate.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.readstate.application.dto.UnreadCount;
+import com.example.communityboard.readstate.application.service.ReadStateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReadStateController {
+
+    private final ReadStateService readStateService;
+
+    // 게시판 목록 화면에서 게시판마다 "안 읽은 글 N개"를 표시할 때 쓴다
+    @GetMapping("/boards/unread-counts")
+    public ResponseEntity<ApiResponse<List<UnreadCount>>> getUnreadCounts(
+            @RequestParam Long memberId,
+            @RequestParam List<Long> boardIds) {
+        return ResponseEntity.ok(ApiResponse.success(readStateService.countUnread(memberId, boardIds)));
+    }
+
+    @PutMapping("/boards/{boardId}/reads/{memberId}")
+    public ResponseEntity<ApiResponse<UnreadCount>> markAllRead(@PathVariable Long boardId,
+                                                                @PathVariable Long memberId) {
+        UnreadCount unread = readStateService.markAllRead(memberId, boardId);
+        return ResponseEntity.ok(ApiResponse.success(unread, "모두 읽음으로 표시했습니다."));
+    }
+
+    // 게시글 상세 조회와 따로 호출한다. 응답은 그 글이 속한 게시판의 안 읽은 글 수
+    @PutMapping("/posts/{postId}/reads/{memberId}")
+    public ResponseEntity<ApiResponse<UnreadCount>> markPostRead(@PathVariable Long postId,
+                                                                 @PathVariable Long memberId) {
+        UnreadCount unread = readStateService.markPostRead(memberId, postId);
+        return ResponseEntity.ok(ApiResponse.success(unread, "읽음으로 표시했습니다."));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.communityboard.search.application.dto;
+
+import java.time.LocalDateTime;
+
+// estimatedRows는 id 구간 폭의 합이라 지워진 행만큼 실제보다 크다. 끝나면 processedRows가 실제 행 수다
+public record SearchRebuildStatus(State state, LocalDateTime startedAt, LocalDateTime finishedAt,
+                                  long estimatedRows, long processedRows, String message) {
+
+    public static SearchRebuildStatus idle() {
+        return new SearchRebuildStatus(State.IDLE, null, null, 0, 0, null);
+    }
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
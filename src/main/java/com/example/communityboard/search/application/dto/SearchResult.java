@@ -0,0 +1,7 @@
+package com.example.communityboard.search.application.dto;
+
+import com.example.communityboard.search.domain.SearchDocumentType;
+
+// 게시판이면 boardId가 자기 id다
+public record SearchResult(SearchDocumentType type, Long id, Long boardId, String title, double score) {
+}
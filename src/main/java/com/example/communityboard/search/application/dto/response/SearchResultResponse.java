@@ -0,0 +1,26 @@
+package com.example.communityboard.search.application.dto.response;
+
+import com.example.communityboard.search.application.dto.SearchResult;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import lombok.Getter;
+
+@Getter
+public class SearchResultResponse {
+    private final SearchDocumentType type;
+    private final Long id;
+    private final Long boardId;
+    private final String title;
+    private final double score;
+
+    private SearchResultResponse(SearchResult result) {
+        this.type = result.type();
+        this.id = result.id();
+        this.boardId = result.boardId();
+        this.title = result.title();
+        this.score = result.score();
+    }
+
+    public static SearchResultResponse from(SearchResult result) {
+        return new SearchResultResponse(result);
+    }
+}
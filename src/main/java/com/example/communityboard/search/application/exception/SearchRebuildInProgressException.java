@@ -0,0 +1,7 @@
+package com.example.communityboard.search.application.exception;
+
+public class SearchRebuildInProgressException extends RuntimeException {
+    public SearchRebuildInProgressException() {
+        super("이미 검색 색인을 다시 만드는 중입니다.");
+    }
+}
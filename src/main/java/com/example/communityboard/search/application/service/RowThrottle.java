@@ -0,0 +1,38 @@
+package com.example.communityboard.search.application.service;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+// 여러 스레드가 함께 쓰는 초당 행 수 제한. 읽은 행 수만큼 다음에 읽을 수 있는 시각을 뒤로 미루고 그때까지 재운다.
+// 쉬던 시간을 모아 두지 않으므로 한동안 읽지 않다가 다시 읽어도 한꺼번에 몰리지 않는다.
+final class RowThrottle {
+
+    private final long nanosPerRow;
+    private long nextFreeNanos = System.nanoTime();
+
+    RowThrottle(int rowsPerSecond) {
+        this.nanosPerRow = rowsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / rowsPerSecond : 0;
+    }
+
+    void acquire(int rows) {
+        if (nanosPerRow == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextFreeNanos);
+            nextFreeNanos = start + rows * nanosPerRow;
+            waitNanos = start - now;
+        }
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("검색 색인 재구성이 중단되었습니다.");
+        }
+    }
+}
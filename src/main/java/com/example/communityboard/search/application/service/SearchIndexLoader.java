@@ -0,0 +1,56 @@
+package com.example.communityboard.search.application.service;
+
+import com.example.communityboard.common.config.SearchProperties;
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.repository.SearchSourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+// 색인이 비어 있으면(메모리 색인이거나 디스크 색인을 처음 만드는 경우) DB에서 채운다.
+// 요청을 받기 시작한 뒤 백그라운드에서 적재하고, 적재 중에 작성/수정된 문서는 이미 최신 내용으로 색인되어 있으므로 덮어쓰지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexLoader {
+
+    private final SearchSourceRepository searchSourceRepository;
+    private final SearchIndexService searchIndexService;
+    private final SearchProperties properties;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (searchIndexService.size() > 0) {
+            log.info("Search index already has {} documents, skipping load", searchIndexService.size());
+            return;
+        }
+        long start = System.nanoTime();
+        int boards = loadAll(searchSourceRepository::findBoardsAfter);
+        int posts = loadAll(searchSourceRepository::findPostsAfter);
+        log.info("Loaded search index: {} boards, {} posts in {} ms",
+                boards, posts, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int loadAll(BiFunction<Long, Integer, List<SearchDocument>> reader) {
+        int loaded = 0;
+        long afterId = 0;
+        while (true) {
+            List<SearchDocument> batch = reader.apply(afterId, properties.getLoadBatchSize());
+            for (SearchDocument document : batch) {
+                searchIndexService.indexIfAbsent(document);
+            }
+            loaded += batch.size();
+            if (batch.size() < properties.getLoadBatchSize()) {
+                return loaded;
+            }
+            afterId = batch.get(batch.size() - 1).key().id();
+        }
+    }
+}
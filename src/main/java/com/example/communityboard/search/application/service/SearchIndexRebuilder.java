@@ -0,0 +1,263 @@
+package com.example.communityboard.search.application.service;
+
+import com.example.communityboard.common.config.SearchProperties;
+import com.example.communityboard.search.application.dto.SearchRebuildStatus;
+import com.example.communityboard.search.application.exception.SearchRebuildInProgressException;
+import com.example.communityboard.search.domain.RebuildableSearchIndex;
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import com.example.communityboard.search.domain.SearchIndex;
+import com.example.communityboard.search.domain.SearchTokenizer;
+import com.example.communityboard.search.domain.repository.IdRange;
+import com.example.communityboard.search.domain.repository.SearchSourceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// 관리자가 요청하면 DB에서 검색 색인을 처음부터 다시 만든다 (토큰화 규칙을 바꾼 뒤 등).
+// - 게시판/게시글 테이블의 id 구간을 partitions개씩 나눠 구간마다 스트리밍 쿼리 하나로 동시에 읽는다.
+// - 읽은 문서는 fetchSize개씩 fork-join 풀에서 나눠 토큰화해 새 색인에 넣는다.
+//   구간마다 토큰화 중인 묶음은 하나뿐이라 읽기가 토큰화보다 빨라도 메모리에 쌓이지 않는다.
+// - 읽는 속도를 maxRowsPerSecond로 제한해 서비스 중인 DB에 부담을 주지 않는다.
+// - 끝날 때까지 검색은 쓰던 색인으로 하고, 다 만들면 새 색인으로 바꿔 끼운다 (RebuildableSearchIndex 참고).
+@Slf4j
+@Component
+public class SearchIndexRebuilder {
+
+    // 토큰화 작업을 더 나누지 않는 문서 수
+    private static final int TOKENIZE_THRESHOLD = 32;
+
+    private final SearchSourceRepository searchSourceRepository;
+    private final RebuildableSearchIndex searchIndex;
+    private final SearchProperties properties;
+    private final Executor executor;
+    private volatile Progress progress;
+
+    public SearchIndexRebuilder(
+            SearchSourceRepository searchSourceRepository,
+            RebuildableSearchIndex searchIndex,
+            SearchProperties properties,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        this.searchSourceRepository = searchSourceRepository;
+        this.searchIndex = searchIndex;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    // 재구성을 백그라운드에서 시작하고 바로 돌아온다
+    public synchronized SearchRebuildStatus start() {
+        if (searchIndex.isRebuilding()) {
+            throw new SearchRebuildInProgressException();
+        }
+        SearchIndex target = searchIndex.beginRebuild();
+        Progress started = new Progress();
+        progress = started;
+        try {
+            executor.execute(() -> rebuild(target, started));
+        } catch (RejectedExecutionException e) {
+            searchIndex.abortRebuild();
+            started.fail(e);
+            throw e;
+        }
+        return started.status();
+    }
+
+    public SearchRebuildStatus status() {
+        Progress current = progress;
+        return current == null ? SearchRebuildStatus.idle() : current.status();
+    }
+
+    private void rebuild(SearchIndex target, Progress progress) {
+        SearchProperties.Rebuild config = properties.getRebuild();
+        int parallelism = config.getParallelism() > 0
+                ? config.getParallelism()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        int partitions = Math.max(1, config.getPartitions());
+        int fetchSize = Math.max(1, config.getFetchSize());
+        ExecutorService readers = Executors.newFixedThreadPool(partitions,
+                Thread.ofPlatform().name("search-rebuild-", 0).daemon().factory());
+        ForkJoinPool tokenizers = new ForkJoinPool(parallelism);
+        RowThrottle throttle = new RowThrottle(config.getMaxRowsPerSecond());
+        long start = System.nanoTime();
+        try {
+            Map<SearchDocumentType, IdRange> ranges = new EnumMap<>(SearchDocumentType.class);
+            for (SearchDocumentType type : SearchDocumentType.values()) {
+                searchSourceRepository.findIdRange(type).ifPresent(range -> {
+                    ranges.put(type, range);
+                    progress.estimatedRows.add(range.span());
+                });
+            }
+            List<CompletableFuture<Void>> reads = new ArrayList<>();
+            ranges.forEach((type, range) -> {
+                for (IdRange partition : range.split(partitions)) {
+                    PartitionReader reader = new PartitionReader(target, tokenizers, throttle, progress,
+                            fetchSize);
+                    reads.add(CompletableFuture.runAsync(() -> reader.read(type, partition), readers)
+                            .whenComplete((ignored, e) -> {
+                                if (e != null) {
+                                    progress.fail(e);
+                                }
+                            }));
+                }
+            });
+            CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).join();
+            searchIndex.completeRebuild();
+            progress.complete();
+            log.info("Rebuilt search index: {} documents from {} partitions in {} ms",
+                    progress.processedRows.sum(), reads.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild search index", e);
+            searchIndex.abortRebuild();
+            progress.fail(e);
+        } finally {
+            readers.shutdownNow();
+            tokenizers.shutdownNow();
+        }
+    }
+
+    // 한 구간을 읽으며 fetchSize개씩 묶어 토큰화를 맡긴다. 다음 묶음을 읽는 동안 이전 묶음이 토큰화된다
+    private final class PartitionReader implements Consumer<SearchDocument> {
+
+        private final SearchIndex target;
+        private final ForkJoinPool tokenizers;
+        private final RowThrottle throttle;
+        private final Progress progress;
+        private final int batchSize;
+        private List<SearchDocument> batch;
+        private ForkJoinTask<Void> tokenizing;
+
+        private PartitionReader(SearchIndex target, ForkJoinPool tokenizers, RowThrottle throttle,
+                                Progress progress, int batchSize) {
+            this.target = target;
+            this.tokenizers = tokenizers;
+            this.throttle = throttle;
+            this.progress = progress;
+            this.batchSize = batchSize;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        void read(SearchDocumentType type, IdRange range) {
+            searchSourceRepository.streamBetween(type, range, batchSize, this);
+            submit();
+            awaitTokenizing();
+        }
+
+        @Override
+        public void accept(SearchDocument document) {
+            batch.add(document);
+            if (batch.size() >= batchSize) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (progress.isFailed()) {
+                throw new CancellationException("다른 구간을 읽다가 실패해 재구성을 멈춥니다.");
+            }
+            throttle.acquire(batch.size());
+            awaitTokenizing();
+            tokenizing = tokenizers.submit(new TokenizeTask(target, batch, 0, batch.size(), progress));
+            batch = new ArrayList<>(batchSize);
+        }
+
+        private void awaitTokenizing() {
+            if (tokenizing != null) {
+                tokenizing.join();
+                tokenizing = null;
+            }
+        }
+    }
+
+    // 문서 목록을 반씩 나눠 토큰화한다. 재구성 중에 작성/수정된 문서는 이미 최신 내용으로 들어 있으므로 덮어쓰지 않는다
+    private static final class TokenizeTask extends RecursiveAction {
+
+        private final SearchIndex target;
+        private final List<SearchDocument> documents;
+        private final int from;
+        private final int to;
+        private final Progress progress;
+
+        private TokenizeTask(SearchIndex target, List<SearchDocument> documents, int from, int to,
+                             Progress progress) {
+            this.target = target;
+            this.documents = documents;
+            this.from = from;
+            this.to = to;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TOKENIZE_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    SearchDocument document = documents.get(i);
+                    target.indexIfAbsent(document.key().encode(), SearchTokenizer.tokenize(document.text()));
+                }
+                progress.processedRows.add(to - from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TokenizeTask(target, documents, from, middle, progress),
+                    new TokenizeTask(target, documents, middle, to, progress));
+        }
+    }
+
+    private static final class Progress {
+
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final LongAdder estimatedRows = new LongAdder();
+        private final LongAdder processedRows = new LongAdder();
+        private volatile SearchRebuildStatus.State state = SearchRebuildStatus.State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String message;
+
+        synchronized void complete() {
+            if (state == SearchRebuildStatus.State.RUNNING) {
+                state = SearchRebuildStatus.State.COMPLETED;
+                finishedAt = LocalDateTime.now();
+            }
+        }
+
+        // 처음 실패한 원인만 남긴다
+        synchronized void fail(Throwable e) {
+            if (state != SearchRebuildStatus.State.RUNNING) {
+                return;
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            state = SearchRebuildStatus.State.FAILED;
+            finishedAt = LocalDateTime.now();
+            message = cause.getMessage();
+        }
+
+        boolean isFailed() {
+            return state == SearchRebuildStatus.State.FAILED;
+        }
+
+        SearchRebuildStatus status() {
+            return new SearchRebuildStatus(state, startedAt, finishedAt, estimatedRows.sum(), processedRows.sum(),
+                    message);
+        }
+    }
+}
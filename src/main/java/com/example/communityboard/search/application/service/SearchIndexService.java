@@ -0,0 +1,131 @@
+package com.example.communityboard.search.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.transaction.AfterCommit;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.search.application.dto.SearchResult;
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.ScoredDocument;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import com.example.communityboard.search.domain.SearchIndex;
+import com.example.communityboard.search.domain.SearchKey;
+import com.example.communityboard.search.domain.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시판 제목/설명과 게시글 제목/본문의 역색인. 검색은 색인만 읽고, 화면에 필요한 제목은 결과 id로만 기본키 조회한다.
+// 게시판/게시글이 작성되거나 수정되면 커밋 후 해당 문서만 다시 색인한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    public static final int MAX_SIZE = 50;
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private final BoardRepository boardRepository;
+    private final PostRepository postRepository;
+    private final SearchIndex searchIndex;
+
+    public void indexBoardAfterCommit(Board board) {
+        indexAfterCommit(SearchDocument.board(board.getId(), board.getTitle(), board.getDescription()));
+    }
+
+    public void indexPostAfterCommit(Post post) {
+        indexAfterCommit(SearchDocument.post(post.getId(), post.getTitle(), post.getContent()));
+    }
+
+    public void index(SearchDocument document) {
+        searchIndex.index(document.key().encode(), SearchTokenizer.tokenize(document.text()));
+    }
+
+    // 이미 색인된 문서는 건너뛴다 (SearchIndexLoader 참고)
+    public boolean indexIfAbsent(SearchDocument document) {
+        return searchIndex.indexIfAbsent(document.key().encode(), SearchTokenizer.tokenize(document.text()));
+    }
+
+    public int size() {
+        return searchIndex.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchResult> search(String query, String type, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("검색 결과 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        SearchDocumentType only = SearchDocumentType.from(type);
+        List<SearchKey> hits = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        for (ScoredDocument scored : searchIndex.search(SearchTokenizer.tokenize(query), size,
+                key -> only == null || SearchKey.decode(key).type() == only)) {
+            hits.add(SearchKey.decode(scored.key()));
+            scores.add(scored.score());
+        }
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        return toResults(hits, scores);
+    }
+
+    private List<SearchResult> toResults(List<SearchKey> hits, List<Double> scores) {
+        Map<Long, Board> boards = boardRepository.findAllByIds(idsOf(hits, SearchDocumentType.BOARD)).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        Map<Long, PostSummary> posts = postRepository.findSummariesByIds(idsOf(hits, SearchDocumentType.POST)).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        List<SearchResult> results = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            SearchKey key = hits.get(i);
+            if (key.type() == SearchDocumentType.BOARD) {
+                Board board = boards.get(key.id());
+                if (board != null) {
+                    results.add(new SearchResult(key.type(), board.getId(), board.getId(), board.getTitle(),
+                            scores.get(i)));
+                }
+            } else {
+                PostSummary post = posts.get(key.id());
+                if (post != null) {
+                    results.add(new SearchResult(key.type(), post.id(), post.boardId(), post.title(), scores.get(i)));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static List<Long> idsOf(List<SearchKey> hits, SearchDocumentType type) {
+        return hits.stream()
+                .filter(key -> key.type() == type)
+                .map(SearchKey::id)
+                .toList();
+    }
+
+    // 쓰기 트랜잭션 안에서 호출되면 커밋된 뒤에만 색인한다 (롤백된 내용이 검색되지 않도록)
+    private void indexAfterCommit(SearchDocument document) {
+        AfterCommit.run(() -> indexQuietly(document));
+    }
+
+    // 이미 커밋된 작성/수정 요청을 색인 파일 오류로 실패시키지 않는다
+    private void indexQuietly(SearchDocument document) {
+        try {
+            index(document);
+        } catch (RuntimeException e) {
+            log.warn("Failed to index {}", document.key(), e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.communityboard.search.domain;
+
+// BM25 점수 계산. 색인이 여러 조각(메모리 버퍼, 세그먼트)으로 나뉘어도 같은 전체 통계로 점수를 매기도록 분리했다.
+public final class Bm25 {
+
+    // 기본값. k1은 출현 횟수가 점수에 주는 영향의 상한, b는 문서 길이 보정 정도
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private Bm25() {
+    }
+
+    public static double idf(int liveCount, int documentFrequency) {
+        // 지운 문서도 문서 빈도에 들어갈 수 있으므로 전체 문서 수를 넘지 않게 자른다
+        int frequency = Math.min(documentFrequency, liveCount);
+        return Math.log(1 + (liveCount - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    public static double termScore(double idf, int frequency, int length, double averageLength) {
+        double norm = K1 * (1 - B + B * length / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+}
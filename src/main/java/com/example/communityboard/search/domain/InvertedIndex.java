@@ -0,0 +1,278 @@
+package com.example.communityboard.search.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+// 단어 -> 문서 목록의 역색인과 BM25 점수 계산.
+// 문서를 다시 색인하면 기존 문서 번호는 지운 것으로 표시하고 새 번호로 끝에 붙인다.
+// 지운 번호가 살아 있는 문서만큼 쌓이면 목록을 새로 만들어 정리한다.
+// 디스크 세그먼트를 쓸 때는 최근에 쓴 문서를 모아 두는 버퍼로 쓰인다 (SegmentedSearchIndex 참고).
+public final class InvertedIndex implements SearchIndex {
+
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docNoByKey = new HashMap<>();
+    private long[] keys = new long[1024];
+    private int[] lengths = new int[1024];
+    private BitSet deleted = new BitSet();
+    private int nextDocNo;
+    private int deletedCount;
+    private long totalLength;
+
+    @Override
+    public void index(long key, List<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            deleteLocked(key);
+            add(key, tokens);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean indexIfAbsent(long key, List<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            if (docNoByKey.containsKey(key)) {
+                return false;
+            }
+            add(key, tokens);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(long key) {
+        lock.writeLock().lock();
+        try {
+            boolean deletedNow = deleteLocked(key);
+            compactIfNeeded();
+            return deletedNow;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ScoredDocument> search(List<String> queryTokens, int limit, LongPredicate filter) {
+        lock.readLock().lock();
+        try {
+            int liveCount = docNoByKey.size();
+            if (liveCount == 0 || queryTokens.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / liveCount;
+            Map<Long, Double> scores = new HashMap<>();
+            for (String token : new LinkedHashSet<>(queryTokens)) {
+                double idf = Bm25.idf(liveCount, documentFrequency(token));
+                forEachPosting(token, (key, frequency, length) -> {
+                    if (filter.test(key)) {
+                        scores.merge(key, Bm25.termScore(idf, frequency, length, averageLength), Double::sum);
+                    }
+                });
+            }
+            return ScoredDocument.top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNoByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long key) {
+        lock.readLock().lock();
+        try {
+            return docNoByKey.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long totalLength() {
+        lock.readLock().lock();
+        try {
+            return totalLength;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 지운 번호도 들어 있을 수 있다. 정리 주기 안에서는 순위에 주는 영향이 작다
+    public int documentFrequency(String token) {
+        lock.readLock().lock();
+        try {
+            PostingList list = postings.get(token);
+            return list == null ? 0 : list.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 토큰을 포함한 살아 있는 문서마다 (키, 출현 횟수, 문서 길이)를 넘긴다
+    public void forEachPosting(String token, PostingVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                return;
+            }
+            PostingList.Cursor cursor = list.cursor();
+            while (cursor.next()) {
+                int docNo = cursor.docNo();
+                if (!deleted.get(docNo)) {
+                    visitor.visit(keys[docNo], cursor.frequency(), lengths[docNo]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 살아 있는 문서를 키 순으로 0부터 번호를 다시 매겨 내보낸다. 단어는 문자열 순, 단어별 문서는 새 번호 순이다.
+    public void export(Sink sink) {
+        lock.readLock().lock();
+        try {
+            long[] sortedKeys = docNoByKey.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int[] remap = new int[nextDocNo];
+            Arrays.fill(remap, -1);
+            for (int i = 0; i < sortedKeys.length; i++) {
+                int docNo = docNoByKey.get(sortedKeys[i]);
+                remap[docNo] = i;
+                sink.document(sortedKeys[i], lengths[docNo]);
+            }
+            for (String token : postings.keySet().stream().sorted().toList()) {
+                PostingList list = postings.get(token);
+                long[] remapped = new long[list.size()];
+                int count = 0;
+                PostingList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    int docNo = remap[cursor.docNo()];
+                    if (docNo >= 0) {
+                        remapped[count++] = (long) docNo << 32 | cursor.frequency();
+                    }
+                }
+                if (count == 0) {
+                    continue;
+                }
+                Arrays.sort(remapped, 0, count);
+                sink.startTerm(token);
+                for (int i = 0; i < count; i++) {
+                    sink.posting((int) (remapped[i] >>> 32), (int) remapped[i]);
+                }
+                sink.finishTerm();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(long key, List<String> tokens) {
+        int docNo = nextDocNo++;
+        if (docNo == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        keys[docNo] = key;
+        lengths[docNo] = tokens.size();
+        totalLength += tokens.size();
+        docNoByKey.put(key, docNo);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, t -> new PostingList()).add(docNo, frequency));
+    }
+
+    private boolean deleteLocked(long key) {
+        Integer docNo = docNoByKey.remove(key);
+        if (docNo == null) {
+            return false;
+        }
+        deleted.set(docNo);
+        deletedCount++;
+        totalLength -= lengths[docNo];
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount < COMPACT_MIN_DELETED || deletedCount < docNoByKey.size()) {
+            return;
+        }
+        int[] remap = new int[nextDocNo];
+        long[] compactKeys = new long[Math.max(1024, docNoByKey.size() * 2)];
+        int[] compactLengths = new int[compactKeys.length];
+        int next = 0;
+        for (int docNo = 0; docNo < nextDocNo; docNo++) {
+            if (deleted.get(docNo)) {
+                remap[docNo] = -1;
+                continue;
+            }
+            remap[docNo] = next;
+            compactKeys[next] = keys[docNo];
+            compactLengths[next] = lengths[docNo];
+            docNoByKey.put(keys[docNo], next);
+            next++;
+        }
+        for (Map.Entry<String, PostingList> entry : new ArrayList<>(postings.entrySet())) {
+            PostingList compacted = new PostingList();
+            PostingList.Cursor cursor = entry.getValue().cursor();
+            while (cursor.next()) {
+                int docNo = remap[cursor.docNo()];
+                if (docNo >= 0) {
+                    compacted.add(docNo, cursor.frequency());
+                }
+            }
+            if (compacted.size() == 0) {
+                postings.remove(entry.getKey());
+            } else {
+                postings.put(entry.getKey(), compacted);
+            }
+        }
+        keys = compactKeys;
+        lengths = compactLengths;
+        deleted = new BitSet();
+        deletedCount = 0;
+        nextDocNo = next;
+    }
+
+    @FunctionalInterface
+    public interface PostingVisitor {
+        void visit(long key, int frequency, int length);
+    }
+
+    // export가 내보내는 순서: document를 모두 보낸 뒤 단어마다 startTerm, posting..., finishTerm
+    public interface Sink {
+        void document(long key, int length);
+
+        void startTerm(String term);
+
+        void posting(int docNo, int frequency);
+
+        void finishTerm();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.communityboard.search.domain;
+
+import java.util.Arrays;
+
+// 한 단어가 나온 문서 번호와 출현 횟수의 목록.
+// 문서 번호는 색인할 때마다 커지므로 끝에만 붙이면 되고, 앞 번호와의 차이를 가변 길이 정수로 적어
+// 대부분의 항목이 2바이트 안에 들어간다. 스레드 안전하지 않으므로 InvertedIndex의 잠금 안에서만 쓴다.
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int lastDocNo;
+
+    void add(int docNo, int frequency) {
+        if (size > 0 && docNo <= lastDocNo) {
+            throw new IllegalArgumentException("문서 번호는 증가해야 합니다: " + docNo);
+        }
+        ensureCapacity(10);
+        writeVarInt(docNo - lastDocNo);
+        writeVarInt(frequency);
+        lastDocNo = docNo;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int sizeInBytes() {
+        return bytes.length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    final class Cursor {
+
+        private int position;
+        private int docNo;
+        private int frequency;
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            docNo += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int docNo() {
+            return docNo;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.communityboard.search.domain;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+// 쓰던 색인을 계속 서비스하면서 옆에 새 색인을 만들어 바꿔 끼울 수 있는 색인.
+// 재구성 중에 들어온 작성/수정/삭제는 두 색인에 모두 반영하므로, 재구성은 DB에서 읽은 문서를 indexIfAbsent로만 넣으면
+// 읽은 뒤에 바뀐 문서를 예전 내용으로 덮어쓰지 않는다. 검색은 바꿔 끼우기 전까지 쓰던 색인만 읽는다.
+public final class RebuildableSearchIndex implements SearchIndex, AutoCloseable {
+
+    private final SearchIndexStorage storage;
+    private volatile SearchIndex current;
+    private volatile SearchIndex building;
+
+    public RebuildableSearchIndex(SearchIndexStorage storage) {
+        this.storage = storage;
+        this.current = storage.openCurrent();
+    }
+
+    // 쓰기는 새 색인에 먼저 반영한다. 바꿔 끼우는 순간 쓰던 색인에 쓰려던 변경도 새 색인에는 남는다.
+    @Override
+    public void index(long key, List<String> tokens) {
+        SearchIndex next = building;
+        SearchIndex target = current;
+        if (next != null) {
+            next.index(key, tokens);
+        }
+        target.index(key, tokens);
+    }
+
+    @Override
+    public boolean indexIfAbsent(long key, List<String> tokens) {
+        SearchIndex next = building;
+        SearchIndex target = current;
+        if (next != null) {
+            next.indexIfAbsent(key, tokens);
+        }
+        return target.indexIfAbsent(key, tokens);
+    }
+
+    @Override
+    public boolean delete(long key) {
+        SearchIndex next = building;
+        SearchIndex target = current;
+        if (next != null) {
+            next.delete(key);
+        }
+        return target.delete(key);
+    }
+
+    @Override
+    public List<ScoredDocument> search(List<String> queryTokens, int limit, LongPredicate filter) {
+        return current.search(queryTokens, limit, filter);
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    // 비어 있는 새 색인을 만들어 돌려준다. 이후의 쓰기는 completeRebuild나 abortRebuild까지 두 색인에 반영된다.
+    public synchronized SearchIndex beginRebuild() {
+        if (building != null) {
+            throw new IllegalStateException("이미 검색 색인을 다시 만드는 중입니다.");
+        }
+        building = storage.create();
+        return building;
+    }
+
+    public synchronized boolean isRebuilding() {
+        return building != null;
+    }
+
+    // 새 색인으로 검색을 옮기고 쓰던 색인은 버린다
+    public synchronized void completeRebuild() {
+        if (building == null) {
+            throw new IllegalStateException("다시 만드는 중인 검색 색인이 없습니다.");
+        }
+        SearchIndex previous = current;
+        storage.promote(building);
+        current = building;
+        building = null;
+        storage.discard(previous);
+    }
+
+    public synchronized void abortRebuild() {
+        SearchIndex abandoned = building;
+        building = null;
+        if (abandoned != null) {
+            storage.discard(abandoned);
+        }
+    }
+
+    // 만들던 색인은 지우지 않는다. 다음 기동 때 storage가 정리한다
+    @Override
+    public synchronized void close() {
+        if (building != null) {
+            storage.close(building);
+            building = null;
+        }
+        storage.close(current);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.communityboard.search.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+public record ScoredDocument(long key, double score) {
+
+    // 점수가 같으면 키가 큰(최근) 문서를 앞에 둔다
+    static final Comparator<ScoredDocument> ASCENDING = Comparator
+            .comparingDouble(ScoredDocument::score)
+            .thenComparingLong(ScoredDocument::key);
+
+    // 키별 점수에서 상위 limit건을 크기 limit인 힙으로 골라 점수 내림차순으로 돌려준다
+    public static List<ScoredDocument> top(Map<Long, Double> scores, int limit) {
+        PriorityQueue<ScoredDocument> heap = new PriorityQueue<>(ASCENDING);
+        scores.forEach((key, score) -> {
+            ScoredDocument candidate = new ScoredDocument(key, score);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (ASCENDING.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        });
+        List<ScoredDocument> result = new ArrayList<>(heap);
+        result.sort(ASCENDING.reversed());
+        return result;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.communityboard.search.domain;
+
+// 색인할 문서. 게시판은 제목과 설명, 게시글은 제목과 본문을 이어 붙여 색인한다.
+public record SearchDocument(SearchKey key, String text) {
+
+    public static SearchDocument board(long id, String title, String description) {
+        return new SearchDocument(SearchKey.board(id), join(title, description));
+    }
+
+    public static SearchDocument post(long id, String title, String content) {
+        return new SearchDocument(SearchKey.post(id), join(title, content));
+    }
+
+    private static String join(String title, String body) {
+        return body == null ? title : title + "\n" + body;
+    }
+}
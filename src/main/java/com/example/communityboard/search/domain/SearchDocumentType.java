@@ -0,0 +1,20 @@
+package com.example.communityboard.search.domain;
+
+import java.util.Locale;
+
+public enum SearchDocumentType {
+    BOARD,
+    POST;
+
+    // null이면 전체
+    public static SearchDocumentType from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("검색 대상은 BOARD 또는 POST여야 합니다.");
+        }
+    }
+}
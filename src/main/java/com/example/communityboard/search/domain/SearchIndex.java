@@ -0,0 +1,21 @@
+package com.example.communityboard.search.domain;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+// 문서 키(SearchKey.encode) -> 토큰 목록의 전문 검색 색인
+public interface SearchIndex {
+
+    // 같은 키로 다시 색인하면 이전 내용을 대신한다
+    void index(long key, List<String> tokens);
+
+    // 이미 색인된 문서면 건너뛴다. 전체 적재 중에 들어온 더 최신 내용을 덮어쓰지 않기 위해 쓴다.
+    boolean indexIfAbsent(long key, List<String> tokens);
+
+    boolean delete(long key);
+
+    // 검색어 토큰 중 하나라도 포함한 문서를 BM25 점수 순으로 돌려준다
+    List<ScoredDocument> search(List<String> queryTokens, int limit, LongPredicate filter);
+
+    int size();
+}
@@ -0,0 +1,19 @@
+package com.example.communityboard.search.domain;
+
+// 검색 색인을 열고 만들고 버리는 곳. 재구성할 때는 쓰던 색인 옆에 새 색인을 만들어 채운 뒤 바꿔 끼운다.
+public interface SearchIndexStorage {
+
+    // 기동 시 마지막으로 쓰던 색인을 연다
+    SearchIndex openCurrent();
+
+    // 비어 있는 새 색인을 만든다
+    SearchIndex create();
+
+    // 다음 기동부터 이 색인을 열도록 기록한다
+    void promote(SearchIndex index);
+
+    void close(SearchIndex index);
+
+    // 닫고 파일까지 지운다
+    void discard(SearchIndex index);
+}
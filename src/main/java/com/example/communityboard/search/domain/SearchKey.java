@@ -0,0 +1,21 @@
+package com.example.communityboard.search.domain;
+
+// 색인 안에서 게시판과 게시글을 한 가지 long 키로 구분한다. 하위 1비트가 종류, 나머지가 id다.
+public record SearchKey(SearchDocumentType type, long id) {
+
+    public static SearchKey board(long id) {
+        return new SearchKey(SearchDocumentType.BOARD, id);
+    }
+
+    public static SearchKey post(long id) {
+        return new SearchKey(SearchDocumentType.POST, id);
+    }
+
+    public static SearchKey decode(long encoded) {
+        return new SearchKey(SearchDocumentType.values()[(int) (encoded & 1)], encoded >>> 1);
+    }
+
+    public long encode() {
+        return (id << 1) | type.ordinal();
+    }
+}
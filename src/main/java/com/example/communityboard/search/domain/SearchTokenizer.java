@@ -0,0 +1,63 @@
+package com.example.communityboard.search.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한글은 띄어쓰기와 조사 때문에 어절 단위로 자르면 "게시판에서"와 "게시판"이 맞지 않는다.
+// 형태소 분석 대신 연속된 한글 음절을 두 글자씩 겹쳐 자르고(게시판 -> 게시, 시판), 영문과 숫자는 단어 단위로 소문자로 자른다.
+// 한 글자짜리 한글 구간은 그 글자 하나를 토큰으로 쓴다.
+public final class SearchTokenizer {
+
+    static final int MAX_WORD_LENGTH = 64;
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c)) {
+                int end = i + 1;
+                while (end < length && isHangulSyllable(text.charAt(end))) {
+                    end++;
+                }
+                addHangulBigrams(text, i, end, tokens);
+                i = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i + 1;
+                while (end < length && Character.isLetterOrDigit(text.charAt(end))
+                        && !isHangulSyllable(text.charAt(end))) {
+                    end++;
+                }
+                if (end - i <= MAX_WORD_LENGTH) {
+                    tokens.add(text.substring(i, end).toLowerCase(Locale.ROOT));
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangulBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.communityboard.search.domain.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 기본키 구간 [min, max]. 재구성할 때 테이블을 이 구간 단위로 나눠 동시에 읽는다.
+public record IdRange(long min, long max) {
+
+    public IdRange {
+        if (min > max) {
+            throw new IllegalArgumentException("id 구간의 시작이 끝보다 큽니다: " + min + " > " + max);
+        }
+    }
+
+    // 구간에 들어갈 수 있는 id 수. 중간에 지워진 행이 있으면 실제 행 수보다 크다
+    public long span() {
+        return max - min + 1;
+    }
+
+    // 비슷한 폭의 구간 최대 parts개로 나눈다
+    public List<IdRange> split(int parts) {
+        if (parts < 1) {
+            throw new IllegalArgumentException("나눌 구간 수는 1 이상이어야 합니다.");
+        }
+        long width = Math.max(1, Math.ceilDiv(span(), parts));
+        List<IdRange> ranges = new ArrayList<>(parts);
+        long from = min;
+        while (true) {
+            long to = max - from < width ? max : from + width - 1;
+            ranges.add(new IdRange(from, to));
+            if (to == max) {
+                return ranges;
+            }
+            from = to + 1;
+        }
+    }
+}
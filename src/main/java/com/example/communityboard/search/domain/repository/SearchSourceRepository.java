@@ -0,0 +1,22 @@
+package com.example.communityboard.search.domain.repository;
+
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.SearchDocumentType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 색인 원본을 id 순으로 나눠 읽는다. 전체 적재와 재구성에만 쓰며 검색할 때는 읽지 않는다.
+public interface SearchSourceRepository {
+
+    List<SearchDocument> findBoardsAfter(long afterId, int size);
+
+    List<SearchDocument> findPostsAfter(long afterId, int size);
+
+    // 테이블이 비어 있으면 빈 값
+    Optional<IdRange> findIdRange(SearchDocumentType type);
+
+    // 구간의 행을 한 번의 쿼리로 fetchSize개씩 가져오며 id 순으로 넘긴다. 모두 넘길 때까지 커넥션 하나를 쥔다.
+    void streamBetween(SearchDocumentType type, IdRange range, int fetchSize, Consumer<SearchDocument> consumer);
+}
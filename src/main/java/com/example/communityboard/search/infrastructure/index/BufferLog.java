@@ -0,0 +1,137 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// 메모리 버퍼에 반영한 변경을 순서대로 덧붙이는 로그. 재시작하면 이 로그를 다시 적용해 버퍼를 되살린다.
+// 버퍼를 세그먼트로 내려쓰고 매니페스트를 바꾼 뒤에 비운다.
+// 레코드마다 채널에 바로 쓰므로 프로세스가 죽어도 남는다. fsync는 하지 않아 전원이 나가면 마지막 몇 건을 잃을 수 있다.
+final class BufferLog implements Closeable {
+
+    private static final byte INDEX = 1;
+    private static final byte DELETE = 2;
+
+    private final FileChannel channel;
+
+    private BufferLog(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    // 남아 있는 레코드를 replayer로 다시 적용한 뒤 이어서 쓸 수 있게 연다.
+    // 쓰다 만 마지막 레코드는 잘라 낸다.
+    static BufferLog open(Path file, Replayer replayer) throws IOException {
+        long valid = 0;
+        if (Files.exists(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                while (true) {
+                    int length = in.readInt();
+                    byte[] body = new byte[length];
+                    in.readFully(body);
+                    apply(ByteBuffer.wrap(body), replayer);
+                    valid += Integer.BYTES + length;
+                }
+            } catch (EOFException e) {
+                // 파일 끝 또는 쓰다 만 레코드
+            }
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(valid);
+        channel.position(valid);
+        return new BufferLog(channel);
+    }
+
+    void appendIndex(long key, List<String> tokens) {
+        List<byte[]> encoded = new ArrayList<>(tokens.size());
+        int length = 1 + Long.BYTES + Integer.BYTES;
+        for (String token : tokens) {
+            byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            length += Short.BYTES + bytes.length;
+        }
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + length)
+                .putInt(length)
+                .put(INDEX)
+                .putLong(key)
+                .putInt(encoded.size());
+        for (byte[] bytes : encoded) {
+            record.putShort((short) bytes.length).put(bytes);
+        }
+        write(record.flip());
+    }
+
+    void appendDelete(long key) {
+        int length = 1 + Long.BYTES;
+        write(ByteBuffer.allocate(Integer.BYTES + length)
+                .putInt(length)
+                .put(DELETE)
+                .putLong(key)
+                .flip());
+    }
+
+    long sizeInBytes() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void reset() {
+        try {
+            channel.truncate(0);
+            channel.position(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void write(ByteBuffer record) {
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void apply(ByteBuffer body, Replayer replayer) {
+        byte type = body.get();
+        long key = body.getLong();
+        if (type == DELETE) {
+            replayer.delete(key);
+            return;
+        }
+        int count = body.getInt();
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[body.getShort()];
+            body.get(bytes);
+            tokens.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        replayer.index(key, tokens);
+    }
+
+    interface Replayer {
+        void index(long key, List<String> tokens);
+
+        void delete(long key);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.search.domain.SearchIndex;
+import com.example.communityboard.search.domain.SearchIndexStorage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// 색인 디렉터리 아래에 재구성할 때마다 index-<번호> 디렉터리를 새로 만들고, CURRENT 파일에 지금 쓰는 디렉터리 이름을 적는다.
+// CURRENT가 없으면 색인 디렉터리 바로 아래의 세그먼트를 쓴다 (처음 만든 색인).
+// 바꿔 끼우는 도중이나 재구성 중에 죽어서 남은 색인은 다음 기동 때 지운다.
+@Slf4j
+public class DiskSearchIndexStorage implements SearchIndexStorage {
+
+    static final String CURRENT = "CURRENT";
+    static final String REBUILD_PREFIX = "index-";
+
+    private final Path root;
+    private final int bufferMaxDocuments;
+    private final int mergeFactor;
+    private final Executor mergeExecutor;
+
+    public DiskSearchIndexStorage(Path root, int bufferMaxDocuments, int mergeFactor, Executor mergeExecutor) {
+        this.root = root;
+        this.bufferMaxDocuments = bufferMaxDocuments;
+        this.mergeFactor = mergeFactor;
+        this.mergeExecutor = mergeExecutor;
+    }
+
+    @Override
+    public SearchIndex openCurrent() {
+        try {
+            Files.createDirectories(root);
+            Path current = currentDirectory();
+            removeAbandoned(current);
+            return open(current);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열 수 없습니다: " + root, e);
+        }
+    }
+
+    @Override
+    public SearchIndex create() {
+        long number = System.currentTimeMillis();
+        while (Files.exists(root.resolve(REBUILD_PREFIX + number))) {
+            number++;
+        }
+        return open(root.resolve(REBUILD_PREFIX + number));
+    }
+
+    // 버퍼를 세그먼트로 내려쓴 뒤 CURRENT를 임시 파일에 쓰고 이름을 바꿔 한 번에 교체한다
+    @Override
+    public void promote(SearchIndex index) {
+        SegmentedSearchIndex segmented = (SegmentedSearchIndex) index;
+        segmented.flush();
+        Path temporary = root.resolve(CURRENT + ".tmp");
+        try {
+            Files.writeString(temporary, root.relativize(segmented.directory()).toString(), StandardCharsets.UTF_8);
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, root.resolve(CURRENT), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Search index switched to {}", segmented.directory());
+    }
+
+    @Override
+    public void close(SearchIndex index) {
+        try {
+            ((SegmentedSearchIndex) index).close();
+        } catch (IOException e) {
+            log.warn("Failed to close search index", e);
+        }
+    }
+
+    // 지운 파일을 매핑해 읽던 검색은 매핑이 해제될 때까지 그대로 읽을 수 있다
+    @Override
+    public void discard(SearchIndex index) {
+        close(index);
+        try {
+            deleteIndex(((SegmentedSearchIndex) index).directory());
+        } catch (IOException e) {
+            log.warn("Failed to delete search index files", e);
+        }
+    }
+
+    private Path currentDirectory() throws IOException {
+        Path pointer = root.resolve(CURRENT);
+        if (!Files.exists(pointer)) {
+            return root;
+        }
+        return root.resolve(Files.readString(pointer, StandardCharsets.UTF_8).trim());
+    }
+
+    private void removeAbandoned(Path current) throws IOException {
+        if (!current.equals(root)) {
+            deleteIndex(root);
+        }
+        List<Path> abandoned = new ArrayList<>();
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(root, REBUILD_PREFIX + "*")) {
+            for (Path directory : directories) {
+                if (!directory.equals(current)) {
+                    abandoned.add(directory);
+                }
+            }
+        }
+        for (Path directory : abandoned) {
+            log.info("Removing abandoned search index {}", directory);
+            deleteIndex(directory);
+        }
+    }
+
+    // 색인 파일만 지운다. 색인 디렉터리 바로 아래의 색인이면 그 안의 재구성 디렉터리와 CURRENT는 남긴다
+    private void deleteIndex(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (Files.isRegularFile(entry) && !entry.equals(root.resolve(CURRENT))) {
+                    files.add(entry);
+                }
+            }
+        }
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+        if (!directory.equals(root)) {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private SegmentedSearchIndex open(Path directory) {
+        return SegmentedSearchIndex.open(directory, bufferMaxDocuments, mergeFactor, mergeExecutor);
+    }
+}
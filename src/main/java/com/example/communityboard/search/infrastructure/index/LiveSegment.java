@@ -0,0 +1,125 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.common.bitmap.CompactBitmap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 세그먼트와 그 안에서 지워진(다시 색인되었거나 삭제된) 문서 번호.
+// 세그먼트 파일은 바뀌지 않으므로 지운 번호는 따로 들고 있다가 버퍼를 내려쓸 때 "<세그먼트>_<세대>.del"로 함께 저장한다.
+// 지운 번호가 절반을 넘으면 병합으로 비우므로 힙 사용량은 문서 수가 아니라 아직 비우지 않은 삭제 수에 비례한다.
+// 스레드 안전하지 않다. SegmentedSearchIndex의 잠금 안에서만 쓴다.
+final class LiveSegment {
+
+    private final Segment segment;
+    private final CompactBitmap deleted;
+    private long deletedLength;
+    private int deletesGeneration;
+    private boolean dirty;
+
+    private LiveSegment(Segment segment, CompactBitmap deleted, int deletesGeneration) {
+        this.segment = segment;
+        this.deleted = deleted;
+        this.deletesGeneration = deletesGeneration;
+        deleted.forEach(docNo -> deletedLength += segment.length((int) docNo));
+    }
+
+    static LiveSegment of(Segment segment) {
+        return new LiveSegment(segment, new CompactBitmap(), 0);
+    }
+
+    static LiveSegment open(Segment segment, Path directory, int deletesGeneration) throws IOException {
+        CompactBitmap deleted = new CompactBitmap();
+        if (deletesGeneration > 0) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(
+                    directory.resolve(deletesFileName(segment.name(), deletesGeneration)))))) {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    deleted.add(in.readInt());
+                }
+            }
+        }
+        return new LiveSegment(segment, deleted, deletesGeneration);
+    }
+
+    static String deletesFileName(String segmentName, int generation) {
+        return segmentName + "_" + generation + ".del";
+    }
+
+    Segment segment() {
+        return segment;
+    }
+
+    int deletesGeneration() {
+        return deletesGeneration;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    long deletedCount() {
+        return deleted.cardinality();
+    }
+
+    int liveCount() {
+        return segment.documentCount() - (int) deleted.cardinality();
+    }
+
+    long liveLength() {
+        return segment.totalLength() - deletedLength;
+    }
+
+    boolean isDeleted(int docNo) {
+        return deleted.contains(docNo);
+    }
+
+    // 키에 해당하는 살아 있는 문서가 있으면 지우고 true
+    boolean delete(long key) {
+        int docNo = segment.findDocNo(key);
+        if (docNo < 0 || !deleted.add(docNo)) {
+            return false;
+        }
+        deletedLength += segment.length(docNo);
+        dirty = true;
+        return true;
+    }
+
+    boolean contains(long key) {
+        int docNo = segment.findDocNo(key);
+        return docNo >= 0 && !deleted.contains(docNo);
+    }
+
+    // 병합하는 동안 읽을 복사본
+    CompactBitmap deletesSnapshot() {
+        CompactBitmap copy = new CompactBitmap();
+        deleted.forEach(copy::add);
+        return copy;
+    }
+
+    // 새 세대 파일에 쓰고 세대를 올린다. 이전 세대 파일은 매니페스트를 바꾼 뒤 지운다
+    void writeDeletes(Path directory) {
+        int generation = deletesGeneration + 1;
+        Path file = directory.resolve(deletesFileName(segment.name(), generation));
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt((int) deleted.cardinality());
+            deleted.forEach(docNo -> {
+                try {
+                    out.writeInt((int) docNo);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        deletesGeneration = generation;
+        dirty = false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.search.domain.InvertedIndex;
+import com.example.communityboard.search.domain.SearchIndex;
+import com.example.communityboard.search.domain.SearchIndexStorage;
+
+// 색인을 메모리에만 둔다. 재시작하면 비므로 SearchIndexLoader가 다시 채운다
+public class MemorySearchIndexStorage implements SearchIndexStorage {
+
+    @Override
+    public SearchIndex openCurrent() {
+        return new InvertedIndex();
+    }
+
+    @Override
+    public SearchIndex create() {
+        return new InvertedIndex();
+    }
+
+    @Override
+    public void promote(SearchIndex index) {
+    }
+
+    @Override
+    public void close(SearchIndex index) {
+    }
+
+    @Override
+    public void discard(SearchIndex index) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 계층형 병합 정책. 살아 있는 문서 수가 비슷한(mergeFactor 배 안쪽) 세그먼트끼리 같은 계층으로 묶고,
+// 한 계층에 mergeFactor개가 쌓이면 합쳐 한 단계 위 계층으로 올린다. 문서 하나는 계층 수만큼만 다시 쓰인다.
+// 지운 문서가 절반을 넘은 세그먼트는 혼자라도 다시 써서 지운 자리를 비운다.
+final class MergePolicy {
+
+    // 병합 결과가 세그먼트 최대 크기를 넘지 않도록 이 크기 넘게는 합치지 않는다
+    static final long MAX_MERGED_BYTES = 1L << 30;
+
+    private final int mergeFactor;
+    private final int bufferMaxDocuments;
+
+    MergePolicy(int mergeFactor, int bufferMaxDocuments) {
+        if (mergeFactor < 2) {
+            throw new IllegalArgumentException("병합 단위는 2 이상이어야 합니다.");
+        }
+        this.mergeFactor = mergeFactor;
+        this.bufferMaxDocuments = Math.max(1, bufferMaxDocuments);
+    }
+
+    // 합칠 세그먼트가 없으면 빈 목록
+    List<LiveSegment> select(List<LiveSegment> segments) {
+        for (LiveSegment segment : segments) {
+            if (segment.deletedCount() * 2L > segment.segment().documentCount()) {
+                return List.of(segment);
+            }
+        }
+        Map<Integer, List<LiveSegment>> tiers = new TreeMap<>();
+        for (LiveSegment segment : segments) {
+            if (segment.segment().sizeInBytes() * 2 <= MAX_MERGED_BYTES) {
+                tiers.computeIfAbsent(tier(segment), t -> new ArrayList<>()).add(segment);
+            }
+        }
+        for (List<LiveSegment> tier : tiers.values()) {
+            if (tier.size() < mergeFactor) {
+                continue;
+            }
+            tier.sort(Comparator.comparingLong(segment -> segment.segment().sizeInBytes()));
+            List<LiveSegment> selected = new ArrayList<>();
+            long bytes = 0;
+            for (LiveSegment segment : tier.subList(0, mergeFactor)) {
+                if (bytes + segment.segment().sizeInBytes() > MAX_MERGED_BYTES) {
+                    break;
+                }
+                bytes += segment.segment().sizeInBytes();
+                selected.add(segment);
+            }
+            if (selected.size() >= 2) {
+                return selected;
+            }
+        }
+        return List.of();
+    }
+
+    // 0계층은 버퍼 한 번 분량(bufferMaxDocuments) 미만, 1계층은 그 mergeFactor배 미만, ...
+    private int tier(LiveSegment segment) {
+        long documents = segment.liveCount() / bufferMaxDocuments;
+        int tier = 0;
+        while (documents >= 1) {
+            documents /= mergeFactor;
+            tier++;
+        }
+        return tier;
+    }
+}
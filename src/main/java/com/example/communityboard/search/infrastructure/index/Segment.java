@@ -0,0 +1,183 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 한 번 쓰고 바뀌지 않는 세그먼트 파일을 메모리 매핑해 읽는다. 힙에는 헤더 값만 두고 나머지는 OS 페이지 캐시에서 읽는다.
+//
+// [헤더 32바이트] magic, 문서 수, 단어 수, postings 시작, 단어 바이트 시작, 단어 표 시작, 전체 토큰 수(long)
+// [문서 표]      문서 번호 순 (키 long, 길이 int). 문서 번호는 키 순서이므로 키로 이진 탐색한다
+// [postings]     단어별 (문서 번호 차이, 출현 횟수) varint 목록
+// [단어 바이트]   UTF-8 단어를 이어 붙인 것
+// [단어 표]      단어 순 (단어 바이트 위치, 길이, postings 위치, 문서 빈도) int 4개
+//
+// 절대 위치로만 읽으므로 여러 스레드가 동시에 읽어도 된다.
+final class Segment {
+
+    static final int MAGIC = 0x53454731;
+    static final int HEADER_BYTES = 32;
+    static final int DOCUMENT_BYTES = Long.BYTES + Integer.BYTES;
+    static final int TERM_BYTES = 4 * Integer.BYTES;
+
+    private final String name;
+    private final MappedByteBuffer buffer;
+    private final int documentCount;
+    private final int termCount;
+    private final int postingsOffset;
+    private final int termBytesOffset;
+    private final int termTableOffset;
+    private final long totalLength;
+
+    private Segment(String name, MappedByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("검색 세그먼트 파일이 아닙니다: " + name);
+        }
+        this.name = name;
+        this.buffer = buffer;
+        this.documentCount = buffer.getInt(4);
+        this.termCount = buffer.getInt(8);
+        this.postingsOffset = buffer.getInt(12);
+        this.termBytesOffset = buffer.getInt(16);
+        this.termTableOffset = buffer.getInt(20);
+        this.totalLength = buffer.getLong(24);
+    }
+
+    static Segment open(String name, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // 채널을 닫아도 매핑은 버퍼가 GC될 때까지 유효하다
+            return new Segment(name, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    int termCount() {
+        return termCount;
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    long key(int docNo) {
+        return buffer.getLong(HEADER_BYTES + docNo * DOCUMENT_BYTES);
+    }
+
+    int length(int docNo) {
+        return buffer.getInt(HEADER_BYTES + docNo * DOCUMENT_BYTES + Long.BYTES);
+    }
+
+    // 없으면 -1
+    int findDocNo(long key) {
+        int low = 0;
+        int high = documentCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = key(mid);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // 없으면 -1
+    int findTerm(String term) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = term(mid).compareTo(term);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    String term(int ordinal) {
+        int entry = termEntry(ordinal);
+        byte[] bytes = new byte[buffer.getInt(entry + Integer.BYTES)];
+        buffer.get(termBytesOffset + buffer.getInt(entry), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    int documentFrequency(int ordinal) {
+        return buffer.getInt(termEntry(ordinal) + 3 * Integer.BYTES);
+    }
+
+    PostingCursor postings(int ordinal) {
+        int entry = termEntry(ordinal);
+        return new PostingCursor(postingsOffset + buffer.getInt(entry + 2 * Integer.BYTES),
+                buffer.getInt(entry + 3 * Integer.BYTES));
+    }
+
+    private int termEntry(int ordinal) {
+        return termTableOffset + ordinal * TERM_BYTES;
+    }
+
+    final class PostingCursor {
+
+        private int position;
+        private int remaining;
+        private int docNo;
+        private int frequency;
+
+        private PostingCursor(int position, int count) {
+            this.position = position;
+            this.remaining = count;
+        }
+
+        boolean next() {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            docNo += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        int docNo() {
+            return docNo;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
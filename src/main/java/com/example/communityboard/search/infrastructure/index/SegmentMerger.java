@@ -0,0 +1,126 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.common.bitmap.CompactBitmap;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 여러 세그먼트를 지운 문서를 빼고 하나로 합친다. 모든 입력이 키 순, 단어 순으로 정렬되어 있으므로
+// 문서 표와 단어 표를 각각 k-way 병합하면서 결과 파일을 앞에서부터 순서대로 쓴다.
+// 입력 문서마다 새 문서 번호를 담는 int 배열만 힙에 두고, postings는 읽는 대로 바로 쓴다.
+final class SegmentMerger {
+
+    private SegmentMerger() {
+    }
+
+    static void merge(List<Segment> segments, List<CompactBitmap> deletes, SegmentWriter writer) {
+        int[][] remap = mergeDocuments(segments, deletes, writer);
+        mergeTerms(segments, remap, writer);
+    }
+
+    private static int[][] mergeDocuments(List<Segment> segments, List<CompactBitmap> deletes, SegmentWriter writer) {
+        int count = segments.size();
+        int[][] remap = new int[count][];
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            remap[i] = new int[segments.get(i).documentCount()];
+            Arrays.fill(remap[i], -1);
+            positions[i] = nextLive(segments.get(i), deletes.get(i), 0);
+        }
+        int next = 0;
+        while (true) {
+            int smallest = -1;
+            for (int i = 0; i < count; i++) {
+                if (positions[i] < segments.get(i).documentCount()
+                        && (smallest < 0 || segments.get(i).key(positions[i]) < segments.get(smallest).key(positions[smallest]))) {
+                    smallest = i;
+                }
+            }
+            if (smallest < 0) {
+                return remap;
+            }
+            Segment segment = segments.get(smallest);
+            int docNo = positions[smallest];
+            writer.document(segment.key(docNo), segment.length(docNo));
+            remap[smallest][docNo] = next++;
+            positions[smallest] = nextLive(segment, deletes.get(smallest), docNo + 1);
+        }
+    }
+
+    private static int nextLive(Segment segment, CompactBitmap deleted, int docNo) {
+        while (docNo < segment.documentCount() && deleted.contains(docNo)) {
+            docNo++;
+        }
+        return docNo;
+    }
+
+    private static void mergeTerms(List<Segment> segments, int[][] remap, SegmentWriter writer) {
+        int count = segments.size();
+        int[] ordinals = new int[count];
+        String[] terms = new String[count];
+        for (int i = 0; i < count; i++) {
+            terms[i] = termAt(segments.get(i), 0);
+        }
+        Segment.PostingCursor[] cursors = new Segment.PostingCursor[count];
+        int[] heads = new int[count];
+        while (true) {
+            String term = null;
+            for (String candidate : terms) {
+                if (candidate != null && (term == null || candidate.compareTo(term) < 0)) {
+                    term = candidate;
+                }
+            }
+            if (term == null) {
+                return;
+            }
+            writer.startTerm(term);
+            for (int i = 0; i < count; i++) {
+                cursors[i] = term.equals(terms[i]) ? segments.get(i).postings(ordinals[i]) : null;
+                heads[i] = advance(cursors[i], remap[i]);
+            }
+            mergePostings(cursors, heads, remap, writer);
+            writer.finishTerm();
+            for (int i = 0; i < count; i++) {
+                if (term.equals(terms[i])) {
+                    terms[i] = termAt(segments.get(i), ++ordinals[i]);
+                }
+            }
+        }
+    }
+
+    // 세그먼트마다 새 문서 번호가 오름차순이므로 가장 작은 머리부터 꺼내면 전체도 오름차순이다
+    private static void mergePostings(Segment.PostingCursor[] cursors, int[] heads, int[][] remap,
+                                      SegmentWriter writer) {
+        while (true) {
+            int smallest = -1;
+            for (int i = 0; i < cursors.length; i++) {
+                if (heads[i] >= 0 && (smallest < 0 || heads[i] < heads[smallest])) {
+                    smallest = i;
+                }
+            }
+            if (smallest < 0) {
+                return;
+            }
+            writer.posting(heads[smallest], cursors[smallest].frequency());
+            heads[smallest] = advance(cursors[smallest], remap[smallest]);
+        }
+    }
+
+    // 지워지지 않은 다음 문서의 새 번호. 없으면 -1
+    private static int advance(Segment.PostingCursor cursor, int[] remap) {
+        if (cursor == null) {
+            return -1;
+        }
+        while (cursor.next()) {
+            int docNo = remap[cursor.docNo()];
+            if (docNo >= 0) {
+                return docNo;
+            }
+        }
+        return -1;
+    }
+
+    private static String termAt(Segment segment, int ordinal) {
+        return ordinal < segment.termCount() ? segment.term(ordinal) : null;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.search.domain.InvertedIndex;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// 세그먼트 파일을 앞에서부터 순서대로 쓴다 (형식은 Segment 참고).
+// 단어 바이트와 단어 표는 postings를 다 쓴 뒤에야 위치가 정해지므로 옆 파일에 따로 모았다가 끝에 붙인다.
+// 임시 파일에 다 쓴 뒤 이름을 바꿔 공개하므로 중간에 죽어도 반쯤 쓴 세그먼트가 남지 않는다.
+final class SegmentWriter implements InvertedIndex.Sink, Closeable {
+
+    // 위치를 int로 저장하고 파일 전체를 한 번에 매핑하므로 2GB를 넘을 수 없다
+    static final long MAX_BYTES = Integer.MAX_VALUE;
+
+    private final Path target;
+    private final Path temporary;
+    private final Path termBytesFile;
+    private final Path termTableFile;
+    private final DataOutputStream out;
+    private final DataOutputStream termBytes;
+    private final DataOutputStream termTable;
+
+    private int documentCount;
+    private int termCount;
+    private long totalLength;
+    private long lastKey = Long.MIN_VALUE;
+    private long postingsBytes;
+    private boolean inPostings;
+    private String lastTerm;
+
+    private byte[] currentTerm;
+    private long currentTermOffset;
+    private int currentDocumentFrequency;
+    private int lastDocNo;
+
+    SegmentWriter(Path target) throws IOException {
+        this.target = target;
+        this.temporary = sibling(target, ".tmp");
+        this.termBytesFile = sibling(target, ".terms.tmp");
+        this.termTableFile = sibling(target, ".table.tmp");
+        this.out = open(temporary);
+        this.termBytes = open(termBytesFile);
+        this.termTable = open(termTableFile);
+        out.write(new byte[Segment.HEADER_BYTES]);
+    }
+
+    @Override
+    public void document(long key, int length) {
+        if (inPostings || key <= lastKey) {
+            throw new IllegalStateException("문서는 단어보다 먼저, 키 오름차순으로 써야 합니다.");
+        }
+        write(() -> {
+            out.writeLong(key);
+            out.writeInt(length);
+        });
+        lastKey = key;
+        totalLength += length;
+        documentCount++;
+    }
+
+    @Override
+    public void startTerm(String term) {
+        if (lastTerm != null && term.compareTo(lastTerm) <= 0) {
+            throw new IllegalStateException("단어는 오름차순으로 써야 합니다.");
+        }
+        inPostings = true;
+        lastTerm = term;
+        currentTerm = term.getBytes(StandardCharsets.UTF_8);
+        currentTermOffset = postingsBytes;
+        currentDocumentFrequency = 0;
+        lastDocNo = 0;
+    }
+
+    @Override
+    public void posting(int docNo, int frequency) {
+        write(() -> {
+            postingsBytes += writeVarint(docNo - lastDocNo);
+            postingsBytes += writeVarint(frequency);
+        });
+        lastDocNo = docNo;
+        currentDocumentFrequency++;
+    }
+
+    // 남은 문서가 하나도 없는 단어(병합에서 모두 지워진 경우)는 기록하지 않는다
+    @Override
+    public void finishTerm() {
+        if (currentDocumentFrequency == 0) {
+            return;
+        }
+        write(() -> {
+            termTable.writeInt(termBytes.size());
+            termTable.writeInt(currentTerm.length);
+            termTable.writeInt(Math.toIntExact(currentTermOffset));
+            termTable.writeInt(currentDocumentFrequency);
+            termBytes.write(currentTerm);
+        });
+        termCount++;
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    // 헤더를 채우고 옆 파일을 붙인 뒤 디스크에 내려쓰고 target 이름으로 공개한다
+    void finish() throws IOException {
+        long postingsOffset = Segment.HEADER_BYTES + (long) documentCount * Segment.DOCUMENT_BYTES;
+        long termBytesOffset = postingsOffset + postingsBytes;
+        long termTableOffset = termBytesOffset + termBytes.size();
+        if (termTableOffset + (long) termCount * Segment.TERM_BYTES > MAX_BYTES) {
+            throw new IllegalStateException("검색 세그먼트가 최대 크기를 넘었습니다: " + target.getFileName());
+        }
+        out.close();
+        termBytes.close();
+        termTable.close();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.position(channel.size());
+            append(channel, termBytesFile);
+            append(channel, termTableFile);
+            ByteBuffer header = ByteBuffer.allocate(Segment.HEADER_BYTES)
+                    .putInt(Segment.MAGIC)
+                    .putInt(documentCount)
+                    .putInt(termCount)
+                    .putInt((int) postingsOffset)
+                    .putInt((int) termBytesOffset)
+                    .putInt((int) termTableOffset)
+                    .putLong(totalLength)
+                    .flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(termBytesFile);
+        Files.deleteIfExists(termTableFile);
+    }
+
+    // finish 전에 닫히면 쓰던 파일을 모두 지운다
+    @Override
+    public void close() throws IOException {
+        out.close();
+        termBytes.close();
+        termTable.close();
+        Files.deleteIfExists(temporary);
+        Files.deleteIfExists(termBytesFile);
+        Files.deleteIfExists(termTableFile);
+    }
+
+    private int writeVarint(int value) throws IOException {
+        int written = 1;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+            written++;
+        }
+        out.writeByte(value);
+        return written;
+    }
+
+    private static void append(FileChannel channel, Path file) throws IOException {
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            long size = source.size();
+            while (position < size) {
+                position += source.transferTo(position, size - position, channel);
+            }
+        }
+    }
+
+    private static DataOutputStream open(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+    }
+
+    static Path sibling(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    // Sink 메서드는 검사 예외를 던질 수 없으므로 감싸서 넘긴다
+    private static void write(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,510 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.common.bitmap.CompactBitmap;
+import com.example.communityboard.search.domain.Bm25;
+import com.example.communityboard.search.domain.InvertedIndex;
+import com.example.communityboard.search.domain.ScoredDocument;
+import com.example.communityboard.search.domain.SearchIndex;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+// 디스크 세그먼트 기반 검색 색인. 힙 사용량이 문서 수에 비례하지 않도록
+// 최근 변경만 메모리 버퍼(InvertedIndex)에 두고 나머지는 바뀌지 않는 세그먼트 파일을 메모리 매핑해 읽는다.
+//
+// - 버퍼가 bufferMaxDocuments개 차면 세그먼트 파일 하나로 순서대로 내려쓰고 매니페스트에 올린다.
+// - 세그먼트에 있는 문서가 다시 색인되면 그 세그먼트에 지운 번호로 표시하고 새 내용은 버퍼에 넣는다.
+// - 세그먼트가 쌓이면 MergePolicy에 따라 mergeExecutor에서 하나씩 합친다. 합치는 동안에도 검색과 쓰기는 계속된다.
+// - 버퍼 변경은 BufferLog에 먼저 남기므로 재시작하면 매니페스트의 세그먼트를 열고 로그를 다시 적용해 그대로 이어 간다.
+//
+// 매니페스트 형식: 첫 줄 "generation <다음 세그먼트 번호>", 이후 줄마다 "<세그먼트 이름> <삭제 파일 세대>"
+@Slf4j
+public final class SegmentedSearchIndex implements SearchIndex, Closeable {
+
+    static final String MANIFEST = "manifest";
+    static final String LOG = "buffer.log";
+    static final String SEGMENT_SUFFIX = ".seg";
+    // 같은 문서가 계속 다시 색인되면 버퍼 문서 수는 그대로인데 로그만 자라므로 로그 크기로도 내려쓴다
+    static final long MAX_LOG_BYTES = 64L << 20;
+
+    private final Path directory;
+    private final int bufferMaxDocuments;
+    private final MergePolicy mergePolicy;
+    private final Executor mergeExecutor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<LiveSegment> segments = new ArrayList<>();
+    private InvertedIndex buffer = new InvertedIndex();
+    private BufferLog bufferLog;
+    private long nextGeneration = 1;
+    private boolean merging;
+    // 병합 중에만 있다. 병합 대상에서 지워진 문서를 병합 결과에서도 지우기 위해 쓴다
+    private Set<Long> changedDuringMerge;
+    private boolean closed;
+
+    private SegmentedSearchIndex(Path directory, int bufferMaxDocuments, int mergeFactor, Executor mergeExecutor) {
+        if (bufferMaxDocuments < 1) {
+            throw new IllegalArgumentException("버퍼 문서 수는 1 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.bufferMaxDocuments = bufferMaxDocuments;
+        this.mergePolicy = new MergePolicy(mergeFactor, bufferMaxDocuments);
+        this.mergeExecutor = mergeExecutor;
+    }
+
+    public static SegmentedSearchIndex open(Path directory, int bufferMaxDocuments, int mergeFactor,
+                                            Executor mergeExecutor) {
+        SegmentedSearchIndex index = new SegmentedSearchIndex(directory, bufferMaxDocuments, mergeFactor,
+                mergeExecutor);
+        index.lock.writeLock().lock();
+        try {
+            index.load();
+            return index;
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열 수 없습니다: " + directory, e);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(long key, List<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            bufferLog.appendIndex(key, tokens);
+            applyIndex(key, tokens);
+            flushIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean indexIfAbsent(long key, List<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            if (buffer.contains(key) || segments.stream().anyMatch(segment -> segment.contains(key))) {
+                return false;
+            }
+            bufferLog.appendIndex(key, tokens);
+            applyIndex(key, tokens);
+            flushIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(long key) {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            bufferLog.appendDelete(key);
+            boolean deleted = applyDelete(key);
+            flushIfNeeded();
+            return deleted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 수와 평균 길이, 단어별 문서 빈도는 버퍼와 모든 세그먼트를 합친 값으로 계산한다
+    @Override
+    public List<ScoredDocument> search(List<String> queryTokens, int limit, LongPredicate filter) {
+        lock.readLock().lock();
+        try {
+            int liveCount = liveCount();
+            if (liveCount == 0 || queryTokens.isEmpty()) {
+                return List.of();
+            }
+            long liveLength = buffer.totalLength();
+            for (LiveSegment segment : segments) {
+                liveLength += segment.liveLength();
+            }
+            double averageLength = (double) liveLength / liveCount;
+            Map<Long, Double> scores = new HashMap<>();
+            int[] ordinals = new int[segments.size()];
+            for (String token : new LinkedHashSet<>(queryTokens)) {
+                int documentFrequency = buffer.documentFrequency(token);
+                for (int i = 0; i < segments.size(); i++) {
+                    Segment segment = segments.get(i).segment();
+                    ordinals[i] = segment.findTerm(token);
+                    if (ordinals[i] >= 0) {
+                        documentFrequency += segment.documentFrequency(ordinals[i]);
+                    }
+                }
+                if (documentFrequency == 0) {
+                    continue;
+                }
+                double idf = Bm25.idf(liveCount, documentFrequency);
+                buffer.forEachPosting(token, (key, frequency, length) -> {
+                    if (filter.test(key)) {
+                        scores.merge(key, Bm25.termScore(idf, frequency, length, averageLength), Double::sum);
+                    }
+                });
+                for (int i = 0; i < segments.size(); i++) {
+                    if (ordinals[i] >= 0) {
+                        score(segments.get(i), ordinals[i], idf, averageLength, filter, scores);
+                    }
+                }
+            }
+            return ScoredDocument.top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 버퍼를 바로 세그먼트로 내려쓴다
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            flushBuffer();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 버퍼는 내려쓰지 않는다. 다음에 열 때 로그로 되살린다
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            bufferLog.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void score(LiveSegment live, int ordinal, double idf, double averageLength, LongPredicate filter,
+                       Map<Long, Double> scores) {
+        Segment segment = live.segment();
+        Segment.PostingCursor cursor = segment.postings(ordinal);
+        while (cursor.next()) {
+            int docNo = cursor.docNo();
+            if (live.isDeleted(docNo)) {
+                continue;
+            }
+            long key = segment.key(docNo);
+            if (filter.test(key)) {
+                scores.merge(key, Bm25.termScore(idf, cursor.frequency(), segment.length(docNo), averageLength),
+                        Double::sum);
+            }
+        }
+    }
+
+    private int liveCount() {
+        int count = buffer.size();
+        for (LiveSegment segment : segments) {
+            count += segment.liveCount();
+        }
+        return count;
+    }
+
+    private void applyIndex(long key, List<String> tokens) {
+        deleteFromSegments(key);
+        buffer.index(key, tokens);
+        recordChange(key);
+    }
+
+    private boolean applyDelete(long key) {
+        boolean deleted = buffer.delete(key) | deleteFromSegments(key);
+        recordChange(key);
+        return deleted;
+    }
+
+    // 살아 있는 문서는 버퍼와 세그먼트를 통틀어 하나뿐이다
+    private boolean deleteFromSegments(long key) {
+        for (LiveSegment segment : segments) {
+            if (segment.delete(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void recordChange(long key) {
+        if (changedDuringMerge != null) {
+            changedDuringMerge.add(key);
+        }
+    }
+
+    private void flushIfNeeded() {
+        if (buffer.size() >= bufferMaxDocuments || bufferLog.sizeInBytes() >= MAX_LOG_BYTES) {
+            flushBuffer();
+        }
+    }
+
+    // 새 세그먼트와 바뀐 삭제 파일을 쓰고, 매니페스트를 바꾼 뒤에야 로그를 비운다.
+    // 그 사이에 죽으면 로그가 다시 적용되는데, 다시 색인은 같은 결과가 되므로 문제없다.
+    private void flushBuffer() {
+        List<LiveSegment> next = new ArrayList<>(segments);
+        if (buffer.size() > 0) {
+            next.add(LiveSegment.of(writeSegment(segmentName(nextGeneration++), buffer::export)));
+        }
+        List<Path> obsolete = new ArrayList<>();
+        for (LiveSegment segment : segments) {
+            if (segment.isDirty()) {
+                if (segment.deletesGeneration() > 0) {
+                    obsolete.add(deletesFile(segment));
+                }
+                segment.writeDeletes(directory);
+            }
+        }
+        writeManifest(next);
+        segments.clear();
+        segments.addAll(next);
+        bufferLog.reset();
+        buffer = new InvertedIndex();
+        deleteQuietly(obsolete);
+        scheduleMerge();
+    }
+
+    private void scheduleMerge() {
+        if (merging || closed) {
+            return;
+        }
+        List<LiveSegment> selected = mergePolicy.select(segments);
+        if (selected.isEmpty()) {
+            return;
+        }
+        List<Segment> sources = selected.stream().map(LiveSegment::segment).toList();
+        List<CompactBitmap> deletes = selected.stream().map(LiveSegment::deletesSnapshot).toList();
+        String name = segmentName(nextGeneration++);
+        merging = true;
+        changedDuringMerge = new HashSet<>();
+        try {
+            mergeExecutor.execute(() -> merge(selected, sources, deletes, name));
+        } catch (RejectedExecutionException e) {
+            merging = false;
+            changedDuringMerge = null;
+            log.warn("Search segment merge rejected", e);
+        }
+    }
+
+    // 파일은 잠금 없이 쓰고, 세그먼트 목록을 바꿀 때만 쓰기 잠금을 잡는다
+    private void merge(List<LiveSegment> selected, List<Segment> sources, List<CompactBitmap> deletes, String name) {
+        long start = System.nanoTime();
+        Segment merged;
+        try {
+            merged = writeSegment(name, writer -> SegmentMerger.merge(sources, deletes, writer));
+        } catch (RuntimeException e) {
+            log.warn("Failed to merge search segments {}", sources.stream().map(Segment::name).toList(), e);
+            lock.writeLock().lock();
+            try {
+                merging = false;
+                changedDuringMerge = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            merging = false;
+            if (closed) {
+                deleteQuietly(List.of(segmentFile(name)));
+                return;
+            }
+            LiveSegment result = LiveSegment.of(merged);
+            changedDuringMerge.forEach(result::delete);
+            changedDuringMerge = null;
+            // 병합 중에 내려쓰기가 있었다면 이 삭제들을 담은 로그는 이미 비워졌으므로 바로 저장한다
+            if (result.isDirty()) {
+                result.writeDeletes(directory);
+            }
+            List<LiveSegment> next = new ArrayList<>(segments);
+            next.removeAll(selected);
+            if (merged.documentCount() > 0) {
+                next.add(result);
+            }
+            writeManifest(next);
+            segments.clear();
+            segments.addAll(next);
+
+            List<Path> obsolete = new ArrayList<>();
+            for (LiveSegment source : selected) {
+                obsolete.add(segmentFile(source.segment().name()));
+                if (source.deletesGeneration() > 0) {
+                    obsolete.add(deletesFile(source));
+                }
+            }
+            if (merged.documentCount() == 0) {
+                obsolete.add(segmentFile(name));
+            }
+            // 매핑된 버퍼는 GC될 때까지 유효하므로 지운 파일을 읽던 검색이 있어도 괜찮다
+            deleteQuietly(obsolete);
+            log.info("Merged {} search segments into {} ({} documents) in {} ms", selected.size(), name,
+                    merged.documentCount(), (System.nanoTime() - start) / 1_000_000);
+            scheduleMerge();
+        } catch (RuntimeException e) {
+            log.warn("Failed to install merged search segment {}", name, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Segment writeSegment(String name, Consumer<SegmentWriter> content) {
+        Path file = segmentFile(name);
+        try (SegmentWriter writer = new SegmentWriter(file)) {
+            content.accept(writer);
+            writer.finish();
+            return Segment.open(name, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void load() throws IOException {
+        Files.createDirectories(directory);
+        Path manifest = directory.resolve(MANIFEST);
+        if (Files.exists(manifest)) {
+            List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+            nextGeneration = Long.parseLong(lines.get(0).substring("generation ".length()));
+            for (String line : lines.subList(1, lines.size())) {
+                String[] parts = line.split(" ");
+                Segment segment = Segment.open(parts[0], segmentFile(parts[0]));
+                segments.add(LiveSegment.open(segment, directory, Integer.parseInt(parts[1])));
+            }
+        }
+        removeUnreferencedFiles();
+        bufferLog = BufferLog.open(directory.resolve(LOG), new BufferLog.Replayer() {
+            @Override
+            public void index(long key, List<String> tokens) {
+                applyIndex(key, tokens);
+            }
+
+            @Override
+            public void delete(long key) {
+                applyDelete(key);
+            }
+        });
+        log.info("Opened search index {}: {} segments, {} buffered documents", directory, segments.size(),
+                buffer.size());
+        flushIfNeeded();
+        scheduleMerge();
+    }
+
+    // 매니페스트에 없는 세그먼트/삭제 파일과 임시 파일은 중간에 멈춘 내려쓰기나 병합이 남긴 것이다
+    private void removeUnreferencedFiles() throws IOException {
+        Set<String> referenced = new HashSet<>();
+        for (LiveSegment segment : segments) {
+            referenced.add(segment.segment().name() + SEGMENT_SUFFIX);
+            if (segment.deletesGeneration() > 0) {
+                referenced.add(deletesFile(segment).getFileName().toString());
+            }
+        }
+        List<Path> unreferenced = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{seg,del,tmp}")) {
+            for (Path file : files) {
+                if (!referenced.contains(file.getFileName().toString())) {
+                    unreferenced.add(file);
+                }
+            }
+        }
+        deleteQuietly(unreferenced);
+    }
+
+    // 임시 파일에 쓰고 디스크에 내려쓴 뒤 이름을 바꿔 한 번에 교체한다
+    private void writeManifest(List<LiveSegment> next) {
+        Path temporary = directory.resolve(MANIFEST + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write("generation " + nextGeneration);
+                writer.newLine();
+                for (LiveSegment segment : next) {
+                    writer.write(segment.segment().name() + " " + segment.deletesGeneration());
+                    writer.newLine();
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, directory.resolve(MANIFEST), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("검색 색인이 닫혔습니다.");
+        }
+    }
+
+    private Path segmentFile(String name) {
+        return directory.resolve(name + SEGMENT_SUFFIX);
+    }
+
+    private Path deletesFile(LiveSegment segment) {
+        return directory.resolve(LiveSegment.deletesFileName(segment.segment().name(), segment.deletesGeneration()));
+    }
+
+    private static String segmentName(long generation) {
+        return String.format("seg-%08d", generation);
+    }
+
+    private static void deleteQuietly(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete search index file {}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.communityboard.search.infrastructure.persistence;
+
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import com.example.communityboard.search.domain.repository.IdRange;
+import com.example.communityboard.search.domain.repository.SearchSourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 엔티티로 읽으면 영속성 컨텍스트에 수백만 건이 쌓이므로 필요한 컬럼만 JDBC로 읽는다.
+// 기본키 범위로 끊어 읽어 한 번의 쿼리가 길게 잠금이나 커넥션을 쥐지 않게 한다.
+// 재구성은 구간마다 스트리밍 쿼리 하나로 읽는다. 읽기 전용 트랜잭션이므로 복제본이 있으면 복제본에서 읽는다.
+@Repository
+@RequiredArgsConstructor
+public class JdbcSearchSourceRepository implements SearchSourceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchDocument> findBoardsAfter(long afterId, int size) {
+        return jdbcTemplate.query(
+                "select id, title, description from board where id > ? order by id limit ?",
+                (rs, rowNum) -> SearchDocument.board(rs.getLong("id"), rs.getString("title"),
+                        rs.getString("description")),
+                afterId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchDocument> findPostsAfter(long afterId, int size) {
+        return jdbcTemplate.query(
+                "select id, title, content from post where id > ? order by id limit ?",
+                (rs, rowNum) -> SearchDocument.post(rs.getLong("id"), rs.getString("title"),
+                        rs.getString("content")),
+                afterId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdRange> findIdRange(SearchDocumentType type) {
+        return jdbcTemplate.query("select min(id), max(id) from " + table(type),
+                rs -> {
+                    rs.next();
+                    long min = rs.getLong(1);
+                    return rs.wasNull() ? Optional.<IdRange>empty() : Optional.of(new IdRange(min, rs.getLong(2)));
+                });
+    }
+
+    // 한 번에 모두 받으면 구간 전체가 메모리에 올라오므로 fetchSize개씩 받아 넘긴다
+    @Override
+    @Transactional(readOnly = true)
+    public void streamBetween(SearchDocumentType type, IdRange range, int fetchSize,
+                              Consumer<SearchDocument> consumer) {
+        String sql = type == SearchDocumentType.BOARD
+                ? "select id, title, description as body from board where id between ? and ? order by id"
+                : "select id, title, content as body from post where id between ? and ? order by id";
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, range.min());
+                    statement.setLong(2, range.max());
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(type == SearchDocumentType.BOARD
+                        ? SearchDocument.board(rs.getLong("id"), rs.getString("title"), rs.getString("body"))
+                        : SearchDocument.post(rs.getLong("id"), rs.getString("title"), rs.getString("body"))));
+    }
+
+    private static String table(SearchDocumentType type) {
+        return type == SearchDocumentType.BOARD ? "board" : "post";
+    }
+}
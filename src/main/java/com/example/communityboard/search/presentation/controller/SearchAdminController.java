@@ -0,0 +1,36 @@
+package com.example.communityboard.search.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.search.application.dto.SearchRebuildStatus;
+import com.example.communityboard.search.application.service.SearchIndexRebuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/search/rebuild")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class SearchAdminController {
+
+    private final SearchIndexRebuilder searchIndexRebuilder;
+
+    // 백그라운드에서 시작하고 바로 응답한다. 진행 상황은 GET으로 본다
+    @PostMapping
+    public ResponseEntity<ApiResponse<SearchRebuildStatus>> rebuild() {
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(searchIndexRebuilder.start(), "검색 색인 재구성을 시작했습니다."));
+    }
+
+    // 마지막 재구성의 상태와 읽은 행 수
+    @GetMapping
+    public ResponseEntity<ApiResponse<SearchRebuildStatus>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success(searchIndexRebuilder.status()));
+    }
+}
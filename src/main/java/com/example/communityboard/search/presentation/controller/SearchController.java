@@ -0,0 +1,37 @@
+package com.example.communityboard.search.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.search.application.dto.response.SearchResultResponse;
+import com.example.communityboard.search.application.service.SearchIndexService;
+import com.example.communityboard.trending.application.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+    private final TrendingService trendingService;
+
+    // type은 BOARD 또는 POST. 없으면 둘 다 검색한다
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SearchResultResponse>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "20") int size) {
+        List<SearchResultResponse> responses = searchIndexService.search(q, type, size).stream()
+                .map(SearchResultResponse::from)
+                .toList();
+        // 잘못된 검색 요청은 예외로 끝나므로 세지 않는다
+        trendingService.recordSearch(q);
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+}
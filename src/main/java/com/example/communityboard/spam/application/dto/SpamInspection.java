@@ -0,0 +1,10 @@
+package com.example.communityboard.spam.application.dto;
+
+import com.example.communityboard.spam.domain.NearDuplicateIndex;
+
+// 작성 전에 검사한 결과. 작성이 끝나면 같은 서명을 다시 계산하지 않고 색인에 넣는다.
+// signature가 null이면 검사하지 않은 글이고, similar는 FLAG로 통과시킨 비슷한 글이다
+public record SpamInspection(int[] signature, NearDuplicateIndex.Match similar) {
+
+    public static final SpamInspection SKIPPED = new SpamInspection(null, null);
+}
@@ -0,0 +1,7 @@
+package com.example.communityboard.spam.application.exception;
+
+public class SpamDetectedException extends RuntimeException {
+    public SpamDetectedException() {
+        super("최근에 올라온 글과 거의 같은 내용은 작성할 수 없습니다.");
+    }
+}
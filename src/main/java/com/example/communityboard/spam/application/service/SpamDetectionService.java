@@ -0,0 +1,66 @@
+package com.example.communityboard.spam.application.service;
+
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.common.config.SpamProperties;
+import com.example.communityboard.spam.application.dto.SpamInspection;
+import com.example.communityboard.spam.application.exception.SpamDetectedException;
+import com.example.communityboard.spam.domain.MinHash;
+import com.example.communityboard.spam.domain.NearDuplicateIndex;
+import com.example.communityboard.spam.domain.SpamAction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+// 최근 글과 거의 같은 글(복사해 몇 글자만 바꾼 도배 등)을 찾아 게시판 종류별 설정에 따라 거절하거나 로그로 남긴다.
+// 최근 글은 서버 메모리에만 두므로 재시작하면 비고, 여러 서버를 띄우면 서버마다 따로 본다.
+// 검사와 기록 사이에 같은 글이 동시에 들어오면 둘 다 통과할 수 있다. 도배를 줄이는 것이 목적이라 받아들인다.
+@Slf4j
+@Service
+public class SpamDetectionService {
+
+    private final SpamProperties properties;
+    private final NearDuplicateIndex index;
+
+    public SpamDetectionService(SpamProperties properties) {
+        this.properties = properties;
+        this.index = new NearDuplicateIndex(properties.getBands(), properties.getRows(), properties.getWindow(),
+                properties.getMaxEntries());
+    }
+
+    // BLOCK인 게시판에서 비슷한 최근 글이 있으면 SpamDetectedException을 던진다
+    public SpamInspection inspect(BoardType boardType, String title, String content) {
+        SpamProperties.Policy policy = properties.policy(boardType);
+        if (policy.getAction() == SpamAction.OFF) {
+            return SpamInspection.SKIPPED;
+        }
+        String text = MinHash.normalize(title + "\n" + content);
+        if (text.length() < properties.getMinLength()) {
+            return SpamInspection.SKIPPED;
+        }
+        int[] signature = MinHash.signature(text, index.signatureSize());
+        Optional<NearDuplicateIndex.Match> similar = index.findMostSimilar(signature, policy.getSimilarity());
+        if (similar.isPresent() && policy.getAction() == SpamAction.BLOCK) {
+            log.info("Blocked near-duplicate of post {} (similarity {})",
+                    similar.get().id(), similar.get().similarity());
+            throw new SpamDetectedException();
+        }
+        return new SpamInspection(signature, similar.orElse(null));
+    }
+
+    // 작성이 끝난 글을 이후 글과 비교하도록 기억한다. FLAG로 통과한 글도 기억해 같은 글이 이어지면 계속 잡는다
+    public void record(Long postId, SpamInspection inspection) {
+        if (inspection.signature() == null) {
+            return;
+        }
+        if (inspection.similar() != null) {
+            log.warn("Post {} is a near-duplicate of post {} (similarity {})",
+                    postId, inspection.similar().id(), inspection.similar().similarity());
+        }
+        index.add(postId, inspection.signature());
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
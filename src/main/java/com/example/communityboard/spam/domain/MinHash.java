@@ -0,0 +1,87 @@
+package com.example.communityboard.spam.domain;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// 글의 MinHash 서명. 공백과 기호를 뺀 글을 세 글자씩 겹쳐 자른 조각의 집합을 서로 다른 해시 함수 size개로 해시하고,
+// 함수마다 가장 작은 값을 남긴다. 두 서명에서 같은 자리의 값이 같을 확률이 두 조각 집합의 자카드 유사도와 같으므로
+// 일치하는 자리의 비율로 유사도를 어림한다. 단어 몇 개를 바꾸거나 기호를 끼워 넣어도 바뀌는 조각은 일부뿐이다.
+public final class MinHash {
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private MinHash() {
+    }
+
+    // normalize한 길이가 조각 하나보다 짧으면 글 전체를 조각 하나로 본다
+    public static int[] signature(CharSequence text, int size) {
+        long[] shingles = shingles(normalize(text));
+        int[] signature = new int[size];
+        for (int i = 0; i < size; i++) {
+            // i번째 해시 함수는 곱하고 더한 뒤 위쪽 비트를 쓴다 (multiply-shift). 조각 해시는 이미 고르게 섞여 있다
+            long multiplier = mix((i + 1) * GOLDEN_GAMMA) | 1;
+            long addend = mix(~((i + 1) * GOLDEN_GAMMA));
+            int min = Integer.MAX_VALUE;
+            for (long shingle : shingles) {
+                int value = (int) ((shingle * multiplier + addend) >>> 33);
+                if (value < min) {
+                    min = value;
+                }
+            }
+            signature[i] = min;
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    // 글자와 숫자만 남긴다. 서명을 만들 만큼 긴 글인지도 이 길이로 판단한다
+    public static String normalize(CharSequence text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    // 같은 조각이 여러 번 나와도 집합이므로 한 번만 센다
+    private static long[] shingles(String normalized) {
+        int count = Math.max(1, normalized.length() - SHINGLE_LENGTH + 1);
+        long[] shingles = new long[count];
+        for (int i = 0; i < count; i++) {
+            long hash = FNV_OFFSET;
+            for (int j = i; j < Math.min(i + SHINGLE_LENGTH, normalized.length()); j++) {
+                hash = (hash ^ normalized.charAt(j)) * FNV_PRIME;
+            }
+            shingles[i] = mix(hash);
+        }
+        Arrays.sort(shingles);
+        int unique = 0;
+        for (int i = 0; i < shingles.length; i++) {
+            if (i == 0 || shingles[i] != shingles[i - 1]) {
+                shingles[unique++] = shingles[i];
+            }
+        }
+        return Arrays.copyOf(shingles, unique);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.communityboard.spam.domain;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+// 최근 window 동안 들어온 글의 MinHash 서명을 LSH 버킷에 담아 두고, 새 글과 비슷한 글을 찾는다.
+// 서명을 rows개씩 bands개 구간으로 나눠 구간마다 값을 묶어 버킷 키로 쓴다. 유사도가 s인 두 글은
+// 1 - (1 - s^rows)^bands의 확률로 한 버킷 이상에서 만나고, 거의 겹치지 않는 글은 거의 만나지 않는다.
+// 새 글은 자기 버킷에 든 글만 비교하므로 전체 글 수와 상관없이 비슷한 글 수만큼만 비교한다.
+// 버킷과 전체 목록은 모두 들어온 순서라서, 오래된 글은 목록 앞에서 꺼내며 버킷에서도 맨 앞을 꺼내 지운다.
+public class NearDuplicateIndex {
+
+    private final int bands;
+    private final int rows;
+    private final long windowNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final ArrayDeque<Entry> timeline = new ArrayDeque<>();
+    private final Map<Long, ArrayDeque<Entry>> buckets = new HashMap<>();
+
+    public NearDuplicateIndex(int bands, int rows, Duration window, int maxEntries) {
+        this(bands, rows, window, maxEntries, System::nanoTime);
+    }
+
+    NearDuplicateIndex(int bands, int rows, Duration window, int maxEntries, LongSupplier clock) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("LSH 구간 수와 구간당 행 수는 1 이상이어야 합니다.");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.windowNanos = window.toNanos();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public int signatureSize() {
+        return bands * rows;
+    }
+
+    // 버킷을 함께 쓰는 글 중 minSimilarity 이상으로 가장 비슷한 글
+    public synchronized Optional<Match> findMostSimilar(int[] signature, double minSimilarity) {
+        evictExpired();
+        Match best = null;
+        for (int band = 0; band < bands; band++) {
+            ArrayDeque<Entry> bucket = buckets.get(bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (Entry candidate : bucket) {
+                if (best != null && best.id() == candidate.id()) {
+                    continue;
+                }
+                double similarity = MinHash.similarity(signature, candidate.signature());
+                if (similarity >= minSimilarity && (best == null || similarity > best.similarity())) {
+                    best = new Match(candidate.id(), similarity);
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public synchronized void add(long id, int[] signature) {
+        evictExpired();
+        while (timeline.size() >= maxEntries) {
+            evictOldest();
+        }
+        Entry entry = new Entry(id, signature, clock.getAsLong());
+        timeline.addLast(entry);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), key -> new ArrayDeque<>()).addLast(entry);
+        }
+    }
+
+    public synchronized int size() {
+        return timeline.size();
+    }
+
+    private void evictExpired() {
+        long now = clock.getAsLong();
+        while (!timeline.isEmpty() && now - timeline.peekFirst().addedAt() > windowNanos) {
+            evictOldest();
+        }
+    }
+
+    // 더 오래된 글은 이미 빠졌으므로 이 글은 자기가 든 버킷마다 맨 앞에 있다
+    private void evictOldest() {
+        Entry oldest = timeline.pollFirst();
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(oldest.signature(), band);
+            ArrayDeque<Entry> bucket = buckets.get(key);
+            bucket.pollFirst();
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    // 구간 번호도 함께 섞어 버킷 하나의 맵에 모든 구간을 담는다
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = MinHash.mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+
+    public record Match(long id, double similarity) {
+    }
+
+    private record Entry(long id, int[] signature, long addedAt) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.communityboard.spam.domain;
+
+public enum SpamAction {
+    OFF,    // 검사하지 않음
+    FLAG,   // 작성은 허용하고 로그로 남김
+    BLOCK   // 작성을 거절
+}
@@ -0,0 +1,4 @@
+package com.example.communityboard.trending.application.dto;
+
+public record TrendingTerm(String term, long count) {
+}
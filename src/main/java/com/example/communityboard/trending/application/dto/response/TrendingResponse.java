@@ -0,0 +1,22 @@
+package com.example.communityboard.trending.application.dto.response;
+
+import com.example.communityboard.trending.application.dto.TrendingBoard;
+import com.example.communityboard.trending.application.dto.TrendingTerm;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TrendingResponse {
+    private final List<TrendingBoard> boards;
+    private final List<TrendingTerm> terms;
+
+    private TrendingResponse(List<TrendingBoard> boards, List<TrendingTerm> terms) {
+        this.boards = boards;
+        this.terms = terms;
+    }
+
+    public static TrendingResponse of(List<TrendingBoard> boards, List<TrendingTerm> terms) {
+        return new TrendingResponse(boards, terms);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.communityboard.trending.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.config.TrendingProperties;
+import com.example.communityboard.moderation.domain.ContentFilter;
+import com.example.communityboard.trending.application.dto.TrendingBoard;
+import com.example.communityboard.trending.application.dto.TrendingTerm;
+import com.example.communityboard.trending.domain.SlidingHeavyHitters;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 최근 한 시간 동안 많이 읽힌 게시판과 많이 검색된 검색어를 메모리에서 센다.
+// 키별 카운터를 두지 않고 고정 크기 sketch로 어림하므로 게시판/검색어 종류가 늘어도 메모리가 늘지 않는다.
+// 인스턴스마다 따로 세며 재시작하면 비어 있는 상태에서 다시 쌓인다.
+@Service
+public class TrendingService {
+
+    public static final int MAX_SIZE = 20;
+    // 이보다 긴 검색어는 문장에 가까워 순위에 넣지 않는다
+    public static final int MAX_TERM_LENGTH = 30;
+
+    private final BoardRepository boardRepository;
+    private final SlidingHeavyHitters<Long> boards;
+    private final SlidingHeavyHitters<String> terms;
+
+    public TrendingService(BoardRepository boardRepository, TrendingProperties properties) {
+        this.boardRepository = boardRepository;
+        this.boards = create(properties);
+        this.terms = create(properties);
+    }
+
+    public void recordBoardRead(Long boardId) {
+        boards.add(boardId);
+    }
+
+    // 대소문자와 공백 차이는 같은 검색어로 보고, 금칙어가 든 검색어는 남에게 보일 수 있으므로 세지 않는다
+    public void recordSearch(String query) {
+        if (query == null) {
+            return;
+        }
+        String term = query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (term.isEmpty() || term.length() > MAX_TERM_LENGTH || ContentFilter.containsBannedTerm(term)) {
+            return;
+        }
+        terms.add(term);
+    }
+
+    // 제목은 순위에 든 id로만 조회한다. 그 사이 지워진 게시판은 뺀다
+    @Transactional(readOnly = true)
+    public List<TrendingBoard> getTrendingBoards(int size) {
+        validateSize(size);
+        List<SlidingHeavyHitters.HeavyHitter<Long>> ranked = boards.top(size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Board> found = boardRepository
+                .findAllByIds(ranked.stream().map(SlidingHeavyHitters.HeavyHitter::key).toList())
+                .stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        List<TrendingBoard> trending = new ArrayList<>(ranked.size());
+        for (SlidingHeavyHitters.HeavyHitter<Long> hitter : ranked) {
+            Board board = found.get(hitter.key());
+            if (board != null) {
+                trending.add(new TrendingBoard(board.getId(), board.getTitle(), hitter.count()));
+            }
+        }
+        return trending;
+    }
+
+    public List<TrendingTerm> getTrendingTerms(int size) {
+        validateSize(size);
+        return terms.top(size).stream()
+                .map(hitter -> new TrendingTerm(hitter.key(), hitter.count()))
+                .toList();
+    }
+
+    private static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("순위 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    private static <K> SlidingHeavyHitters<K> create(TrendingProperties properties) {
+        return new SlidingHeavyHitters<>(properties.getWindow(), properties.getBuckets(), properties.getDepth(),
+                properties.getWidth(), properties.getCapacity());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.communityboard.trending.domain;
+
+import java.util.Arrays;
+
+// 키별 횟수를 고정 크기 표(depth x width)로 어림하는 count-min sketch. 키마다 행별로 칸 하나씩 골라 올리고,
+// 그중 가장 작은 칸을 횟수로 본다. 다른 키와 칸을 나눠 쓰므로 실제보다 크게 어림할 수는 있어도 작게 어림하지는 않으며,
+// 넘치는 양은 대개 전체 횟수 / width 이내다. 키가 몇 개든 표 크기는 그대로다.
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[] counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("count-min sketch의 행 수와 열 수는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new long[depth * width];
+    }
+
+    // 올린 뒤의 어림값을 돌려준다. 어림값보다 작은 칸만 새 어림값까지 올려(conservative update)
+    // 다른 키와 나눠 쓰는 칸이 불필요하게 커지지 않게 한다
+    public long add(long hash, long count) {
+        long next = estimate(hash) + count;
+        for (int row = 0; row < depth; row++) {
+            int cell = cell(hash, row);
+            if (counters[cell] < next) {
+                counters[cell] = next;
+            }
+        }
+        return next;
+    }
+
+    public long estimate(long hash) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[cell(hash, row)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0);
+    }
+
+    // 행마다 해시를 다시 섞어 칸을 고른다. 한 해시를 나눠 쓰면(double hashing) 칸 번호가 해시의 일부 비트로만 정해져
+    // 두 키가 모든 행에서 같은 칸에 들어가는 일이 키가 많을 때 드물지 않다
+    private int cell(long hash, int row) {
+        long z = hash + (row + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z ^= z >>> 33;
+        return row * width + (int) Math.floorMod(z, (long) width);
+    }
+}
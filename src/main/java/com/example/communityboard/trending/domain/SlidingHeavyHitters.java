@@ -0,0 +1,207 @@
+package com.example.communityboard.trending.domain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+// 최근 window 동안 가장 많이 나온 키를 고정된 메모리로 찾는다.
+// window를 buckets칸으로 나눈 링을 돌며, 칸마다 count-min sketch로 횟수를 어림하고 어림값 상위 capacity개 키를 최소 힙에 둔다.
+// 시간이 한 칸 지나면 가장 오래된 칸을 비워 새 칸으로 쓰므로 키를 따로 지우지 않는다.
+// 조회는 살아 있는 칸들의 힙에 든 키만 후보로 삼아 칸별 어림값을 더한다. 가장 오래된 칸은 통째로 빠지므로
+// 실제로 세는 기간은 window보다 한 칸 이내로 짧을 수 있다.
+public class SlidingHeavyHitters<K> {
+
+    private final long bucketNanos;
+    private final LongSupplier clock;
+    private final Bucket<K>[] buckets;
+
+    public SlidingHeavyHitters(Duration window, int buckets, int depth, int width, int capacity) {
+        this(window, buckets, depth, width, capacity, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    SlidingHeavyHitters(Duration window, int buckets, int depth, int width, int capacity, LongSupplier clock) {
+        if (buckets < 1 || capacity < 1) {
+            throw new IllegalArgumentException("칸 수와 칸별 후보 수는 1 이상이어야 합니다.");
+        }
+        this.bucketNanos = Math.max(1, window.toNanos() / buckets);
+        this.clock = clock;
+        this.buckets = new Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            this.buckets[i] = new Bucket<>(depth, width, capacity);
+        }
+    }
+
+    public synchronized void add(K key) {
+        long epoch = currentEpoch();
+        Bucket<K> bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        long hash = hash(key);
+        bucket.heap.offer(key, bucket.sketch.add(hash, 1));
+    }
+
+    // 최근 window 동안 어림 횟수가 많은 순으로 최대 limit개
+    public synchronized List<HeavyHitter<K>> top(int limit) {
+        long oldest = currentEpoch() - buckets.length + 1;
+        Set<K> candidates = new LinkedHashSet<>();
+        for (Bucket<K> bucket : buckets) {
+            if (bucket.epoch >= oldest) {
+                candidates.addAll(bucket.heap.keys());
+            }
+        }
+        List<HeavyHitter<K>> ranked = new ArrayList<>(candidates.size());
+        for (K key : candidates) {
+            long hash = hash(key);
+            long count = 0;
+            for (Bucket<K> bucket : buckets) {
+                if (bucket.epoch >= oldest) {
+                    count += bucket.sketch.estimate(hash);
+                }
+            }
+            ranked.add(new HeavyHitter<>(key, count));
+        }
+        ranked.sort(Comparator.comparingLong(HeavyHitter<K>::count).reversed());
+        return List.copyOf(ranked.subList(0, Math.min(limit, ranked.size())));
+    }
+
+    private long currentEpoch() {
+        return Math.floorDiv(clock.getAsLong(), bucketNanos);
+    }
+
+    private static long hash(Object key) {
+        long z = key.hashCode() * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    public record HeavyHitter<K>(K key, long count) {
+    }
+
+    private static final class Bucket<K> {
+
+        private final CountMinSketch sketch;
+        private final TopKHeap<K> heap;
+        private long epoch = Long.MIN_VALUE;
+
+        private Bucket(int depth, int width, int capacity) {
+            this.sketch = new CountMinSketch(depth, width);
+            this.heap = new TopKHeap<>(capacity);
+        }
+
+        private void reset(long epoch) {
+            sketch.clear();
+            heap.clear();
+            this.epoch = epoch;
+        }
+    }
+
+    // 어림값이 가장 작은 후보가 맨 위에 오는 최소 힙. 키별 위치를 따로 들고 있어 이미 든 키의 값이 오르면
+    // 그 자리에서 아래로만 내린다. 칸 안에서 어림값은 줄지 않으므로 위로 올릴 일은 없다.
+    private static final class TopKHeap<K> {
+
+        private final int capacity;
+        private final List<Candidate<K>> heap;
+        private final Map<K, Candidate<K>> byKey;
+
+        private TopKHeap(int capacity) {
+            this.capacity = capacity;
+            this.heap = new ArrayList<>(capacity);
+            this.byKey = new HashMap<>(capacity * 2);
+        }
+
+        private void offer(K key, long count) {
+            Candidate<K> candidate = byKey.get(key);
+            if (candidate != null) {
+                candidate.count = count;
+                siftDown(candidate.index);
+                return;
+            }
+            if (heap.size() < capacity) {
+                candidate = new Candidate<>(key, count, heap.size());
+                heap.add(candidate);
+                byKey.put(key, candidate);
+                siftUp(candidate.index);
+                return;
+            }
+            Candidate<K> min = heap.get(0);
+            if (count <= min.count) {
+                return;
+            }
+            byKey.remove(min.key);
+            candidate = new Candidate<>(key, count, 0);
+            heap.set(0, candidate);
+            byKey.put(key, candidate);
+            siftDown(0);
+        }
+
+        private List<K> keys() {
+            return new ArrayList<>(byKey.keySet());
+        }
+
+        private void clear() {
+            heap.clear();
+            byKey.clear();
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap.get(parent).count <= heap.get(index).count) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heap.size() && heap.get(left).count < heap.get(smallest).count) {
+                    smallest = left;
+                }
+                if (right < heap.size() && heap.get(right).count < heap.get(smallest).count) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            Candidate<K> a = heap.get(i);
+            Candidate<K> b = heap.get(j);
+            heap.set(i, b);
+            heap.set(j, a);
+            a.index = j;
+            b.index = i;
+        }
+    }
+
+    private static final class Candidate<K> {
+
+        private final K key;
+        private long count;
+        private int index;
+
+        private Candidate(K key, long count, int index) {
+            this.key = key;
+            this.count = count;
+            this.index = index;
+        }
+    }
+}
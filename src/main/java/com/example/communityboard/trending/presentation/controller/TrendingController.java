@@ -0,0 +1,25 @@
+package com.example.communityboard.trending.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.trending.application.dto.response.TrendingResponse;
+import com.example.communityboard.trending.application.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<TrendingResponse>> getTrending(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(TrendingResponse.of(
+                trendingService.getTrendingBoards(size), trendingService.getTrendingTerms(size))));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.communityboard.viewcount.application.service;
+
+import com.example.communityboard.viewcount.domain.repository.ViewCountRepository;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.SortedMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlusher implements SmartLifecycle {
+
+    private final ViewCountService viewCountService;
+    private final ViewCountRepository viewCountRepository;
+
+    private volatile boolean running;
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval:PT5S}")
+    public void flush() {
+        for (ViewTarget target : ViewTarget.values()) {
+            flush(target);
+        }
+    }
+
+    // 스케줄러와 종료 시점의 마지막 반영이 겹치지 않도록 직렬화한다
+    synchronized void flush(ViewTarget target) {
+        SortedMap<Long, Long> deltas = viewCountService.drain(target);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            viewCountRepository.addViewCounts(target, deltas);
+            viewCountService.completeFlush(target);
+        } catch (RuntimeException e) {
+            viewCountService.restore(target, deltas);
+            log.warn("Failed to flush {} view counts for {} rows, will retry", target, deltas.size(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 웹 서버가 요청을 더 받지 않은 뒤, DataSource가 닫히기 전에 남은 증가분을 모두 반영한다
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.communityboard.viewcount.application.service;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수를 요청마다 UPDATE하지 않고 메모리에 모았다가 ViewCountFlusher가 주기적으로 한꺼번에 반영한다.
+// 응답에는 DB 값 + 아직 반영되지 않은 증가분을 더해 보여준다.
+@Service
+public class ViewCountService {
+
+    private final Map<ViewTarget, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(ViewTarget.class);
+    // 꺼내서 DB에 쓰는 중인 증가분. 반영이 끝나기 전까지 조회 결과에서 빠지지 않도록 따로 들고 있는다.
+    private final Map<ViewTarget, Map<Long, Long>> flushing = new EnumMap<>(ViewTarget.class);
+    // 맵에서 제거된 카운터. 제거 직전에 꺼내 간 스레드가 늦게 증가시킬 수 있어 다음 주기에 한 번 더 비운다.
+    // 카운터를 꺼낸 뒤 한 주기 넘게 멈춰 있던 스레드의 증가분만 유실될 수 있다.
+    private final Map<ViewTarget, List<Map.Entry<Long, LongAdder>>> retired = new EnumMap<>(ViewTarget.class);
+
+    public ViewCountService() {
+        for (ViewTarget target : ViewTarget.values()) {
+            pending.put(target, new ConcurrentHashMap<>());
+            flushing.put(target, Collections.emptyMap());
+            retired.put(target, new ArrayList<>());
+        }
+    }
+
+    public void recordView(ViewTarget target, Long id) {
+        // LongAdder는 셀을 스레드별로 나눠 쓰므로 인기 글 하나에 조회가 몰려도 CAS 경합이 적다
+        pending.get(target).computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    public long currentCount(ViewTarget target, Long id, long persistedCount) {
+        return persistedCount + pendingCount(target, id);
+    }
+
+    public long pendingCount(ViewTarget target, Long id) {
+        LongAdder adder = pending.get(target).get(id);
+        long accumulated = adder == null ? 0 : adder.sum();
+        return accumulated + flushing.get(target).getOrDefault(id, 0L);
+    }
+
+    // 쌓인 증가분을 꺼내 flushing으로 옮긴다. sum() 뒤에 add(-sum)을 하므로 그 사이에 들어온 조회는 남는다.
+    synchronized SortedMap<Long, Long> drain(ViewTarget target) {
+        SortedMap<Long, Long> deltas = new TreeMap<>();
+        List<Map.Entry<Long, LongAdder>> retiredCounters = retired.get(target);
+        for (Map.Entry<Long, LongAdder> entry : retiredCounters) {
+            takeInto(deltas, entry.getKey(), entry.getValue());
+        }
+        retiredCounters.clear();
+
+        Iterator<Map.Entry<Long, LongAdder>> iterator = pending.get(target).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, LongAdder> entry = iterator.next();
+            LongAdder adder = entry.getValue();
+            if (takeInto(deltas, entry.getKey(), adder)) {
+                continue;
+            }
+            // 한 주기 동안 조회가 없던 항목은 제거해 맵이 조회된 적 있는 모든 id로 커지지 않게 한다
+            if (pending.get(target).remove(entry.getKey(), adder)) {
+                retiredCounters.add(Map.entry(entry.getKey(), adder));
+            }
+        }
+
+        flushing.put(target, deltas.isEmpty() ? Collections.emptyMap() : Map.copyOf(deltas));
+        return deltas;
+    }
+
+    private boolean takeInto(SortedMap<Long, Long> deltas, Long id, LongAdder adder) {
+        long sum = adder.sum();
+        if (sum == 0) {
+            return false;
+        }
+        adder.add(-sum);
+        deltas.merge(id, sum, Long::sum);
+        return true;
+    }
+
+    synchronized void completeFlush(ViewTarget target) {
+        flushing.put(target, Collections.emptyMap());
+    }
+
+    // 반영에 실패한 증가분을 되돌려 다음 주기에 다시 시도한다
+    synchronized void restore(ViewTarget target, Map<Long, Long> deltas) {
+        ConcurrentHashMap<Long, LongAdder> counters = pending.get(target);
+        deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+        flushing.put(target, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.communityboard.viewcount.domain.repository;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+
+import java.util.SortedMap;
+
+public interface ViewCountRepository {
+
+    // id별 증가분을 한 번의 배치로 더한다. 실패하면 전체가 반영되지 않는다.
+    void addViewCounts(ViewTarget target, SortedMap<Long, Long> deltas);
+}
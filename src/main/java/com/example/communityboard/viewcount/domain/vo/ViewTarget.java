@@ -0,0 +1,16 @@
+package com.example.communityboard.viewcount.domain.vo;
+
+public enum ViewTarget {
+    BOARD("board"),
+    POST("post");
+
+    private final String tableName;
+
+    ViewTarget(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+}
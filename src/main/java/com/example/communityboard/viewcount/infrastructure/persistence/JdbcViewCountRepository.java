@@ -0,0 +1,35 @@
+package com.example.communityboard.viewcount.infrastructure.persistence;
+
+import com.example.communityboard.viewcount.domain.repository.ViewCountRepository;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcViewCountRepository implements ViewCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // id 오름차순으로 갱신해 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 엇갈리지 않게 한다
+    @Override
+    @Transactional
+    public void addViewCounts(ViewTarget target, SortedMap<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String sql = "update " + target.getTableName() + " set view_count = view_count + ? where id = ?";
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            args.add(new Object[]{delta.getValue(), delta.getKey()});
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+}
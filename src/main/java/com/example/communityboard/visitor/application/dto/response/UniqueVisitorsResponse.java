@@ -0,0 +1,24 @@
+package com.example.communityboard.visitor.application.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class UniqueVisitorsResponse {
+    private final Long id;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long visitors;
+
+    private UniqueVisitorsResponse(Long id, LocalDate from, LocalDate to, long visitors) {
+        this.id = id;
+        this.from = from;
+        this.to = to;
+        this.visitors = visitors;
+    }
+
+    public static UniqueVisitorsResponse of(Long id, LocalDate from, LocalDate to, long visitors) {
+        return new UniqueVisitorsResponse(id, from, to, visitors);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.communityboard.visitor.application.service;
+
+import com.example.communityboard.visitor.domain.HyperLogLog;
+import com.example.communityboard.visitor.domain.repository.VisitorSketchRepository;
+import com.example.communityboard.visitor.domain.vo.VisitorSketchKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitorFlusher implements SmartLifecycle {
+
+    private final VisitorService visitorService;
+    private final VisitorSketchRepository visitorSketchRepository;
+
+    private volatile boolean running;
+
+    // 스케줄러와 종료 시점의 마지막 반영이 겹치지 않도록 직렬화한다
+    @Scheduled(fixedDelayString = "${app.visitor.flush-interval:PT30S}")
+    public synchronized void flush() {
+        Map<VisitorSketchKey, HyperLogLog> sketches = visitorService.drain();
+        if (sketches.isEmpty()) {
+            return;
+        }
+        try {
+            visitorSketchRepository.mergeSketches(sketches);
+            visitorService.completeFlush();
+        } catch (RuntimeException e) {
+            visitorService.restore();
+            log.warn("Failed to flush {} visitor sketches, will retry", sketches.size(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 웹 서버가 요청을 더 받지 않은 뒤, DataSource가 닫히기 전에 남은 방문을 모두 반영한다
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.communityboard.visitor.application.service;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.domain.HyperLogLog;
+import com.example.communityboard.visitor.domain.repository.VisitorSketchRepository;
+import com.example.communityboard.visitor.domain.vo.VisitorSketchKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시판/게시글의 중복 없는 방문자 수를 날짜별 HyperLogLog 스케치로 어림한다. (방문자, 대상) 쌍을 저장하지 않으므로
+// 방문자가 아무리 많아도 대상 하나에 하루 4KB 이하만 쓴다. 방문은 메모리 스케치에 모았다가 VisitorFlusher가
+// 주기적으로 저장된 스케치에 합치며, 기간 조회는 날짜별 스케치를 합쳐 한 번만 어림한다.
+@Service
+@RequiredArgsConstructor
+public class VisitorService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final VisitorSketchRepository visitorSketchRepository;
+
+    private final ConcurrentHashMap<VisitorSketchKey, LiveSketch> live = new ConcurrentHashMap<>();
+    // 꺼내서 DB에 합치는 중인 스케치. 실패하면 다시 저장 대상으로 돌린다.
+    private final List<LiveSketch> flushing = new ArrayList<>();
+    // 맵에서 제거된 스케치. 제거 직전에 꺼내 간 스레드가 늦게 방문을 더할 수 있어 다음 주기에 한 번 더 확인한다.
+    // 스케치를 꺼낸 뒤 한 주기 넘게 멈춰 있던 스레드의 방문만 유실될 수 있다.
+    private final List<LiveSketch> retired = new ArrayList<>();
+
+    // visitor는 방문자를 구별하는 키(회원 또는 클라이언트 주소). 없으면 세지 않는다
+    public void recordVisit(ViewTarget target, Long targetId, String visitor) {
+        recordVisit(target, targetId, visitor, LocalDate.now());
+    }
+
+    void recordVisit(ViewTarget target, Long targetId, String visitor, LocalDate day) {
+        if (visitor == null) {
+            return;
+        }
+        LiveSketch sketch = live.computeIfAbsent(new VisitorSketchKey(target, targetId, day), LiveSketch::new);
+        // 레지스터가 바뀐 방문만 저장 대상으로 표시한다. 이미 센 방문자가 다시 오면 아무것도 쓰지 않는다
+        if (sketch.sketch.add(visitor)) {
+            sketch.dirty = true;
+        }
+    }
+
+    // from부터 to까지(양 끝 포함) 중복 없는 방문자 수. 여러 날 방문한 사람도 한 번만 센다
+    public long countVisitors(ViewTarget target, Long targetId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("방문자 수는 최대 " + MAX_RANGE_DAYS + "일까지 조회할 수 있습니다.");
+        }
+        HyperLogLog union = new HyperLogLog();
+        for (HyperLogLog stored : visitorSketchRepository.findSketches(target, targetId, from, to)) {
+            union.merge(stored);
+        }
+        // 아직 합치지 않은 방문도 더한다. 이미 저장된 방문과 겹쳐도 레지스터 최댓값이라 두 번 세지 않는다
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LiveSketch sketch = live.get(new VisitorSketchKey(target, targetId, day));
+            if (sketch != null) {
+                union.merge(sketch.sketch);
+            }
+        }
+        return union.estimate();
+    }
+
+    // 바뀐 스케치의 사본을 꺼낸다. 표시를 먼저 지우고 사본을 뜨므로 그 사이에 바뀐 방문은 다음 주기에 다시 합친다.
+    synchronized Map<VisitorSketchKey, HyperLogLog> drain() {
+        Map<VisitorSketchKey, HyperLogLog> pending = new HashMap<>();
+        for (LiveSketch sketch : retired) {
+            takeInto(pending, sketch);
+        }
+        retired.clear();
+
+        Iterator<Map.Entry<VisitorSketchKey, LiveSketch>> iterator = live.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<VisitorSketchKey, LiveSketch> entry = iterator.next();
+            if (takeInto(pending, entry.getValue())) {
+                continue;
+            }
+            // 한 주기 동안 새 방문자가 없던 스케치는 이미 저장됐으므로 메모리에서 내린다
+            if (live.remove(entry.getKey(), entry.getValue())) {
+                retired.add(entry.getValue());
+            }
+        }
+        return pending;
+    }
+
+    private boolean takeInto(Map<VisitorSketchKey, HyperLogLog> pending, LiveSketch sketch) {
+        if (!sketch.dirty) {
+            return false;
+        }
+        sketch.dirty = false;
+        flushing.add(sketch);
+        pending.merge(sketch.key, sketch.sketch.copy(), (merged, next) -> {
+            merged.merge(next);
+            return merged;
+        });
+        return true;
+    }
+
+    synchronized void completeFlush() {
+        flushing.clear();
+    }
+
+    // 합치지 못한 스케치를 다시 표시해 다음 주기에 다시 시도한다
+    synchronized void restore() {
+        for (LiveSketch sketch : flushing) {
+            sketch.dirty = true;
+            if (live.get(sketch.key) != sketch) {
+                retired.add(sketch);
+            }
+        }
+        flushing.clear();
+    }
+
+    private static final class LiveSketch {
+
+        private final VisitorSketchKey key;
+        private final HyperLogLog sketch = new HyperLogLog();
+        private volatile boolean dirty;
+
+        private LiveSketch(VisitorSketchKey key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.communityboard.visitor.domain;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 서로 다른 방문자 수를 어림하는 HyperLogLog 스케치. 방문자 키를 64비트로 해시해 앞 PRECISION비트로 레지스터를 고르고,
+// 나머지 비트에서 처음 1이 나오는 위치의 최댓값을 레지스터에 남긴다. 방문자가 몇 명이든 레지스터 4096개(4KB)만 쓰며
+// 표준 오차는 약 1.6%다. 레지스터마다 최댓값만 남기므로 같은 방문자를 여러 번 넣거나 같은 스케치를 여러 번 합쳐도
+// 결과가 같다. 그래서 날짜별 스케치를 레지스터별 최댓값으로 합치면 기간 전체의 중복 없는 방문자 수를 얻는다.
+public final class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+    private static final int HEADER_BYTES = 2;
+    // 희소 형식은 0이 아닌 레지스터마다 (번호 2바이트, 값 1바이트)
+    private static final int SPARSE_ENTRY_BYTES = 3;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final VarHandle REGISTER = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    // 레지스터가 바뀌었으면 true. 같은 방문자가 다시 오면 바뀌지 않으므로 저장할 필요가 없다
+    public boolean add(String value) {
+        return addHash(hash(value));
+    }
+
+    // 잠금 없이 CAS로 레지스터를 올린다. 이미 더 큰 값이면 쓰지 않으므로 방문이 몰려도 대부분 읽기만 한다
+    boolean addHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        byte current = (byte) REGISTER.getVolatile(registers, index);
+        while (current < rank) {
+            byte witness = (byte) REGISTER.compareAndExchange(registers, index, current, rank);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    // other의 레지스터를 이 스케치에 합친다
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            byte rank = (byte) REGISTER.getVolatile(other.registers, i);
+            byte current = (byte) REGISTER.getVolatile(registers, i);
+            while (current < rank) {
+                byte witness = (byte) REGISTER.compareAndExchange(registers, i, current, rank);
+                if (witness == current) {
+                    break;
+                }
+                current = witness;
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            byte rank = (byte) REGISTER.getVolatile(registers, i);
+            sum += Math.scalb(1.0, -rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 방문자가 적을 때는 빈 레지스터 비율로 세는 편(linear counting)이 더 정확하다
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public HyperLogLog copy() {
+        HyperLogLog copy = new HyperLogLog();
+        copy.merge(this);
+        return copy;
+    }
+
+    // 방문자가 적은 스케치는 0이 아닌 레지스터만 적는다. 대부분의 게시글은 하루 방문자가 적어 수십 바이트면 된다
+    public byte[] toBytes() {
+        int nonZero = 0;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if ((byte) REGISTER.getVolatile(registers, i) != 0) {
+                nonZero++;
+            }
+        }
+        if (nonZero * SPARSE_ENTRY_BYTES < REGISTER_COUNT) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + nonZero * SPARSE_ENTRY_BYTES)
+                    .put(SPARSE).put((byte) PRECISION);
+            for (int i = 0; i < REGISTER_COUNT && buffer.hasRemaining(); i++) {
+                byte rank = (byte) REGISTER.getVolatile(registers, i);
+                if (rank != 0) {
+                    buffer.putShort((short) i).put(rank);
+                }
+            }
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + REGISTER_COUNT).put(DENSE).put((byte) PRECISION);
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            buffer.put((byte) REGISTER.getVolatile(registers, i));
+        }
+        return buffer.array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length < HEADER_BYTES || bytes[1] != PRECISION) {
+            throw new IllegalArgumentException("HyperLogLog 스케치 형식이 올바르지 않습니다.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES);
+        byte[] registers = new byte[REGISTER_COUNT];
+        if (bytes[0] == DENSE && buffer.remaining() == REGISTER_COUNT) {
+            buffer.get(registers);
+            return new HyperLogLog(registers);
+        }
+        if (bytes[0] != SPARSE || buffer.remaining() % SPARSE_ENTRY_BYTES != 0) {
+            throw new IllegalArgumentException("HyperLogLog 스케치 형식이 올바르지 않습니다.");
+        }
+        while (buffer.hasRemaining()) {
+            int index = buffer.getShort() & 0xFFFF;
+            if (index >= REGISTER_COUNT) {
+                throw new IllegalArgumentException("HyperLogLog 스케치 형식이 올바르지 않습니다.");
+            }
+            registers[index] = buffer.get();
+        }
+        return new HyperLogLog(registers);
+    }
+
+    // FNV-1a로 해시한 뒤 비트를 고르게 섞는다. 레지스터 번호와 값을 모두 해시 비트에서 꺼내므로 위아래 비트가 모두 고르게 퍼져야 한다
+    static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
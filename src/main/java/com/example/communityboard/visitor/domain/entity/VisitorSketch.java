@@ -0,0 +1,37 @@
+package com.example.communityboard.visitor.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 행은 VisitorFlusher가 JDBC 배치로만 넣고 고친다. 엔티티는 스키마 정의용이다.
+@Entity
+@Table(name = "visitor_sketch", uniqueConstraints = {
+        // 대상별 하루 한 행. 기간 합산도 이 인덱스 범위로 읽는다
+        @UniqueConstraint(name = "uk_visitor_sketch_target_day",
+                columnNames = {"target", "target_id", "visit_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VisitorSketch {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String target;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "visit_date", nullable = false)
+    private LocalDate visitDate;
+
+    // HyperLogLog.toBytes 형식. 방문자가 많아도 4KB를 넘지 않는다
+    @Lob
+    @Column(nullable = false)
+    private byte[] registers;
+}
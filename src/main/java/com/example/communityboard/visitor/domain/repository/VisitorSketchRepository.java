@@ -0,0 +1,18 @@
+package com.example.communityboard.visitor.domain.repository;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.domain.HyperLogLog;
+import com.example.communityboard.visitor.domain.vo.VisitorSketchKey;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface VisitorSketchRepository {
+
+    // 저장된 스케치에 레지스터별 최댓값으로 합친다. 같은 스케치를 다시 합쳐도 결과가 같다. 실패하면 전체가 반영되지 않는다.
+    void mergeSketches(Map<VisitorSketchKey, HyperLogLog> sketches);
+
+    // from부터 to까지(양 끝 포함) 저장된 날짜별 스케치
+    List<HyperLogLog> findSketches(ViewTarget target, long targetId, LocalDate from, LocalDate to);
+}
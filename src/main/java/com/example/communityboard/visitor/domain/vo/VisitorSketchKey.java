@@ -0,0 +1,9 @@
+package com.example.communityboard.visitor.domain.vo;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+
+import java.time.LocalDate;
+
+// 게시판/게시글 하나의 하루치 방문자 스케치
+public record VisitorSketchKey(ViewTarget target, long targetId, LocalDate day) {
+}
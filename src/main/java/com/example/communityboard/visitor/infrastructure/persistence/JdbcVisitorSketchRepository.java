@@ -0,0 +1,106 @@
+package com.example.communityboard.visitor.infrastructure.persistence;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.domain.HyperLogLog;
+import com.example.communityboard.visitor.domain.repository.VisitorSketchRepository;
+import com.example.communityboard.visitor.domain.vo.VisitorSketchKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcVisitorSketchRepository implements VisitorSketchRepository {
+
+    private static final int LOCK_BATCH_SIZE = 500;
+    private static final Comparator<VisitorSketchKey> LOCK_ORDER = Comparator.comparing(VisitorSketchKey::target)
+            .thenComparing(VisitorSketchKey::day)
+            .thenComparingLong(VisitorSketchKey::targetId);
+    private static final String LOCK_SQL = "select target_id, registers from visitor_sketch "
+            + "where target = :target and visit_date = :day and target_id in (:targetIds) "
+            + "order by target_id for update";
+    private static final String UPDATE_SQL =
+            "update visitor_sketch set registers = ? where target = ? and target_id = ? and visit_date = ?";
+    private static final String INSERT_SQL =
+            "insert into visitor_sketch (target, target_id, visit_date, registers) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // (대상, 날짜, id) 순으로 잠가 여러 인스턴스가 동시에 반영해도 잠금 순서가 엇갈리지 않게 한다.
+    // 다른 인스턴스가 같은 행을 먼저 넣으면 유니크 제약 위반으로 전체가 롤백되고, 다음 주기에 갱신으로 다시 반영된다.
+    @Override
+    @Transactional
+    public void mergeSketches(Map<VisitorSketchKey, HyperLogLog> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+        List<VisitorSketchKey> keys = sketches.keySet().stream().sorted(LOCK_ORDER).toList();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        int from = 0;
+        while (from < keys.size()) {
+            VisitorSketchKey first = keys.get(from);
+            int to = from;
+            while (to < keys.size() && to - from < LOCK_BATCH_SIZE
+                    && keys.get(to).target() == first.target() && keys.get(to).day().equals(first.day())) {
+                to++;
+            }
+            List<VisitorSketchKey> group = keys.subList(from, to);
+            Map<Long, byte[]> stored = lockStored(first.target(), first.day(), group);
+            for (VisitorSketchKey key : group) {
+                byte[] existing = stored.get(key.targetId());
+                if (existing == null) {
+                    inserts.add(new Object[]{key.target().name(), key.targetId(), Date.valueOf(key.day()),
+                            sketches.get(key).toBytes()});
+                    continue;
+                }
+                HyperLogLog merged = HyperLogLog.fromBytes(existing);
+                merged.merge(sketches.get(key));
+                updates.add(new Object[]{merged.toBytes(), key.target().name(), key.targetId(),
+                        Date.valueOf(key.day())});
+            }
+            from = to;
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HyperLogLog> findSketches(ViewTarget target, long targetId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "select registers from visitor_sketch where target = ? and target_id = ? "
+                        + "and visit_date between ? and ?",
+                (rs, rowNum) -> HyperLogLog.fromBytes(rs.getBytes("registers")),
+                target.name(), targetId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    private Map<Long, byte[]> lockStored(ViewTarget target, LocalDate day, List<VisitorSketchKey> keys) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("target", target.name())
+                .addValue("day", Date.valueOf(day))
+                .addValue("targetIds", keys.stream().map(VisitorSketchKey::targetId).toList());
+        Map<Long, byte[]> stored = new HashMap<>();
+        namedParameterJdbcTemplate.query(LOCK_SQL, params,
+                rs -> {
+                    stored.put(rs.getLong("target_id"), rs.getBytes("registers"));
+                });
+        return stored;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.communityboard.visitor.presentation;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// 순 방문자 집계에서 같은 방문자를 구별하는 키. 회원이면 회원 기준, 아니면 요청한 클라이언트 주소 기준
+public final class VisitorIdentity {
+
+    private VisitorIdentity() {
+    }
+
+    // 요청 밖에서 호출되어 식별할 수 없으면 null
+    public static String current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "member:" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return "client:" + attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
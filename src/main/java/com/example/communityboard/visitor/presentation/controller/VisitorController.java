@@ -0,0 +1,43 @@
+package com.example.communityboard.visitor.presentation.controller;
+
+import com.example.communityboard.common.dto.ApiResponse;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.application.dto.response.UniqueVisitorsResponse;
+import com.example.communityboard.visitor.application.service.VisitorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class VisitorController {
+
+    private final VisitorService visitorService;
+
+    // 기간을 생략하면 오늘 하루
+    @GetMapping("/boards/{boardId}/visitors")
+    public ResponseEntity<ApiResponse<UniqueVisitorsResponse>> getBoardVisitors(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(count(ViewTarget.BOARD, boardId, from, to)));
+    }
+
+    @GetMapping("/posts/{postId}/visitors")
+    public ResponseEntity<ApiResponse<UniqueVisitorsResponse>> getPostVisitors(
+            @PathVariable Long postId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(count(ViewTarget.POST, postId, from, to)));
+    }
+
+    private UniqueVisitorsResponse count(ViewTarget target, Long id, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end : from;
+        return UniqueVisitorsResponse.of(id, start, end, visitorService.countVisitors(target, id, start, end));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.communityboard.autocomplete.application.service;
+
+import com.example.communityboard.autocomplete.domain.AutocompleteType;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSource;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSourceRepository;
+import com.example.communityboard.common.config.AutocompleteProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteLoaderTest {
+
+    @Mock
+    private AutocompleteSourceRepository autocompleteSourceRepository;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    private AutocompleteLoader autocompleteLoader;
+
+    @BeforeEach
+    void setUp() {
+        AutocompleteProperties properties = new AutocompleteProperties();
+        properties.setLoadBatchSize(2);
+        autocompleteLoader = new AutocompleteLoader(autocompleteSourceRepository, autocompleteService, properties);
+    }
+
+    @Test
+    @DisplayName("게시판과 회원을 마지막으로 읽은 id 다음부터 묶음 단위로 읽어 채운다")
+    void load() {
+        // given
+        AutocompleteSource board = new AutocompleteSource(1L, "자유게시판", 120);
+        AutocompleteSource first = new AutocompleteSource(3L, "홍길동", 2);
+        AutocompleteSource second = new AutocompleteSource(5L, "홍길순", 0);
+        AutocompleteSource third = new AutocompleteSource(9L, "임꺽정", 7);
+        when(autocompleteSourceRepository.findBoardsAfter(0L, 2)).thenReturn(List.of(board));
+        when(autocompleteSourceRepository.findMembersAfter(0L, 2)).thenReturn(List.of(first, second));
+        when(autocompleteSourceRepository.findMembersAfter(5L, 2)).thenReturn(List.of(third));
+
+        // when
+        autocompleteLoader.load();
+
+        // then
+        verify(autocompleteService).putIfAbsent(AutocompleteType.BOARD, board);
+        verify(autocompleteService).putIfAbsent(AutocompleteType.MEMBER, first);
+        verify(autocompleteService).putIfAbsent(AutocompleteType.MEMBER, second);
+        verify(autocompleteService).putIfAbsent(AutocompleteType.MEMBER, third);
+        verify(autocompleteSourceRepository, never()).findMembersAfter(9L, 2);
+    }
+
+    @Test
+    @DisplayName("게시판 조회수를 주기적으로 다시 읽어 순위에 반영한다")
+    void refreshBoardWeights() {
+        // given
+        AutocompleteSource board = new AutocompleteSource(1L, "자유게시판", 300);
+        when(autocompleteSourceRepository.findBoardsAfter(0L, 2)).thenReturn(List.of(board));
+
+        // when
+        autocompleteLoader.refreshBoardWeights();
+
+        // then
+        verify(autocompleteService).updateWeight(AutocompleteType.BOARD, board);
+        verify(autocompleteSourceRepository, never()).findMembersAfter(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.communityboard.autocomplete.application.service;
+
+import com.example.communityboard.autocomplete.application.dto.AutocompleteSuggestion;
+import com.example.communityboard.autocomplete.domain.AutocompleteType;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSource;
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.post.domain.entity.Post;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AutocompleteServiceTest {
+
+    private final AutocompleteService autocompleteService = new AutocompleteService();
+
+    @Test
+    @DisplayName("게시판 제목을 조회수 순으로 추천하고, 제목을 바꾸면 바뀐 제목으로 추천한다")
+    void suggestBoards() {
+        // given
+        Board board = board(1L, "자유게시판");
+        autocompleteService.putBoardAfterCommit(board);
+        autocompleteService.putIfAbsent(AutocompleteType.BOARD, new AutocompleteSource(2L, "자유 토론", 100));
+
+        // when
+        board.updateBoardInfo("자유 질문", "질문 게시판");
+        autocompleteService.putBoardAfterCommit(board);
+        List<AutocompleteSuggestion> result = autocompleteService.suggest("자유", null, 5);
+
+        // then
+        assertThat(result).extracting(AutocompleteSuggestion::type, AutocompleteSuggestion::id,
+                        AutocompleteSuggestion::text)
+                .containsExactly(
+                        tuple(AutocompleteType.BOARD, 2L, "자유 토론"),
+                        tuple(AutocompleteType.BOARD, 1L, "자유 질문"));
+    }
+
+    @Test
+    @DisplayName("@로 시작하면 회원 닉네임을 작성한 글 수 순으로 추천한다")
+    void suggestMembers() {
+        // given
+        Member first = member(1L, "writer01", "홍길동");
+        Member second = member(2L, "writer02", "홍길순");
+        autocompleteService.putMemberAfterCommit(first);
+        autocompleteService.putMemberAfterCommit(second);
+
+        // when
+        autocompleteService.recordPostAfterCommit(Post.create(board(1L, "자유게시판"), second, "첫 글", "내용"));
+        List<AutocompleteSuggestion> result = autocompleteService.suggest("@홍길", null, 5);
+
+        // then
+        assertThat(result).extracting(AutocompleteSuggestion::id).containsExactly(2L, 1L);
+        assertThat(autocompleteService.suggest("홍길", null, 5)).isEmpty();
+        assertThat(autocompleteService.suggest("홍길", "member", 1)).extracting(AutocompleteSuggestion::text)
+                .containsExactly("홍길순");
+    }
+
+    @Test
+    @DisplayName("검색어가 비었거나 너무 길거나 개수가 범위를 벗어나면 예외가 발생한다")
+    void validatesRequest() {
+        // when & then
+        assertThatThrownBy(() -> autocompleteService.suggest(" ", null, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색어를 입력해 주세요.");
+        assertThatThrownBy(() -> autocompleteService.suggest("가".repeat(31), null, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색어는 30자를 넘을 수 없습니다.");
+        assertThatThrownBy(() -> autocompleteService.suggest("자유", null, 11))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("자동완성 개수는 1 이상 10 이하여야 합니다.");
+        assertThatThrownBy(() -> autocompleteService.suggest("자유", "post", 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("자동완성 대상은 BOARD 또는 MEMBER여야 합니다.");
+    }
+
+    private Board board(Long id, String title) {
+        Board board = Board.create(title, "게시판 설명", BoardType.FREE);
+        ReflectionTestUtils.setField(board, "id", id);
+        return board;
+    }
+
+    private Member member(Long id, String loginId, String nickname) {
+        Member member = Member.registerMember(loginId, "password123!", nickname, loginId + "@example.com",
+                new BCryptPasswordEncoder());
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.communityboard.autocomplete.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie(3);
+
+    @Test
+    @DisplayName("접두어로 시작하는 항목을 가중치가 높은 순으로 돌려준다")
+    void suggestsByWeight() {
+        // given
+        trie.put(1L, "자유게시판", 10);
+        trie.put(2L, "자유 토론", 30);
+        trie.put(3L, "질문게시판", 50);
+
+        // when
+        List<PrefixTrie.Suggestion> result = trie.suggest("자유", 10);
+
+        // then
+        assertThat(result).extracting(PrefixTrie.Suggestion::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("공백 뒤의 단어 시작으로도 찾고, 대소문자와 연속된 공백은 구분하지 않는다")
+    void matchesWordStart() {
+        // given
+        trie.put(1L, "Spring  Boot 질문", 1);
+
+        // when & then
+        assertThat(trie.suggest("boot", 10)).extracting(PrefixTrie.Suggestion::text)
+                .containsExactly("Spring  Boot 질문");
+        assertThat(trie.suggest("SPRING B", 10)).hasSize(1);
+        assertThat(trie.suggest("질", 10)).hasSize(1);
+        assertThat(trie.suggest("oot", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("maxSuggestions와 limit 중 작은 수만큼만 돌려준다")
+    void limitsResults() {
+        // given
+        for (long id = 1; id <= 10; id++) {
+            trie.put(id, "공지 " + id, id);
+        }
+
+        // when & then
+        assertThat(trie.suggest("공지", 2)).extracting(PrefixTrie.Suggestion::id).containsExactly(10L, 9L);
+        assertThat(trie.suggest("공지", 10)).extracting(PrefixTrie.Suggestion::id).containsExactly(10L, 9L, 8L);
+    }
+
+    @Test
+    @DisplayName("이름을 바꾸면 예전 이름으로는 찾지 않고 가중치는 유지한다")
+    void rename() {
+        // given
+        trie.put(1L, "홍길동", 7);
+
+        // when
+        trie.rename(1L, "임꺽정", 0);
+        trie.rename(2L, "홍길순", 3);
+
+        // then
+        assertThat(trie.suggest("홍길", 10)).containsExactly(new PrefixTrie.Suggestion(2L, "홍길순", 3));
+        assertThat(trie.suggest("임", 10)).containsExactly(new PrefixTrie.Suggestion(1L, "임꺽정", 7));
+    }
+
+    @Test
+    @DisplayName("가중치가 오르거나 내리면 순위를 다시 매기고, 상위에서 밀려난 항목이 다시 채워진다")
+    void reranksOnWeightChange() {
+        // given
+        trie.put(1L, "가나", 1);
+        trie.put(2L, "가다", 2);
+        trie.put(3L, "가라", 3);
+        trie.put(4L, "가마", 4);
+
+        // when
+        trie.addWeight(1L, 10);
+        trie.updateWeight(4L, 0);
+
+        // then
+        assertThat(trie.suggest("가", 10)).extracting(PrefixTrie.Suggestion::id).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("이미 있는 항목은 putIfAbsent로 덮어쓰지 않는다")
+    void putIfAbsent() {
+        // given
+        trie.put(1L, "새 이름", 5);
+
+        // when
+        boolean added = trie.putIfAbsent(1L, "예전 이름", 0);
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(trie.suggest("예전", 10)).isEmpty();
+        assertThat(trie.suggest("새", 10)).containsExactly(new PrefixTrie.Suggestion(1L, "새 이름", 5));
+    }
+
+    @Test
+    @DisplayName("지운 항목은 찾지 않고, 같은 경로의 다른 항목은 그대로 찾는다")
+    void remove() {
+        // given
+        trie.put(1L, "게시판", 1);
+        trie.put(2L, "게시판 규칙", 2);
+
+        // when
+        boolean removed = trie.remove(2L);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(trie.remove(2L)).isFalse();
+        assertThat(trie.suggest("게시", 10)).extracting(PrefixTrie.Suggestion::id).containsExactly(1L);
+        assertThat(trie.suggest("규칙", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 접두어로는 아무것도 돌려주지 않는다")
+    void emptyPrefix() {
+        // given
+        trie.put(1L, "게시판", 1);
+
+        // when & then
+        assertThat(trie.suggest("  ", 10)).isEmpty();
+        assertThatThrownBy(() -> new PrefixTrie(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.communityboard.autocomplete.infrastructure.persistence;
+
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSource;
+import com.example.communityboard.autocomplete.domain.repository.AutocompleteSourceRepository;
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.infrastructure.persistence.PostRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcAutocompleteSourceRepository.class, PostRepositoryImpl.class, BoardRepositoryImpl.class,
+        MemberRepositoryImpl.class, JpaConfig.class})
+class JdbcAutocompleteSourceRepositoryTest {
+
+    @Autowired
+    private AutocompleteSourceRepository autocompleteSourceRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("게시판 제목과 조회수를 id 순으로 읽는다")
+    void findBoardsAfter() {
+        // given
+        Board first = boardRepository.save(Board.create("자유게시판", null, BoardType.FREE));
+        Board second = boardRepository.save(Board.create("질문게시판", null, BoardType.FREE));
+        entityManager.flush();
+
+        // when & then
+        assertThat(autocompleteSourceRepository.findBoardsAfter(first.getId(), 10))
+                .containsExactly(new AutocompleteSource(second.getId(), "질문게시판", 0));
+    }
+
+    @Test
+    @DisplayName("회원 닉네임과 작성한 글 수를 읽는다")
+    void findMembersAfter() {
+        // given
+        Board board = boardRepository.save(Board.create("자유게시판", null, BoardType.FREE));
+        Member writer = memberRepository.save(Member.registerMember("writer01", "password123!", "작성자",
+                "writer@example.com", new BCryptPasswordEncoder()));
+        Member reader = memberRepository.save(Member.registerMember("reader01", "password123!", "독자",
+                "reader@example.com", new BCryptPasswordEncoder()));
+        postRepository.save(Post.create(board, writer, "첫 게시글", "안녕하세요"));
+        postRepository.save(Post.create(board, writer, "두 번째 게시글", "반갑습니다"));
+        entityManager.flush();
+
+        // when & then
+        assertThat(autocompleteSourceRepository.findMembersAfter(0L, 10)).containsExactly(
+                new AutocompleteSource(writer.getId(), "작성자", 2),
+                new AutocompleteSource(reader.getId(), "독자", 0));
+        assertThat(autocompleteSourceRepository.findMembersAfter(writer.getId(), 1))
+                .extracting(AutocompleteSource::id)
+                .containsExactly(reader.getId());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.communityboard.autocomplete.presentation.controller;
+
+import com.example.communityboard.autocomplete.application.dto.AutocompleteSuggestion;
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
+import com.example.communityboard.autocomplete.domain.AutocompleteType;
+import com.example.communityboard.common.config.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutocompleteController.class)
+@Import(SecurityConfig.class)
+class AutocompleteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutocompleteService autocompleteService;
+
+    @Test
+    @DisplayName("추천 목록을 순위대로 응답한다")
+    @WithMockUser
+    void suggest() throws Exception {
+        // given
+        when(autocompleteService.suggest("자유", null, 5)).thenReturn(List.of(
+                new AutocompleteSuggestion(AutocompleteType.BOARD, 2L, "자유 토론"),
+                new AutocompleteSuggestion(AutocompleteType.BOARD, 1L, "자유게시판")));
+
+        // when & then
+        mockMvc.perform(get("/api/autocomplete").param("q", "자유"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].type").value("BOARD"))
+                .andExpect(jsonPath("$.data[0].id").value(2))
+                .andExpect(jsonPath("$.data[0].text").value("자유 토론"));
+    }
+
+    @Test
+    @DisplayName("자동완성 개수가 범위를 벗어나면 400을 응답한다")
+    @WithMockUser
+    void suggestWithInvalidSize() throws Exception {
+        // given
+        when(autocompleteService.suggest("자유", null, 50))
+                .thenThrow(new IllegalArgumentException("자동완성 개수는 1 이상 10 이하여야 합니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/autocomplete").param("q", "자유").param("size", "50"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("자동완성 개수는 1 이상 10 이하여야 합니다."));
+    }
+}
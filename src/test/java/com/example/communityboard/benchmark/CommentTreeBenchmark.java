@@ -0,0 +1,163 @@
+package com.example.communityboard.benchmark;
+
+import com.example.communityboard.CommunityBoardApplication;
+import com.example.communityboard.comment.application.dto.CommentNode;
+import com.example.communityboard.comment.application.service.CommentTreeAssembler;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import com.example.communityboard.common.seed.SeedDataGenerator;
+import com.example.communityboard.common.seed.SeedDataLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class CommentTreeBenchmark {
+
+    private static final int COMMENTS = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+    private static final long POST_ID = 1L;
+
+    @Test
+    @DisplayName("1만 개 댓글 트리를 path 범위 조회 한 번으로 읽는 것과 깊이별로 나눠 읽는 것을 비교한다")
+    void compareTreeLoading() {
+        try (ConfigurableApplicationContext context = start()) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            int maxDepth = seed(context, jdbcTemplate);
+            CommentRepository commentRepository = context.getBean(CommentRepository.class);
+            NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+            Stats range = measure(() -> {
+                List<CommentRow> rows = commentRepository.findTreeSlice(POST_ID, null, COMMENTS);
+                List<CommentNode> roots = CommentTreeAssembler.assemble(rows);
+                return new Loaded(count(roots), 1);
+            });
+            Stats perLevel = measure(() -> loadLevelByLevel(jdbcTemplate, named));
+
+            System.out.printf("=== Comment tree loading (%d comments, max depth %d) ===%n", COMMENTS, maxDepth);
+            System.out.println(range.format("path range query + O(n) assembly"));
+            System.out.println(perLevel.format("one query per nesting level"));
+
+            assertThat(range.loaded()).isEqualTo(COMMENTS);
+            assertThat(perLevel.loaded()).isEqualTo(COMMENTS);
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(CommunityBoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:comment-tree;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    // 회원/게시판/게시글 하나에 댓글 1만 개. 새 댓글의 1/4은 루트, 나머지는 앞선 댓글 중 하나에 단다.
+    private int seed(ConfigurableApplicationContext context, JdbcTemplate jdbcTemplate) {
+        SeedDataLoader loader = context.getBean(SeedDataLoader.class);
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+        loader.insertMembers(generator, 1, "{noop}password", 1);
+        loader.insertBoards(generator, 1, 1);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("insert into post (id, board_id, author_id, title, content, created_at, updated_at) "
+                + "values (?, 1, 1, '벤치마크 게시글', '내용', ?, ?)", POST_ID, now, now);
+
+        SplittableRandom random = new SplittableRandom(42L);
+        String[] paths = new String[COMMENTS + 1];
+        int[] depths = new int[COMMENTS + 1];
+        int maxDepth = 0;
+        List<Object[]> rows = new ArrayList<>(COMMENTS);
+        for (int id = 1; id <= COMMENTS; id++) {
+            Long parentId = null;
+            int depth = 0;
+            String parentPath = "";
+            if (id > 1 && random.nextInt(4) != 0) {
+                int parent = 1 + random.nextInt(id - 1);
+                if (depths[parent] + 1 < CommentPath.MAX_DEPTH) {
+                    parentId = (long) parent;
+                    depth = depths[parent] + 1;
+                    parentPath = paths[parent];
+                }
+            }
+            paths[id] = CommentPath.append(parentPath, id);
+            depths[id] = depth;
+            maxDepth = Math.max(maxDepth, depth);
+            rows.add(new Object[]{id, POST_ID, 1L, parentId, depth, paths[id], "댓글 " + id, now, now});
+        }
+        jdbcTemplate.batchUpdate("insert into comment "
+                + "(id, post_id, author_id, parent_id, depth, path, content, created_at, updated_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return maxDepth;
+    }
+
+    // 비교 대상: 루트를 읽고, 이전 깊이의 id들을 부모로 하는 댓글을 깊이마다 한 번씩 다시 조회한다
+    private Loaded loadLevelByLevel(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate named) {
+        List<Long> level = jdbcTemplate.queryForList(
+                "select id from comment where post_id = ? and parent_id is null order by id", Long.class, POST_ID);
+        int loaded = level.size();
+        int queries = 1;
+        while (!level.isEmpty()) {
+            level = named.queryForList(
+                    "select id from comment where parent_id in (:parents) order by parent_id, id",
+                    new MapSqlParameterSource("parents", level), Long.class);
+            loaded += level.size();
+            queries++;
+        }
+        return new Loaded(loaded, queries);
+    }
+
+    private Stats measure(Round round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long[] nanos = new long[MEASURED_ROUNDS];
+        Loaded last = null;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            last = round.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return new Stats(last.comments(), last.queries(), nanos[nanos.length / 2], nanos[(int) (nanos.length * 0.95)]);
+    }
+
+    private int count(List<CommentNode> nodes) {
+        int total = 0;
+        for (CommentNode node : nodes) {
+            total += 1 + count(node.getReplies());
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface Round {
+        Loaded run();
+    }
+
+    private record Loaded(int comments, int queries) {
+    }
+
+    private record Stats(int loaded, int queries, long p50Nanos, long p95Nanos) {
+        String format(String name) {
+            return String.format("%-36s queries=%-3d p50=%7.2f ms  p95=%7.2f ms",
+                    name, queries, p50Nanos / 1e6, p95Nanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.communityboard.benchmark;
+
+import com.example.communityboard.CommunityBoardApplication;
+import com.example.communityboard.comment.application.service.CommentService;
+import com.example.communityboard.common.seed.SeedDataGenerator;
+import com.example.communityboard.common.seed.SeedDataLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class GroupCommitBenchmark {
+
+    private static final int THREADS = 64;
+    private static final int WARMUP_COMMENTS_PER_THREAD = 50;
+    private static final int COMMENTS_PER_THREAD = 300;
+    private static final long POST_ID = 1L;
+
+    @Test
+    @DisplayName("한 게시글에 댓글이 몰릴 때 요청마다 커밋하는 것과 그룹 커밋의 처리량을 비교한다")
+    void compareCommentInsertThroughput() throws Exception {
+        Result perRequest = run("per-request", false);
+        Result grouped = run("group-commit", true);
+
+        System.out.printf("=== Comment inserts (%d threads x %d comments, file-backed H2) ===%n",
+                THREADS, COMMENTS_PER_THREAD);
+        System.out.println(perRequest.format("transaction per request"));
+        System.out.println(grouped.format("group commit (max-batch=128, max-wait=0)"));
+
+        assertThat(perRequest.rows()).isEqualTo(grouped.rows());
+    }
+
+    private Result run(String name, boolean groupCommit) throws Exception {
+        try (ConfigurableApplicationContext context = start(name, groupCommit)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            seed(context, jdbcTemplate);
+            CommentService commentService = context.getBean(CommentService.class);
+
+            insertConcurrently(commentService, WARMUP_COMMENTS_PER_THREAD);
+            long start = System.nanoTime();
+            long[] latencies = insertConcurrently(commentService, COMMENTS_PER_THREAD);
+            long elapsed = System.nanoTime() - start;
+
+            Long rows = jdbcTemplate.queryForObject("select count(*) from comment", Long.class);
+            Arrays.sort(latencies);
+            return new Result(rows, latencies.length * 1e9 / elapsed,
+                    latencies[latencies.length / 2], latencies[(int) (latencies.length * 0.99)]);
+        }
+    }
+
+    // 커밋 비용이 보이도록 메모리 DB 대신 파일 DB를 쓴다
+    private ConfigurableApplicationContext start(String name, boolean groupCommit) throws IOException {
+        Path directory = Files.createTempDirectory("group-commit-benchmark");
+        return new SpringApplicationBuilder(CommunityBoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:file:" + directory.resolve(name) + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "app.group-commit.enabled=" + groupCommit,
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    private void seed(ConfigurableApplicationContext context, JdbcTemplate jdbcTemplate) {
+        SeedDataLoader loader = context.getBean(SeedDataLoader.class);
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+        loader.insertMembers(generator, 1, "{noop}password", 1);
+        loader.insertBoards(generator, 1, 1);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("insert into post (id, board_id, author_id, title, content, created_at, updated_at) "
+                + "values (?, 1, 1, '벤치마크 게시글', '내용', ?, ?)", POST_ID, now, now);
+    }
+
+    private long[] insertConcurrently(CommentService commentService, int perThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        long start = System.nanoTime();
+                        commentService.createComment(POST_ID, 1L, null, "댓글 " + i);
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] all = new long[THREADS * perThread];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            return all;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private record Result(long rows, double perSecond, long p50Nanos, long p99Nanos) {
+        String format(String name) {
+            return String.format("%-42s %8.0f inserts/s  p50=%7.2f ms  p99=%7.2f ms",
+                    name, perSecond, p50Nanos / 1e6, p99Nanos / 1e6);
+        }
+    }
+}
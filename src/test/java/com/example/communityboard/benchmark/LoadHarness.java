@@ -0,0 +1,113 @@
+package com.example.communityboard.benchmark;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+// 고정된 수의 가상 사용자가 쉬지 않고 요청을 보내는 closed-loop 부하 생성기.
+// 클라이언트 쪽이 병목이 되지 않도록 가상 스레드로 요청을 보낸다.
+public final class LoadHarness {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public Result run(String name, int concurrency, Duration warmup, Duration duration,
+                      LongFunction<HttpRequest> requestFactory) {
+        AtomicLong sequence = new AtomicLong();
+        drive(concurrency, warmup, requestFactory, sequence);
+        List<Samples> samples = drive(concurrency, duration, requestFactory, sequence);
+
+        long errors = samples.stream().mapToLong(s -> s.errors).sum();
+        long[] latencies = merge(samples);
+        Arrays.sort(latencies);
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        return new Result(name, concurrency, latencies.length, errors, latencies.length / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1]);
+    }
+
+    private List<Samples> drive(int concurrency, Duration duration, LongFunction<HttpRequest> requestFactory,
+                                AtomicLong sequence) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Samples>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(users.submit(() -> {
+                    Samples samples = new Samples();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = requestFactory.apply(sequence.getAndIncrement());
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            samples.record((System.nanoTime() - started) / 1_000, response.statusCode() / 100 == 2);
+                        } catch (IOException e) {
+                            samples.record((System.nanoTime() - started) / 1_000, false);
+                        }
+                    }
+                    return samples;
+                }));
+            }
+        }
+        List<Samples> result = new ArrayList<>(concurrency);
+        for (Future<Samples> future : futures) {
+            result.add(future.resultNow());
+        }
+        return result;
+    }
+
+    private static long[] merge(List<Samples> samples) {
+        long[] merged = new long[samples.stream().mapToInt(s -> s.size).sum()];
+        int offset = 0;
+        for (Samples s : samples) {
+            System.arraycopy(s.latencies, 0, merged, offset, s.size);
+            offset += s.size;
+        }
+        return merged;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        private void record(long latencyMicros, boolean success) {
+            if (!success) {
+                errors++;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyMicros;
+        }
+    }
+
+    public record Result(String name, int concurrency, long requests, long errors, double throughput,
+                         long p50Micros, long p99Micros, long maxMicros) {
+
+        public String format() {
+            return String.format("%-28s c=%-4d req=%-8d err=%-6d %10.1f req/s  p50=%7.2f ms  p99=%7.2f ms  max=%8.2f ms",
+                    name, concurrency, requests, errors, throughput,
+                    p50Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.communityboard.benchmark;
+
+import com.example.communityboard.CommunityBoardApplication;
+import com.example.communityboard.common.datasource.ConcurrencyLimitedDataSource;
+import com.example.communityboard.common.seed.SeedDataGenerator;
+import com.example.communityboard.common.seed.SeedDataLoader;
+import com.example.communityboard.common.thread.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class ThreadingModeBenchmark {
+
+    private static final int MEMBERS = 500;
+    private static final int BOARDS = 5_000;
+    private static final String PASSWORD = "password123!";
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofSeconds(20);
+
+    private final LoadHarness harness = new LoadHarness();
+
+    @Test
+    @DisplayName("플랫폼 스레드 모드와 가상 스레드 모드의 처리량과 지연 시간을 비교한다")
+    void compareThreadingModes() {
+        List<LoadHarness.Result> results = new ArrayList<>();
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = start(mode, virtual)) {
+                SeedDataGenerator generator = new SeedDataGenerator(42L);
+                seed(context, generator);
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+                // DB 조회 위주 (커넥션 풀이 병목)
+                results.add(harness.run(mode + " GET /api/boards/{id}", 400, WARMUP, DURATION,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/boards/" + (seq % BOARDS + 1)))
+                                .GET()
+                                .build()));
+                // BCrypt 위주 (CPU가 병목)
+                results.add(harness.run(mode + " POST /api/members/login", 64, WARMUP, DURATION,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/members/login"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(loginBody(generator, seq % MEMBERS)))
+                                .build()));
+
+                if (virtual) {
+                    report(context);
+                }
+            }
+        }
+
+        System.out.println("=== Threading mode comparison ===");
+        results.forEach(result -> System.out.println(result.format()));
+        assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+    }
+
+    private ConfigurableApplicationContext start(String mode, boolean virtual) {
+        return new SpringApplicationBuilder(CommunityBoardApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:threading-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    private void seed(ConfigurableApplicationContext context, SeedDataGenerator generator) {
+        SeedDataLoader loader = context.getBean(SeedDataLoader.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        loader.insertMembers(generator, MEMBERS, encodedPassword, 500);
+        loader.insertBoards(generator, BOARDS, 1_000);
+    }
+
+    private String loginBody(SeedDataGenerator generator, long index) {
+        return "{\"loginId\":\"" + generator.member(index).loginId() + "\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private void report(ConfigurableApplicationContext context) {
+        DataSource dataSource = context.getBean(DataSource.class);
+        if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+            System.out.printf("connection limiter: max=%d waits=%d timeouts=%d%n",
+                    limited.getMaxConcurrency(), limited.getWaitCount(), limited.getTimeoutCount());
+        }
+        context.getBeanProvider(VirtualThreadPinningMonitor.class).ifAvailable(monitor ->
+                System.out.printf("pinned virtual threads: %d %s%n", monitor.getPinnedCount(), monitor.snapshot()));
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.communityboard.board.application.service;
 
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
 import com.example.communityboard.board.domain.entity.Board;
 import com.example.communityboard.board.domain.entity.BoardType;
 import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.search.application.service.SearchIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,12 @@ class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
     @InjectMocks
     private BoardService boardService;
 
@@ -63,6 +71,8 @@ class BoardServiceTest {
         assertThat(result.getBoardType()).isEqualTo(boardType);
 
         verify(boardRepository).save(any(Board.class));
+        verify(searchIndexService).indexBoardAfterCommit(savedBoard);
+        verify(autocompleteService).putBoardAfterCommit(savedBoard);
     }
 
     @Test
@@ -137,6 +147,8 @@ class BoardServiceTest {
         verify(existingBoard).updateBoardInfo(newTitle, newDescription);
         verify(boardRepository).findById(boardId);
         verify(boardRepository).save(existingBoard);
+        verify(searchIndexService).indexBoardAfterCommit(existingBoard);
+        verify(autocompleteService).putBoardAfterCommit(existingBoard);
     }
 
     @Test
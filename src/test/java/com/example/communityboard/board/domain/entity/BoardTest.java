@@ -1,11 +1,15 @@
 package com.example.communityboard.board.domain.entity;
 
+import com.example.communityboard.moderation.domain.AhoCorasickMatcher;
+import com.example.communityboard.moderation.domain.ContentFilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 class BoardTest {
@@ -138,4 +142,23 @@ class BoardTest {
             assertThat(board.getBoardType()).isEqualTo(type);
         }
     }
+
+    @Test
+    @DisplayName("금칙어가 들어간 제목으로 생성하거나 수정하면 예외가 발생한다")
+    void createBoardWithBannedTerm() {
+        // given
+        Board board = Board.create("자유게시판", "설명", BoardType.FREE);
+        ContentFilter.install(AhoCorasickMatcher.compile(List.of("지랄")));
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> Board.create("지 랄 게시판", "설명", BoardType.FREE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("제목에 사용할 수 없는 단어가 포함되어 있습니다.");
+            assertThatThrownBy(() -> board.updateBoardInfo("ㅈㅣ랄 게시판", "설명"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            ContentFilter.install(AhoCorasickMatcher.EMPTY);
+        }
+    }
 }
\ No newline at end of file
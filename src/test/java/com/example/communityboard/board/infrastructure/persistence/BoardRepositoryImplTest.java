@@ -92,6 +92,21 @@ class BoardRepositoryImplTest {
                 .containsExactlyInAnyOrder("테스트 게시판", "공지사항", "QnA");
     }
 
+    @Test
+    @DisplayName("여러 id의 게시판을 한 번에 조회하고 없는 id는 건너뛴다")
+    void findAllByIds() {
+        // given
+        Board notice = boardRepository.save(Board.create("공지사항", "공지사항 게시판", BoardType.NOTICE));
+
+        // when
+        List<Board> result = boardRepository.findAllByIds(List.of(savedBoard.getId(), notice.getId(), 999L));
+
+        // then
+        assertThat(result).extracting("title")
+                .containsExactlyInAnyOrder("테스트 게시판", "공지사항");
+        assertThat(boardRepository.findAllByIds(List.of())).isEmpty();
+    }
+
     @Test
     @DisplayName("게시판 정보를 수정할 수 있다")
     void update() {
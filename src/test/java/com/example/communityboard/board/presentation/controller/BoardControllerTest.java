@@ -6,6 +6,10 @@ import com.example.communityboard.board.application.service.BoardService;
 import com.example.communityboard.board.domain.entity.Board;
 import com.example.communityboard.board.domain.entity.BoardType;
 import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.trending.application.service.TrendingService;
+import com.example.communityboard.viewcount.application.service.ViewCountService;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.application.service.VisitorService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +26,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -41,6 +46,15 @@ class BoardControllerTest {
     @MockBean
     private BoardService boardService;
 
+    @MockBean
+    private ViewCountService viewCountService;
+
+    @MockBean
+    private VisitorService visitorService;
+
+    @MockBean
+    private TrendingService trendingService;
+
     private Board testBoard;
 
     @BeforeEach
@@ -118,6 +132,8 @@ class BoardControllerTest {
                 .andExpect(jsonPath("$.data.title").value("테스트 게시판"))
                 .andExpect(jsonPath("$.data.description").value("테스트 설명"))
                 .andExpect(jsonPath("$.data.boardType").value("FREE"));
+        verify(visitorService).recordVisit(ViewTarget.BOARD, boardId, "member:user");
+        verify(trendingService).recordBoardRead(boardId);
     }
 
     @Test
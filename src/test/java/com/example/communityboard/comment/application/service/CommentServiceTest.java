@@ -0,0 +1,165 @@
+package com.example.communityboard.comment.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.comment.application.dto.CommentPage;
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private HotPostRankingService hotPostRankingService;
+
+    @Mock
+    private CommentWriter commentWriter;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private Board board;
+    private Post post;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        ReflectionTestUtils.setField(board, "id", 3L);
+        author = Member.registerMember("writer01", "password123!", "작성자", "writer@example.com",
+                new BCryptPasswordEncoder());
+        post = Post.create(board, author, "첫 게시글", "안녕하세요");
+        ReflectionTestUtils.setField(post, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("댓글을 작성하면 저장 결과를 돌려주고 인기 점수에 반영된다")
+    void createComment() {
+        // given
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+        CommentRow saved = new CommentRow(100L, null, 1L, "첫 댓글", 0, CommentPath.segment(100L), LocalDateTime.now(),
+                "작성자");
+        when(commentWriter.write(any(Comment.class))).thenReturn(saved);
+
+        // when
+        CommentRow result = commentService.createComment(10L, 1L, null, "첫 댓글");
+
+        // then
+        assertThat(result).isEqualTo(saved);
+        verify(hotPostRankingService).record(3L, 10L, HotScoreEvent.COMMENT);
+    }
+
+    @Test
+    @DisplayName("답글은 부모 댓글 아래에 달린다")
+    void createReply() {
+        // given
+        Comment parent = Comment.create(post, author, "첫 댓글");
+        ReflectionTestUtils.setField(parent, "id", 100L);
+        parent.assignPath();
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent));
+        ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+
+        // when
+        commentService.createComment(10L, 1L, 100L, "답글");
+
+        // then
+        verify(commentWriter).write(captor.capture());
+        Comment reply = captor.getValue();
+        assertThat(reply.getParentId()).isEqualTo(100L);
+        assertThat(reply.getDepth()).isEqualTo(1);
+        assertThat(reply.getPath()).isEqualTo(CommentPath.segment(100L));
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 댓글에는 답글을 달 수 없다")
+    void replyToOtherPost() {
+        // given
+        Post otherPost = Post.create(board, author, "다른 게시글", "내용");
+        ReflectionTestUtils.setField(otherPost, "id", 11L);
+        Comment parent = Comment.create(otherPost, author, "다른 글의 댓글");
+        ReflectionTestUtils.setField(parent, "id", 100L);
+        parent.assignPath();
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent));
+
+        // when & then
+        assertThatThrownBy(() -> commentService.createComment(10L, 1L, 100L, "답글"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("다른 게시글의 댓글에는 답글을 달 수 없습니다.");
+        verify(commentWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 행의 경로를 커서로 준다")
+    void getCommentsWithNextPage() {
+        // given
+        List<CommentRow> rows = List.of(row(1L, null, ""), row(2L, 1L, CommentPath.segment(1L)), row(3L, null, ""));
+        when(commentRepository.findTreeSlice(eq(10L), isNull(), eq(3))).thenReturn(rows);
+
+        // when
+        CommentPage page = commentService.getComments(10L, null, 2);
+
+        // then
+        assertThat(page.comments()).hasSize(1);
+        assertThat(page.comments().get(0).getReplies()).hasSize(1);
+        assertThat(page.nextCursor()).isEqualTo(rows.get(1).path());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 페이지 크기는 예외가 발생한다")
+    void getCommentsInvalidArguments() {
+        assertThatThrownBy(() -> commentService.getComments(10L, "not-a-path", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> commentService.getComments(10L, null, CommentService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(commentRepository);
+    }
+
+    private CommentRow row(Long id, Long parentId, String parentPath) {
+        return new CommentRow(id, parentId, 1L, "댓글 " + id, parentPath.length() / CommentPath.SEGMENT_LENGTH,
+                CommentPath.append(parentPath, id), LocalDateTime.of(2025, 3, 1, 12, 0), "작성자");
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.communityboard.comment.application.service;
+
+import com.example.communityboard.comment.application.dto.CommentNode;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeAssemblerTest {
+
+    @Test
+    @DisplayName("path 순서의 행을 한 번 순회해 트리로 만든다")
+    void assemble() {
+        // given
+        // 1
+        // ├─ 2
+        // │  └─ 4
+        // └─ 5
+        // 3
+        List<CommentRow> rows = List.of(
+                row(1L, null, ""),
+                row(2L, 1L, path(1L)),
+                row(4L, 2L, path(1L, 2L)),
+                row(5L, 1L, path(1L)),
+                row(3L, null, ""));
+
+        // when
+        List<CommentNode> roots = CommentTreeAssembler.assemble(rows);
+
+        // then
+        assertThat(roots).extracting(node -> node.getComment().id()).containsExactly(1L, 3L);
+        CommentNode first = roots.get(0);
+        assertThat(first.getReplies()).extracting(node -> node.getComment().id()).containsExactly(2L, 5L);
+        assertThat(first.getReplies().get(0).getReplies())
+                .extracting(node -> node.getComment().id()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("부모가 이전 페이지에 있는 답글은 최상위에 둔다")
+    void orphanRepliesBecomeRoots() {
+        // given
+        List<CommentRow> rows = List.of(
+                row(4L, 2L, path(1L, 2L)),
+                row(5L, 1L, path(1L)),
+                row(6L, 5L, path(1L, 5L)));
+
+        // when
+        List<CommentNode> roots = CommentTreeAssembler.assemble(rows);
+
+        // then
+        assertThat(roots).extracting(node -> node.getComment().id()).containsExactly(4L, 5L);
+        assertThat(roots.get(1).getReplies()).extracting(node -> node.getComment().id()).containsExactly(6L);
+    }
+
+    private CommentRow row(Long id, Long parentId, String parentPath) {
+        int depth = parentPath.length() / CommentPath.SEGMENT_LENGTH;
+        return new CommentRow(id, parentId, 1L, "댓글 " + id, depth, CommentPath.append(parentPath, id),
+                LocalDateTime.of(2025, 3, 1, 12, 0), "작성자");
+    }
+
+    private String path(Long... ids) {
+        StringBuilder path = new StringBuilder();
+        for (Long id : ids) {
+            path.append(CommentPath.segment(id));
+        }
+        return path.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.communityboard.comment.domain.entity;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.post.domain.entity.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentTest {
+
+    private Post post;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        Board board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        author = Member.registerMember("writer01", "password123!", "작성자", "writer@example.com",
+                new BCryptPasswordEncoder());
+        post = Post.create(board, author, "첫 게시글", "안녕하세요");
+    }
+
+    @Test
+    @DisplayName("댓글은 저장 후 자기 id로 경로가 정해진다")
+    void createRoot() {
+        // given
+        Comment comment = Comment.create(post, author, "첫 댓글");
+
+        // when
+        ReflectionTestUtils.setField(comment, "id", 7L);
+        comment.assignPath();
+
+        // then
+        assertThat(comment.getDepth()).isZero();
+        assertThat(comment.getParentId()).isNull();
+        assertThat(comment.getPath()).isEqualTo(CommentPath.segment(7L));
+    }
+
+    @Test
+    @DisplayName("답글은 부모 경로 뒤에 자기 구간을 붙인다")
+    void reply() {
+        // given
+        Comment parent = saved(Comment.create(post, author, "첫 댓글"), 7L);
+
+        // when
+        Comment reply = Comment.reply(parent, author, "답글");
+        ReflectionTestUtils.setField(reply, "id", 9L);
+        reply.assignPath();
+
+        // then
+        assertThat(reply.getPost()).isEqualTo(post);
+        assertThat(reply.getParentId()).isEqualTo(7L);
+        assertThat(reply.getDepth()).isEqualTo(1);
+        assertThat(reply.getPath()).isEqualTo(CommentPath.segment(7L) + CommentPath.segment(9L));
+    }
+
+    @Test
+    @DisplayName("경로는 한 번만 붙는다")
+    void assignPathIdempotent() {
+        // given
+        Comment comment = saved(Comment.create(post, author, "첫 댓글"), 7L);
+
+        // when
+        comment.assignPath();
+
+        // then
+        assertThat(comment.getPath()).isEqualTo(CommentPath.segment(7L));
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 댓글에는 답글을 달 수 없다")
+    void replyToUnsaved() {
+        Comment parent = Comment.create(post, author, "첫 댓글");
+
+        assertThatThrownBy(() -> Comment.reply(parent, author, "답글"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("저장되지 않은 댓글에는 답글을 달 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("최대 깊이를 넘는 답글은 달 수 없다")
+    void maxDepth() {
+        // given
+        Comment current = saved(Comment.create(post, author, "루트"), 1L);
+        for (long id = 2; id <= CommentPath.MAX_DEPTH; id++) {
+            current = saved(Comment.reply(current, author, "답글 " + id), id);
+        }
+        Comment deepest = current;
+
+        // when & then
+        assertThat(deepest.getDepth()).isEqualTo(CommentPath.MAX_DEPTH - 1);
+        assertThatThrownBy(() -> Comment.reply(deepest, author, "너무 깊은 답글"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("내용이 비어 있거나 너무 길면 예외가 발생한다")
+    void invalidContent() {
+        assertThatThrownBy(() -> Comment.create(post, author, " "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("내용은 공백이 불가합니다.");
+        assertThatThrownBy(() -> Comment.create(post, author, "가".repeat(1001)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("댓글은 1000자를 초과할 수 없습니다.");
+    }
+
+    private Comment saved(Comment comment, long id) {
+        ReflectionTestUtils.setField(comment, "id", id);
+        comment.assignPath();
+        return comment;
+    }
+}
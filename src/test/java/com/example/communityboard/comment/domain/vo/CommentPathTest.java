@@ -0,0 +1,66 @@
+package com.example.communityboard.comment.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentPathTest {
+
+    @Test
+    @DisplayName("id를 고정 길이 base36 구간으로 만든다")
+    void segment() {
+        assertThat(CommentPath.segment(35L)).isEqualTo("0000000z");
+        assertThat(CommentPath.segment(36L)).isEqualTo("00000010");
+        assertThat(CommentPath.segment(35L)).hasSize(CommentPath.SEGMENT_LENGTH);
+    }
+
+    @Test
+    @DisplayName("구간 문자열 순서가 id 숫자 순서와 같다")
+    void segmentOrderMatchesIdOrder() {
+        // given
+        List<Long> ids = List.of(1L, 9L, 10L, 35L, 36L, 1_295L, 1_296L, 99_999_999L);
+
+        // when
+        List<String> segments = new ArrayList<>(ids.stream().map(CommentPath::segment).toList());
+        segments.sort(null);
+
+        // then
+        assertThat(segments).containsExactlyElementsOf(ids.stream().map(CommentPath::segment).toList());
+    }
+
+    @Test
+    @DisplayName("자식 경로는 부모 경로 뒤, 부모의 다음 형제보다 앞에 정렬된다")
+    void childSortsBetweenParentAndNextSibling() {
+        // given
+        String parent = CommentPath.append("", 5L);
+        String child = CommentPath.append(parent, 100L);
+        String nextSibling = CommentPath.append("", 6L);
+
+        // then
+        assertThat(parent.compareTo(child)).isNegative();
+        assertThat(child.compareTo(nextSibling)).isNegative();
+    }
+
+    @Test
+    @DisplayName("표현할 수 없는 id는 예외가 발생한다")
+    void segmentOutOfRange() {
+        assertThatThrownBy(() -> CommentPath.segment(-1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentPath.segment(2_821_109_907_456L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("경로 형식을 검증한다")
+    void isValid() {
+        assertThat(CommentPath.isValid("0000000a00000010")).isTrue();
+        assertThat(CommentPath.isValid("")).isFalse();
+        assertThat(CommentPath.isValid(null)).isFalse();
+        assertThat(CommentPath.isValid("0000000")).isFalse();
+        assertThat(CommentPath.isValid("0000000A")).isFalse();
+        assertThat(CommentPath.isValid("0".repeat(CommentPath.MAX_LENGTH + CommentPath.SEGMENT_LENGTH))).isFalse();
+    }
+}
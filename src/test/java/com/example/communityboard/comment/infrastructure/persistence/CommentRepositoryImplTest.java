@@ -0,0 +1,120 @@
+package com.example.communityboard.comment.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.infrastructure.persistence.PostRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CommentRepositoryImpl.class, PostRepositoryImpl.class, BoardRepositoryImpl.class,
+        MemberRepositoryImpl.class, JpaConfig.class})
+class CommentRepositoryImplTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Post post;
+    private Post otherPost;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        Board board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        author = memberRepository.save(Member.registerMember("writer01", "password123!", "작성자",
+                "writer@example.com", new BCryptPasswordEncoder()));
+        post = postRepository.save(Post.create(board, author, "첫 게시글", "안녕하세요"));
+        otherPost = postRepository.save(Post.create(board, author, "다른 게시글", "안녕하세요"));
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 트리를 전위 순회 순서로 읽는다")
+    void findTreeSliceInPreOrder() {
+        // given
+        Comment first = save(Comment.create(post, author, "첫 댓글"));
+        Comment second = save(Comment.create(post, author, "두 번째 댓글"));
+        Comment reply = save(Comment.reply(first, author, "첫 댓글의 답글"));
+        Comment nested = save(Comment.reply(reply, author, "답글의 답글"));
+        Comment secondReply = save(Comment.reply(second, author, "두 번째 댓글의 답글"));
+        save(Comment.create(otherPost, author, "다른 게시글 댓글"));
+        entityManager.flush();
+
+        // when
+        List<CommentRow> rows = commentRepository.findTreeSlice(post.getId(), null, 100);
+
+        // then
+        assertThat(rows).extracting(CommentRow::id).containsExactly(
+                first.getId(), reply.getId(), nested.getId(), second.getId(), secondReply.getId());
+        assertThat(rows).extracting(CommentRow::depth).containsExactly(0, 1, 2, 0, 1);
+    }
+
+    @Test
+    @DisplayName("마지막 경로 이후부터 이어 읽으면 빠짐없이 중복 없이 모두 읽는다")
+    void pageThroughTree() {
+        // given
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Comment root = save(Comment.create(post, author, "댓글 " + i));
+            expected.add(root.getId());
+            for (int j = 0; j < 2; j++) {
+                expected.add(save(Comment.reply(root, author, "답글 " + i + "-" + j)).getId());
+            }
+        }
+        entityManager.flush();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        String after = null;
+        while (true) {
+            List<CommentRow> page = commentRepository.findTreeSlice(post.getId(), after, 4);
+            page.forEach(row -> actual.add(row.id()));
+            if (page.size() < 4) {
+                break;
+            }
+            after = page.get(page.size() - 1).path();
+        }
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    private Comment save(Comment comment) {
+        Comment saved = commentRepository.save(comment);
+        saved.assignPath();
+        return saved;
+    }
+}
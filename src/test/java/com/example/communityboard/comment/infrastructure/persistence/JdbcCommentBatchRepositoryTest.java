@@ -0,0 +1,82 @@
+package com.example.communityboard.comment.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentBatchRepository;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.infrastructure.persistence.PostRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcCommentBatchRepository.class, CommentRepositoryImpl.class, PostRepositoryImpl.class,
+        BoardRepositoryImpl.class, MemberRepositoryImpl.class, JpaConfig.class})
+class JdbcCommentBatchRepositoryTest {
+
+    @Autowired
+    private CommentBatchRepository commentBatchRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("댓글과 답글을 한 번에 넣고 id로 경로를 채운다")
+    void insertAll() {
+        // given
+        Board board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        Member author = memberRepository.save(Member.registerMember("writer01", "password123!", "작성자",
+                "writer@example.com", new BCryptPasswordEncoder()));
+        Post post = postRepository.save(Post.create(board, author, "첫 게시글", "안녕하세요"));
+        Comment parent = commentRepository.save(Comment.create(post, author, "첫 댓글"));
+        parent.assignPath();
+        entityManager.flush();
+
+        // when
+        List<CommentRow> rows = commentBatchRepository.insertAll(List.of(
+                Comment.create(post, author, "두 번째 댓글"),
+                Comment.reply(parent, author, "첫 댓글의 답글")));
+        entityManager.clear();
+
+        // then
+        CommentRow root = rows.get(0);
+        CommentRow reply = rows.get(1);
+        assertThat(root.path()).isEqualTo(CommentPath.segment(root.id()));
+        assertThat(reply.parentId()).isEqualTo(parent.getId());
+        assertThat(reply.path()).isEqualTo(parent.getPath() + CommentPath.segment(reply.id()));
+        assertThat(commentRepository.findTreeSlice(post.getId(), null, 10))
+                .extracting(CommentRow::content)
+                .containsExactly("첫 댓글", "첫 댓글의 답글", "두 번째 댓글");
+    }
+}
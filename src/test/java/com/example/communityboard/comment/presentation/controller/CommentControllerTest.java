@@ -0,0 +1,110 @@
+package com.example.communityboard.comment.presentation.controller;
+
+import com.example.communityboard.comment.application.dto.CommentPage;
+import com.example.communityboard.comment.application.dto.request.CreateCommentRequest;
+import com.example.communityboard.comment.application.service.CommentService;
+import com.example.communityboard.comment.application.service.CommentTreeAssembler;
+import com.example.communityboard.comment.domain.repository.CommentRow;
+import com.example.communityboard.comment.domain.vo.CommentPath;
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CommentController.class)
+@Import(SecurityConfig.class)
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CommentService commentService;
+
+    @MockBean
+    private AuthorLoader authorLoader;
+
+    @Test
+    @DisplayName("댓글을 작성한다")
+    @WithMockUser
+    void createComment() throws Exception {
+        // given
+        CreateCommentRequest request = new CreateCommentRequest(1L, null, "첫 댓글");
+        when(commentService.createComment(eq(10L), eq(1L), isNull(), anyString()))
+                .thenReturn(new CommentRow(100L, null, 1L, "첫 댓글", 0, CommentPath.segment(100L), LocalDateTime.now(),
+                        "작성자"));
+
+        // when & then
+        mockMvc.perform(post("/api/posts/10/comments")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.content").value("첫 댓글"))
+                .andExpect(jsonPath("$.data.depth").value(0))
+                .andExpect(jsonPath("$.message").value("댓글이 작성되었습니다."));
+    }
+
+    @Test
+    @DisplayName("내용이 없으면 댓글 작성에 실패한다")
+    @WithMockUser
+    void createCommentWithoutContent() throws Exception {
+        // given
+        CreateCommentRequest request = new CreateCommentRequest(1L, null, "");
+
+        // when & then
+        mockMvc.perform(post("/api/posts/10/comments")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("댓글을 트리 형태로 조회한다")
+    @WithMockUser
+    void getComments() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        String rootPath = CommentPath.segment(1L);
+        List<CommentRow> rows = List.of(
+                new CommentRow(1L, null, 1L, "첫 댓글", 0, rootPath, createdAt, "작성자"),
+                new CommentRow(2L, 1L, 2L, "답글", 1, CommentPath.append(rootPath, 2L), createdAt, "답글러"));
+        when(commentService.getComments(10L, null, 100))
+                .thenReturn(new CommentPage(CommentTreeAssembler.assemble(rows), null));
+        when(authorLoader.nicknameOf(1L, "작성자")).thenReturn("작성자");
+        when(authorLoader.nicknameOf(2L, "답글러")).thenReturn("답글러");
+
+        // when & then
+        mockMvc.perform(get("/api/posts/10/comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.comments.length()").value(1))
+                .andExpect(jsonPath("$.data.comments[0].id").value(1))
+                .andExpect(jsonPath("$.data.comments[0].replies[0].id").value(2))
+                .andExpect(jsonPath("$.data.comments[0].authorNickname").value("작성자"))
+                .andExpect(jsonPath("$.data.comments[0].replies[0].parentId").value(1))
+                .andExpect(jsonPath("$.data.comments[0].replies[0].authorNickname").value("답글러"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+}
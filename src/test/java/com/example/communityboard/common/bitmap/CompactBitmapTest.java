@@ -0,0 +1,161 @@
+package com.example.communityboard.common.bitmap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactBitmapTest {
+
+    @Test
+    @DisplayName("이미 있는 값을 넣거나 없는 값을 빼면 아무것도 바뀌지 않는다")
+    void addAndRemoveAreIdempotent() {
+        // given
+        CompactBitmap bitmap = new CompactBitmap();
+
+        // when & then
+        assertThat(bitmap.add(7L)).isTrue();
+        assertThat(bitmap.add(7L)).isFalse();
+        assertThat(bitmap.contains(7L)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(1L);
+
+        assertThat(bitmap.remove(7L)).isTrue();
+        assertThat(bitmap.remove(7L)).isFalse();
+        assertThat(bitmap.contains(7L)).isFalse();
+        assertThat(bitmap.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간이 다른 값도 오름차순으로 순회한다")
+    void forEachInAscendingOrder() {
+        // given
+        CompactBitmap bitmap = CompactBitmap.of(List.of(1L << 40, 70_000L, 3L, 65_536L, 65_535L));
+
+        // when
+        List<Long> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+
+        // then
+        assertThat(values).containsExactly(3L, 65_535L, 65_536L, 70_000L, 1L << 40);
+    }
+
+    @Test
+    @DisplayName("원소가 많아지면 비트맵으로, 다시 줄어들면 배열로 바꿔도 같은 집합을 유지한다")
+    void convertsContainersBothWays() {
+        // given
+        CompactBitmap bitmap = new CompactBitmap();
+        for (long value = 0; value < 10_000; value++) {
+            bitmap.add(value * 2);
+        }
+
+        // when
+        for (long value = 0; value < 9_000; value++) {
+            bitmap.remove(value * 2);
+        }
+
+        // then
+        assertThat(bitmap.cardinality()).isEqualTo(1_000L);
+        assertThat(bitmap.contains(17_998L)).isFalse();
+        assertThat(bitmap.contains(18_000L)).isTrue();
+        assertThat(bitmap.contains(18_001L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위로 넣고 빼도 TreeSet과 같은 결과를 낸다")
+    void matchesTreeSet() {
+        // given
+        Random random = new Random(42L);
+        CompactBitmap bitmap = new CompactBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            long value = random.nextInt(300_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(bitmap.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(bitmap.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        // then
+        List<Long> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        assertThat(values).containsExactlyElementsOf(expected);
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("희소한 집합은 원소당 몇 바이트만 차지한다")
+    void sparseSetIsSmall() {
+        // given
+        CompactBitmap bitmap = new CompactBitmap();
+
+        // when
+        for (long value = 1; value <= 1_000; value++) {
+            bitmap.add(value * 37);
+        }
+
+        // then
+        assertThat(bitmap.sizeInBytes()).isLessThan(4_000L);
+    }
+
+    @Test
+    @DisplayName("바이트로 바꿨다가 되살려도 배열/비트맵 구간 모두 같은 집합이다")
+    void roundTripsThroughBytes() {
+        // given
+        CompactBitmap bitmap = new CompactBitmap();
+        for (long value = 0; value < 5_000; value++) {
+            bitmap.add(value);
+        }
+        bitmap.add(70_000L);
+        bitmap.add(1L << 40);
+
+        // when
+        CompactBitmap restored = CompactBitmap.fromBytes(bitmap.toBytes());
+
+        // then
+        List<Long> expected = new ArrayList<>();
+        bitmap.forEach(expected::add);
+        List<Long> actual = new ArrayList<>();
+        restored.forEach(actual::add);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(restored.cardinality()).isEqualTo(5_002L);
+        assertThat(restored.add(5_000L)).isTrue();
+        assertThat(restored.remove(0L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 바이트는 되살리지 않는다")
+    void rejectsMalformedBytes() {
+        // given
+        byte[] bytes = CompactBitmap.of(List.of(3L, 70_000L)).toBytes();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        // when & then
+        assertThatThrownBy(() -> CompactBitmap.fromBytes(truncated))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("비트맵 형식이 올바르지 않습니다.");
+        assertThat(CompactBitmap.fromBytes(new CompactBitmap().toBytes()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("음수는 넣을 수 없다")
+    void rejectsNegative() {
+        // given
+        CompactBitmap bitmap = new CompactBitmap();
+
+        // when & then
+        assertThatThrownBy(() -> bitmap.add(-1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("음수는 담을 수 없습니다: -1");
+        assertThat(bitmap.contains(-1L)).isFalse();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.communityboard.common.config;
+
+import com.example.communityboard.board.application.service.BoardService;
+import com.example.communityboard.board.presentation.controller.BoardController;
+import com.example.communityboard.common.datasource.ReplicaHealthChecker;
+import com.example.communityboard.common.seed.SeedRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = StartupConfig.requestCriticalBeans();
+
+    @Test
+    @DisplayName("요청 처리 경로의 빈은 지연 초기화에서 제외된다")
+    void requestCriticalBeansAreEager() {
+        assertThat(filter.isExcluded("boardController", null, BoardController.class)).isTrue();
+        assertThat(filter.isExcluded("boardService", null, BoardService.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("@Scheduled 메서드가 있는 빈은 지연 초기화에서 제외된다")
+    void scheduledBeansAreEager() {
+        assertThat(filter.isExcluded("replicaHealthChecker", null, ReplicaHealthChecker.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("그 밖의 빈은 지연 초기화된다")
+    void otherBeansAreLazy() {
+        assertThat(filter.isExcluded("seedRunner", null, SeedRunner.class)).isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.communityboard.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("최대 동시성만큼 커넥션을 빌려가면 다음 요청은 제한 시간 후 실패한다")
+    void limitsConcurrentCheckouts() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getActiveCount()).isEqualTo(2);
+        assertThat(dataSource.getTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가가 반납되고 중복 close는 한 번만 반납한다")
+    void releasesPermitOnClose() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when
+        first.close();
+        first.close();
+
+        // then
+        assertThat(dataSource.getActiveCount()).isEqualTo(1);
+        verify(connection, times(1)).close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("대상 풀에서 커넥션을 얻지 못하면 허가를 반납한다")
+    void releasesPermitWhenTargetFails() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getActiveCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반환된 커넥션에서 원본 커넥션을 꺼낼 수 있다")
+    void exposesTargetConnection() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        // when
+        Connection limited = dataSource.getConnection();
+
+        // then
+        assertThat(limited).isInstanceOf(ConnectionProxy.class);
+        assertThat(((ConnectionProxy) limited).getTargetConnection()).isSameAs(connection);
+    }
+}
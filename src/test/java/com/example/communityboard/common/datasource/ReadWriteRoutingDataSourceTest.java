@@ -0,0 +1,155 @@
+package com.example.communityboard.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 서로 다른 두 개의 H2 인메모리 DB를 primary/replica로 두고 실제 트랜잭션 경로로 라우팅을 검증한다
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReadYourWritesTracker tracker;
+    private AtomicReference<String> requester;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary");
+        replica = h2("routing-replica");
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        requester = new AtomicReference<>();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica로, 쓰기 트랜잭션은 primary로 라우팅된다")
+    void routesByReadOnlyFlag() {
+        // given
+        useRouting(healthyReplicaChecker());
+
+        // when
+        String written = writeTransaction.execute(status -> currentDatabase());
+        String read = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(written).isEqualTo("primary");
+        assertThat(read).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 회원의 읽기는 고정 시간 동안 primary로 라우팅된다")
+    void readYourWrites() {
+        // given
+        useRouting(healthyReplicaChecker());
+        requester.set("member:tester");
+        writeTransaction.executeWithoutResult(status -> currentDatabase());
+
+        // when
+        String ownRead = readOnlyTransaction.execute(status -> currentDatabase());
+        requester.set("member:other");
+        String otherRead = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(ownRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 읽기 고정을 남기지 않는다")
+    void rollbackDoesNotStick() {
+        // given
+        useRouting(healthyReplicaChecker());
+        requester.set("member:tester");
+        writeTransaction.executeWithoutResult(status -> {
+            currentDatabase();
+            status.setRollbackOnly();
+        });
+
+        // when
+        String read = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(read).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 상태 확인에 실패하면 읽기 전용 트랜잭션도 primary로 라우팅된다")
+    void fallsBackWhenReplicaUnhealthy() throws SQLException {
+        // given
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("replica down"));
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(broken, Duration.ofSeconds(1), Duration.ofSeconds(3), null);
+        checker.check();
+        useRouting(checker);
+
+        // when
+        String read = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(checker.isReplicaAvailable()).isFalse();
+        assertThat(read).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 replica를 사용하지 않는다")
+    void fallsBackWhenReplicaLagging() {
+        // given
+        ReplicaHealthChecker lagging = new ReplicaHealthChecker(replica, Duration.ofSeconds(1), Duration.ofSeconds(3), "SELECT 10");
+        ReplicaHealthChecker caughtUp = new ReplicaHealthChecker(replica, Duration.ofSeconds(1), Duration.ofSeconds(3), "SELECT 1");
+
+        // when
+        lagging.check();
+        caughtUp.check();
+
+        // then
+        assertThat(lagging.isReplicaAvailable()).isFalse();
+        assertThat(caughtUp.isReplicaAvailable()).isTrue();
+    }
+
+    private ReplicaHealthChecker healthyReplicaChecker() {
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(replica, Duration.ofSeconds(1), Duration.ofSeconds(3), null);
+        checker.check();
+        return checker;
+    }
+
+    private void useRouting(ReplicaHealthChecker checker) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, tracker, checker, requester::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(new ReadYourWritesListener(tracker, requester::get));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM db_marker");
+        jdbcTemplate.update("INSERT INTO db_marker (name) VALUES (?)", name.substring("routing-".length()));
+        return dataSource;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.communityboard.common.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    @DisplayName("쓰기 후 고정 시간이 지나면 더 이상 primary로 고정하지 않는다")
+    void windowExpires() {
+        // given
+        tracker.recordWrite("member:a");
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        boolean withinWindow = tracker.isWithinStickyWindow("member:a");
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        boolean afterWindow = tracker.isWithinStickyWindow("member:a");
+
+        // then
+        assertThat(withinWindow).isTrue();
+        assertThat(afterWindow).isFalse();
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("식별할 수 없는 요청은 고정하지 않는다")
+    void ignoresNullKey() {
+        // when
+        tracker.recordWrite(null);
+
+        // then
+        assertThat(tracker.isWithinStickyWindow(null)).isFalse();
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 항목을 일괄 정리한다")
+    void evictExpired() {
+        // given
+        tracker.recordWrite("member:a");
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        tracker.recordWrite("member:b");
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        // when
+        tracker.evictExpired();
+
+        // then
+        assertThat(tracker.size()).isEqualTo(1);
+        assertThat(tracker.isWithinStickyWindow("member:b")).isTrue();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.communityboard.common.groupcommit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitQueueTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+
+    private GroupCommitQueue<String, String> queue;
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstBatch.countDown();
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("앞 배치가 커밋되는 동안 쌓인 요청을 최대 배치 크기만큼 묶어 쓴다")
+    void groupsPendingWritesWhileCommitting() throws Exception {
+        // given
+        queue = startQueue(16, 4, Duration.ZERO, blockingFirstBatch());
+        CompletableFuture<String> first = queue.submit("a");
+        firstBatchStarted.await(1, TimeUnit.SECONDS);
+        List<CompletableFuture<String>> rest = List.of(
+                queue.submit("b"), queue.submit("c"), queue.submit("d"), queue.submit("e"), queue.submit("f"));
+
+        // when
+        releaseFirstBatch.countDown();
+
+        // then
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(rest.get(4).get(1, TimeUnit.SECONDS)).isEqualTo("F");
+        assertThat(batches).containsExactly(List.of("a"), List.of("b", "c", "d", "e"), List.of("f"));
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 동안 배치가 찰 때까지 기다렸다가 쓴다")
+    void waitsForBatchToFill() throws Exception {
+        // given
+        queue = startQueue(16, 3, Duration.ofSeconds(5), this::upperCase);
+
+        // when
+        CompletableFuture<String> a = queue.submit("a");
+        CompletableFuture<String> b = queue.submit("b");
+        CompletableFuture<String> c = queue.submit("c");
+
+        // then
+        assertThat(CompletableFuture.allOf(a, b, c).thenApply(v -> List.of(a.join(), b.join(), c.join()))
+                .get(1, TimeUnit.SECONDS)).containsExactly("A", "B", "C");
+        assertThat(batches).containsExactly(List.of("a", "b", "c"));
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 건별로 다시 써서 실패한 요청만 실패시킨다")
+    void retriesOneByOneOnBatchFailure() throws Exception {
+        // given
+        queue = startQueue(16, 3, Duration.ofSeconds(5), items -> {
+            if (items.contains("bad")) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return upperCase(items);
+        });
+
+        // when
+        CompletableFuture<String> a = queue.submit("a");
+        CompletableFuture<String> bad = queue.submit("bad");
+        CompletableFuture<String> c = queue.submit("c");
+
+        // then
+        assertThat(a.get(1, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(c.get(1, TimeUnit.SECONDS)).isEqualTo("C");
+        assertThatThrownBy(bad::join)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("constraint violation");
+        assertThat(batches).containsExactly(List.of("a"), List.of("c"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거절한다")
+    void rejectsWhenFull() throws Exception {
+        // given
+        queue = startQueue(1, 1, Duration.ZERO, blockingFirstBatch());
+        queue.submit("a");
+        firstBatchStarted.await(1, TimeUnit.SECONDS);
+        queue.submit("b");
+
+        // when & then
+        assertThatThrownBy(() -> queue.submit("c"))
+                .isInstanceOf(GroupCommitRejectedException.class)
+                .hasMessage("test 쓰기 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @Test
+    @DisplayName("종료하면 대기열에 남은 쓰기를 모두 반영하고 이후 요청은 거절한다")
+    void stopDrainsPending() throws Exception {
+        // given
+        queue = startQueue(16, 4, Duration.ZERO, blockingFirstBatch());
+        queue.submit("a");
+        firstBatchStarted.await(1, TimeUnit.SECONDS);
+        CompletableFuture<String> b = queue.submit("b");
+        CompletableFuture<String> c = queue.submit("c");
+
+        // when
+        Thread stopper = Thread.ofPlatform().start(queue::stop);
+        releaseFirstBatch.countDown();
+        stopper.join(TimeUnit.SECONDS.toMillis(1));
+
+        // then
+        assertThat(b).isCompletedWithValue("B");
+        assertThat(c).isCompletedWithValue("C");
+        assertThat(queue.isRunning()).isFalse();
+        assertThatThrownBy(() -> queue.submit("d"))
+                .isInstanceOf(GroupCommitRejectedException.class);
+    }
+
+    private GroupCommitQueue<String, String> startQueue(int capacity, int maxBatch, Duration maxWait,
+                                                       BatchWriter<String, String> writer) {
+        GroupCommitQueue<String, String> started = new GroupCommitQueue<>("test", capacity, maxBatch, maxWait,
+                TransactionOperations.withoutTransaction(), writer);
+        started.start();
+        return started;
+    }
+
+    private BatchWriter<String, String> blockingFirstBatch() {
+        return items -> {
+            if (firstBatchStarted.getCount() > 0) {
+                firstBatchStarted.countDown();
+                try {
+                    releaseFirstBatch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return upperCase(items);
+        };
+    }
+
+    private List<String> upperCase(List<String> items) {
+        batches.add(List.copyOf(items));
+        return items.stream().map(String::toUpperCase).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.communityboard.common.overload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("한도만큼 처리 중이면 다음 요청을 거절하고 거절 수를 센다")
+    void rejectsBeyondLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", new GradientConcurrencyLimit(2, 1, 10));
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // when
+        Optional<AdaptiveConcurrencyLimiter.Permit> third = limiter.tryAcquire();
+
+        // then
+        assertThat(third).isEmpty();
+        LimiterSnapshot snapshot = limiter.snapshot();
+        assertThat(snapshot.inflight()).isEqualTo(2);
+        assertThat(snapshot.accepted()).isEqualTo(2);
+        assertThat(snapshot.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리가 끝나면 허가가 반납되고 중복 반납은 무시된다")
+    void releasesOnce() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", new GradientConcurrencyLimit(1, 1, 10));
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+
+        // when
+        permit.onSuccess();
+        permit.onSuccess();
+
+        // then
+        assertThat(limiter.snapshot().inflight()).isZero();
+        assertThat(limiter.tryAcquire()).isPresent();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 지연 시간 표본 없이 반납된다")
+    void ignoreDoesNotSample() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", new GradientConcurrencyLimit(5, 1, 10));
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+
+        // when
+        permit.onIgnore();
+
+        // then
+        assertThat(limiter.snapshot().inflight()).isZero();
+        assertThat(limiter.snapshot().longRttMillis()).isZero();
+    }
+}
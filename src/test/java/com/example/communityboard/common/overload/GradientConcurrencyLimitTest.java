@@ -0,0 +1,85 @@
+package com.example.communityboard.common.overload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    @DisplayName("지연 시간이 안정적이고 한도를 충분히 쓰고 있으면 한도가 늘어난다")
+    void growsWhenLatencyIsStable() {
+        // given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 2, 100);
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 장기 평균보다 크게 늘어나면 한도가 줄어든다")
+    void shrinksWhenLatencyGrows() {
+        // given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 2, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        int before = limit.getLimit();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(SLOW, limit.getLimit(), false);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isLessThan(before);
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않는 동안에는 한도를 늘리지 않는다")
+    void doesNotGrowWhenUnderutilized() {
+        // given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 2, 100);
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(FAST, 1, false);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 한도를 즉시 줄인다")
+    void backsOffOnDrop() {
+        // given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 2, 100);
+
+        // when
+        limit.onSample(FAST, 20, true);
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("한도 범위가 잘못되면 예외가 발생한다")
+    void invalidRange() {
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(1, 2, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
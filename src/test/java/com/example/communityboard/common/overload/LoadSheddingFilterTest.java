@@ -0,0 +1,97 @@
+package com.example.communityboard.common.overload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private AdaptiveConcurrencyLimiter members;
+    private AdaptiveConcurrencyLimiter boards;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        members = new AdaptiveConcurrencyLimiter("members", new GradientConcurrencyLimit(1, 1, 10));
+        boards = new AdaptiveConcurrencyLimiter("boards", new GradientConcurrencyLimit(1, 1, 10));
+        filter = new LoadSheddingFilter(Map.of("/api/members", members, "/api/boards", boards), 2,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 503과 Retry-After로 거절된다")
+    void rejectsWith503() throws Exception {
+        // given
+        boards.tryAcquire();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(boards.snapshot().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경로 그룹마다 한도가 분리되어 있다")
+    void limitsArePerGroup() throws Exception {
+        // given
+        boards.tryAcquire();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/members/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(members.snapshot().inflight()).isZero();
+        assertThat(members.snapshot().accepted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시판 목록(/api/boards)도 게시판 그룹 한도를 따른다")
+    void exactPrefixMatches() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(boards.snapshot().accepted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도 대상이 아닌 경로는 그대로 통과한다")
+    void passesThroughOtherPaths() throws Exception {
+        // given
+        boards.tryAcquire();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boardsearch");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(boards.snapshot().rejected()).isZero();
+    }
+}
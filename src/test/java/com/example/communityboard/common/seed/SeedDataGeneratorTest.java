@@ -0,0 +1,149 @@
+package com.example.communityboard.common.seed;
+
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.common.seed.SeedDataGenerator.BoardSeed;
+import com.example.communityboard.common.seed.SeedDataGenerator.MemberSeed;
+import com.example.communityboard.member.domain.entity.Role;
+import com.example.communityboard.member.domain.vo.Email;
+import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.domain.vo.Nickname;
+import com.example.communityboard.moderation.domain.AhoCorasickMatcher;
+import com.example.communityboard.moderation.domain.ContentFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeedDataGeneratorTest {
+
+    @Test
+    @DisplayName("같은 시드와 행 번호는 항상 같은 데이터를 생성한다")
+    void deterministic() {
+        // given
+        SeedDataGenerator first = new SeedDataGenerator(42L);
+        SeedDataGenerator second = new SeedDataGenerator(42L);
+
+        // when & then
+        for (long i = 0; i < 100; i++) {
+            assertThat(first.member(i)).isEqualTo(second.member(i));
+            assertThat(first.board(i)).isEqualTo(second.board(i));
+        }
+    }
+
+    @Test
+    @DisplayName("시드가 다르면 다른 데이터를 생성한다")
+    void differentSeed() {
+        // given
+        SeedDataGenerator first = new SeedDataGenerator(1L);
+        SeedDataGenerator second = new SeedDataGenerator(2L);
+
+        // when
+        MemberSeed a = first.member(7);
+        MemberSeed b = second.member(7);
+
+        // then
+        assertThat(a).isNotEqualTo(b);
+    }
+
+    @Test
+    @DisplayName("생성된 회원은 값 객체 검증을 통과하고 아이디/닉네임/이메일이 중복되지 않는다")
+    void membersAreValidAndUnique() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+        Set<String> loginIds = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+
+        // when
+        for (long i = 0; i < 10_000; i++) {
+            MemberSeed member = generator.member(i);
+            loginIds.add(LoginId.of(member.loginId()).getValue());
+            nicknames.add(Nickname.of(member.nickname()).getValue());
+            emails.add(Email.of(member.email()).getValue());
+        }
+
+        // then
+        assertThat(loginIds).hasSize(10_000);
+        assertThat(nicknames).hasSize(10_000);
+        assertThat(emails).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("큰 행 번호에서도 닉네임 길이 제한을 지킨다")
+    void largeIndex() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+
+        // when
+        MemberSeed member = generator.member(2_821_109_907_455L);
+
+        // then
+        assertThat(member.nickname()).hasSizeLessThanOrEqualTo(10);
+        assertThat(member.loginId()).hasSizeLessThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("첫 번째 회원만 관리자로 생성된다")
+    void firstMemberIsAdmin() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+
+        // when & then
+        assertThat(generator.member(0).role()).isEqualTo(Role.ADMIN);
+        assertThat(generator.member(1).role()).isEqualTo(Role.MEMBER);
+    }
+
+    @Test
+    @DisplayName("작은 데이터셋에서도 모든 게시판 타입이 생성된다")
+    void boardsCoverAllTypes() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+        Set<BoardType> types = EnumSet.noneOf(BoardType.class);
+
+        // when
+        for (long i = 0; i < BoardType.values().length; i++) {
+            BoardSeed board = generator.board(i);
+            types.add(board.boardType());
+            assertThat(board.title()).hasSizeBetween(2, 50);
+        }
+
+        // then
+        assertThat(types).containsExactlyInAnyOrder(BoardType.values());
+    }
+
+    @Test
+    @DisplayName("36진수 접미사가 금칙어가 되는 닉네임은 접미사의 영문자를 한글로 바꾼다")
+    void nicknameAvoidsBannedTerm() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+        ContentFilter.install(AhoCorasickMatcher.compile(List.of("fuck")));
+
+        try {
+            // when
+            MemberSeed member = generator.member(Long.parseLong("fuck", 36));
+
+            // then
+            assertThat(member.nickname()).endsWith("바서다카");
+            assertThat(Nickname.of(member.nickname()).getValue()).isEqualTo(member.nickname());
+        } finally {
+            ContentFilter.install(AhoCorasickMatcher.EMPTY);
+        }
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 행 번호는 예외가 발생한다")
+    void invalidIndex() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+
+        // when & then
+        assertThatThrownBy(() -> generator.member(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
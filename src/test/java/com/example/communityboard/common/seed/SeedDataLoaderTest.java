@@ -0,0 +1,67 @@
+package com.example.communityboard.common.seed;
+
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({SeedDataLoader.class, MemberRepositoryImpl.class, JpaConfig.class})
+class SeedDataLoaderTest {
+
+    @Autowired
+    private SeedDataLoader seedDataLoader;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("배치 크기보다 많은 회원과 게시판을 적재할 수 있다")
+    void insertMembersAndBoards() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+        String encodedPassword = new BCryptPasswordEncoder().encode("password123!");
+
+        // when
+        seedDataLoader.insertMembers(generator, 250, encodedPassword, 100);
+        seedDataLoader.insertBoards(generator, 30, 7);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members", Long.class)).isEqualTo(250L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board", Long.class)).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("적재된 회원은 엔티티로 조회되고 시드 비밀번호로 인증된다")
+    void seededMemberCanBeLoaded() {
+        // given
+        SeedDataGenerator generator = new SeedDataGenerator(42L);
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        seedDataLoader.insertMembers(generator, 10, passwordEncoder.encode("password123!"), 4);
+
+        // when
+        Optional<Member> member = memberRepository.findByLoginId(LoginId.of(generator.member(3).loginId()));
+
+        // then
+        assertThat(member).isPresent();
+        assertThat(member.get().getNickname().getValue()).isEqualTo(generator.member(3).nickname());
+        assertThat(member.get().matchPassword("password123!", passwordEncoder)).isTrue();
+        assertThat(member.get().getCreatedAt()).isEqualTo(generator.member(3).createdAt());
+    }
+}
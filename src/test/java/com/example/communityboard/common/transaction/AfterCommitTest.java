@@ -0,0 +1,51 @@
+package com.example.communityboard.common.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 실행한다")
+    void runsImmediatelyWithoutTransaction() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        AfterCommit.run(runs::incrementAndGet);
+
+        // then
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 후에 실행한다")
+    void runsAfterCommit() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        AfterCommit.run(runs::incrementAndGet);
+        int beforeCommit = runs.get();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(beforeCommit).isZero();
+        assertThat(runs).hasValue(1);
+    }
+}
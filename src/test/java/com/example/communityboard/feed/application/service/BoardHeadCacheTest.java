@@ -0,0 +1,113 @@
+package com.example.communityboard.feed.application.service;
+
+import com.example.communityboard.common.config.FeedProperties;
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardHeadCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private BoardHeadCache boardHeadCache;
+
+    @BeforeEach
+    void setUp() {
+        FeedProperties properties = new FeedProperties();
+        properties.setHeadSize(5);
+        properties.setHeadTtl(Duration.ofNanos(100));
+        boardHeadCache = new BoardHeadCache(postRepository, properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("최신 글은 한 번 읽어 두고 유효 기간 동안 다시 읽지 않는다")
+    void cachesHead() {
+        // given
+        when(postRepository.findPageByBoardId(1L, null, 5)).thenReturn(posts(10, 6));
+
+        // when
+        List<PostSummary> first = boardHeadCache.read(1L, null, 3);
+        List<PostSummary> second = boardHeadCache.read(1L, new PostCursor(BASE.plusMinutes(9), 9L), 2);
+        clock.set(100);
+        boardHeadCache.read(1L, null, 3);
+
+        // then
+        assertThat(first).extracting(PostSummary::id).containsExactly(10L, 9L, 8L);
+        assertThat(second).extracting(PostSummary::id).containsExactly(8L, 7L);
+        verify(postRepository, times(2)).findPageByBoardId(1L, null, 5);
+    }
+
+    @Test
+    @DisplayName("캐시한 최신 글보다 깊은 위치는 DB에서 읽는다")
+    void readsDeeperFromRepository() {
+        // given
+        PostCursor after = new PostCursor(BASE.plusMinutes(7), 7L);
+        when(postRepository.findPageByBoardId(1L, null, 5)).thenReturn(posts(10, 6));
+        when(postRepository.findPageByBoardId(1L, after, 3)).thenReturn(posts(6, 4));
+
+        // when
+        List<PostSummary> result = boardHeadCache.read(1L, after, 3);
+
+        // then
+        assertThat(result).extracting(PostSummary::id).containsExactly(6L, 5L, 4L);
+    }
+
+    @Test
+    @DisplayName("글이 캐시 크기보다 적은 게시판은 DB를 더 읽지 않는다")
+    void completeHead() {
+        // given
+        when(postRepository.findPageByBoardId(1L, null, 5)).thenReturn(posts(2, 1));
+
+        // when
+        List<PostSummary> result = boardHeadCache.read(1L, null, 4);
+
+        // then
+        assertThat(result).extracting(PostSummary::id).containsExactly(2L, 1L);
+        verify(postRepository, times(1)).findPageByBoardId(eq(1L), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("글이 작성되면 최신 글을 다시 읽는다")
+    void evict() {
+        // given
+        when(postRepository.findPageByBoardId(eq(1L), isNull(), eq(5))).thenReturn(posts(2, 1), posts(3, 1));
+        boardHeadCache.read(1L, null, 4);
+
+        // when
+        clock.set(10);
+        boardHeadCache.evictAfterCommit(1L);
+        clock.set(20);
+        List<PostSummary> result = boardHeadCache.read(1L, null, 4);
+
+        // then
+        assertThat(result).extracting(PostSummary::id).containsExactly(3L, 2L, 1L);
+    }
+
+    // fromId부터 toId까지 최신순. id가 곧 작성 시각(분)이다
+    private static List<PostSummary> posts(long fromId, long toId) {
+        return LongStream.iterate(fromId, id -> id >= toId, id -> id - 1)
+                .mapToObj(id -> new PostSummary(id, 1L, 2L, "제목" + id, BASE.plusMinutes(id), "작성자"))
+                .toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.communityboard.feed.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.feed.domain.entity.BoardSubscription;
+import com.example.communityboard.feed.domain.repository.BoardSubscriptionRepository;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardSubscriptionServiceTest {
+
+    @Mock
+    private BoardSubscriptionRepository boardSubscriptionRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @InjectMocks
+    private BoardSubscriptionService boardSubscriptionService;
+
+    private Member member;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.registerMember("reader01", "password123!", "독자", "reader@example.com",
+                new BCryptPasswordEncoder());
+        board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+    }
+
+    @Test
+    @DisplayName("게시판을 구독하고 구독 중인 게시판 목록을 돌려준다")
+    void subscribe() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(boardRepository.findById(2L)).thenReturn(Optional.of(board));
+        when(boardSubscriptionRepository.exists(1L, 2L)).thenReturn(false);
+        when(boardSubscriptionRepository.countByMemberId(1L)).thenReturn(1L);
+        when(boardSubscriptionRepository.findBoardIdsByMemberId(1L)).thenReturn(List.of(3L, 2L));
+
+        // when
+        List<Long> boardIds = boardSubscriptionService.subscribe(1L, 2L);
+
+        // then
+        assertThat(boardIds).containsExactly(3L, 2L);
+        verify(boardSubscriptionRepository).save(any(BoardSubscription.class));
+    }
+
+    @Test
+    @DisplayName("이미 구독한 게시판은 다시 저장하지 않는다")
+    void subscribeTwice() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(boardRepository.findById(2L)).thenReturn(Optional.of(board));
+        when(boardSubscriptionRepository.exists(1L, 2L)).thenReturn(true);
+
+        // when
+        boardSubscriptionService.subscribe(1L, 2L);
+
+        // then
+        verify(boardSubscriptionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("구독 수 상한을 넘으면 예외가 발생한다")
+    void tooManySubscriptions() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(boardRepository.findById(2L)).thenReturn(Optional.of(board));
+        when(boardSubscriptionRepository.exists(1L, 2L)).thenReturn(false);
+        when(boardSubscriptionRepository.countByMemberId(1L))
+                .thenReturn((long) BoardSubscriptionService.MAX_SUBSCRIPTIONS);
+
+        // when & then
+        assertThatThrownBy(() -> boardSubscriptionService.subscribe(1L, 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시판은 100개까지 구독할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("없는 게시판은 구독할 수 없다")
+    void unknownBoard() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(boardRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> boardSubscriptionService.subscribe(1L, 9L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시판을 찾을 수 없습니다. ID: 9");
+    }
+}
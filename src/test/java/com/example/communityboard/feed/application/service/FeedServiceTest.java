@@ -0,0 +1,76 @@
+package com.example.communityboard.feed.application.service;
+
+import com.example.communityboard.feed.domain.repository.BoardSubscriptionRepository;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    @Mock
+    private BoardSubscriptionRepository boardSubscriptionRepository;
+
+    @Mock
+    private BoardHeadCache boardHeadCache;
+
+    @InjectMocks
+    private FeedService feedService;
+
+    @Test
+    @DisplayName("구독한 게시판의 글을 최신순으로 합쳐 다음 페이지 커서와 함께 돌려준다")
+    void getFeed() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 0, 0);
+        when(boardSubscriptionRepository.findBoardIdsByMemberId(1L)).thenReturn(List.of(10L, 20L));
+        when(boardHeadCache.read(eq(10L), isNull(), anyInt())).thenReturn(List.of(
+                new PostSummary(3L, 10L, 5L, "세 번째", base.plusMinutes(3), "작성자"),
+                new PostSummary(1L, 10L, 5L, "첫 번째", base.plusMinutes(1), "작성자")));
+        when(boardHeadCache.read(eq(20L), isNull(), anyInt())).thenReturn(List.of(
+                new PostSummary(2L, 20L, 5L, "두 번째", base.plusMinutes(2), "작성자")));
+
+        // when
+        PostPage page = feedService.getFeed(1L, null, 2);
+
+        // then
+        assertThat(page.posts()).extracting(PostSummary::id).containsExactly(3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독한 게시판이 없으면 빈 피드를 돌려준다")
+    void emptyFeed() {
+        // given
+        when(boardSubscriptionRepository.findBoardIdsByMemberId(1L)).thenReturn(List.of());
+
+        // when
+        PostPage page = feedService.getFeed(1L, null, 20);
+
+        // then
+        assertThat(page.posts()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        verifyNoInteractions(boardHeadCache);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 예외가 발생한다")
+    void invalidSize() {
+        // when & then
+        assertThatThrownBy(() -> feedService.getFeed(1L, null, FeedService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("페이지 크기는 1 이상 100 이하여야 합니다.");
+    }
+}
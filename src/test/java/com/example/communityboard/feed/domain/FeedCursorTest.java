@@ -0,0 +1,55 @@
+package com.example.communityboard.feed.domain;
+
+import com.example.communityboard.post.domain.repository.PostCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 뒤 디코딩하면 같은 위치와 다 읽은 게시판이 된다")
+    void roundTrip() {
+        // given
+        FeedCursor cursor = new FeedCursor(
+                new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42L), Set.of(3L, 1L));
+
+        // when
+        FeedCursor decoded = FeedCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("다 읽은 게시판이 없어도 디코딩할 수 있다")
+    void roundTripWithoutExhausted() {
+        // given
+        FeedCursor cursor = new FeedCursor(new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 0), 7L), Set.of());
+
+        // when
+        FeedCursor decoded = FeedCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.exhaustedBoardIds()).isEmpty();
+        assertThat(decoded.position().id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다")
+    void invalid() {
+        // when & then
+        assertThatThrownBy(() -> FeedCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        String postCursor = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 0), 7L).encode();
+        assertThatThrownBy(() -> FeedCursor.decode(postCursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+}
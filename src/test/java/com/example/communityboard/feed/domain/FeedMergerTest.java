@@ -0,0 +1,161 @@
+package com.example.communityboard.feed.domain;
+
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedMergerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Test
+    @DisplayName("여러 게시판의 글을 최신순으로 합친다")
+    void merge() {
+        // given
+        InMemoryBoards boards = new InMemoryBoards();
+        boards.add(1L, 1L, 10);
+        boards.add(2L, 2L, 30);
+        boards.add(1L, 3L, 20);
+        boards.add(3L, 4L, 20);
+
+        // when
+        FeedMerger.Result result = FeedMerger.merge(List.of(1L, 2L, 3L), null, 10, boards);
+
+        // then
+        assertThat(result.posts()).extracting(PostSummary::id).containsExactly(2L, 4L, 3L, 1L);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서로 이어 읽으면 빠지거나 겹치는 글 없이 전체를 최신순으로 읽는다")
+    void paginate() {
+        // given
+        InMemoryBoards boards = new InMemoryBoards();
+        Random random = new Random(7);
+        for (long id = 1; id <= 300; id++) {
+            // 같은 시각의 글도 섞어 id로 순서를 정하는지 확인한다
+            boards.add(1L + random.nextInt(8), id, random.nextInt(100));
+        }
+        List<Long> boardIds = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+
+        // when
+        List<PostSummary> read = new ArrayList<>();
+        FeedCursor cursor = null;
+        do {
+            FeedMerger.Result result = FeedMerger.merge(boardIds, cursor, 17, boards);
+            read.addAll(result.posts());
+            cursor = result.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(read).isEqualTo(boards.all());
+    }
+
+    @Test
+    @DisplayName("읽는 행 수는 전체 글 수가 아니라 페이지 크기와 게시판 수를 따른다")
+    void readsAboutPageSize() {
+        // given
+        InMemoryBoards boards = new InMemoryBoards();
+        for (long id = 1; id <= 10_000; id++) {
+            boards.add(1L + id % 10, id, (int) id);
+        }
+        List<Long> boardIds = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+        // when
+        FeedMerger.Result first = FeedMerger.merge(boardIds, null, 20, boards);
+        int firstRows = boards.rowsRead;
+        boards.rowsRead = 0;
+        FeedMerger.merge(boardIds, first.nextCursor(), 20, boards);
+
+        // then
+        assertThat(firstRows).isLessThanOrEqualTo(20 + 10 * 4);
+        assertThat(boards.rowsRead).isLessThanOrEqualTo(20 + 10 * 4);
+    }
+
+    @Test
+    @DisplayName("다 읽은 게시판은 커서에 담아 다음 페이지에서 다시 읽지 않는다")
+    void skipsExhaustedBoards() {
+        // given
+        InMemoryBoards boards = new InMemoryBoards();
+        boards.add(1L, 1L, 100);
+        for (long id = 2; id <= 30; id++) {
+            boards.add(2L, id, (int) id);
+        }
+        FeedMerger.Result first = FeedMerger.merge(List.of(1L, 2L), null, 5, boards);
+        boards.reads.clear();
+
+        // when
+        FeedMerger.Result second = FeedMerger.merge(List.of(1L, 2L), first.nextCursor(), 5, boards);
+
+        // then
+        assertThat(first.nextCursor().exhaustedBoardIds()).containsExactly(1L);
+        assertThat(second.posts()).extracting(PostSummary::id).containsExactly(26L, 25L, 24L, 23L, 22L);
+        assertThat(boards.reads).containsOnly(2L);
+    }
+
+    @Test
+    @DisplayName("페이지를 넘기는 사이 구독한 게시판은 같은 위치부터 읽는다")
+    void boardSubscribedBetweenPages() {
+        // given
+        InMemoryBoards boards = new InMemoryBoards();
+        for (long id = 1; id <= 10; id++) {
+            boards.add(id % 2 == 0 ? 1L : 2L, id, (int) id);
+        }
+        FeedMerger.Result first = FeedMerger.merge(List.of(1L), null, 3, boards);
+
+        // when
+        FeedMerger.Result second = FeedMerger.merge(List.of(1L, 2L), first.nextCursor(), 3, boards);
+
+        // then
+        assertThat(first.posts()).extracting(PostSummary::id).containsExactly(10L, 8L, 6L);
+        assertThat(second.posts()).extracting(PostSummary::id).containsExactly(5L, 4L, 3L);
+    }
+
+    // 게시판마다 최신순으로 정렬된 글 목록. 읽은 행 수와 읽은 게시판을 기록한다
+    private static final class InMemoryBoards implements BoardPageReader {
+
+        private final Map<Long, List<PostSummary>> posts = new HashMap<>();
+        private final List<Long> reads = new ArrayList<>();
+        private int rowsRead;
+
+        private void add(Long boardId, Long id, int minutes) {
+            List<PostSummary> board = posts.computeIfAbsent(boardId, key -> new ArrayList<>());
+            board.add(new PostSummary(id, boardId, 1L, "제목" + id, BASE.plusMinutes(minutes), "작성자"));
+            board.sort(FeedMerger.NEWEST_FIRST);
+        }
+
+        private List<PostSummary> all() {
+            return posts.values().stream()
+                    .flatMap(List::stream)
+                    .sorted(FeedMerger.NEWEST_FIRST)
+                    .toList();
+        }
+
+        @Override
+        public List<PostSummary> read(Long boardId, PostCursor after, int limit) {
+            reads.add(boardId);
+            List<PostSummary> page = posts.getOrDefault(boardId, List.of()).stream()
+                    .filter(post -> after == null || isBefore(post, after))
+                    .limit(limit)
+                    .toList();
+            rowsRead += page.size();
+            return page;
+        }
+
+        private static boolean isBefore(PostSummary post, PostCursor cursor) {
+            return Comparator.comparing(PostSummary::createdAt).thenComparing(PostSummary::id)
+                    .compare(post, new PostSummary(cursor.id(), null, null, null, cursor.createdAt(), "작성자")) < 0;
+        }
+    }
+}
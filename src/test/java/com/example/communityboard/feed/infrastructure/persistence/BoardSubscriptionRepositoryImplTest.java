@@ -0,0 +1,78 @@
+package com.example.communityboard.feed.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.feed.domain.entity.BoardSubscription;
+import com.example.communityboard.feed.domain.repository.BoardSubscriptionRepository;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({BoardSubscriptionRepositoryImpl.class, BoardRepositoryImpl.class, MemberRepositoryImpl.class,
+        JpaConfig.class})
+class BoardSubscriptionRepositoryImplTest {
+
+    @Autowired
+    private BoardSubscriptionRepository boardSubscriptionRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+    private Board board;
+    private Board otherBoard;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.registerMember("reader01", "password123!", "독자",
+                "reader@example.com", new BCryptPasswordEncoder()));
+        board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        otherBoard = boardRepository.save(Board.create("질문게시판", "질문을 올리는 게시판", BoardType.QNA));
+    }
+
+    @Test
+    @DisplayName("회원이 구독한 게시판 ID를 구독한 순서로 조회한다")
+    void findBoardIds() {
+        // given
+        boardSubscriptionRepository.save(BoardSubscription.create(member, otherBoard));
+        boardSubscriptionRepository.save(BoardSubscription.create(member, board));
+
+        // when & then
+        assertThat(boardSubscriptionRepository.findBoardIdsByMemberId(member.getId()))
+                .containsExactly(otherBoard.getId(), board.getId());
+        assertThat(boardSubscriptionRepository.exists(member.getId(), board.getId())).isTrue();
+        assertThat(boardSubscriptionRepository.countByMemberId(member.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("구독을 취소하면 목록에서 빠지고, 구독하지 않은 게시판은 false를 돌려준다")
+    void delete() {
+        // given
+        boardSubscriptionRepository.save(BoardSubscription.create(member, board));
+
+        // when
+        boolean deleted = boardSubscriptionRepository.delete(member.getId(), board.getId());
+        boolean deletedAgain = boardSubscriptionRepository.delete(member.getId(), board.getId());
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(deletedAgain).isFalse();
+        assertThat(boardSubscriptionRepository.exists(member.getId(), board.getId())).isFalse();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.communityboard.feed.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.feed.application.service.BoardSubscriptionService;
+import com.example.communityboard.feed.application.service.FeedService;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(FeedController.class)
+@Import(SecurityConfig.class)
+class FeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FeedService feedService;
+
+    @MockBean
+    private BoardSubscriptionService boardSubscriptionService;
+
+    @MockBean
+    private AuthorLoader authorLoader;
+
+    @Test
+    @DisplayName("게시판을 구독하면 구독 중인 게시판 목록을 응답한다")
+    @WithMockUser
+    void subscribe() throws Exception {
+        // given
+        when(boardSubscriptionService.subscribe(1L, 2L)).thenReturn(List.of(3L, 2L));
+
+        // when & then
+        mockMvc.perform(put("/api/members/1/subscriptions/2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0]").value(3))
+                .andExpect(jsonPath("$.data[1]").value(2))
+                .andExpect(jsonPath("$.message").value("게시판을 구독했습니다."));
+    }
+
+    @Test
+    @DisplayName("게시판 구독을 취소한다")
+    @WithMockUser
+    void unsubscribe() throws Exception {
+        // given
+        when(boardSubscriptionService.unsubscribe(1L, 2L)).thenReturn(List.of(3L));
+
+        // when & then
+        mockMvc.perform(delete("/api/members/1/subscriptions/2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0]").value(3))
+                .andExpect(jsonPath("$.message").value("게시판 구독을 취소했습니다."));
+    }
+
+    @Test
+    @DisplayName("구독한 게시판의 글을 최신순으로 응답한다")
+    @WithMockUser
+    void getFeed() throws Exception {
+        // given
+        PostSummary post = new PostSummary(5L, 2L, 7L, "새 글", LocalDateTime.of(2025, 3, 1, 12, 0), "작성자");
+        when(feedService.getFeed(1L, null, 20)).thenReturn(new PostPage(List.of(post), "next"));
+        when(authorLoader.nicknameOf(7L, "작성자")).thenReturn("작성자");
+
+        // when & then
+        mockMvc.perform(get("/api/members/1/feed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts[0].id").value(5))
+                .andExpect(jsonPath("$.data.posts[0].boardId").value(2))
+                .andExpect(jsonPath("$.data.posts[0].authorNickname").value("작성자"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 피드를 조회하면 400을 응답한다")
+    @WithMockUser
+    void invalidCursor() throws Exception {
+        // given
+        when(feedService.getFeed(1L, "broken", 20)).thenThrow(new IllegalArgumentException("잘못된 커서입니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/members/1/feed").param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다."));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.communityboard.like.application.service;
+
+import com.example.communityboard.like.domain.repository.LikeChange;
+import com.example.communityboard.like.domain.repository.LikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeFlusherTest {
+
+    private static final LikeChange FIRST = new LikeChange(1L, 2L, true);
+    private static final LikeChange SECOND = new LikeChange(1L, 3L, false);
+    private static final LikeChange THIRD = new LikeChange(4L, 2L, true);
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    private LikeFlusher likeFlusher;
+
+    @BeforeEach
+    void setUp() {
+        likeFlusher = new LikeFlusher(likeService, likeRepository);
+    }
+
+    @Test
+    @DisplayName("쌓인 변경을 한 번에 반영한다")
+    void flush() {
+        // given
+        when(likeService.drain()).thenReturn(List.of(FIRST, SECOND, THIRD));
+
+        // when
+        likeFlusher.flush();
+
+        // then
+        verify(likeRepository).applyChanges(List.of(FIRST, SECOND, THIRD));
+        verify(likeService, never()).restore(any());
+    }
+
+    @Test
+    @DisplayName("반영할 변경이 없으면 DB를 호출하지 않는다")
+    void flushNothing() {
+        // given
+        when(likeService.drain()).thenReturn(List.of());
+
+        // when
+        likeFlusher.flush();
+
+        // then
+        verifyNoInteractions(likeRepository);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이미 넣은 좋아요는 건너뛰고 나머지를 건별로 반영한다")
+    void skipsAlreadyPersisted() {
+        // given
+        when(likeService.drain()).thenReturn(List.of(FIRST, SECOND, THIRD));
+        doThrow(new DuplicateKeyException("uk_post_like_post_member"))
+                .when(likeRepository).applyChanges(List.of(FIRST, SECOND, THIRD));
+        doThrow(new DuplicateKeyException("uk_post_like_post_member"))
+                .when(likeRepository).applyChanges(List.of(FIRST));
+
+        // when
+        likeFlusher.flush();
+
+        // then
+        verify(likeRepository).applyChanges(List.of(SECOND));
+        verify(likeRepository).applyChanges(List.of(THIRD));
+        verify(likeService, never()).restore(any());
+    }
+
+    @Test
+    @DisplayName("DB에 반영할 수 없으면 남은 변경을 되돌려 다음 주기에 다시 시도한다")
+    void flushFailure() {
+        // given
+        when(likeService.drain()).thenReturn(List.of(FIRST, SECOND, THIRD));
+        doThrow(new IllegalStateException("db down"))
+                .when(likeRepository).applyChanges(List.of(FIRST, SECOND, THIRD));
+        // 건별 재시도에서 FIRST가 먼저 호출되므로 인자가 다른 이 스텁이 엄격한 스텁 검사에 걸리지 않게 한다
+        lenient().doThrow(new IllegalStateException("db down"))
+                .when(likeRepository).applyChanges(List.of(SECOND));
+
+        // when
+        likeFlusher.flush();
+
+        // then
+        verify(likeRepository).applyChanges(List.of(FIRST));
+        verify(likeRepository, never()).applyChanges(List.of(THIRD));
+        verify(likeService).restore(List.of(SECOND, THIRD));
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 변경을 모두 반영한다")
+    void stopDrainsPending() {
+        // given
+        likeFlusher.start();
+        when(likeService.drain()).thenReturn(List.of(FIRST));
+
+        // when
+        likeFlusher.stop();
+
+        // then
+        verify(likeRepository).applyChanges(List.of(FIRST));
+        assertThat(likeFlusher.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.communityboard.like.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.like.application.dto.LikeStatus;
+import com.example.communityboard.like.domain.repository.LikeChange;
+import com.example.communityboard.like.domain.repository.LikeRepository;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private HotPostRankingService hotPostRankingService;
+
+    @InjectMocks
+    private LikeService likeService;
+
+    private Post post;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        Board board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        member = Member.registerMember("writer01", "password123!", "작성자", "writer@example.com",
+                new BCryptPasswordEncoder());
+        post = Post.create(board, member, "첫 게시글", "안녕하세요");
+    }
+
+    @Test
+    @DisplayName("같은 회원이 여러 번 눌러도 한 번만 센다")
+    void likeIsIdempotent() {
+        // given
+        givenPostAndMember();
+        when(likeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of(5L));
+
+        // when
+        LikeStatus first = likeService.like(1L, 2L);
+        LikeStatus second = likeService.like(1L, 2L);
+
+        // then
+        assertThat(first.likeCount()).isEqualTo(2L);
+        assertThat(second.liked()).isTrue();
+        assertThat(second.likeCount()).isEqualTo(2L);
+        verify(likeRepository, times(1)).findMemberIdsByPostId(1L);
+        verify(hotPostRankingService, times(1)).record(any(), eq(1L), eq(HotScoreEvent.LIKE));
+        assertThat(likeService.drain()).containsExactly(new LikeChange(1L, 2L, true));
+    }
+
+    @Test
+    @DisplayName("좋아요 후 반영 전에 취소하면 DB에 반영할 변경이 없다")
+    void likeThenUnlikeCancelsOut() {
+        // given
+        givenPostAndMember();
+        when(likeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of());
+
+        // when
+        likeService.like(1L, 2L);
+        LikeStatus status = likeService.unlike(1L, 2L);
+
+        // then
+        assertThat(status.liked()).isFalse();
+        assertThat(status.likeCount()).isZero();
+        assertThat(likeService.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 반영된 좋아요를 취소하면 삭제할 변경으로 꺼낸다")
+    void unlikePersistedLike() {
+        // given
+        givenPostAndMember();
+        when(likeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of(2L, 3L));
+
+        // when
+        LikeStatus status = likeService.unlike(1L, 2L);
+
+        // then
+        assertThat(status.likeCount()).isEqualTo(1L);
+        assertThat(likeService.drain()).containsExactly(new LikeChange(1L, 2L, false));
+        assertThat(likeService.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 변경을 되돌리면 다음에 다시 꺼낸다")
+    void restore() {
+        // given
+        givenPostAndMember();
+        when(likeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of());
+        likeService.like(1L, 2L);
+        List<LikeChange> drained = likeService.drain();
+
+        // when
+        likeService.restore(drained);
+
+        // then
+        assertThat(likeService.drain()).containsExactly(new LikeChange(1L, 2L, true));
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 게시글만 한 번에 읽어 회원이 좋아요한 게시글을 찾는다")
+    void findLikedPostIds() {
+        // given
+        givenPostAndMember();
+        when(likeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of());
+        likeService.like(1L, 2L);
+        when(likeRepository.findMemberIdsByPostIds(List.of(3L, 4L)))
+                .thenReturn(Map.of(3L, List.of(2L, 9L), 4L, List.of(9L)));
+
+        // when
+        Set<Long> liked = likeService.findLikedPostIds(2L, List.of(1L, 3L, 4L, 1L));
+        Set<Long> again = likeService.findLikedPostIds(2L, List.of(3L, 4L));
+
+        // then
+        assertThat(liked).containsExactly(1L, 3L);
+        assertThat(again).containsExactly(3L);
+        verify(likeRepository, times(1)).findMemberIdsByPostIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 게시글 수를 넘으면 예외가 발생한다")
+    void findLikedPostIdsTooMany() {
+        // given
+        List<Long> postIds = LongStream.rangeClosed(1, LikeService.MAX_LOOKUP_SIZE + 1).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> likeService.findLikedPostIds(2L, postIds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 번에 100개까지 조회할 수 있습니다.");
+        verifyNoInteractions(likeRepository);
+    }
+
+    @Test
+    @DisplayName("메모리에 올라온 게시글은 반영 전 좋아요까지 포함한 수를, 아니면 DB 값을 돌려준다")
+    void currentCount() {
+        // given
+        givenPostAndMember();
+        when(likeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of(7L));
+        likeService.like(1L, 2L);
+
+        // when & then
+        assertThat(likeService.currentCount(1L, 1L)).isEqualTo(2L);
+        assertThat(likeService.currentCount(99L, 4L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요를 누르면 예외가 발생한다")
+    void likeWithInvalidPost() {
+        // given
+        when(postRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> likeService.like(99L, 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다. ID: 99");
+        verifyNoInteractions(likeRepository);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원이 좋아요를 누르면 예외가 발생한다")
+    void likeWithInvalidMember() {
+        // given
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(memberRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> likeService.like(1L, 99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("회원을 찾을 수 없습니다. ID: 99");
+        verifyNoInteractions(likeRepository);
+    }
+
+    private void givenPostAndMember() {
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(memberRepository.findById(2L)).thenReturn(Optional.of(member));
+    }
+}
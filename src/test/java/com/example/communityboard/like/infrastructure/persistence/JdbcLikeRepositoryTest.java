@@ -0,0 +1,138 @@
+package com.example.communityboard.like.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.like.domain.repository.LikeChange;
+import com.example.communityboard.like.domain.repository.LikeRepository;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.infrastructure.persistence.PostRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({JdbcLikeRepository.class, PostRepositoryImpl.class, BoardRepositoryImpl.class,
+        MemberRepositoryImpl.class, JpaConfig.class})
+class JdbcLikeRepositoryTest {
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Post first;
+    private Post second;
+    private Member alice;
+    private Member bob;
+
+    @BeforeEach
+    void setUp() {
+        Board board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        alice = memberRepository.save(Member.registerMember("alice01", "password123!", "앨리스",
+                "alice@example.com", new BCryptPasswordEncoder()));
+        bob = memberRepository.save(Member.registerMember("bob0001", "password123!", "밥이",
+                "bob@example.com", new BCryptPasswordEncoder()));
+        first = postRepository.save(Post.create(board, alice, "첫 게시글", "안녕하세요"));
+        second = postRepository.save(Post.create(board, alice, "두 번째 게시글", "반갑습니다"));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("좋아요 행을 넣고 지우면서 게시글의 좋아요 수를 증감분만큼 고친다")
+    void applyChanges() {
+        // given
+        likeRepository.applyChanges(List.of(
+                new LikeChange(first.getId(), alice.getId(), true),
+                new LikeChange(first.getId(), bob.getId(), true),
+                new LikeChange(second.getId(), bob.getId(), true)));
+
+        // when
+        likeRepository.applyChanges(List.of(
+                new LikeChange(first.getId(), alice.getId(), false),
+                new LikeChange(second.getId(), alice.getId(), true)));
+        entityManager.clear();
+
+        // then
+        assertThat(likeRepository.findMemberIdsByPostId(first.getId())).containsExactly(bob.getId());
+        assertThat(likeRepository.findMemberIdsByPostId(second.getId()))
+                .containsExactlyInAnyOrder(alice.getId(), bob.getId());
+        assertThat(postRepository.findById(first.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+        assertThat(postRepository.findById(second.getId()).orElseThrow().getLikeCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("이미 지워진 좋아요를 다시 지우면 좋아요 수를 줄이지 않는다")
+    void deleteMissingRow() {
+        // given
+        likeRepository.applyChanges(List.of(new LikeChange(first.getId(), alice.getId(), true)));
+
+        // when
+        likeRepository.applyChanges(List.of(
+                new LikeChange(first.getId(), alice.getId(), false),
+                new LikeChange(first.getId(), bob.getId(), false)));
+        entityManager.clear();
+
+        // then
+        assertThat(likeRepository.findMemberIdsByPostId(first.getId())).isEmpty();
+        assertThat(postRepository.findById(first.getId()).orElseThrow().getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 있는 좋아요를 다시 넣으면 유니크 제약 위반으로 실패한다")
+    void duplicateInsert() {
+        // given
+        likeRepository.applyChanges(List.of(new LikeChange(first.getId(), alice.getId(), true)));
+
+        // when & then
+        assertThatThrownBy(() -> likeRepository.applyChanges(List.of(
+                new LikeChange(first.getId(), alice.getId(), true))))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("여러 게시글의 좋아요 회원을 한 번에 읽고, 좋아요가 없는 게시글은 빈 목록으로 돌려준다")
+    void findMemberIdsByPostIds() {
+        // given
+        likeRepository.applyChanges(List.of(
+                new LikeChange(first.getId(), alice.getId(), true),
+                new LikeChange(first.getId(), bob.getId(), true)));
+
+        // when
+        Map<Long, List<Long>> memberIds = likeRepository.findMemberIdsByPostIds(
+                List.of(first.getId(), second.getId(), Long.MAX_VALUE));
+
+        // then
+        assertThat(memberIds).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(memberIds.get(first.getId())).containsExactlyInAnyOrder(alice.getId(), bob.getId());
+        assertThat(memberIds.get(second.getId())).isEmpty();
+    }
+}
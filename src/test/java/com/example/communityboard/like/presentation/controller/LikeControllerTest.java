@@ -0,0 +1,92 @@
+package com.example.communityboard.like.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.like.application.dto.LikeStatus;
+import com.example.communityboard.like.application.service.LikeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LikeController.class)
+@Import(SecurityConfig.class)
+class LikeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LikeService likeService;
+
+    @Test
+    @DisplayName("좋아요를 누르면 현재 좋아요 수를 응답한다")
+    @WithMockUser
+    void like() throws Exception {
+        // given
+        when(likeService.like(5L, 2L)).thenReturn(new LikeStatus(5L, true, 3L));
+
+        // when & then
+        mockMvc.perform(put("/api/posts/5/likes/2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.liked").value(true))
+                .andExpect(jsonPath("$.data.likeCount").value(3))
+                .andExpect(jsonPath("$.message").value("좋아요를 눌렀습니다."));
+    }
+
+    @Test
+    @DisplayName("좋아요를 취소한다")
+    @WithMockUser
+    void unlike() throws Exception {
+        // given
+        when(likeService.unlike(5L, 2L)).thenReturn(new LikeStatus(5L, false, 2L));
+
+        // when & then
+        mockMvc.perform(delete("/api/posts/5/likes/2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.liked").value(false))
+                .andExpect(jsonPath("$.data.likeCount").value(2))
+                .andExpect(jsonPath("$.message").value("좋아요를 취소했습니다."));
+    }
+
+    @Test
+    @DisplayName("회원이 좋아요를 누른 게시글 id를 조회한다")
+    @WithMockUser
+    void getLikedPostIds() throws Exception {
+        // given
+        when(likeService.findLikedPostIds(2L, List.of(1L, 3L, 4L)))
+                .thenReturn(new LinkedHashSet<>(List.of(1L, 4L)));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/likes").param("memberId", "2").param("postIds", "1,3,4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0]").value(1))
+                .andExpect(jsonPath("$.data[1]").value(4));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요를 누르면 400을 응답한다")
+    @WithMockUser
+    void likeWithInvalidPost() throws Exception {
+        // given
+        when(likeService.like(99L, 2L)).thenThrow(new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: 99"));
+
+        // when & then
+        mockMvc.perform(put("/api/posts/99/likes/2").with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("게시글을 찾을 수 없습니다. ID: 99"));
+    }
+}
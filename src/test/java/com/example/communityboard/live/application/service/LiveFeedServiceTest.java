@@ -0,0 +1,149 @@
+package com.example.communityboard.live.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.config.LiveProperties;
+import com.example.communityboard.live.application.dto.PostEventType;
+import com.example.communityboard.live.application.exception.LiveSubscriptionLimitException;
+import com.example.communityboard.live.domain.RecordingSink;
+import com.example.communityboard.live.domain.Subscription;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.post.domain.entity.Post;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LiveFeedServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private LiveFeedService liveFeedService;
+    private LiveProperties properties;
+    private Board board;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LiveProperties();
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        liveFeedService = new LiveFeedService(boardRepository, objectMapper, properties, Runnable::run);
+        board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        ReflectionTestUtils.setField(board, "id", 1L);
+        author = Member.registerMember("writer01", "password123!", "작성자", "writer@example.com",
+                new BCryptPasswordEncoder());
+        ReflectionTestUtils.setField(author, "id", 2L);
+    }
+
+    @Test
+    @DisplayName("커밋된 글을 그 게시판의 구독자에게만 보낸다")
+    void publish() {
+        // given
+        Board other = Board.create("질문게시판", "궁금한 것을 묻는 게시판", BoardType.FREE);
+        ReflectionTestUtils.setField(other, "id", 3L);
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(boardRepository.findById(3L)).thenReturn(Optional.of(other));
+        RecordingSink subscriber = new RecordingSink();
+        RecordingSink otherSubscriber = new RecordingSink();
+        liveFeedService.subscribe(1L, null, subscriber);
+        liveFeedService.subscribe(3L, null, otherSubscriber);
+
+        // when
+        liveFeedService.publishAfterCommit(post(10L), PostEventType.CREATED);
+        liveFeedService.publishAfterCommit(post(10L), PostEventType.UPDATED);
+
+        // then
+        assertThat(subscriber.sent).hasSize(2);
+        assertThat(subscriber.sent.get(0)).endsWith(":post-created");
+        assertThat(subscriber.sent.get(1)).endsWith(":post-updated");
+        assertThat(otherSubscriber.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 붙은 구독자는 놓친 이벤트부터 받는다")
+    void resume() {
+        // given
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        RecordingSink first = new RecordingSink();
+        liveFeedService.subscribe(1L, null, first);
+        liveFeedService.publishAfterCommit(post(10L), PostEventType.CREATED);
+        liveFeedService.publishAfterCommit(post(11L), PostEventType.CREATED);
+        long lastEventId = Long.parseLong(first.sent.get(0).split(":")[0]);
+
+        // when
+        RecordingSink resumed = new RecordingSink();
+        liveFeedService.subscribe(1L, lastEventId, resumed);
+
+        // then
+        assertThat(resumed.sent).containsExactly(first.sent.get(1));
+    }
+
+    @Test
+    @DisplayName("없는 게시판은 구독할 수 없다")
+    void unknownBoard() {
+        // given
+        when(boardRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> liveFeedService.subscribe(9L, null, new RecordingSink()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시판을 찾을 수 없습니다. ID: 9");
+    }
+
+    @Test
+    @DisplayName("연결 수 상한을 넘으면 구독을 거절하고, 연결이 끊기면 다시 받는다")
+    void subscriberLimit() {
+        // given
+        properties.setMaxSubscribers(1);
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        Subscription subscription = liveFeedService.subscribe(1L, null, new RecordingSink());
+
+        // when & then
+        assertThatThrownBy(() -> liveFeedService.subscribe(1L, null, new RecordingSink()))
+                .isInstanceOf(LiveSubscriptionLimitException.class);
+        subscription.close();
+        assertThat(liveFeedService.subscriberCount()).isZero();
+        liveFeedService.subscribe(1L, null, new RecordingSink());
+        assertThat(liveFeedService.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료할 때 열린 연결을 모두 닫는다")
+    void stopClosesAll() {
+        // given
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        RecordingSink sink = new RecordingSink();
+        liveFeedService.subscribe(1L, null, sink);
+
+        // when
+        liveFeedService.stop();
+
+        // then
+        assertThat(sink.closed).isEqualTo(1);
+        assertThat(liveFeedService.subscriberCount()).isZero();
+    }
+
+    private Post post(Long id) {
+        Post post = Post.create(board, author, "새 게시글", "안녕하세요");
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
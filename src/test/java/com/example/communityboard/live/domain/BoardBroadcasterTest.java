@@ -0,0 +1,70 @@
+package com.example.communityboard.live.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardBroadcasterTest {
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @Test
+    @DisplayName("발행한 이벤트를 모든 구독자에게 보낸다")
+    void publish() {
+        // given
+        BoardBroadcaster broadcaster = new BoardBroadcaster(10, ids::incrementAndGet);
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        broadcaster.subscribe(subscription(broadcaster, first));
+        broadcaster.subscribe(subscription(broadcaster, second));
+
+        // when
+        broadcaster.publish("post-created", "{}");
+
+        // then
+        assertThat(first.sent).containsExactly("1:post-created");
+        assertThat(second.sent).containsExactly("1:post-created");
+    }
+
+    @Test
+    @DisplayName("다시 붙은 구독자는 Last-Event-ID 뒤의 최근 이벤트부터 받는다")
+    void resume() {
+        // given
+        BoardBroadcaster broadcaster = new BoardBroadcaster(2, ids::incrementAndGet);
+        broadcaster.publish("post-created", "{}");
+        broadcaster.publish("post-updated", "{}");
+        broadcaster.publish("post-created", "{}");
+        RecordingSink sink = new RecordingSink();
+
+        // when
+        broadcaster.resume(subscription(broadcaster, sink), 1L);
+        broadcaster.publish("post-created", "{}");
+
+        // then
+        assertThat(sink.sent).containsExactly("2:post-updated", "3:post-created", "4:post-created");
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 구독자는 목록에서 빠진다")
+    void unsubscribeOnClose() {
+        // given
+        BoardBroadcaster broadcaster = new BoardBroadcaster(10, ids::incrementAndGet);
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        broadcaster.subscribe(subscription(broadcaster, sink));
+
+        // when
+        broadcaster.publish("post-created", "{}");
+
+        // then
+        assertThat(broadcaster.size()).isZero();
+        assertThat(sink.closed).isEqualTo(1);
+    }
+
+    private static Subscription subscription(BoardBroadcaster broadcaster, RecordingSink sink) {
+        return new Subscription(sink, Runnable::run, 8, OverflowPolicy.DROP_OLDEST, broadcaster::unsubscribe);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.communityboard.live.domain;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 보낸 이벤트를 기록하는 연결. failing이면 보낼 때 끊긴 연결처럼 예외를 던진다
+public class RecordingSink implements EventSink {
+
+    public final List<String> sent = new ArrayList<>();
+    public int heartbeats;
+    public int closed;
+    public boolean failing;
+
+    @Override
+    public void send(LiveEvent event) throws IOException {
+        if (failing) {
+            throw new IOException("Broken pipe");
+        }
+        sent.add(event.id() + ":" + event.name());
+    }
+
+    @Override
+    public void sendHeartbeat() throws IOException {
+        if (failing) {
+            throw new IOException("Broken pipe");
+        }
+        heartbeats++;
+    }
+
+    @Override
+    public void close() {
+        closed++;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.communityboard.live.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger closedCount = new AtomicInteger();
+    private RecordingSink sink;
+
+    @BeforeEach
+    void setUp() {
+        sink = new RecordingSink();
+    }
+
+    @Test
+    @DisplayName("보내는 작업이 돌기 전에 들어온 이벤트는 작업 하나가 이어서 보낸다")
+    void coalescesDrain() {
+        // given
+        Subscription subscription = subscribe(8, OverflowPolicy.DROP_OLDEST);
+
+        // when
+        subscription.offer(event(1));
+        subscription.offer(event(2));
+        subscription.offer(event(3));
+        runTasks();
+
+        // then
+        assertThat(sink.sent).containsExactly("1:post-created", "2:post-created", "3:post-created");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 가장 오래된 이벤트를 버린다")
+    void dropOldest() {
+        // given
+        Subscription subscription = subscribe(2, OverflowPolicy.DROP_OLDEST);
+
+        // when
+        subscription.offer(event(1));
+        subscription.offer(event(2));
+        boolean accepted = subscription.offer(event(3));
+        runTasks();
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(sink.sent).containsExactly("2:post-created", "3:post-created");
+        assertThat(subscription.dropped()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("끊기 정책이면 대기열이 가득 찬 구독자의 연결을 끊는다")
+    void disconnect() {
+        // given
+        Subscription subscription = subscribe(1, OverflowPolicy.DISCONNECT);
+        subscription.offer(event(1));
+
+        // when
+        boolean accepted = subscription.offer(event(2));
+        runTasks();
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(sink.sent).isEmpty();
+        assertThat(sink.closed).isEqualTo(1);
+        assertThat(closedCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근에 이벤트를 보낸 연결에는 하트비트를 보내지 않는다")
+    void heartbeatOnlyWhenIdle() {
+        // given
+        Subscription subscription = subscribe(8, OverflowPolicy.DROP_OLDEST);
+        clock.set(100);
+        subscription.offer(event(1));
+        runTasks();
+
+        // when
+        clock.set(105);
+        subscription.heartbeatIfIdle(10);
+        runTasks();
+        int afterRecentSend = sink.heartbeats;
+        clock.set(111);
+        subscription.heartbeatIfIdle(10);
+        runTasks();
+
+        // then
+        assertThat(afterRecentSend).isZero();
+        assertThat(sink.heartbeats).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보내다 실패하면 구독을 닫는다")
+    void closesOnSendFailure() {
+        // given
+        Subscription subscription = subscribe(8, OverflowPolicy.DROP_OLDEST);
+        sink.failing = true;
+
+        // when
+        subscription.offer(event(1));
+        runTasks();
+
+        // then
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(subscription.offer(event(2))).isFalse();
+        assertThat(closedCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 번 닫아도 정리는 한 번만 한다")
+    void closeOnce() {
+        // given
+        Subscription subscription = subscribe(8, OverflowPolicy.DROP_OLDEST);
+
+        // when
+        subscription.close();
+        subscription.close();
+
+        // then
+        assertThat(sink.closed).isEqualTo(1);
+        assertThat(closedCount.get()).isEqualTo(1);
+    }
+
+    private Subscription subscribe(int capacity, OverflowPolicy policy) {
+        return new Subscription(sink, tasks::add, capacity, policy, closed -> closedCount.incrementAndGet(),
+                clock::get);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static LiveEvent event(long id) {
+        return new LiveEvent(id, "post-created", "{}");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.communityboard.live.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.live.application.exception.LiveSubscriptionLimitException;
+import com.example.communityboard.live.application.service.LiveFeedService;
+import com.example.communityboard.live.domain.Subscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LiveFeedController.class)
+@Import(SecurityConfig.class)
+class LiveFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LiveFeedService liveFeedService;
+
+    @BeforeEach
+    void setUp() {
+        when(liveFeedService.timeout()).thenReturn(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("게시판 이벤트 스트림을 연다")
+    @WithMockUser
+    void subscribe() throws Exception {
+        // given
+        when(liveFeedService.subscribe(eq(1L), isNull(), any())).thenReturn(mock(Subscription.class));
+
+        // when & then
+        mockMvc.perform(get("/api/boards/1/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID를 보내면 그 뒤의 이벤트부터 구독한다")
+    @WithMockUser
+    void resume() throws Exception {
+        // given
+        when(liveFeedService.subscribe(eq(1L), eq(42L), any())).thenReturn(mock(Subscription.class));
+
+        // when
+        mockMvc.perform(get("/api/boards/1/events").header("Last-Event-ID", "42")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        // then
+        verify(liveFeedService).subscribe(eq(1L), eq(42L), any());
+    }
+
+    @Test
+    @DisplayName("연결 수 상한을 넘으면 503을 응답한다")
+    @WithMockUser
+    void subscriberLimit() throws Exception {
+        // given
+        when(liveFeedService.subscribe(eq(1L), isNull(), any())).thenThrow(new LiveSubscriptionLimitException());
+
+        // when & then
+        mockMvc.perform(get("/api/boards/1/events"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value("실시간 알림 연결이 너무 많습니다. 잠시 후 다시 시도해 주세요."));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.communityboard.member.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorLoaderTest {
+
+    @Mock
+    private NicknameCache nicknameCache;
+
+    private NicknameOverrides nicknameOverrides;
+    private AuthorLoader authorLoader;
+
+    @BeforeEach
+    void setUp() {
+        nicknameOverrides = new NicknameOverrides();
+        authorLoader = new AuthorLoader(nicknameCache, nicknameOverrides);
+    }
+
+    @Test
+    @DisplayName("행에 저장된 닉네임이 있으면 회원을 읽지 않는다")
+    void usesStoredNickname() {
+        // given
+        authorLoader.register(1L, "작성자");
+
+        // when
+        String nickname = authorLoader.nicknameOf(1L, "작성자");
+
+        // then
+        assertThat(nickname).isEqualTo("작성자");
+        verifyNoInteractions(nicknameCache);
+    }
+
+    @Test
+    @DisplayName("바뀌는 중인 닉네임은 행에 저장된 닉네임보다 먼저 쓴다")
+    void usesChangingNickname() {
+        // given
+        nicknameOverrides.put(1L, "새닉네임");
+
+        // when
+        String nickname = authorLoader.nicknameOf(1L, "작성자");
+
+        // then
+        assertThat(nickname).isEqualTo("새닉네임");
+    }
+
+    @Test
+    @DisplayName("저장된 닉네임이 없는 작성자는 처음 꺼낼 때 한 번에 읽고, 없는 회원도 다시 찾지 않는다")
+    void loadsRegisteredAtOnce() {
+        // given
+        when(nicknameCache.getAll(List.of(1L, 2L, 3L))).thenReturn(Map.of(1L, "작성자", 2L, "답글러"));
+        authorLoader.register(1L, null);
+        authorLoader.register(2L, null);
+        authorLoader.register(1L, null);
+        authorLoader.register(3L, null);
+        authorLoader.register(4L, "구경꾼");
+
+        // when
+        String first = authorLoader.nicknameOf(1L, null);
+        String second = authorLoader.nicknameOf(2L, null);
+        String missing = authorLoader.nicknameOf(3L, null);
+
+        // then
+        assertThat(first).isEqualTo("작성자");
+        assertThat(second).isEqualTo("답글러");
+        assertThat(missing).isNull();
+        verify(nicknameCache, times(1)).getAll(anyList());
+    }
+
+    @Test
+    @DisplayName("이미 읽은 작성자는 다음 묶음에 다시 넣지 않는다")
+    void loadsOnlyNewAuthorsLater() {
+        // given
+        when(nicknameCache.getAll(List.of(1L))).thenReturn(Map.of(1L, "작성자"));
+        when(nicknameCache.getAll(List.of(4L))).thenReturn(Map.of(4L, "새회원"));
+        authorLoader.nicknameOf(1L, null);
+        authorLoader.register(1L, null);
+
+        // when
+        String nickname = authorLoader.nicknameOf(4L, null);
+
+        // then
+        assertThat(nickname).isEqualTo("새회원");
+        verify(nicknameCache).getAll(List.of(4L));
+    }
+}
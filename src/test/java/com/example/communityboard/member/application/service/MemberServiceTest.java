@@ -1,11 +1,14 @@
 package com.example.communityboard.member.application.service;
 
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
+import com.example.communityboard.member.application.dto.ChangeNicknameResponse;
 import com.example.communityboard.member.application.dto.LoginRequest;
 import com.example.communityboard.member.application.dto.LoginResponse;
 import com.example.communityboard.member.application.dto.SignupRequest;
 import com.example.communityboard.member.application.dto.SignupResponse;
 import com.example.communityboard.member.application.exception.DuplicateEmailException;
 import com.example.communityboard.member.application.exception.DuplicateLoginIdException;
+import com.example.communityboard.member.application.exception.DuplicateNicknameException;
 import com.example.communityboard.member.application.exception.InvalidLoginException;
 import com.example.communityboard.member.domain.entity.Member;
 import com.example.communityboard.member.domain.repository.MemberRepository;
@@ -39,6 +42,15 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private NicknameCache nicknameCache;
+
+    @Mock
+    private NicknamePropagator nicknamePropagator;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -136,6 +148,7 @@ class MemberServiceTest {
         assertThat(response.getEmail()).isEqualTo("new@example.com");
 
         verify(memberRepository).save(any(Member.class));
+        verify(autocompleteService).putMemberAfterCommit(savedMember);
     }
 
     @Test
@@ -190,4 +203,37 @@ class MemberServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("비밀번호는 최소 8자 이상");
     }
+
+    @Test
+    @DisplayName("닉네임을 바꾸면 자동완성과 작성자 닉네임 캐시에 반영하고 작성한 글에 퍼뜨린다")
+    void changeNicknameSuccess() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+        when(memberRepository.existsByNickname(Nickname.of("새닉네임"))).thenReturn(false);
+
+        // when
+        ChangeNicknameResponse response = memberService.changeNickname(1L, "새닉네임");
+
+        // then
+        assertThat(response.getNickname()).isEqualTo("새닉네임");
+        assertThat(testMember.getNickname().getValue()).isEqualTo("새닉네임");
+        verify(autocompleteService).putMemberAfterCommit(testMember);
+        verify(nicknameCache).evictAfterCommit(testMember.getId());
+        verify(nicknamePropagator).request(testMember.getId(), "새닉네임");
+    }
+
+    @Test
+    @DisplayName("다른 회원이 쓰는 닉네임으로 바꾸려 하면 예외가 발생한다")
+    void changeNicknameFailWithDuplicateNickname() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+        when(memberRepository.existsByNickname(Nickname.of("중복닉네임"))).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> memberService.changeNickname(1L, "중복닉네임"))
+                .isInstanceOf(DuplicateNicknameException.class)
+                .hasMessage("이미 사용 중인 닉네임입니다.");
+        assertThat(testMember.getNickname().getValue()).isEqualTo("테스트유저");
+        verifyNoInteractions(autocompleteService, nicknameCache, nicknamePropagator);
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.communityboard.member.application.service;
+
+import com.example.communityboard.common.config.AuthorProperties;
+import com.example.communityboard.member.domain.repository.MemberNickname;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private NicknameCache nicknameCache;
+
+    @BeforeEach
+    void setUp() {
+        nicknameCache = createCache(100);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원만 한 번에 읽고 유효 기간 동안 다시 읽지 않는다")
+    void loadsOnlyMissing() {
+        // given
+        when(memberRepository.findNicknamesByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new MemberNickname(1L, "작성자"), new MemberNickname(2L, "답글러")));
+        when(memberRepository.findNicknamesByIds(List.of(3L))).thenReturn(List.of(new MemberNickname(3L, "구경꾼")));
+        nicknameCache.getAll(List.of(1L, 2L, 1L));
+
+        // when
+        Map<Long, String> nicknames = nicknameCache.getAll(List.of(2L, 3L, 1L));
+
+        // then
+        assertThat(nicknames).containsOnly(Map.entry(1L, "작성자"), Map.entry(2L, "답글러"), Map.entry(3L, "구경꾼"));
+        verify(memberRepository, times(1)).findNicknamesByIds(List.of(1L, 2L));
+        verify(memberRepository, times(1)).findNicknamesByIds(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지나면 다시 읽는다")
+    void reloadsAfterTtl() {
+        // given
+        when(memberRepository.findNicknamesByIds(List.of(1L))).thenReturn(
+                List.of(new MemberNickname(1L, "작성자")),
+                List.of(new MemberNickname(1L, "새닉네임")));
+        nicknameCache.getAll(List.of(1L));
+
+        // when
+        clock.set(100);
+        Map<Long, String> nicknames = nicknameCache.getAll(List.of(1L));
+
+        // then
+        assertThat(nicknames).containsOnly(Map.entry(1L, "새닉네임"));
+    }
+
+    @Test
+    @DisplayName("없는 회원은 결과에서 빠진다")
+    void missingMember() {
+        // given
+        when(memberRepository.findNicknamesByIds(List.of(9L))).thenReturn(List.of());
+
+        // when & then
+        assertThat(nicknameCache.getAll(List.of(9L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀌면 다음 조회에서 다시 읽는다")
+    void evict() {
+        // given
+        when(memberRepository.findNicknamesByIds(List.of(1L))).thenReturn(
+                List.of(new MemberNickname(1L, "작성자")),
+                List.of(new MemberNickname(1L, "새닉네임")));
+        nicknameCache.getAll(List.of(1L));
+
+        // when
+        nicknameCache.evictAfterCommit(1L);
+        Map<Long, String> nicknames = nicknameCache.getAll(List.of(1L));
+
+        // then
+        assertThat(nicknames).containsOnly(Map.entry(1L, "새닉네임"));
+    }
+
+    @Test
+    @DisplayName("읽는 사이 닉네임이 바뀌면 읽은 값을 캐시에 넣지 않는다")
+    void loadRacingWithEvict() {
+        // given
+        when(memberRepository.findNicknamesByIds(List.of(1L)))
+                .thenAnswer(invocation -> {
+                    nicknameCache.evict(1L);
+                    return List.of(new MemberNickname(1L, "작성자"));
+                })
+                .thenReturn(List.of(new MemberNickname(1L, "새닉네임")));
+        nicknameCache.getAll(List.of(1L));
+
+        // when
+        Map<Long, String> nicknames = nicknameCache.getAll(List.of(1L));
+
+        // then
+        assertThat(nicknames).containsOnly(Map.entry(1L, "새닉네임"));
+        verify(memberRepository, times(2)).findNicknamesByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("캐시 크기를 넘으면 만료된 닉네임부터 내린다")
+    void trimsExpired() {
+        // given
+        nicknameCache = createCache(2);
+        when(memberRepository.findNicknamesByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new MemberNickname(id, "회원" + id)).toList();
+        });
+        nicknameCache.getAll(List.of(1L, 2L));
+        clock.set(100);
+
+        // when
+        nicknameCache.getAll(List.of(3L));
+
+        // then
+        assertThat(nicknameCache.size()).isEqualTo(1);
+    }
+
+    private NicknameCache createCache(int maxCachedNicknames) {
+        AuthorProperties properties = new AuthorProperties();
+        properties.setNicknameTtl(Duration.ofNanos(100));
+        properties.setMaxCachedNicknames(maxCachedNicknames);
+        return new NicknameCache(memberRepository, properties, clock::get);
+    }
+}
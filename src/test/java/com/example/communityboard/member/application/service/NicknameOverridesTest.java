@@ -0,0 +1,67 @@
+package com.example.communityboard.member.application.service;
+
+import com.example.communityboard.member.domain.repository.PendingNickname;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameOverridesTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final NicknameOverrides nicknameOverrides = new NicknameOverrides(clock::get);
+
+    @Test
+    @DisplayName("남은 작업 목록으로 바꾸고 끝난 작업의 닉네임은 내린다")
+    void refresh() {
+        // given
+        nicknameOverrides.put(1L, "끝난회원");
+        clock.set(10);
+
+        // when
+        nicknameOverrides.refresh(() -> List.of(new PendingNickname(2L, "남은회원")));
+
+        // then
+        assertThat(nicknameOverrides.get(1L)).isNull();
+        assertThat(nicknameOverrides.get(2L)).isEqualTo("남은회원");
+        assertThat(nicknameOverrides.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록을 읽는 사이 들어온 닉네임은 목록에 없어도 남긴다")
+    void keepsNicknameAddedWhileReading() {
+        // given
+        clock.set(10);
+
+        // when
+        nicknameOverrides.refresh(() -> {
+            clock.set(11);
+            nicknameOverrides.put(1L, "새닉네임");
+            return List.of(new PendingNickname(2L, "이전목록"));
+        });
+
+        // then
+        assertThat(nicknameOverrides.get(1L)).isEqualTo("새닉네임");
+        assertThat(nicknameOverrides.get(2L)).isEqualTo("이전목록");
+    }
+
+    @Test
+    @DisplayName("목록을 읽는 사이 다시 바뀐 닉네임은 읽은 목록으로 덮어쓰지 않는다")
+    void keepsNewerNickname() {
+        // given
+        clock.set(10);
+
+        // when
+        nicknameOverrides.refresh(() -> {
+            clock.set(11);
+            nicknameOverrides.put(1L, "새닉네임");
+            return List.of(new PendingNickname(1L, "이전닉네임"));
+        });
+
+        // then
+        assertThat(nicknameOverrides.get(1L)).isEqualTo("새닉네임");
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.communityboard.member.application.service;
+
+import com.example.communityboard.common.config.AuthorProperties;
+import com.example.communityboard.member.domain.repository.NicknamePropagationRepository;
+import com.example.communityboard.member.domain.repository.PendingNickname;
+import com.example.communityboard.member.domain.repository.PropagationChunk;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NicknamePropagatorTest {
+
+    @Mock
+    private NicknamePropagationRepository nicknamePropagationRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private NicknameOverrides nicknameOverrides;
+    private NicknamePropagator nicknamePropagator;
+
+    @BeforeEach
+    void setUp() {
+        AuthorProperties properties = new AuthorProperties();
+        properties.setPropagationChunkSize(2);
+        properties.setPropagationPause(Duration.ZERO);
+        nicknameOverrides = new NicknameOverrides(clock::get);
+        nicknamePropagator = new NicknamePropagator(nicknamePropagationRepository, nicknameOverrides, properties,
+                Runnable::run);
+        nicknamePropagator.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("닉네임 변경이 커밋되면 목록에 바로 반영하고 남은 글이 없을 때까지 나눠서 고친다")
+    void requestPropagatesAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(nicknamePropagationRepository.findAll()).thenReturn(List.of(new PendingNickname(1L, "새닉네임")));
+        when(nicknamePropagationRepository.propagateChunk(1L, 2)).thenReturn(
+                Optional.of(new PropagationChunk("새닉네임", 2, false)),
+                Optional.of(new PropagationChunk("새닉네임", 1, false)),
+                Optional.of(new PropagationChunk("새닉네임", 0, true)));
+
+        // when
+        nicknamePropagator.request(1L, "새닉네임");
+        String beforeCommit = nicknameOverrides.get(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(beforeCommit).isNull();
+        assertThat(nicknameOverrides.get(1L)).isEqualTo("새닉네임");
+        verify(nicknamePropagationRepository).request(1L, "새닉네임");
+        verify(nicknamePropagationRepository, times(3)).propagateChunk(1L, 2);
+    }
+
+    @Test
+    @DisplayName("한 회원의 전파가 실패해도 다음 회원은 계속 고치고, 실패한 작업은 남겨 둔다")
+    void failureDoesNotStopOthers() {
+        // given
+        when(nicknamePropagationRepository.findAll()).thenReturn(List.of(
+                new PendingNickname(1L, "첫회원"), new PendingNickname(2L, "둘째회원")));
+        when(nicknamePropagationRepository.propagateChunk(1L, 2)).thenThrow(new IllegalStateException("lock timeout"));
+        when(nicknamePropagationRepository.propagateChunk(2L, 2))
+                .thenReturn(Optional.of(new PropagationChunk("둘째회원", 0, true)));
+
+        // when
+        nicknamePropagator.check();
+
+        // then
+        verify(nicknamePropagationRepository).propagateChunk(2L, 2);
+        assertThat(nicknameOverrides.get(1L)).isEqualTo("첫회원");
+    }
+
+    @Test
+    @DisplayName("끝난 작업의 닉네임은 다음 확인 때 목록에서 내린다")
+    void finishedOverrideIsDroppedOnNextCheck() {
+        // given
+        when(nicknamePropagationRepository.findAll()).thenReturn(
+                List.of(new PendingNickname(1L, "새닉네임")),
+                List.of());
+        when(nicknamePropagationRepository.propagateChunk(1L, 2))
+                .thenReturn(Optional.of(new PropagationChunk("새닉네임", 0, true)));
+        nicknamePropagator.check();
+        String afterFinish = nicknameOverrides.get(1L);
+        clock.set(1);
+
+        // when
+        nicknamePropagator.check();
+
+        // then
+        assertThat(afterFinish).isEqualTo("새닉네임");
+        assertThat(nicknameOverrides.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("멈춘 뒤에는 전파하지 않는다")
+    void stopped() {
+        // given
+        nicknamePropagator.stop();
+
+        // when
+        nicknamePropagator.check();
+
+        // then
+        verifyNoInteractions(nicknamePropagationRepository);
+    }
+}
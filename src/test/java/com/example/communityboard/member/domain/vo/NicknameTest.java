@@ -1,11 +1,15 @@
 package com.example.communityboard.member.domain.vo;
 
 import com.example.communityboard.member.domain.vo.Nickname;
+import com.example.communityboard.moderation.domain.AhoCorasickMatcher;
+import com.example.communityboard.moderation.domain.ContentFilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -116,4 +120,21 @@ class NicknameTest {
         // when & then
         assertThat(nickname1).isNotEqualTo(nickname2);
     }
+
+    @Test
+    @DisplayName("금칙어가 들어간 닉네임은 예외가 발생한다")
+    void createNickname_BannedTerm() {
+        // given
+        ContentFilter.install(AhoCorasickMatcher.compile(List.of("병신")));
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> Nickname.of("나는병신"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("닉네임에 사용할 수 없는 단어가 포함되어 있습니다.");
+            assertThat(Nickname.of("병아리").getValue()).isEqualTo("병아리");
+        } finally {
+            ContentFilter.install(AhoCorasickMatcher.EMPTY);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.example.communityboard.member.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.comment.domain.entity.Comment;
+import com.example.communityboard.comment.domain.repository.CommentRepository;
+import com.example.communityboard.comment.infrastructure.persistence.CommentRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.domain.repository.NicknamePropagationRepository;
+import com.example.communityboard.member.domain.repository.PendingNickname;
+import com.example.communityboard.member.domain.repository.PropagationChunk;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.infrastructure.persistence.PostRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcNicknamePropagationRepository.class, CommentRepositoryImpl.class, PostRepositoryImpl.class,
+        BoardRepositoryImpl.class, MemberRepositoryImpl.class, JpaConfig.class})
+class JdbcNicknamePropagationRepositoryTest {
+
+    @Autowired
+    private NicknamePropagationRepository nicknamePropagationRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member author;
+    private Member other;
+
+    @BeforeEach
+    void setUp() {
+        Board board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        author = memberRepository.save(Member.registerMember("writer01", "password123!", "작성자",
+                "writer@example.com", new BCryptPasswordEncoder()));
+        other = memberRepository.save(Member.registerMember("writer02", "password123!", "다른회원",
+                "other@example.com", new BCryptPasswordEncoder()));
+        Post first = postRepository.save(Post.create(board, author, "첫 게시글", "안녕하세요"));
+        postRepository.save(Post.create(board, other, "다른 회원 글", "안녕하세요"));
+        postRepository.save(Post.create(board, author, "두 번째 글", "안녕하세요"));
+        postRepository.save(Post.create(board, author, "세 번째 글", "안녕하세요"));
+        Comment comment = commentRepository.save(Comment.create(first, author, "첫 댓글"));
+        comment.assignPath();
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("회원의 게시글, 그다음 댓글을 청크 크기만큼 고치고 남은 것이 없으면 작업을 지운다")
+    void propagateChunk() {
+        // given
+        nicknamePropagationRepository.request(author.getId(), "새닉네임");
+
+        // when
+        PropagationChunk posts = nicknamePropagationRepository.propagateChunk(author.getId(), 2).orElseThrow();
+        PropagationChunk rest = nicknamePropagationRepository.propagateChunk(author.getId(), 2).orElseThrow();
+        PropagationChunk comments = nicknamePropagationRepository.propagateChunk(author.getId(), 2).orElseThrow();
+        PropagationChunk finished = nicknamePropagationRepository.propagateChunk(author.getId(), 2).orElseThrow();
+
+        // then
+        assertThat(posts.updatedRows()).isEqualTo(2);
+        assertThat(rest.updatedRows()).isEqualTo(1);
+        assertThat(comments.updatedRows()).isEqualTo(1);
+        assertThat(finished.finished()).isTrue();
+        assertThat(nicknamesOf("post", author)).containsOnly("새닉네임");
+        assertThat(nicknamesOf("comment", author)).containsOnly("새닉네임");
+        assertThat(nicknamesOf("post", other)).containsOnly("다른회원");
+        assertThat(nicknamePropagationRepository.findAll()).isEmpty();
+        assertThat(nicknamePropagationRepository.propagateChunk(author.getId(), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전파 중에 닉네임이 다시 바뀌면 새 닉네임으로 처음부터 다시 고친다")
+    void requestAgainRestarts() {
+        // given
+        nicknamePropagationRepository.request(author.getId(), "새닉네임");
+        nicknamePropagationRepository.propagateChunk(author.getId(), 2);
+
+        // when
+        nicknamePropagationRepository.request(author.getId(), "또바뀜");
+        PropagationChunk chunk = nicknamePropagationRepository.propagateChunk(author.getId(), 2).orElseThrow();
+
+        // then
+        assertThat(chunk.nickname()).isEqualTo("또바뀜");
+        assertThat(chunk.updatedRows()).isEqualTo(2);
+        assertThat(nicknamePropagationRepository.findAll())
+                .containsExactly(new PendingNickname(author.getId(), "또바뀜"));
+    }
+
+    private List<String> nicknamesOf(String table, Member member) {
+        return jdbcTemplate.queryForList("select author_nickname from " + table + " where author_id = ?",
+                String.class, member.getId());
+    }
+}
@@ -2,9 +2,11 @@ package com.example.communityboard.member.infrastructure.persistence;
 
 import com.example.communityboard.common.config.JpaConfig;
 import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberNickname;
 import com.example.communityboard.member.domain.repository.MemberRepository;
 import com.example.communityboard.member.domain.vo.Email;
 import com.example.communityboard.member.domain.vo.LoginId;
+import com.example.communityboard.member.domain.vo.Nickname;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +16,10 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -112,4 +117,32 @@ class MemberRepositoryImplTest {
         assertThat(memberRepository.existsByEmail(existingEmail)).isTrue();
         assertThat(memberRepository.existsByEmail(newEmail)).isFalse();
     }
+
+    @Test
+    @DisplayName("닉네임 중복 여부를 확인할 수 있다")
+    void existsByNickname() {
+        // when & then
+        assertThat(memberRepository.existsByNickname(Nickname.of("테스트유저"))).isTrue();
+        assertThat(memberRepository.existsByNickname(Nickname.of("새유저"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 회원의 닉네임을 한 번에 조회하고 없는 회원은 빠진다")
+    void findNicknamesByIds() {
+        // given
+        Member other = memberRepository.save(Member.registerMember(
+                "otheruser", "password123!", "다른유저", "other@example.com", passwordEncoder));
+        // 한 번에 보내는 IN 목록 크기를 넘도록 없는 ID를 섞는다
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1_000_001, 1_000_600).boxed().toList());
+        ids.add(savedMember.getId());
+        ids.add(other.getId());
+
+        // when
+        List<MemberNickname> nicknames = memberRepository.findNicknamesByIds(ids);
+
+        // then
+        assertThat(nicknames).containsExactlyInAnyOrder(
+                new MemberNickname(savedMember.getId(), "테스트유저"),
+                new MemberNickname(other.getId(), "다른유저"));
+    }
 }
\ No newline at end of file
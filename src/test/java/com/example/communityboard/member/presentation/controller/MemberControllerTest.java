@@ -1,10 +1,13 @@
 package com.example.communityboard.member.presentation.controller;
 
+import com.example.communityboard.member.application.dto.ChangeNicknameRequest;
+import com.example.communityboard.member.application.dto.ChangeNicknameResponse;
 import com.example.communityboard.member.application.dto.LoginRequest;
 import com.example.communityboard.member.application.dto.LoginResponse;
 import com.example.communityboard.member.application.dto.SignupRequest;
 import com.example.communityboard.member.application.dto.SignupResponse;
 import com.example.communityboard.member.application.exception.DuplicateLoginIdException;
+import com.example.communityboard.member.application.exception.DuplicateNicknameException;
 import com.example.communityboard.member.application.exception.InvalidLoginException;
 import com.example.communityboard.member.application.service.MemberService;
 import com.example.communityboard.common.config.TestSecurityConfig;
@@ -20,7 +23,9 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -149,4 +154,43 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.message").exists());
     }
+
+    @Test
+    @DisplayName("닉네임 변경 성공시 200 OK와 바뀐 닉네임을 반환한다")
+    @WithMockUser
+    void changeNicknameSuccess() throws Exception {
+        // given
+        ChangeNicknameRequest request = new ChangeNicknameRequest("새닉네임");
+        given(memberService.changeNickname(eq(1L), eq("새닉네임")))
+                .willReturn(new ChangeNicknameResponse(1L, "새닉네임"));
+
+        // when & then
+        mockMvc.perform(patch("/api/members/1/nickname")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("닉네임이 변경되었습니다."))
+                .andExpect(jsonPath("$.data.memberId").value(1))
+                .andExpect(jsonPath("$.data.nickname").value("새닉네임"));
+    }
+
+    @Test
+    @DisplayName("중복된 닉네임으로 변경 시도시 409 CONFLICT를 반환한다")
+    @WithMockUser
+    void changeNicknameFailWithDuplicateNickname() throws Exception {
+        // given
+        ChangeNicknameRequest request = new ChangeNicknameRequest("중복닉네임");
+        given(memberService.changeNickname(eq(1L), eq("중복닉네임")))
+                .willThrow(new DuplicateNicknameException());
+
+        // when & then
+        mockMvc.perform(patch("/api/members/1/nickname")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("이미 사용 중인 닉네임입니다."));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.communityboard.moderation.application.service;
+
+import com.example.communityboard.common.config.ModerationProperties;
+import com.example.communityboard.moderation.application.dto.BannedTermsStatus;
+import com.example.communityboard.moderation.domain.AhoCorasickMatcher;
+import com.example.communityboard.moderation.domain.ContentFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentFilterServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private Path dictionary;
+    private ContentFilterService contentFilterService;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = directory.resolve("banned-terms.txt");
+        ModerationProperties properties = new ModerationProperties();
+        properties.setBannedTermsLocation(dictionary.toUri().toString());
+        contentFilterService = new ContentFilterService(new DefaultResourceLoader(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContentFilter.install(AhoCorasickMatcher.EMPTY);
+    }
+
+    @Test
+    @DisplayName("사전 파일을 다시 읽으면 주석과 빈 줄을 빼고 새 사전으로 바꿔 끼운다")
+    void reload() throws IOException {
+        // given
+        Files.writeString(dictionary, "# 주석\n병신\n\n");
+        contentFilterService.load();
+        Files.writeString(dictionary, "지랄\nfuck\n");
+
+        // when
+        BannedTermsStatus status = contentFilterService.reload();
+
+        // then
+        assertThat(status.termCount()).isEqualTo(2);
+        assertThat(contentFilterService.status()).isEqualTo(status);
+        assertThat(ContentFilter.containsBannedTerm("지 랄")).isTrue();
+        assertThat(ContentFilter.containsBannedTerm("병신")).isFalse();
+    }
+
+    @Test
+    @DisplayName("사전을 읽지 못하면 쓰던 사전을 그대로 둔다")
+    void keepsPreviousOnFailure() throws IOException {
+        // given
+        Files.writeString(dictionary, "병신\n");
+        contentFilterService.load();
+        Files.delete(dictionary);
+
+        // when & then
+        assertThatThrownBy(() -> contentFilterService.reload())
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageStartingWith("금칙어 사전을 읽을 수 없습니다");
+        assertThat(ContentFilter.containsBannedTerm("병신")).isTrue();
+        assertThat(contentFilterService.status().termCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기본 사전을 읽는다")
+    void loadsDefaultDictionary() {
+        // given
+        ContentFilterService defaultService = new ContentFilterService(new DefaultResourceLoader(),
+                new ModerationProperties());
+
+        // when
+        defaultService.load();
+
+        // then
+        assertThat(defaultService.status().termCount()).isPositive();
+        assertThat(ContentFilter.containsBannedTerm("씨 발")).isTrue();
+        assertThat(ContentFilter.containsBannedTerm("관리자")).isFalse();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.communityboard.moderation.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    private final AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("씨발", "병신", "fuck", "he", "she", "hers"));
+
+    @Test
+    @DisplayName("사전의 단어가 글 어디에 있든 찾고, 없으면 찾지 않는다")
+    void findsAnyTerm() {
+        // when & then
+        assertThat(matcher.findFirst("오늘 병신 같은 일이 있었다")).contains("병신");
+        assertThat(matcher.findFirst("ushers")).contains("she");
+        assertThat(matcher.matches("오늘 좋은 일이 있었다")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("앞 단어를 따라가다 실패해도 겹쳐 있는 다른 단어를 놓치지 않는다")
+    void followsFailureLinks() {
+        // given
+        AhoCorasickMatcher overlapping = AhoCorasickMatcher.compile(List.of("abcd", "bc"));
+
+        // when & then
+        assertThat(overlapping.findFirst("xabce")).contains("bc");
+        assertThat(overlapping.findFirst("abcabcd")).contains("bc");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"씨 발", "씨\u200B발", "ㅆㅣ발", "ㅆㅣㅂㅏㄹ", "씨발", "ＦＵＣＫ", "F u C k"})
+    @DisplayName("공백, 폭 없는 문자, 자모 풀어쓰기, 전각 문자, 대소문자로 피해 가도 찾는다")
+    void normalizesEvasions(String text) {
+        // when & then
+        assertThat(matcher.matches(text)).isTrue();
+    }
+
+    @Test
+    @DisplayName("고쳐 쓴 결과가 같은 단어와 빈 단어는 하나로 센다")
+    void deduplicatesTerms() {
+        // given
+        AhoCorasickMatcher compiled = AhoCorasickMatcher.compile(List.of("Fuck", "fuck", "f u c k", " ", "병신"));
+
+        // when & then
+        assertThat(compiled.termCount()).isEqualTo(2);
+        assertThat(AhoCorasickMatcher.EMPTY.matches("병신")).isFalse();
+    }
+}
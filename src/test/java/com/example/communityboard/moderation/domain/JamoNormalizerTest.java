@@ -0,0 +1,18 @@
+package com.example.communityboard.moderation.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JamoNormalizerTest {
+
+    @Test
+    @DisplayName("한글 음절은 호환 자모로 풀고, 공백은 버리고, 영문은 소문자로 바꾼다")
+    void normalize() {
+        // when & then
+        assertThat(JamoNormalizer.normalize("닭 Ａb")).isEqualTo("ㄷㅏㄺab");
+        assertThat(JamoNormalizer.normalize("\u1100\u1161\u11A8")).isEqualTo("ㄱㅏㄱ");
+        assertThat(JamoNormalizer.normalize("　\t")).isEmpty();
+    }
+}
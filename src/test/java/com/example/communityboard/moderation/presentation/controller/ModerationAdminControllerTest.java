@@ -0,0 +1,73 @@
+package com.example.communityboard.moderation.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.moderation.application.dto.BannedTermsStatus;
+import com.example.communityboard.moderation.application.service.ContentFilterService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ModerationAdminController.class)
+@Import(SecurityConfig.class)
+class ModerationAdminControllerTest {
+
+    private static final BannedTermsStatus STATUS = new BannedTermsStatus(
+            "classpath:moderation/banned-terms.txt", 17, 60, LocalDateTime.of(2025, 3, 1, 12, 0));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ContentFilterService contentFilterService;
+
+    @Test
+    @DisplayName("관리자가 요청하면 금칙어 사전을 다시 읽는다")
+    @WithMockUser(roles = "ADMIN")
+    void reload() throws Exception {
+        // given
+        when(contentFilterService.reload()).thenReturn(STATUS);
+
+        // when & then
+        mockMvc.perform(post("/api/admin/moderation/banned-terms/reload").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("금칙어 사전을 다시 읽었습니다."))
+                .andExpect(jsonPath("$.data.termCount").value(17));
+    }
+
+    @Test
+    @DisplayName("지금 쓰는 사전의 단어 수를 응답한다")
+    @WithMockUser(roles = "ADMIN")
+    void getStatus() throws Exception {
+        // given
+        when(contentFilterService.status()).thenReturn(STATUS);
+
+        // when & then
+        mockMvc.perform(get("/api/admin/moderation/banned-terms"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.location").value("classpath:moderation/banned-terms.txt"))
+                .andExpect(jsonPath("$.data.stateCount").value(60));
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 403을 응답한다")
+    @WithMockUser
+    void reloadWithoutAdmin() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/admin/moderation/banned-terms/reload").with(csrf()))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(contentFilterService);
+    }
+}
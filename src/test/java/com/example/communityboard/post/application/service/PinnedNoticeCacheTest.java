@@ -0,0 +1,118 @@
+package com.example.communityboard.post.application.service;
+
+import com.example.communityboard.common.config.PinnedNoticeProperties;
+import com.example.communityboard.member.application.service.NicknameCache;
+import com.example.communityboard.post.application.dto.PinnedNotices;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PinnedNoticeCacheTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private NicknameCache nicknameCache;
+
+    private PinnedNoticeCache pinnedNoticeCache;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        pinnedNoticeCache = new PinnedNoticeCache(postRepository, objectMapper, new PinnedNoticeProperties(),
+                nicknameCache);
+    }
+
+    @Test
+    @DisplayName("고정 공지를 작성자 닉네임과 함께 한 번 읽어 직렬화해 두고 이후에는 DB를 읽지 않는다")
+    void getLoadsOnce() {
+        // given
+        when(postRepository.findPinnedNotices(10)).thenReturn(List.of(
+                new PostSummary(3L, 1L, 2L, "점검 안내", CREATED_AT, "운영자")));
+        when(nicknameCache.getAll(List.of(2L))).thenReturn(Map.of(2L, "운영자"));
+
+        // when
+        PinnedNotices first = pinnedNoticeCache.get();
+        PinnedNotices second = pinnedNoticeCache.get();
+
+        // then
+        assertThat(first.json()).isEqualTo(
+                "[{\"id\":3,\"boardId\":1,\"authorId\":2,\"authorNickname\":\"운영자\",\"title\":\"점검 안내\","
+                        + "\"createdAt\":\"2025-03-01T12:00:00\"}]");
+        assertThat(second).isSameAs(first);
+        verify(postRepository, times(1)).findPinnedNotices(10);
+        verify(nicknameCache, times(1)).getAll(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("공지가 같으면 다시 읽어도 버전이 같고, 바뀌면 버전이 달라진다")
+    void versionFollowsContent() {
+        // given
+        PostSummary notice = new PostSummary(3L, 1L, 2L, "점검 안내", CREATED_AT, "작성자");
+        when(postRepository.findPinnedNotices(10)).thenReturn(
+                List.of(notice),
+                List.of(notice),
+                List.of());
+
+        // when
+        PinnedNotices first = pinnedNoticeCache.refresh();
+        PinnedNotices same = pinnedNoticeCache.refresh();
+        PinnedNotices unpinned = pinnedNoticeCache.refresh();
+
+        // then
+        assertThat(same.version()).isEqualTo(first.version());
+        assertThat(unpinned.version()).isNotEqualTo(first.version());
+        assertThat(unpinned.json()).isEqualTo("[]");
+        assertThat(pinnedNoticeCache.get()).isSameAs(unpinned);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 다시 읽는다")
+    void refreshAfterCommitWithoutTransaction() {
+        // given
+        when(postRepository.findPinnedNotices(10)).thenReturn(List.of());
+
+        // when
+        pinnedNoticeCache.refreshAfterCommit();
+
+        // then
+        verify(postRepository).findPinnedNotices(10);
+    }
+
+    @Test
+    @DisplayName("주기적으로 다시 읽다가 실패하면 이전 목록을 유지한다")
+    void refreshPeriodicallyKeepsPreviousOnFailure() {
+        // given
+        when(postRepository.findPinnedNotices(10))
+                .thenReturn(List.of(new PostSummary(3L, 1L, 2L, "점검 안내", CREATED_AT, "작성자")))
+                .thenThrow(new IllegalStateException("db down"));
+        PinnedNotices loaded = pinnedNoticeCache.get();
+
+        // when
+        pinnedNoticeCache.refreshPeriodically();
+
+        // then
+        assertThat(pinnedNoticeCache.get()).isSameAs(loaded);
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.communityboard.post.application.service;
+
+import com.example.communityboard.autocomplete.application.service.AutocompleteService;
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.feed.application.service.BoardHeadCache;
+import com.example.communityboard.live.application.dto.PostEventType;
+import com.example.communityboard.live.application.service.LiveFeedService;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.example.communityboard.post.application.exception.PostAccessDeniedException;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.search.application.service.SearchIndexService;
+import com.example.communityboard.spam.application.dto.SpamInspection;
+import com.example.communityboard.spam.application.exception.SpamDetectedException;
+import com.example.communityboard.spam.application.service.SpamDetectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PostWriter postWriter;
+
+    @Mock
+    private PinnedNoticeCache pinnedNoticeCache;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private SpamDetectionService spamDetectionService;
+
+    @Mock
+    private LiveFeedService liveFeedService;
+
+    @Mock
+    private BoardHeadCache boardHeadCache;
+
+    @InjectMocks
+    private PostService postService;
+
+    private Board board;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        author = Member.registerMember("writer01", "password123!", "작성자", "writer@example.com",
+                new BCryptPasswordEncoder());
+        ReflectionTestUtils.setField(author, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("게시글을 작성한다")
+    void createPost() {
+        // given
+        when(boardRepository.findById(10L)).thenReturn(Optional.of(board));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(postWriter.write(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(spamDetectionService.inspect(BoardType.FREE, "첫 게시글", "안녕하세요")).thenReturn(SpamInspection.SKIPPED);
+
+        // when
+        Post result = postService.createPost(10L, 1L, "첫 게시글", "안녕하세요");
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("첫 게시글");
+        assertThat(result.getBoard()).isEqualTo(board);
+        assertThat(result.getAuthor()).isEqualTo(author);
+        verify(postWriter, times(1)).write(any(Post.class));
+        verifyNoInteractions(pinnedNoticeCache);
+        verify(searchIndexService).indexPostAfterCommit(result);
+        verify(autocompleteService).recordPostAfterCommit(result);
+        verify(liveFeedService).publishAfterCommit(result, PostEventType.CREATED);
+        verify(boardHeadCache).evictAfterCommit(board.getId());
+        verify(spamDetectionService).record(result.getId(), SpamInspection.SKIPPED);
+    }
+
+    @Test
+    @DisplayName("최근 글과 거의 같은 글은 저장하지 않는다")
+    void createNearDuplicatePost() {
+        // given
+        when(boardRepository.findById(10L)).thenReturn(Optional.of(board));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(spamDetectionService.inspect(BoardType.FREE, "첫 게시글", "안녕하세요"))
+                .thenThrow(new SpamDetectedException());
+
+        // when & then
+        assertThatThrownBy(() -> postService.createPost(10L, 1L, "첫 게시글", "안녕하세요"))
+                .isInstanceOf(SpamDetectedException.class);
+        verify(postWriter, never()).write(any());
+        verify(spamDetectionService, never()).record(any(), any());
+    }
+
+    @Test
+    @DisplayName("관리자가 작성한 공지는 고정되지 않은 채로 저장된다")
+    void createNotice() {
+        // given
+        Board notice = Board.create("공지사항", "운영 공지", BoardType.NOTICE);
+        Member admin = Member.registerAdmin("admin01", "password123!", "운영자", "admin@example.com",
+                new BCryptPasswordEncoder());
+        when(boardRepository.findById(20L)).thenReturn(Optional.of(notice));
+        when(memberRepository.findById(2L)).thenReturn(Optional.of(admin));
+        when(postWriter.write(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Post result = postService.createPost(20L, 2L, "점검 안내", "오늘 밤 점검합니다");
+
+        // then
+        assertThat(result.isPinned()).isFalse();
+        verifyNoInteractions(pinnedNoticeCache);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시판에는 게시글을 작성할 수 없다")
+    void createPostBoardNotFound() {
+        // given
+        when(boardRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postService.createPost(999L, 1L, "첫 게시글", "안녕하세요"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시판을 찾을 수 없습니다. ID: 999");
+        verify(postWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("일반 회원은 공지사항 게시판에 글을 작성할 수 없다")
+    void createPostOnNoticeBoardByMember() {
+        // given
+        Board notice = Board.create("공지사항", "운영 공지", BoardType.NOTICE);
+        when(boardRepository.findById(20L)).thenReturn(Optional.of(notice));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+
+        // when & then
+        assertThatThrownBy(() -> postService.createPost(20L, 1L, "공지입니다", "내용"))
+                .isInstanceOf(PostAccessDeniedException.class)
+                .hasMessage("공지사항 게시판에는 관리자만 글을 작성할 수 있습니다.");
+        verify(postWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글 조회시 예외가 발생한다")
+    void getPostNotFound() {
+        // given
+        when(postRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPost(999L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다. ID: 999");
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 행 위치로 커서를 만든다")
+    void getPostsWithNextPage() {
+        // given
+        List<PostSummary> rows = summaries(3);
+        when(postRepository.findPageByBoardId(eq(10L), isNull(), eq(3))).thenReturn(rows);
+
+        // when
+        PostPage page = postService.getPosts(10L, null, 2);
+
+        // then
+        assertThat(page.posts()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(PostCursor.decode(page.nextCursor())).isEqualTo(PostCursor.from(rows.get(1)));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 다음 커서가 없다")
+    void getPostsLastPage() {
+        // given
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 0), 50L);
+        when(postRepository.findPageByBoardId(10L, cursor, 3)).thenReturn(summaries(1));
+
+        // when
+        PostPage page = postService.getPosts(10L, cursor.encode(), 2);
+
+        // then
+        assertThat(page.posts()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 예외가 발생한다")
+    void getPostsInvalidSize() {
+        assertThatThrownBy(() -> postService.getPosts(10L, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postService.getPosts(10L, null, PostService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("작성자는 게시글을 수정할 수 있다")
+    void updatePost() {
+        // given
+        Post post = Post.create(board, author, "첫 게시글", "안녕하세요");
+        when(postRepository.findById(5L)).thenReturn(Optional.of(post));
+        when(postRepository.save(post)).thenReturn(post);
+
+        // when
+        Post result = postService.updatePost(5L, 1L, "수정된 제목", "수정된 내용");
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("수정된 제목");
+        assertThat(result.getContent()).isEqualTo("수정된 내용");
+        verify(searchIndexService).indexPostAfterCommit(result);
+        verify(liveFeedService).publishAfterCommit(result, PostEventType.UPDATED);
+    }
+
+    @Test
+    @DisplayName("공지를 고정하면 고정 공지 캐시를 다시 읽는다")
+    void pinNotice() {
+        // given
+        Member admin = Member.registerAdmin("admin01", "password123!", "운영자", "admin@example.com",
+                new BCryptPasswordEncoder());
+        Post notice = Post.create(Board.create("공지사항", "운영 공지", BoardType.NOTICE), admin, "점검 안내", "내용");
+        when(postRepository.findById(5L)).thenReturn(Optional.of(notice));
+        when(postRepository.save(notice)).thenReturn(notice);
+
+        // when
+        Post result = postService.pinNotice(5L);
+
+        // then
+        assertThat(result.isPinned()).isTrue();
+        verify(pinnedNoticeCache).refreshAfterCommit();
+    }
+
+    @Test
+    @DisplayName("공지 고정을 해제하면 고정 공지 캐시를 다시 읽는다")
+    void unpinNotice() {
+        // given
+        Member admin = Member.registerAdmin("admin01", "password123!", "운영자", "admin@example.com",
+                new BCryptPasswordEncoder());
+        Post notice = Post.create(Board.create("공지사항", "운영 공지", BoardType.NOTICE), admin, "점검 안내", "내용");
+        notice.pin();
+        when(postRepository.findById(5L)).thenReturn(Optional.of(notice));
+        when(postRepository.save(notice)).thenReturn(notice);
+
+        // when
+        Post result = postService.unpinNotice(5L);
+
+        // then
+        assertThat(result.isPinned()).isFalse();
+        verify(pinnedNoticeCache).refreshAfterCommit();
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 공지로 고정할 수 없다")
+    void pinNoticeUnknownPost() {
+        // given
+        when(postRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postService.pinNotice(9L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다. ID: 9");
+        verifyNoInteractions(pinnedNoticeCache);
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 게시글을 수정할 수 없다")
+    void updatePostByOtherMember() {
+        // given
+        Post post = Post.create(board, author, "첫 게시글", "안녕하세요");
+        when(postRepository.findById(5L)).thenReturn(Optional.of(post));
+
+        // when & then
+        assertThatThrownBy(() -> postService.updatePost(5L, 2L, "수정된 제목", "수정된 내용"))
+                .isInstanceOf(PostAccessDeniedException.class)
+                .hasMessage("게시글 작성자만 수정할 수 있습니다.");
+        assertThat(post.getTitle()).isEqualTo("첫 게시글");
+        verify(postRepository, never()).save(any());
+    }
+
+    private List<PostSummary> summaries(int count) {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 12, 0);
+        return LongStream.range(0, count)
+                .mapToObj(i -> new PostSummary(100L - i, 10L, 1L, "게시글 " + i, base.minusMinutes(i), "작성자"))
+                .toList();
+    }
+}
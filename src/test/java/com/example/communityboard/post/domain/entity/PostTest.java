@@ -0,0 +1,134 @@
+package com.example.communityboard.post.domain.entity;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.member.domain.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostTest {
+
+    private Board board;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        author = Member.registerMember("writer01", "password123!", "작성자", "writer@example.com",
+                new BCryptPasswordEncoder());
+        ReflectionTestUtils.setField(author, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("게시글을 생성할 수 있다")
+    void create() {
+        // when
+        Post post = Post.create(board, author, "첫 게시글", "안녕하세요");
+
+        // then
+        assertThat(post.getBoard()).isEqualTo(board);
+        assertThat(post.getAuthor()).isEqualTo(author);
+        assertThat(post.getAuthorNickname()).isEqualTo("작성자");
+        assertThat(post.getTitle()).isEqualTo("첫 게시글");
+        assertThat(post.getContent()).isEqualTo("안녕하세요");
+    }
+
+    @Test
+    @DisplayName("게시판이나 작성자가 없으면 게시글을 생성할 수 없다")
+    void createWithoutBoardOrAuthor() {
+        assertThatThrownBy(() -> Post.create(null, author, "첫 게시글", "내용"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시판은 필수입니다.");
+        assertThatThrownBy(() -> Post.create(board, null, "첫 게시글", "내용"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("작성자는 필수입니다.");
+    }
+
+    @Test
+    @DisplayName("제목 길이가 범위를 벗어나면 예외가 발생한다")
+    void invalidTitle() {
+        assertThatThrownBy(() -> Post.create(board, author, " ", "내용"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("제목은 공백이 불가합니다.");
+        assertThatThrownBy(() -> Post.create(board, author, "가", "내용"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("제목은 2자 이상이어야 합니다.");
+        assertThatThrownBy(() -> Post.create(board, author, "가".repeat(101), "내용"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("제목은 100자를 초과할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("내용이 비어 있거나 너무 길면 예외가 발생한다")
+    void invalidContent() {
+        assertThatThrownBy(() -> Post.create(board, author, "제목입니다", ""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("내용은 공백이 불가합니다.");
+        assertThatThrownBy(() -> Post.create(board, author, "제목입니다", "가".repeat(10_001)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("내용은 10000자를 초과할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("게시글의 제목과 내용을 수정할 수 있다")
+    void update() {
+        // given
+        Post post = Post.create(board, author, "첫 게시글", "안녕하세요");
+
+        // when
+        post.update("수정된 제목", "수정된 내용");
+
+        // then
+        assertThat(post.getTitle()).isEqualTo("수정된 제목");
+        assertThat(post.getContent()).isEqualTo("수정된 내용");
+    }
+
+    @Test
+    @DisplayName("작성자 본인인지 확인할 수 있다")
+    void isWrittenBy() {
+        // given
+        Post post = Post.create(board, author, "첫 게시글", "안녕하세요");
+
+        // then
+        assertThat(post.isWrittenBy(1L)).isTrue();
+        assertThat(post.isWrittenBy(2L)).isFalse();
+        assertThat(post.isWrittenBy(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("공지사항 게시판의 글은 고정되지 않은 채로 생성되고 고정하거나 해제할 수 있다")
+    void pinNotice() {
+        // given
+        Board notice = Board.create("공지사항", "운영 공지", BoardType.NOTICE);
+
+        // when
+        Post post = Post.create(notice, author, "점검 안내", "오늘 밤 점검합니다");
+
+        // then
+        assertThat(post.isNotice()).isTrue();
+        assertThat(post.isPinned()).isFalse();
+        post.pin();
+        assertThat(post.isPinned()).isTrue();
+        post.unpin();
+        assertThat(post.isPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("공지사항이 아닌 글은 고정할 수 없다")
+    void pinNonNotice() {
+        // given
+        Post post = Post.create(board, author, "첫 게시글", "안녕하세요");
+
+        // when & then
+        assertThat(post.isPinned()).isFalse();
+        assertThatThrownBy(post::pin)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("공지사항 게시판의 글만 고정할 수 있습니다.");
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.communityboard.post.domain.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 뒤 디코딩하면 같은 위치가 된다")
+    void roundTrip() {
+        // given
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        // when
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("목록의 마지막 행으로 커서를 만든다")
+    void fromSummary() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        PostSummary summary = new PostSummary(7L, 1L, 3L, "제목", createdAt, "작성자");
+
+        // when
+        PostCursor cursor = PostCursor.from(summary);
+
+        // then
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다")
+    void decodeInvalid() {
+        assertThatThrownBy(() -> PostCursor.decode("not-a-cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> PostCursor.decode("MjAyNS0wMy0wMQ"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+}
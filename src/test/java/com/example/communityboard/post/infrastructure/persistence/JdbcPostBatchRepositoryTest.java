@@ -0,0 +1,70 @@
+package com.example.communityboard.post.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostBatchRepository;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcPostBatchRepository.class, PostRepositoryImpl.class, BoardRepositoryImpl.class,
+        MemberRepositoryImpl.class, JpaConfig.class})
+class JdbcPostBatchRepositoryTest {
+
+    @Autowired
+    private PostBatchRepository postBatchRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("게시글을 한 번에 넣고 생성된 id를 입력 순서대로 돌려준다")
+    void insertAll() {
+        // given
+        Board board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        Member author = memberRepository.save(Member.registerMember("writer01", "password123!", "작성자",
+                "writer@example.com", new BCryptPasswordEncoder()));
+        entityManager.flush();
+
+        // when
+        List<Long> ids = postBatchRepository.insertAll(List.of(
+                Post.create(board, author, "첫 게시글", "안녕하세요"),
+                Post.create(board, author, "두 번째 게시글", "반갑습니다")));
+        entityManager.clear();
+
+        // then
+        assertThat(ids).hasSize(2).isSorted();
+        Post second = postRepository.findById(ids.get(1)).orElseThrow();
+        assertThat(second.getTitle()).isEqualTo("두 번째 게시글");
+        assertThat(second.getAuthor().getId()).isEqualTo(author.getId());
+        assertThat(second.getAuthorNickname()).isEqualTo("작성자");
+        assertThat(second.getViewCount()).isZero();
+        assertThat(second.getCreatedAt()).isNotNull();
+    }
+}
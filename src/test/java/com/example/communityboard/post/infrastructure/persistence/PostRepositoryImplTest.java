@@ -0,0 +1,180 @@
+package com.example.communityboard.post.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostCursor;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PostRepositoryImpl.class, BoardRepositoryImpl.class, MemberRepositoryImpl.class, JpaConfig.class})
+class PostRepositoryImplTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+    private Board otherBoard;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        otherBoard = boardRepository.save(Board.create("질문게시판", "질문을 올리는 게시판", BoardType.QNA));
+        author = memberRepository.save(Member.registerMember("writer01", "password123!", "작성자",
+                "writer@example.com", new BCryptPasswordEncoder()));
+    }
+
+    @Test
+    @DisplayName("게시글을 저장하고 ID로 조회할 수 있다")
+    void saveAndFindById() {
+        // given
+        Post saved = postRepository.save(Post.create(board, author, "첫 게시글", "안녕하세요"));
+
+        // when
+        Optional<Post> result = postRepository.findById(saved.getId());
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getTitle()).isEqualTo("첫 게시글");
+        assertThat(result.get().getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 최신순으로 빠짐없이 중복 없이 모든 게시글을 읽는다")
+    void pageThroughWithCursor() {
+        // given
+        List<Long> expected = new ArrayList<>();
+        LocalDateTime sameTime = LocalDateTime.of(2025, 3, 1, 12, 0);
+        for (int i = 0; i < 7; i++) {
+            Post post = postRepository.save(Post.create(board, author, "게시글 " + i, "내용 " + i));
+            expected.add(post.getId());
+        }
+        postRepository.save(Post.create(otherBoard, author, "다른 게시판 글", "내용"));
+        // 작성 시각이 같은 행이 페이지 경계에 걸려도 id로 순서가 정해지는지 확인한다
+        jdbcTemplate.update("update post set created_at = ? where board_id = ?",
+                Timestamp.valueOf(sameTime), board.getId());
+        expected.sort(Comparator.reverseOrder());
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        PostCursor cursor = null;
+        while (true) {
+            List<PostSummary> page = postRepository.findPageByBoardId(board.getId(), cursor, 3);
+            page.forEach(summary -> actual.add(summary.id()));
+            if (page.size() < 3) {
+                break;
+            }
+            cursor = PostCursor.from(page.get(page.size() - 1));
+        }
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("여러 ID의 요약을 한 번에 조회한다")
+    void findSummariesByIds() {
+        // given
+        Post first = postRepository.save(Post.create(board, author, "첫 게시글", "내용"));
+        Post second = postRepository.save(Post.create(otherBoard, author, "두 번째 게시글", "내용"));
+        postRepository.save(Post.create(board, author, "조회하지 않는 글", "내용"));
+
+        // when
+        List<PostSummary> result = postRepository.findSummariesByIds(List.of(first.getId(), second.getId(), -1L));
+
+        // then
+        assertThat(result).extracting(PostSummary::id)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("목록 조회는 본문 없이 요약 컬럼만 반환한다")
+    void summaryProjection() {
+        // given
+        Post saved = postRepository.save(Post.create(board, author, "첫 게시글", "본문은 목록에 포함되지 않는다"));
+
+        // when
+        List<PostSummary> result = postRepository.findPageByBoardId(board.getId(), null, 10);
+
+        // then
+        assertThat(result).hasSize(1);
+        PostSummary summary = result.get(0);
+        assertThat(summary.id()).isEqualTo(saved.getId());
+        assertThat(summary.boardId()).isEqualTo(board.getId());
+        assertThat(summary.authorId()).isEqualTo(author.getId());
+        assertThat(summary.title()).isEqualTo("첫 게시글");
+    }
+
+    @Test
+    @DisplayName("고정된 공지만 최신순으로 읽는다")
+    void findPinnedNotices() {
+        // given
+        Board noticeBoard = boardRepository.save(Board.create("공지사항", "운영 공지", BoardType.NOTICE));
+        Post older = Post.create(noticeBoard, author, "이용 규칙", "내용");
+        older.pin();
+        postRepository.save(older);
+        postRepository.save(Post.create(noticeBoard, author, "지난 점검 안내", "내용"));
+        Post newer = Post.create(noticeBoard, author, "점검 안내", "내용");
+        newer.pin();
+        postRepository.save(newer);
+        postRepository.save(Post.create(board, author, "일반 게시글", "내용"));
+
+        // when
+        List<PostSummary> result = postRepository.findPinnedNotices(10);
+
+        // then
+        assertThat(result).extracting(PostSummary::id).containsExactly(newer.getId(), older.getId());
+        assertThat(postRepository.findPinnedNotices(1)).extracting(PostSummary::id).containsExactly(newer.getId());
+    }
+
+    @Test
+    @DisplayName("게시판에서 주어진 id 뒤의 게시글 수와 마지막 게시글 id를 읽는다")
+    void countAfterAndFindLastId() {
+        // given
+        Post first = postRepository.save(Post.create(board, author, "첫 게시글", "안녕하세요"));
+        postRepository.save(Post.create(otherBoard, author, "질문 있어요", "질문입니다"));
+        postRepository.save(Post.create(board, author, "두 번째 글", "반갑습니다"));
+        Post last = postRepository.save(Post.create(board, author, "세 번째 글", "또 왔어요"));
+
+        // when & then
+        assertThat(postRepository.countByBoardIdAfter(board.getId(), 0)).isEqualTo(3);
+        assertThat(postRepository.countByBoardIdAfter(board.getId(), first.getId())).isEqualTo(2);
+        assertThat(postRepository.countByBoardIdAfter(board.getId(), last.getId())).isZero();
+        assertThat(postRepository.findLastIdByBoardId(board.getId())).contains(last.getId());
+        assertThat(postRepository.findLastIdByBoardId(-1L)).isEmpty();
+    }
+}
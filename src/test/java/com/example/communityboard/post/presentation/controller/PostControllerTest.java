@@ -0,0 +1,252 @@
+package com.example.communityboard.post.presentation.controller;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.like.application.service.LikeService;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.post.application.dto.PinnedNotices;
+import com.example.communityboard.post.application.dto.PostPage;
+import com.example.communityboard.post.application.dto.request.CreatePostRequest;
+import com.example.communityboard.post.application.dto.request.UpdatePostRequest;
+import com.example.communityboard.post.application.exception.PostAccessDeniedException;
+import com.example.communityboard.post.application.service.PinnedNoticeCache;
+import com.example.communityboard.post.application.service.PostService;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import com.example.communityboard.trending.application.service.TrendingService;
+import com.example.communityboard.viewcount.application.service.ViewCountService;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.application.service.VisitorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PostController.class)
+@Import(SecurityConfig.class)
+class PostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PostService postService;
+
+    @MockBean
+    private PinnedNoticeCache pinnedNoticeCache;
+
+    @MockBean
+    private ViewCountService viewCountService;
+
+    @MockBean
+    private HotPostRankingService hotPostRankingService;
+
+    @MockBean
+    private LikeService likeService;
+
+    @MockBean
+    private VisitorService visitorService;
+
+    @MockBean
+    private TrendingService trendingService;
+
+    @MockBean
+    private AuthorLoader authorLoader;
+
+    private Board board;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        author = Member.registerMember("writer01", "password123!", "작성자", "writer@example.com",
+                new BCryptPasswordEncoder());
+    }
+
+    @Test
+    @DisplayName("게시글을 작성한다")
+    @WithMockUser
+    void createPost() throws Exception {
+        // given
+        CreatePostRequest request = new CreatePostRequest(1L, "첫 게시글", "안녕하세요");
+        when(postService.createPost(eq(10L), eq(1L), anyString(), anyString()))
+                .thenReturn(Post.create(board, author, "첫 게시글", "안녕하세요"));
+
+        // when & then
+        mockMvc.perform(post("/api/boards/10/posts")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.title").value("첫 게시글"))
+                .andExpect(jsonPath("$.data.content").value("안녕하세요"))
+                .andExpect(jsonPath("$.message").value("게시글이 작성되었습니다."));
+    }
+
+    @Test
+    @DisplayName("제목이 없으면 게시글 작성에 실패한다")
+    @WithMockUser
+    void createPostWithoutTitle() throws Exception {
+        // given
+        CreatePostRequest request = new CreatePostRequest(1L, "", "안녕하세요");
+
+        // when & then
+        mockMvc.perform(post("/api/boards/10/posts")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("게시판의 게시글 목록을 커서와 함께 조회하고 고정 공지를 앞에 붙인다")
+    @WithMockUser
+    void getPosts() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        PostPage page = new PostPage(List.of(
+                new PostSummary(12L, 10L, 1L, "두 번째 글", createdAt, "작성자"),
+                new PostSummary(11L, 10L, 1L, "첫 번째 글", createdAt, "작성자")), "next-cursor");
+        when(postService.getPosts(10L, null, 2)).thenReturn(page);
+        when(pinnedNoticeCache.get()).thenReturn(PinnedNotices.of("[{\"id\":3,\"title\":\"점검 안내\"}]"));
+        when(authorLoader.nicknameOf(1L, "작성자")).thenReturn("작성자");
+
+        // when & then
+        mockMvc.perform(get("/api/boards/10/posts").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.noticeVersion").isNotEmpty())
+                .andExpect(jsonPath("$.data.notices.length()").value(1))
+                .andExpect(jsonPath("$.data.notices[0].title").value("점검 안내"))
+                .andExpect(jsonPath("$.data.posts.length()").value(2))
+                .andExpect(jsonPath("$.data.posts[0].id").value(12))
+                .andExpect(jsonPath("$.data.posts[0].content").doesNotExist())
+                .andExpect(jsonPath("$.data.posts[0].authorNickname").value("작성자"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+        verify(trendingService).recordBoardRead(10L);
+    }
+
+    @Test
+    @DisplayName("이미 받은 공지 버전을 보내면 공지 본문을 생략한다")
+    @WithMockUser
+    void getPostsWithCurrentNoticeVersion() throws Exception {
+        // given
+        PinnedNotices notices = PinnedNotices.of("[{\"id\":3,\"title\":\"점검 안내\"}]");
+        when(postService.getPosts(10L, null, 20)).thenReturn(new PostPage(List.of(), null));
+        when(pinnedNoticeCache.get()).thenReturn(notices);
+
+        // when & then
+        mockMvc.perform(get("/api/boards/10/posts").param("noticeVersion", notices.version()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.noticeVersion").value(notices.version()))
+                .andExpect(jsonPath("$.data.notices").isEmpty());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 400을 반환한다")
+    @WithMockUser
+    void getPostsWithInvalidCursor() throws Exception {
+        // given
+        when(postService.getPosts(eq(10L), eq("broken"), anyInt()))
+                .thenThrow(new IllegalArgumentException("잘못된 커서입니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/boards/10/posts").param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다."));
+    }
+
+    @Test
+    @DisplayName("게시글 상세를 조회하면 조회수를 기록하고 반영 전 조회수와 좋아요 수까지 합쳐 응답한다")
+    @WithMockUser
+    void getPost() throws Exception {
+        // given
+        when(postService.getPost(5L)).thenReturn(Post.create(board, author, "첫 게시글", "안녕하세요"));
+        when(viewCountService.currentCount(eq(ViewTarget.POST), any(), eq(0L))).thenReturn(3L);
+        when(likeService.currentCount(any(), eq(0L))).thenReturn(2L);
+
+        // when & then
+        mockMvc.perform(get("/api/posts/5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("첫 게시글"))
+                .andExpect(jsonPath("$.data.content").value("안녕하세요"))
+                .andExpect(jsonPath("$.data.viewCount").value(3))
+                .andExpect(jsonPath("$.data.likeCount").value(2));
+        verify(viewCountService).recordView(ViewTarget.POST, 5L);
+        verify(visitorService).recordVisit(ViewTarget.POST, 5L, "member:user");
+        verify(hotPostRankingService).record(any(), eq(5L), eq(HotScoreEvent.VIEW));
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 공지를 고정할 수 없다")
+    @WithMockUser(roles = "MEMBER")
+    void pinNoticeByMember() throws Exception {
+        // when & then
+        mockMvc.perform(put("/api/posts/5/pin").with(csrf()))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("관리자는 공지 고정을 해제할 수 있다")
+    @WithMockUser(roles = "ADMIN")
+    void unpinNotice() throws Exception {
+        // given
+        Post notice = Post.create(Board.create("공지사항", "운영 공지", BoardType.NOTICE), author, "점검 안내", "내용");
+        when(postService.unpinNotice(5L)).thenReturn(notice);
+
+        // when & then
+        mockMvc.perform(delete("/api/posts/5/pin").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pinned").value(false))
+                .andExpect(jsonPath("$.message").value("공지 고정을 해제했습니다."));
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 게시글 수정시 403을 반환한다")
+    @WithMockUser
+    void updatePostByOtherMember() throws Exception {
+        // given
+        UpdatePostRequest request = new UpdatePostRequest(2L, "수정된 제목", "수정된 내용");
+        when(postService.updatePost(eq(5L), eq(2L), anyString(), anyString()))
+                .thenThrow(new PostAccessDeniedException("게시글 작성자만 수정할 수 있습니다."));
+
+        // when & then
+        mockMvc.perform(put("/api/posts/5")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("게시글 작성자만 수정할 수 있습니다."));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.communityboard.ranking.application.service;
+
+import com.example.communityboard.common.config.HotRankingProperties;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.ranking.application.dto.HotPost;
+import com.example.communityboard.ranking.domain.HotScoreEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotPostRankingServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private HotPostRankingService hotPostRankingService;
+
+    @BeforeEach
+    void setUp() {
+        hotPostRankingService = new HotPostRankingService(new HotRankingProperties(), postRepository);
+    }
+
+    @Test
+    @DisplayName("활동 가중치에 따라 게시판별 순위를 유지한다")
+    void ranking() {
+        // given
+        hotPostRankingService.record(1L, 10L, HotScoreEvent.VIEW);
+        hotPostRankingService.record(1L, 10L, HotScoreEvent.VIEW);
+        hotPostRankingService.record(1L, 11L, HotScoreEvent.COMMENT);
+        hotPostRankingService.record(2L, 20L, HotScoreEvent.LIKE);
+
+        // when & then
+        assertThat(hotPostRankingService.getRanking(1L, 10))
+                .extracting(scored -> scored.id())
+                .containsExactly(11L, 10L);
+        assertThat(hotPostRankingService.getRanking(2L, 10))
+                .extracting(scored -> scored.id())
+                .containsExactly(20L);
+        assertThat(hotPostRankingService.getRanking(3L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 커밋 후 반영 요청도 바로 반영된다")
+    void recordAfterCommitWithoutTransaction() {
+        // when
+        hotPostRankingService.recordAfterCommit(1L, 10L, HotScoreEvent.COMMENT);
+
+        // then
+        assertThat(hotPostRankingService.getRanking(1L, 10))
+                .extracting(scored -> scored.id())
+                .containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("인기 글은 순위 순서대로 요약 정보를 붙여 반환하고 사라진 글은 건너뛴다")
+    void getHotPosts() {
+        // given
+        hotPostRankingService.record(1L, 10L, HotScoreEvent.VIEW);
+        hotPostRankingService.record(1L, 11L, HotScoreEvent.COMMENT);
+        hotPostRankingService.record(1L, 12L, HotScoreEvent.LIKE);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(postRepository.findSummariesByIds(List.of(11L, 12L, 10L))).thenReturn(List.of(
+                new PostSummary(10L, 1L, 1L, "조회된 글", createdAt, "작성자"),
+                new PostSummary(11L, 1L, 1L, "댓글 달린 글", createdAt, "작성자")));
+
+        // when
+        List<HotPost> hotPosts = hotPostRankingService.getHotPosts(1L, 10);
+
+        // then
+        assertThat(hotPosts).extracting(hotPost -> hotPost.summary().id()).containsExactly(11L, 10L);
+        assertThat(hotPosts.get(0).score()).isGreaterThan(hotPosts.get(1).score());
+    }
+
+    @Test
+    @DisplayName("순위가 비어 있으면 DB를 조회하지 않는다")
+    void getHotPostsEmpty() {
+        // when
+        List<HotPost> hotPosts = hotPostRankingService.getHotPosts(1L, 10);
+
+        // then
+        assertThat(hotPosts).isEmpty();
+        verify(postRepository, never()).findSummariesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("요청 개수가 범위를 벗어나면 예외가 발생한다")
+    void getHotPostsInvalidSize() {
+        assertThatThrownBy(() -> hotPostRankingService.getHotPosts(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> hotPostRankingService.getHotPosts(1L, HotPostRankingService.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
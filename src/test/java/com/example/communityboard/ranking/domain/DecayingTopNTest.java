@@ -0,0 +1,121 @@
+package com.example.communityboard.ranking.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecayingTopNTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반이 된다")
+    void decay() {
+        // given
+        DecayingTopN ranking = new DecayingTopN(HALF_LIFE, 10, clock::get);
+        ranking.add(1L, 10.0);
+
+        // when
+        clock.addAndGet(HALF_LIFE.toNanos());
+
+        // then
+        assertThat(ranking.top(1).get(0).score()).isCloseTo(5.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("최근 활동이 오래된 활동보다 높은 순위를 받는다")
+    void recentActivityRanksHigher() {
+        // given
+        DecayingTopN ranking = new DecayingTopN(HALF_LIFE, 10, clock::get);
+        ranking.add(1L, 10.0);
+        clock.addAndGet(HALF_LIFE.toNanos());
+
+        // when
+        ranking.add(2L, 6.0);
+
+        // then
+        assertThat(ranking.top(10)).extracting(DecayingTopN.ScoredId::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("같은 글의 점수는 누적되고 순위가 다시 정렬된다")
+    void accumulate() {
+        // given
+        DecayingTopN ranking = new DecayingTopN(HALF_LIFE, 10, clock::get);
+        ranking.add(1L, 3.0);
+        ranking.add(2L, 5.0);
+
+        // when
+        ranking.add(1L, 3.0);
+
+        // then
+        List<DecayingTopN.ScoredId> top = ranking.top(10);
+        assertThat(top).extracting(DecayingTopN.ScoredId::id).containsExactly(1L, 2L);
+        assertThat(top.get(0).score()).isCloseTo(6.0, within(1e-9));
+        assertThat(ranking.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 낮은 점수의 글이 밀려나고 그보다 낮은 새 글은 들어오지 못한다")
+    void boundedCapacity() {
+        // given
+        DecayingTopN ranking = new DecayingTopN(HALF_LIFE, 2, clock::get);
+        ranking.add(1L, 5.0);
+        ranking.add(2L, 1.0);
+
+        // when
+        ranking.add(3L, 2.0);
+        ranking.add(4L, 0.5);
+
+        // then
+        assertThat(ranking.top(10)).extracting(DecayingTopN.ScoredId::id).containsExactly(1L, 3L);
+        assertThat(ranking.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rebase 후에도 순위와 점수가 그대로다")
+    void rebaseKeepsOrder() {
+        // given
+        DecayingTopN ranking = new DecayingTopN(HALF_LIFE, 10, clock::get);
+        ranking.add(1L, 4.0);
+        clock.addAndGet(HALF_LIFE.toNanos() * 3);
+        ranking.add(2L, 1.0);
+        List<DecayingTopN.ScoredId> before = ranking.top(10);
+
+        // when
+        ranking.rebase();
+
+        // then
+        List<DecayingTopN.ScoredId> after = ranking.top(10);
+        assertThat(after).extracting(DecayingTopN.ScoredId::id)
+                .containsExactlyElementsOf(before.stream().map(DecayingTopN.ScoredId::id).toList());
+        for (int i = 0; i < before.size(); i++) {
+            assertThat(after.get(i).score()).isCloseTo(before.get(i).score(), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("오랫동안 rebase하지 않아도 점수가 넘치지 않고 다 식은 글은 정리된다")
+    void noOverflowAfterLongIdle() {
+        // given
+        DecayingTopN ranking = new DecayingTopN(HALF_LIFE, 10, clock::get);
+        ranking.add(1L, 100.0);
+
+        // when
+        clock.addAndGet(HALF_LIFE.toNanos() * 2_000);
+        ranking.add(2L, 1.0);
+
+        // then
+        List<DecayingTopN.ScoredId> top = ranking.top(10);
+        assertThat(top).extracting(DecayingTopN.ScoredId::id).containsExactly(2L);
+        assertThat(top.get(0).score()).isFinite().isCloseTo(1.0, within(1e-9));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.communityboard.ranking.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.member.application.service.AuthorLoader;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.ranking.application.dto.HotPost;
+import com.example.communityboard.ranking.application.service.HotPostRankingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HotPostController.class)
+@Import(SecurityConfig.class)
+class HotPostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HotPostRankingService hotPostRankingService;
+
+    @MockBean
+    private AuthorLoader authorLoader;
+
+    @Test
+    @DisplayName("게시판의 인기 글을 점수 순으로 조회한다")
+    @WithMockUser
+    void getHotPosts() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(hotPostRankingService.getHotPosts(1L, 5)).thenReturn(List.of(
+                new HotPost(new PostSummary(11L, 1L, 2L, "댓글 달린 글", createdAt, "작성자"), 5.0),
+                new HotPost(new PostSummary(10L, 1L, 2L, "조회된 글", createdAt, "작성자"), 1.0)));
+        when(authorLoader.nicknameOf(2L, "작성자")).thenReturn("작성자");
+
+        // when & then
+        mockMvc.perform(get("/api/boards/1/posts/hot").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(11))
+                .andExpect(jsonPath("$.data[0].title").value("댓글 달린 글"))
+                .andExpect(jsonPath("$.data[0].authorNickname").value("작성자"))
+                .andExpect(jsonPath("$.data[0].score").value(5.0));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.communityboard.readstate.application.service;
+
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.config.ReadStateProperties;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.readstate.domain.ReadBitmap;
+import com.example.communityboard.readstate.domain.repository.ReadStateRepository;
+import com.example.communityboard.readstate.domain.vo.ReadStateKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadStateFlusherTest {
+
+    private static final ReadStateKey KEY = new ReadStateKey(1L, 1L);
+
+    @Mock
+    private ReadStateRepository readStateRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Captor
+    private ArgumentCaptor<Map<ReadStateKey, ReadBitmap>> states;
+
+    private ReadStateService readStateService;
+    private ReadStateFlusher readStateFlusher;
+
+    @BeforeEach
+    void setUp() {
+        readStateService = new ReadStateService(readStateRepository, postRepository, boardRepository,
+                memberRepository, new ReadStateProperties());
+        readStateFlusher = new ReadStateFlusher(readStateService, readStateRepository);
+        when(readStateRepository.find(KEY)).thenReturn(Optional.empty());
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(Member.registerMember("reader01",
+                "password123!", "독자", "reader@example.com", new BCryptPasswordEncoder())));
+    }
+
+    @Test
+    @DisplayName("새로 읽은 글이 있는 상태만 반영하고, 이미 읽은 글을 다시 열면 DB를 호출하지 않는다")
+    void flush() {
+        // given
+        readStateService.markRead(1L, 1L, 5L);
+        readStateFlusher.flush();
+
+        // when
+        readStateService.markRead(1L, 1L, 5L);
+        readStateFlusher.flush();
+
+        // then
+        verify(readStateRepository, times(1)).mergeAll(states.capture());
+        assertThat(states.getValue()).containsOnlyKeys(KEY);
+        assertThat(states.getValue().get(KEY).isRead(5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 그 사이 읽은 글까지 다음 주기에 다시 반영한다")
+    void flushFailure() {
+        // given
+        readStateService.markRead(1L, 1L, 5L);
+        doThrow(new IllegalStateException("db down")).doNothing()
+                .when(readStateRepository).mergeAll(any());
+        readStateFlusher.flush();
+        readStateService.markRead(1L, 1L, 6L);
+
+        // when
+        readStateFlusher.flush();
+
+        // then
+        verify(readStateRepository, times(2)).mergeAll(states.capture());
+        assertThat(states.getValue().get(KEY).readAfterCount()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.communityboard.readstate.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.config.ReadStateProperties;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.readstate.application.dto.UnreadCount;
+import com.example.communityboard.readstate.domain.ReadBitmap;
+import com.example.communityboard.readstate.domain.repository.ReadStateRepository;
+import com.example.communityboard.readstate.domain.vo.ReadStateKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadStateServiceTest {
+
+    @Mock
+    private ReadStateRepository readStateRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private ReadStateService readStateService;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        readStateService = createService(100);
+        member = Member.registerMember("reader01", "password123!", "독자", "reader@example.com",
+                new BCryptPasswordEncoder());
+    }
+
+    @Test
+    @DisplayName("안 읽은 글 수는 읽음 위치 뒤의 게시글 수에서 따로 읽은 글 수를 뺀 값이다")
+    void countUnread() {
+        // given
+        ReadBitmap stored = new ReadBitmap();
+        stored.markReadUpTo(10L);
+        stored.markRead(12L);
+        when(readStateRepository.find(new ReadStateKey(1L, 1L))).thenReturn(Optional.of(stored));
+        when(readStateRepository.find(new ReadStateKey(1L, 2L))).thenReturn(Optional.empty());
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(postRepository.countByBoardIdAfter(1L, 10L)).thenReturn(3L);
+        when(postRepository.countByBoardIdAfter(2L, 0L)).thenReturn(5L);
+
+        // when
+        List<UnreadCount> counts = readStateService.countUnread(1L, List.of(1L, 2L, 1L));
+
+        // then
+        assertThat(counts).containsExactly(new UnreadCount(1L, 2L), new UnreadCount(2L, 5L));
+    }
+
+    @Test
+    @DisplayName("읽은 글은 메모리에 바로 반영되고 상태는 한 번만 읽어 온다")
+    void markRead() {
+        // given
+        givenNewState(1L, 1L);
+        when(postRepository.countByBoardIdAfter(1L, 0L)).thenReturn(4L);
+
+        // when
+        readStateService.markRead(1L, 1L, 20L);
+        readStateService.markRead(1L, 1L, 20L);
+        readStateService.markRead(1L, 1L, 21L);
+
+        // then
+        assertThat(readStateService.countUnread(1L, List.of(1L))).containsExactly(new UnreadCount(1L, 2L));
+        verify(readStateRepository, times(1)).find(new ReadStateKey(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("게시글을 읽음으로 표시할 때 게시판은 저장된 게시글에서 찾는다")
+    void markPostRead() {
+        // given
+        Board board = Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE);
+        ReflectionTestUtils.setField(board, "id", 1L);
+        Post post = Post.create(board, member, "첫 게시글", "안녕하세요");
+        when(postRepository.findById(20L)).thenReturn(Optional.of(post));
+        givenNewState(1L, 1L);
+        when(postRepository.countByBoardIdAfter(1L, 0L)).thenReturn(4L);
+
+        // when
+        UnreadCount unread = readStateService.markPostRead(1L, 20L);
+
+        // then
+        assertThat(unread).isEqualTo(new UnreadCount(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 읽음으로 표시할 수 없다")
+    void markPostReadUnknownPost() {
+        // given
+        when(postRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> readStateService.markPostRead(1L, 9L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다. ID: 9");
+        assertThat(readStateService.cachedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("모두 읽음으로 표시하면 게시판의 마지막 글까지 읽음 위치를 올린다")
+    void markAllRead() {
+        // given
+        givenNewState(1L, 1L);
+        when(boardRepository.findById(1L))
+                .thenReturn(Optional.of(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE)));
+        when(postRepository.findLastIdByBoardId(1L)).thenReturn(Optional.of(30L));
+        when(postRepository.countByBoardIdAfter(1L, 30L)).thenReturn(0L);
+
+        // when
+        UnreadCount unread = readStateService.markAllRead(1L, 1L);
+
+        // then
+        assertThat(unread).isEqualTo(new UnreadCount(1L, 0L));
+        Map<ReadStateKey, ReadBitmap> drained = readStateService.drain();
+        assertThat(drained.get(new ReadStateKey(1L, 1L)).readUpTo()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("없는 게시판은 모두 읽음으로 표시할 수 없다")
+    void markAllReadUnknownBoard() {
+        // given
+        when(boardRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> readStateService.markAllRead(1L, 9L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시판을 찾을 수 없습니다. ID: 9");
+    }
+
+    @Test
+    @DisplayName("저장된 상태가 없는 회원이 없으면 상태를 만들지 않는다")
+    void unknownMember() {
+        // given
+        when(readStateRepository.find(any())).thenReturn(Optional.empty());
+        when(memberRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> readStateService.markRead(9L, 1L, 20L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("회원을 찾을 수 없습니다. ID: 9");
+        assertThat(readStateService.cachedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 게시판 수를 넘으면 예외가 발생한다")
+    void tooManyBoards() {
+        // given
+        List<Long> boardIds = LongStream.rangeClosed(1, ReadStateService.MAX_LOOKUP_SIZE + 1).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> readStateService.countUnread(1L, boardIds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 번에 50개까지 조회할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("캐시에서 밀려난 상태도 저장될 때까지는 DB에서 다시 읽지 않는다")
+    void evictedStateIsKeptUntilFlushed() {
+        // given
+        readStateService = createService(1);
+        givenNewState(1L, 1L);
+        givenNewState(1L, 2L);
+        readStateService.markRead(1L, 1L, 5L);
+        readStateService.markRead(1L, 2L, 6L);
+
+        // when
+        readStateService.markRead(1L, 1L, 7L);
+
+        // then
+        verify(readStateRepository, times(1)).find(new ReadStateKey(1L, 1L));
+        Map<ReadStateKey, ReadBitmap> drained = readStateService.drain();
+        assertThat(drained).containsOnlyKeys(new ReadStateKey(1L, 1L), new ReadStateKey(1L, 2L));
+        assertThat(drained.get(new ReadStateKey(1L, 1L)).readAfterCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("저장을 마친 뒤에는 밀려난 상태를 내리고 다시 쓰면 DB에서 읽는다")
+    void evictedStateIsDroppedAfterFlush() {
+        // given
+        readStateService = createService(1);
+        givenNewState(1L, 1L);
+        givenNewState(1L, 2L);
+        readStateService.markRead(1L, 1L, 5L);
+        readStateService.markRead(1L, 2L, 6L);
+        readStateService.drain();
+        readStateService.completeFlush();
+
+        // when
+        readStateService.markRead(1L, 1L, 7L);
+
+        // then
+        verify(readStateRepository, times(2)).find(new ReadStateKey(1L, 1L));
+        assertThat(readStateService.cachedSize()).isEqualTo(1);
+    }
+
+    private ReadStateService createService(int maxCachedStates) {
+        ReadStateProperties properties = new ReadStateProperties();
+        properties.setMaxCachedStates(maxCachedStates);
+        return new ReadStateService(readStateRepository, postRepository, boardRepository, memberRepository,
+                properties);
+    }
+
+    private void givenNewState(Long memberId, Long boardId) {
+        when(readStateRepository.find(new ReadStateKey(memberId, boardId))).thenReturn(Optional.empty());
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+    }
+}
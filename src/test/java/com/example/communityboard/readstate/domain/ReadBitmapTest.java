@@ -0,0 +1,112 @@
+package com.example.communityboard.readstate.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadBitmapTest {
+
+    @Test
+    @DisplayName("읽은 글은 한 번만 세고, 읽음 위치 이하의 글은 이미 읽은 것으로 본다")
+    void markRead() {
+        // given
+        ReadBitmap bitmap = new ReadBitmap();
+        bitmap.markReadUpTo(10L);
+
+        // when & then
+        assertThat(bitmap.markRead(15L)).isTrue();
+        assertThat(bitmap.markRead(15L)).isFalse();
+        assertThat(bitmap.markRead(7L)).isFalse();
+        assertThat(bitmap.isRead(7L)).isTrue();
+        assertThat(bitmap.isRead(15L)).isTrue();
+        assertThat(bitmap.isRead(12L)).isFalse();
+        assertThat(bitmap.readAfterCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("읽음 위치를 올리면 그 이하의 글은 비트맵에서 빠진다")
+    void markReadUpToDropsCovered() {
+        // given
+        ReadBitmap bitmap = new ReadBitmap();
+        bitmap.markRead(3L);
+        bitmap.markRead(8L);
+        bitmap.markRead(20L);
+
+        // when
+        boolean moved = bitmap.markReadUpTo(10L);
+
+        // then
+        assertThat(moved).isTrue();
+        assertThat(bitmap.readUpTo()).isEqualTo(10L);
+        assertThat(bitmap.readAfterCount()).isEqualTo(1L);
+        assertThat(bitmap.markReadUpTo(5L)).isFalse();
+        assertThat(bitmap.readUpTo()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("합치면 어느 쪽에서 읽은 글이든 읽은 것으로 남는다")
+    void merge() {
+        // given
+        ReadBitmap stored = new ReadBitmap();
+        stored.markReadUpTo(10L);
+        stored.markRead(30L);
+        ReadBitmap recent = new ReadBitmap();
+        recent.markRead(5L);
+        recent.markRead(12L);
+        recent.markRead(30L);
+
+        // when
+        stored.merge(recent);
+
+        // then
+        assertThat(stored.readUpTo()).isEqualTo(10L);
+        assertThat(stored.isRead(12L)).isTrue();
+        assertThat(stored.readAfterCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("저장한 형식에서 읽음 위치와 읽은 글을 그대로 되살린다")
+    void roundTrip() {
+        // given
+        ReadBitmap bitmap = new ReadBitmap();
+        bitmap.markReadUpTo(100L);
+        bitmap.markRead(150L);
+        bitmap.markRead(1L << 33);
+
+        // when
+        ReadBitmap restored = ReadBitmap.of(bitmap.readUpTo(), bitmap.encodeReads());
+
+        // then
+        assertThat(restored.readUpTo()).isEqualTo(100L);
+        assertThat(restored.readAfterCount()).isEqualTo(2L);
+        assertThat(restored.isRead(1L << 33)).isTrue();
+        assertThat(restored.isRead(101L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사본을 고쳐도 원본은 바뀌지 않는다")
+    void copyIsIndependent() {
+        // given
+        ReadBitmap bitmap = new ReadBitmap();
+        bitmap.markRead(1L);
+
+        // when
+        ReadBitmap copy = bitmap.copy();
+        copy.markRead(2L);
+
+        // then
+        assertThat(bitmap.isRead(2L)).isFalse();
+        assertThat(copy.readAfterCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("읽음 위치가 음수면 되살리지 않는다")
+    void rejectsNegativeReadUpTo() {
+        // when & then
+        assertThatThrownBy(() -> ReadBitmap.of(-1L, new ReadBitmap().encodeReads()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("읽음 위치는 음수일 수 없습니다: -1");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.communityboard.readstate.infrastructure.persistence;
+
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.readstate.domain.ReadBitmap;
+import com.example.communityboard.readstate.domain.repository.ReadStateRepository;
+import com.example.communityboard.readstate.domain.vo.ReadStateKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcReadStateRepository.class, JpaConfig.class})
+class JdbcReadStateRepositoryTest {
+
+    @Autowired
+    private ReadStateRepository readStateRepository;
+
+    @Test
+    @DisplayName("처음 반영한 상태는 그대로 넣고, 다음 반영은 저장된 상태와 합친다")
+    void mergeAll() {
+        // given
+        ReadStateKey key = new ReadStateKey(1L, 1L);
+        readStateRepository.mergeAll(Map.of(key, readsOf(0L, 5L, 9L)));
+
+        // when
+        readStateRepository.mergeAll(Map.of(key, readsOf(7L, 12L)));
+
+        // then
+        ReadBitmap stored = readStateRepository.find(key).orElseThrow();
+        assertThat(stored.readUpTo()).isEqualTo(7L);
+        assertThat(stored.readAfterCount()).isEqualTo(2L);
+        assertThat(stored.isRead(9L)).isTrue();
+        assertThat(stored.isRead(12L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원과 게시판마다 따로 저장한다")
+    void findByMemberAndBoard() {
+        // given
+        readStateRepository.mergeAll(Map.of(
+                new ReadStateKey(1L, 1L), readsOf(0L, 5L),
+                new ReadStateKey(1L, 2L), readsOf(0L, 6L),
+                new ReadStateKey(2L, 1L), readsOf(0L, 7L)));
+
+        // when & then
+        assertThat(readStateRepository.find(new ReadStateKey(1L, 2L)).orElseThrow().isRead(6L)).isTrue();
+        assertThat(readStateRepository.find(new ReadStateKey(1L, 2L)).orElseThrow().isRead(5L)).isFalse();
+        assertThat(readStateRepository.find(new ReadStateKey(3L, 1L))).isEmpty();
+    }
+
+    private static ReadBitmap readsOf(long readUpTo, long... postIds) {
+        ReadBitmap bitmap = new ReadBitmap();
+        bitmap.markReadUpTo(readUpTo);
+        for (long postId : postIds) {
+            bitmap.markRead(postId);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.communityboard.readstate.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.readstate.application.dto.UnreadCount;
+import com.example.communityboard.readstate.application.service.ReadStateService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReadStateController.class)
+@Import(SecurityConfig.class)
+class ReadStateControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReadStateService readStateService;
+
+    @Test
+    @DisplayName("게시판마다 안 읽은 글 수를 응답한다")
+    @WithMockUser
+    void getUnreadCounts() throws Exception {
+        // given
+        when(readStateService.countUnread(2L, List.of(1L, 3L)))
+                .thenReturn(List.of(new UnreadCount(1L, 4L), new UnreadCount(3L, 0L)));
+
+        // when & then
+        mockMvc.perform(get("/api/boards/unread-counts").param("memberId", "2").param("boardIds", "1,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].boardId").value(1))
+                .andExpect(jsonPath("$.data[0].unreadCount").value(4))
+                .andExpect(jsonPath("$.data[1].unreadCount").value(0));
+    }
+
+    @Test
+    @DisplayName("게시판의 글을 모두 읽음으로 표시한다")
+    @WithMockUser
+    void markAllRead() throws Exception {
+        // given
+        when(readStateService.markAllRead(2L, 1L)).thenReturn(new UnreadCount(1L, 0L));
+
+        // when & then
+        mockMvc.perform(put("/api/boards/1/reads/2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.unreadCount").value(0))
+                .andExpect(jsonPath("$.message").value("모두 읽음으로 표시했습니다."));
+    }
+
+    @Test
+    @DisplayName("게시글을 읽음으로 표시하고 그 게시판의 안 읽은 글 수를 응답한다")
+    @WithMockUser
+    void markPostRead() throws Exception {
+        // given
+        when(readStateService.markPostRead(2L, 5L)).thenReturn(new UnreadCount(1L, 3L));
+
+        // when & then
+        mockMvc.perform(put("/api/posts/5/reads/2").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.boardId").value(1))
+                .andExpect(jsonPath("$.data.unreadCount").value(3))
+                .andExpect(jsonPath("$.message").value("읽음으로 표시했습니다."));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.communityboard.search.application.service;
+
+import com.example.communityboard.common.config.SearchProperties;
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.repository.SearchSourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexLoaderTest {
+
+    @Mock
+    private SearchSourceRepository searchSourceRepository;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    private SearchIndexLoader searchIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.setLoadBatchSize(2);
+        searchIndexLoader = new SearchIndexLoader(searchSourceRepository, searchIndexService, properties);
+    }
+
+    @Test
+    @DisplayName("게시판과 게시글을 마지막으로 읽은 id 다음부터 묶음 단위로 읽어 색인한다")
+    void load() {
+        // given
+        SearchDocument board = SearchDocument.board(1L, "자유게시판", null);
+        SearchDocument first = SearchDocument.post(3L, "첫 글", "내용");
+        SearchDocument second = SearchDocument.post(5L, "둘째 글", "내용");
+        SearchDocument third = SearchDocument.post(9L, "셋째 글", "내용");
+        when(searchSourceRepository.findBoardsAfter(0L, 2)).thenReturn(List.of(board));
+        when(searchSourceRepository.findPostsAfter(0L, 2)).thenReturn(List.of(first, second));
+        when(searchSourceRepository.findPostsAfter(5L, 2)).thenReturn(List.of(third));
+
+        // when
+        searchIndexLoader.load();
+
+        // then
+        verify(searchIndexService).indexIfAbsent(board);
+        verify(searchIndexService).indexIfAbsent(first);
+        verify(searchIndexService).indexIfAbsent(second);
+        verify(searchIndexService).indexIfAbsent(third);
+        verify(searchSourceRepository, never()).findPostsAfter(9L, 2);
+    }
+
+    @Test
+    @DisplayName("디스크에서 연 색인에 문서가 있으면 DB에서 다시 적재하지 않는다")
+    void skipsWhenIndexed() {
+        // given
+        when(searchIndexService.size()).thenReturn(3);
+
+        // when
+        searchIndexLoader.load();
+
+        // then
+        verifyNoInteractions(searchSourceRepository);
+        verify(searchIndexService, never()).indexIfAbsent(any());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.communityboard.search.application.service;
+
+import com.example.communityboard.common.config.SearchProperties;
+import com.example.communityboard.search.application.dto.SearchRebuildStatus;
+import com.example.communityboard.search.application.exception.SearchRebuildInProgressException;
+import com.example.communityboard.search.domain.RebuildableSearchIndex;
+import com.example.communityboard.search.domain.ScoredDocument;
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import com.example.communityboard.search.domain.SearchKey;
+import com.example.communityboard.search.domain.SearchTokenizer;
+import com.example.communityboard.search.domain.repository.IdRange;
+import com.example.communityboard.search.domain.repository.SearchSourceRepository;
+import com.example.communityboard.search.infrastructure.index.MemorySearchIndexStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexRebuilderTest {
+
+    @Mock
+    private SearchSourceRepository searchSourceRepository;
+
+    private final SearchProperties properties = new SearchProperties();
+    private RebuildableSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        properties.getRebuild().setPartitions(4);
+        properties.getRebuild().setFetchSize(3);
+        properties.getRebuild().setParallelism(2);
+        properties.getRebuild().setMaxRowsPerSecond(0);
+        searchIndex = new RebuildableSearchIndex(new MemorySearchIndexStorage());
+        searchIndex.index(SearchKey.post(99L).encode(), SearchTokenizer.tokenize("지워진 게시글"));
+    }
+
+    @Test
+    @DisplayName("id 구간을 나눠 읽어 새 색인을 만들고 바꿔 끼운다")
+    void rebuild() {
+        // given
+        when(searchSourceRepository.findIdRange(SearchDocumentType.BOARD)).thenReturn(Optional.of(new IdRange(1, 1)));
+        when(searchSourceRepository.findIdRange(SearchDocumentType.POST)).thenReturn(Optional.of(new IdRange(1, 10)));
+        doAnswer(invocation -> {
+            SearchDocumentType type = invocation.getArgument(0);
+            IdRange range = invocation.getArgument(1);
+            Consumer<SearchDocument> consumer = invocation.getArgument(3);
+            for (long id = range.min(); id <= range.max(); id++) {
+                if (type == SearchDocumentType.BOARD) {
+                    consumer.accept(SearchDocument.board(id, "자유게시판", null));
+                } else if (id != 5) {
+                    consumer.accept(SearchDocument.post(id, "게시글 " + id, "본문"));
+                }
+            }
+            return null;
+        }).when(searchSourceRepository).streamBetween(any(), any(), eq(3), any());
+
+        // when
+        SearchRebuildStatus status = rebuilder(Runnable::run).start();
+
+        // then
+        assertThat(status.state()).isEqualTo(SearchRebuildStatus.State.COMPLETED);
+        assertThat(status.estimatedRows()).isEqualTo(11);
+        assertThat(status.processedRows()).isEqualTo(10);
+        assertThat(searchIndex.isRebuilding()).isFalse();
+        assertThat(searchIndex.size()).isEqualTo(10);
+        assertThat(searchIndex.search(SearchTokenizer.tokenize("지워진"), 10, key -> true)).isEmpty();
+        assertThat(searchIndex.search(SearchTokenizer.tokenize("본문"), 20, key -> true))
+                .extracting(ScoredDocument::key).hasSize(9);
+        verify(searchSourceRepository, times(4))
+                .streamBetween(eq(SearchDocumentType.POST), any(), eq(3), any());
+    }
+
+    @Test
+    @DisplayName("한 구간이라도 읽지 못하면 만들던 색인을 버리고 쓰던 색인을 유지한다")
+    void rebuildFailure() {
+        // given
+        when(searchSourceRepository.findIdRange(SearchDocumentType.BOARD)).thenReturn(Optional.empty());
+        when(searchSourceRepository.findIdRange(SearchDocumentType.POST)).thenReturn(Optional.of(new IdRange(1, 4)));
+        doThrow(new IllegalStateException("db down"))
+                .when(searchSourceRepository).streamBetween(any(), any(), anyInt(), any());
+
+        // when
+        SearchRebuildStatus status = rebuilder(Runnable::run).start();
+
+        // then
+        assertThat(status.state()).isEqualTo(SearchRebuildStatus.State.FAILED);
+        assertThat(status.message()).isEqualTo("db down");
+        assertThat(searchIndex.isRebuilding()).isFalse();
+        assertThat(searchIndex.search(SearchTokenizer.tokenize("지워진"), 10, key -> true)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재구성 중에는 다시 시작할 수 없다")
+    void startWhileRunning() {
+        // given
+        SearchIndexRebuilder rebuilder = rebuilder(task -> {
+        });
+        SearchRebuildStatus running = rebuilder.start();
+
+        // when & then
+        assertThat(running.state()).isEqualTo(SearchRebuildStatus.State.RUNNING);
+        assertThat(rebuilder.status().state()).isEqualTo(SearchRebuildStatus.State.RUNNING);
+        assertThatThrownBy(rebuilder::start)
+                .isInstanceOf(SearchRebuildInProgressException.class);
+    }
+
+    private SearchIndexRebuilder rebuilder(Executor executor) {
+        return new SearchIndexRebuilder(searchSourceRepository, searchIndex, properties, executor);
+    }
+}
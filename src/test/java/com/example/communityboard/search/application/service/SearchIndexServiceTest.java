@@ -0,0 +1,129 @@
+package com.example.communityboard.search.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.domain.repository.PostSummary;
+import com.example.communityboard.search.application.dto.SearchResult;
+import com.example.communityboard.search.domain.InvertedIndex;
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private SearchIndexService searchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexService = new SearchIndexService(boardRepository, postRepository, new InvertedIndex());
+    }
+
+    @Test
+    @DisplayName("색인에서 찾은 게시판과 게시글을 점수 순으로 제목과 함께 돌려준다")
+    void search() {
+        // given
+        Board board = Board.create("여행 게시판", "여행 후기를 나누는 게시판", BoardType.FREE);
+        ReflectionTestUtils.setField(board, "id", 1L);
+        searchIndexService.indexBoardAfterCommit(board);
+        searchIndexService.index(SearchDocument.post(7L, "제주 여행 후기", "여행 여행 여행"));
+        searchIndexService.index(SearchDocument.post(8L, "점심 메뉴", "김치찌개"));
+        when(boardRepository.findAllByIds(List.of(1L))).thenReturn(List.of(board));
+        when(postRepository.findSummariesByIds(List.of(7L)))
+                .thenReturn(List.of(new PostSummary(7L, 1L, 2L, "제주 여행 후기", CREATED_AT, "작성자")));
+
+        // when
+        List<SearchResult> results = searchIndexService.search("여행", null, 10);
+
+        // then
+        assertThat(results).extracting(SearchResult::type, SearchResult::id, SearchResult::boardId)
+                .containsExactly(
+                        tuple(SearchDocumentType.POST, 7L, 1L),
+                        tuple(SearchDocumentType.BOARD, 1L, 1L));
+        assertThat(results.get(0).title()).isEqualTo("제주 여행 후기");
+    }
+
+    @Test
+    @DisplayName("검색 대상을 지정하면 그 종류만 돌려준다")
+    void searchByType() {
+        // given
+        searchIndexService.index(SearchDocument.board(1L, "여행 게시판", null));
+        searchIndexService.index(SearchDocument.post(7L, "여행 후기", "내용"));
+        when(boardRepository.findAllByIds(List.of())).thenReturn(List.of());
+        when(postRepository.findSummariesByIds(List.of(7L)))
+                .thenReturn(List.of(new PostSummary(7L, 1L, 2L, "여행 후기", CREATED_AT, "작성자")));
+
+        // when
+        List<SearchResult> results = searchIndexService.search("여행", "post", 10);
+
+        // then
+        assertThat(results).extracting(SearchResult::id).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("색인 반영 전에 삭제되어 DB에 없는 문서는 결과에서 뺀다")
+    void skipsMissingEntities() {
+        // given
+        searchIndexService.index(SearchDocument.post(7L, "여행 후기", "내용"));
+        when(boardRepository.findAllByIds(List.of())).thenReturn(List.of());
+        when(postRepository.findSummariesByIds(List.of(7L))).thenReturn(List.of());
+
+        // when
+        List<SearchResult> results = searchIndexService.search("여행", null, 10);
+
+        // then
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어에서 토큰이 나오지 않으면 DB를 읽지 않는다")
+    void searchWithoutTokens() {
+        // given
+        searchIndexService.index(SearchDocument.post(7L, "여행 후기", "내용"));
+
+        // when
+        List<SearchResult> results = searchIndexService.search("!!!", null, 10);
+
+        // then
+        assertThat(results).isEmpty();
+        verifyNoInteractions(postRepository, boardRepository);
+    }
+
+    @Test
+    @DisplayName("검색어가 비었거나 결과 개수가 범위를 벗어나면 예외가 발생한다")
+    void invalidRequest() {
+        assertThatThrownBy(() -> searchIndexService.search(" ", null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색어를 입력해 주세요.");
+        assertThatThrownBy(() -> searchIndexService.search("여행", null, SearchIndexService.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchIndexService.search("여행", "member", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색 대상은 BOARD 또는 POST여야 합니다.");
+        verifyNoInteractions(postRepository, boardRepository);
+    }
+}
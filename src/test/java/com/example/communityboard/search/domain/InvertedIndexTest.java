@@ -0,0 +1,109 @@
+package com.example.communityboard.search.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    @DisplayName("검색어가 많이 나오는 짧은 문서를 앞에 둔다")
+    void ranksByBm25() {
+        // given
+        index.index(1L, SearchTokenizer.tokenize("자유게시판 안내"));
+        index.index(2L, SearchTokenizer.tokenize("게시판 게시판 이용 규칙"));
+        index.index(3L, SearchTokenizer.tokenize("질문과 답변"));
+
+        // when
+        List<ScoredDocument> result = index.search(SearchTokenizer.tokenize("게시판"), 10, key -> true);
+
+        // then
+        assertThat(result).extracting(ScoredDocument::key).containsExactly(2L, 1L);
+        assertThat(result.get(0).score()).isGreaterThan(result.get(1).score());
+    }
+
+    @Test
+    @DisplayName("상위 limit건만 돌려주고 필터를 통과하지 못한 문서는 제외한다")
+    void limitAndFilter() {
+        // given
+        for (long key = 1; key <= 20; key++) {
+            index.index(key, SearchTokenizer.tokenize("공지 " + key));
+        }
+
+        // when
+        List<ScoredDocument> result = index.search(List.of("공지"), 3, key -> key % 2 == 0);
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result).allMatch(document -> document.key() % 2 == 0);
+    }
+
+    @Test
+    @DisplayName("다시 색인하면 이전 내용으로는 검색되지 않는다")
+    void reindexReplacesDocument() {
+        // given
+        index.index(1L, SearchTokenizer.tokenize("오래된 제목"));
+
+        // when
+        index.index(1L, SearchTokenizer.tokenize("새 제목"));
+
+        // then
+        assertThat(index.search(SearchTokenizer.tokenize("오래된"), 10, key -> true)).isEmpty();
+        assertThat(index.search(SearchTokenizer.tokenize("제목"), 10, key -> true))
+                .extracting(ScoredDocument::key).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 색인된 문서는 indexIfAbsent로 덮어쓰지 않는다")
+    void indexIfAbsent() {
+        // given
+        index.index(1L, SearchTokenizer.tokenize("최신 내용"));
+
+        // when
+        boolean indexed = index.indexIfAbsent(1L, SearchTokenizer.tokenize("옛날 내용"));
+
+        // then
+        assertThat(indexed).isFalse();
+        assertThat(index.search(SearchTokenizer.tokenize("옛날"), 10, key -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정이 반복되어 지운 번호가 쌓여도 정리 후 결과가 같다")
+    void compactsAfterChurn() {
+        // given
+        for (int round = 0; round < 3; round++) {
+            for (long key = 1; key <= 1000; key++) {
+                index.index(key, SearchTokenizer.tokenize("게시글 " + round + " 번호" + key));
+            }
+        }
+
+        // when
+        List<ScoredDocument> result = index.search(List.of("42"), 10, key -> true);
+
+        // then
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(result).extracting(ScoredDocument::key).containsExactly(42L);
+        assertThat(index.search(List.of("0"), 10, key -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제한 문서는 검색되지 않는다")
+    void delete() {
+        // given
+        index.index(1L, SearchTokenizer.tokenize("삭제할 글"));
+
+        // when
+        boolean deleted = index.delete(1L);
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(index.delete(1L)).isFalse();
+        assertThat(index.search(SearchTokenizer.tokenize("삭제할"), 10, key -> true)).isEmpty();
+    }
+}
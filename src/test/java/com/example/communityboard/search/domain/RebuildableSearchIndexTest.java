@@ -0,0 +1,104 @@
+package com.example.communityboard.search.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RebuildableSearchIndexTest {
+
+    @Mock
+    private SearchIndexStorage storage;
+
+    private final InvertedIndex current = new InvertedIndex();
+    private final InvertedIndex next = new InvertedIndex();
+    private RebuildableSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(storage.openCurrent()).thenReturn(current);
+        searchIndex = new RebuildableSearchIndex(storage);
+    }
+
+    @Test
+    @DisplayName("재구성 중의 쓰기는 두 색인에 모두 반영하고 검색은 쓰던 색인만 읽는다")
+    void writesToBothWhileRebuilding() {
+        // given
+        current.index(1L, List.of("오래된"));
+        when(storage.create()).thenReturn(next);
+        SearchIndex target = searchIndex.beginRebuild();
+
+        // when
+        searchIndex.index(2L, List.of("새"));
+        searchIndex.delete(1L);
+        target.indexIfAbsent(2L, List.of("예전"));
+
+        // then
+        assertThat(target).isSameAs(next);
+        assertThat(current.contains(1L)).isFalse();
+        assertThat(next.search(List.of("새"), 10, key -> true)).extracting(ScoredDocument::key).containsExactly(2L);
+        assertThat(next.search(List.of("예전"), 10, key -> true)).isEmpty();
+        assertThat(searchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성을 마치면 새 색인으로 검색하고 쓰던 색인은 버린다")
+    void completeRebuild() {
+        // given
+        when(storage.create()).thenReturn(next);
+        searchIndex.beginRebuild().index(3L, List.of("재구성"));
+
+        // when
+        searchIndex.completeRebuild();
+        searchIndex.index(4L, List.of("이후"));
+
+        // then
+        verify(storage).promote(next);
+        verify(storage).discard(current);
+        assertThat(searchIndex.isRebuilding()).isFalse();
+        assertThat(searchIndex.search(List.of("재구성"), 10, key -> true))
+                .extracting(ScoredDocument::key).containsExactly(3L);
+        assertThat(current.contains(4L)).isFalse();
+        assertThat(next.contains(4L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성을 그만두면 만들던 색인을 버리고 쓰던 색인에만 쓴다")
+    void abortRebuild() {
+        // given
+        when(storage.create()).thenReturn(next);
+        searchIndex.beginRebuild();
+
+        // when
+        searchIndex.abortRebuild();
+        searchIndex.index(5L, List.of("그만"));
+
+        // then
+        verify(storage).discard(next);
+        verify(storage, never()).promote(any());
+        assertThat(next.contains(5L)).isFalse();
+        assertThat(current.contains(5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 재구성 중이면 새로 시작할 수 없다")
+    void beginTwice() {
+        // given
+        when(storage.create()).thenReturn(next);
+        searchIndex.beginRebuild();
+
+        // when & then
+        assertThatThrownBy(() -> searchIndex.beginRebuild())
+                .isInstanceOf(IllegalStateException.class);
+        verify(storage, times(1)).create();
+    }
+}
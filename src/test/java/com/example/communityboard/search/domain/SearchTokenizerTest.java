@@ -0,0 +1,43 @@
+package com.example.communityboard.search.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("연속된 한글은 두 글자씩 겹쳐 자른다")
+    void hangulBigrams() {
+        assertThat(SearchTokenizer.tokenize("게시판에서")).containsExactly("게시", "시판", "판에", "에서");
+    }
+
+    @Test
+    @DisplayName("조사가 붙어도 원래 단어의 토큰을 모두 포함한다")
+    void particleKeepsStemTokens() {
+        assertThat(SearchTokenizer.tokenize("게시판에서")).containsAll(SearchTokenizer.tokenize("게시판"));
+    }
+
+    @Test
+    @DisplayName("한 글자 한글은 그대로, 영문과 숫자는 단어 단위 소문자로 자른다")
+    void mixedText() {
+        assertThat(SearchTokenizer.tokenize("Spring Boot 3.5 새 글"))
+                .containsExactly("spring", "boot", "3", "5", "새", "글");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 경계에서 나눈다")
+    void hangulLatinBoundary() {
+        assertThat(SearchTokenizer.tokenize("JPA질문")).containsExactly("jpa", "질문");
+    }
+
+    @Test
+    @DisplayName("너무 긴 단어와 기호는 버린다")
+    void dropsLongWordsAndSymbols() {
+        String longWord = "a".repeat(SearchTokenizer.MAX_WORD_LENGTH + 1);
+
+        assertThat(SearchTokenizer.tokenize(longWord + " !!! ok")).containsExactly("ok");
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+    }
+}
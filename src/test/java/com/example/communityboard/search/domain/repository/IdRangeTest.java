@@ -0,0 +1,31 @@
+package com.example.communityboard.search.domain.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdRangeTest {
+
+    @Test
+    @DisplayName("구간을 비슷한 폭으로 빈틈없이 나눈다")
+    void split() {
+        // given
+        IdRange range = new IdRange(1, 10);
+
+        // when & then
+        assertThat(range.split(3)).containsExactly(new IdRange(1, 4), new IdRange(5, 8), new IdRange(9, 10));
+        assertThat(range.split(1)).containsExactly(range);
+    }
+
+    @Test
+    @DisplayName("구간 폭보다 많이 나누면 id 하나씩으로 나눈다")
+    void splitNarrowRange() {
+        // given
+        IdRange range = new IdRange(7, 8);
+
+        // when & then
+        assertThat(range.split(4)).containsExactly(new IdRange(7, 7), new IdRange(8, 8));
+        assertThat(range.span()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.search.domain.SearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiskSearchIndexStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("바꿔 끼운 색인을 다음 기동 때 열고, 버린 색인의 파일은 지운다")
+    void promoteSurvivesRestart() {
+        // given
+        DiskSearchIndexStorage storage = storage();
+        SearchIndex previous = storage.openCurrent();
+        previous.index(1L, List.of("이전"));
+        SearchIndex rebuilt = storage.create();
+        rebuilt.index(2L, List.of("새"));
+
+        // when
+        storage.promote(rebuilt);
+        storage.discard(previous);
+        storage.close(rebuilt);
+        SearchIndex reopened = storage().openCurrent();
+
+        // then
+        assertThat(reopened.size()).isEqualTo(1);
+        assertThat(reopened.search(List.of("새"), 10, key -> true)).hasSize(1);
+        assertThat(root.resolve(SegmentedSearchIndex.MANIFEST)).doesNotExist();
+        assertThat(root.resolve(SegmentedSearchIndex.LOG)).doesNotExist();
+        storage.close(reopened);
+    }
+
+    @Test
+    @DisplayName("바꿔 끼우기 전에 멈춘 재구성 디렉터리는 기동할 때 지운다")
+    void removesAbandonedRebuild() throws IOException {
+        // given
+        DiskSearchIndexStorage storage = storage();
+        SearchIndex current = storage.openCurrent();
+        current.index(1L, List.of("현재"));
+        SearchIndex abandoned = storage.create();
+        abandoned.index(2L, List.of("버려진"));
+        storage.close(abandoned);
+        storage.close(current);
+
+        // when
+        SearchIndex reopened = storage().openCurrent();
+
+        // then
+        assertThat(reopened.size()).isEqualTo(1);
+        try (Stream<Path> entries = Files.list(root)) {
+            assertThat(entries.filter(Files::isDirectory)).isEmpty();
+        }
+        storage.close(reopened);
+    }
+
+    private DiskSearchIndexStorage storage() {
+        return new DiskSearchIndexStorage(root, 10, 3, Runnable::run);
+    }
+}
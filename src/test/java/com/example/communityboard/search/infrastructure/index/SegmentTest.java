@@ -0,0 +1,121 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.common.bitmap.CompactBitmap;
+import com.example.communityboard.search.domain.InvertedIndex;
+import com.example.communityboard.search.domain.SearchTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("버퍼를 세그먼트로 내려쓰면 문서는 키 순으로, 단어는 문자열 순으로 읽힌다")
+    void writeAndRead() throws IOException {
+        // given
+        InvertedIndex buffer = new InvertedIndex();
+        buffer.index(30L, SearchTokenizer.tokenize("여행 후기 여행"));
+        buffer.index(10L, SearchTokenizer.tokenize("점심 메뉴"));
+        buffer.index(20L, SearchTokenizer.tokenize("여행 준비물"));
+
+        // when
+        Segment segment = write("seg-1", buffer);
+
+        // then
+        assertThat(segment.documentCount()).isEqualTo(3);
+        assertThat(List.of(segment.key(0), segment.key(1), segment.key(2))).containsExactly(10L, 20L, 30L);
+        assertThat(segment.length(2)).isEqualTo(3);
+        assertThat(segment.totalLength()).isEqualTo(8);
+        assertThat(segment.findDocNo(20L)).isEqualTo(1);
+        assertThat(segment.findDocNo(15L)).isEqualTo(-1);
+
+        int ordinal = segment.findTerm("여행");
+        assertThat(segment.documentFrequency(ordinal)).isEqualTo(2);
+        assertThat(postings(segment, ordinal)).containsExactly(1, 1, 2, 2);
+        assertThat(segment.findTerm("없음")).isEqualTo(-1);
+
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < segment.termCount(); i++) {
+            terms.add(segment.term(i));
+        }
+        assertThat(terms).isSorted().contains("점심", "메뉴", "준비", "비물");
+    }
+
+    @Test
+    @DisplayName("병합하면 지운 문서를 빼고 키 순으로 번호를 다시 매긴다")
+    void merge() throws IOException {
+        // given
+        InvertedIndex first = new InvertedIndex();
+        first.index(1L, List.of("a", "b"));
+        first.index(4L, List.of("b"));
+        InvertedIndex second = new InvertedIndex();
+        second.index(2L, List.of("b", "c"));
+        second.index(3L, List.of("a"));
+        Segment older = write("seg-1", first);
+        Segment newer = write("seg-2", second);
+        CompactBitmap deleted = new CompactBitmap();
+        deleted.add(older.findDocNo(4L));
+
+        // when
+        Segment merged;
+        try (SegmentWriter writer = new SegmentWriter(directory.resolve("seg-3.seg"))) {
+            SegmentMerger.merge(List.of(older, newer), List.of(deleted, new CompactBitmap()), writer);
+            writer.finish();
+        }
+        merged = Segment.open("seg-3", directory.resolve("seg-3.seg"));
+
+        // then
+        assertThat(merged.documentCount()).isEqualTo(3);
+        assertThat(List.of(merged.key(0), merged.key(1), merged.key(2))).containsExactly(1L, 2L, 3L);
+        assertThat(postings(merged, merged.findTerm("a"))).containsExactly(0, 1, 2, 1);
+        assertThat(postings(merged, merged.findTerm("b"))).containsExactly(0, 1, 1, 1);
+        assertThat(postings(merged, merged.findTerm("c"))).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("다 쓰기 전에 닫으면 임시 파일을 남기지 않는다")
+    void abort() throws IOException {
+        // given
+        try (SegmentWriter writer = new SegmentWriter(directory.resolve("seg-1.seg"))) {
+            writer.document(1L, 1);
+
+            // when & then
+            assertThatThrownBy(() -> writer.document(1L, 1)).isInstanceOf(IllegalStateException.class);
+        }
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private Segment write(String name, InvertedIndex buffer) throws IOException {
+        Path file = directory.resolve(name + SegmentedSearchIndex.SEGMENT_SUFFIX);
+        try (SegmentWriter writer = new SegmentWriter(file)) {
+            buffer.export(writer);
+            writer.finish();
+        }
+        return Segment.open(name, file);
+    }
+
+    // (문서 번호, 출현 횟수)를 차례로 펼친 목록
+    private static List<Integer> postings(Segment segment, int ordinal) {
+        List<Integer> values = new ArrayList<>();
+        Segment.PostingCursor cursor = segment.postings(ordinal);
+        while (cursor.next()) {
+            values.add(cursor.docNo());
+            values.add(cursor.frequency());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.communityboard.search.infrastructure.index;
+
+import com.example.communityboard.search.domain.InvertedIndex;
+import com.example.communityboard.search.domain.ScoredDocument;
+import com.example.communityboard.search.domain.SearchTokenizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentedSearchIndexTest {
+
+    private static final int BUFFER_MAX_DOCUMENTS = 10;
+    private static final int MERGE_FACTOR = 3;
+
+    @TempDir
+    Path directory;
+
+    private final List<SegmentedSearchIndex> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (SegmentedSearchIndex index : opened) {
+            index.close();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼와 세그먼트에 나뉘어 있어도 메모리 색인과 같은 순위와 점수를 돌려준다")
+    void searchMatchesInMemoryIndex() {
+        // given
+        SegmentedSearchIndex index = open();
+        InvertedIndex expected = new InvertedIndex();
+        Random random = new Random(7);
+        for (long key = 1; key <= 125; key++) {
+            List<String> tokens = randomTokens(random);
+            index.index(key, tokens);
+            expected.index(key, tokens);
+        }
+
+        // when & then
+        // 버퍼 12번 분량이 90건(10건 3개 -> 30건 3개 -> 90건)과 30건 세그먼트로 병합되고 5건은 버퍼에 남는다
+        assertThat(index.segmentCount()).isEqualTo(2);
+        assertThat(index.size()).isEqualTo(125);
+        for (int word = 0; word < 20; word++) {
+            List<String> query = List.of("w" + word, "w" + (word + 1));
+            assertThat(index.search(query, 10, key -> true)).isEqualTo(expected.search(query, 10, key -> true));
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트에 있는 문서를 다시 색인하거나 지우면 이전 내용으로는 검색되지 않는다")
+    void reindexDeletesFromSegment() {
+        // given
+        SegmentedSearchIndex index = open();
+        index.index(1L, SearchTokenizer.tokenize("오래된 제목"));
+        index.flush();
+
+        // when
+        index.index(1L, SearchTokenizer.tokenize("새 제목"));
+        index.index(2L, SearchTokenizer.tokenize("지울 글"));
+        index.flush();
+        boolean deleted = index.delete(2L);
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(index.search(SearchTokenizer.tokenize("오래된"), 10, key -> true)).isEmpty();
+        assertThat(index.search(SearchTokenizer.tokenize("지울"), 10, key -> true)).isEmpty();
+        assertThat(keys(index.search(SearchTokenizer.tokenize("제목"), 10, key -> true))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.indexIfAbsent(1L, SearchTokenizer.tokenize("옛날 내용"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 열면 세그먼트와 내려쓰지 않은 버퍼 변경이 그대로 남아 있다")
+    void survivesReopen() throws IOException {
+        // given
+        SegmentedSearchIndex index = open();
+        for (long key = 1; key <= 25; key++) {
+            index.index(key, SearchTokenizer.tokenize("게시글 " + key));
+        }
+        index.index(3L, SearchTokenizer.tokenize("수정된 글"));
+        index.delete(24L);
+        index.close();
+
+        // when
+        SegmentedSearchIndex reopened = open();
+
+        // then
+        assertThat(reopened.size()).isEqualTo(24);
+        assertThat(keys(reopened.search(SearchTokenizer.tokenize("수정된"), 10, key -> true))).containsExactly(3L);
+        assertThat(keys(reopened.search(List.of("3"), 10, key -> true))).isEmpty();
+        assertThat(keys(reopened.search(List.of("24"), 10, key -> true))).isEmpty();
+        assertThat(keys(reopened.search(List.of("25"), 10, key -> true))).containsExactly(25L);
+    }
+
+    @Test
+    @DisplayName("쓰다 만 로그 레코드와 매니페스트에 없는 파일은 열 때 정리한다")
+    void recoversFromInterruptedWrites() throws IOException {
+        // given
+        SegmentedSearchIndex index = open();
+        index.index(1L, SearchTokenizer.tokenize("첫 글"));
+        index.close();
+        Files.write(directory.resolve(SegmentedSearchIndex.LOG), new byte[]{0, 0, 0, 50, 1},
+                StandardOpenOption.APPEND);
+        Files.write(directory.resolve("seg-00000099.seg.tmp"), new byte[]{1, 2, 3});
+
+        // when
+        SegmentedSearchIndex reopened = open();
+        reopened.index(2L, SearchTokenizer.tokenize("둘째 글"));
+
+        // then
+        assertThat(keys(reopened.search(SearchTokenizer.tokenize("글"), 10, key -> true)))
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(directory.resolve("seg-00000099.seg.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 쌓이면 병합해 개수를 줄이고, 지운 문서가 많은 세그먼트는 다시 써서 비운다")
+    void mergesSegments() {
+        // given
+        SegmentedSearchIndex index = open();
+
+        // when
+        for (long key = 1; key <= BUFFER_MAX_DOCUMENTS * 9; key++) {
+            index.index(key, SearchTokenizer.tokenize("공지 " + key));
+        }
+        int segmentsAfterIndexing = index.segmentCount();
+        for (long key = 1; key <= BUFFER_MAX_DOCUMENTS * 9; key++) {
+            index.delete(key);
+        }
+        index.flush();
+
+        // then
+        assertThat(segmentsAfterIndexing).isLessThan(9);
+        assertThat(index.size()).isZero();
+        assertThat(index.segmentCount()).isZero();
+        assertThat(index.search(List.of("공지"), 10, key -> true)).isEmpty();
+    }
+
+    private SegmentedSearchIndex open() {
+        SegmentedSearchIndex index = SegmentedSearchIndex.open(directory, BUFFER_MAX_DOCUMENTS, MERGE_FACTOR,
+                Runnable::run);
+        opened.add(index);
+        return index;
+    }
+
+    private static List<String> randomTokens(Random random) {
+        List<String> tokens = new ArrayList<>();
+        int count = 1 + random.nextInt(12);
+        for (int i = 0; i < count; i++) {
+            tokens.add("w" + random.nextInt(40));
+        }
+        return tokens;
+    }
+
+    private static List<Long> keys(List<ScoredDocument> documents) {
+        return documents.stream().map(ScoredDocument::key).toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.communityboard.search.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.member.domain.entity.Member;
+import com.example.communityboard.member.domain.repository.MemberRepository;
+import com.example.communityboard.member.infrastructure.persistence.MemberRepositoryImpl;
+import com.example.communityboard.post.domain.entity.Post;
+import com.example.communityboard.post.domain.repository.PostRepository;
+import com.example.communityboard.post.infrastructure.persistence.PostRepositoryImpl;
+import com.example.communityboard.search.domain.SearchDocument;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import com.example.communityboard.search.domain.SearchKey;
+import com.example.communityboard.search.domain.repository.IdRange;
+import com.example.communityboard.search.domain.repository.SearchSourceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcSearchSourceRepository.class, PostRepositoryImpl.class, BoardRepositoryImpl.class,
+        MemberRepositoryImpl.class, JpaConfig.class})
+class JdbcSearchSourceRepositoryTest {
+
+    @Autowired
+    private SearchSourceRepository searchSourceRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Board board;
+    private Member author;
+
+    @BeforeEach
+    void setUp() {
+        board = boardRepository.save(Board.create("자유게시판", "자유롭게 글을 작성하는 게시판", BoardType.FREE));
+        author = memberRepository.save(Member.registerMember("writer01", "password123!", "작성자",
+                "writer@example.com", new BCryptPasswordEncoder()));
+    }
+
+    @Test
+    @DisplayName("게시글을 id 순으로 지정한 id 다음부터 끊어 읽는다")
+    void findPostsAfter() {
+        // given
+        Post first = postRepository.save(Post.create(board, author, "첫 게시글", "안녕하세요"));
+        Post second = postRepository.save(Post.create(board, author, "두 번째 게시글", "반갑습니다"));
+        Post third = postRepository.save(Post.create(board, author, "세 번째 게시글", "잘 부탁해요"));
+        entityManager.flush();
+
+        // when
+        List<SearchDocument> page = searchSourceRepository.findPostsAfter(first.getId(), 1);
+
+        // then
+        assertThat(page).containsExactly(
+                SearchDocument.post(second.getId(), "두 번째 게시글", "반갑습니다"));
+        assertThat(searchSourceRepository.findPostsAfter(second.getId(), 10))
+                .extracting(SearchDocument::key)
+                .containsExactly(SearchKey.post(third.getId()));
+    }
+
+    @Test
+    @DisplayName("게시판 제목과 설명을 읽는다")
+    void findBoardsAfter() {
+        // given
+        entityManager.flush();
+
+        // when
+        List<SearchDocument> page = searchSourceRepository.findBoardsAfter(0L, 10);
+
+        // then
+        assertThat(page).containsExactly(
+                SearchDocument.board(board.getId(), "자유게시판", "자유롭게 글을 작성하는 게시판"));
+    }
+
+    @Test
+    @DisplayName("테이블의 가장 작은 id와 가장 큰 id를 읽고, 비어 있으면 빈 값을 돌려준다")
+    void findIdRange() {
+        // given
+        entityManager.flush();
+
+        // when & then
+        assertThat(searchSourceRepository.findIdRange(SearchDocumentType.POST)).isEmpty();
+        assertThat(searchSourceRepository.findIdRange(SearchDocumentType.BOARD))
+                .contains(new IdRange(board.getId(), board.getId()));
+    }
+
+    @Test
+    @DisplayName("id 구간의 게시글을 id 순으로 흘려 보낸다")
+    void streamBetween() {
+        // given
+        Post first = postRepository.save(Post.create(board, author, "첫 게시글", "안녕하세요"));
+        Post second = postRepository.save(Post.create(board, author, "두 번째 게시글", "반갑습니다"));
+        Post third = postRepository.save(Post.create(board, author, "세 번째 게시글", "잘 부탁해요"));
+        entityManager.flush();
+        List<SearchDocument> streamed = new ArrayList<>();
+
+        // when
+        searchSourceRepository.streamBetween(SearchDocumentType.POST, new IdRange(first.getId(), second.getId()), 1,
+                streamed::add);
+
+        // then
+        assertThat(streamed).containsExactly(
+                SearchDocument.post(first.getId(), "첫 게시글", "안녕하세요"),
+                SearchDocument.post(second.getId(), "두 번째 게시글", "반갑습니다"));
+        assertThat(streamed).extracting(SearchDocument::key).doesNotContain(SearchKey.post(third.getId()));
+    }
+}
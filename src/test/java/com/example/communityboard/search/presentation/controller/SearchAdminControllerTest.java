@@ -0,0 +1,87 @@
+package com.example.communityboard.search.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.search.application.dto.SearchRebuildStatus;
+import com.example.communityboard.search.application.exception.SearchRebuildInProgressException;
+import com.example.communityboard.search.application.service.SearchIndexRebuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchAdminController.class)
+@Import(SecurityConfig.class)
+class SearchAdminControllerTest {
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchIndexRebuilder searchIndexRebuilder;
+
+    @Test
+    @DisplayName("관리자가 재구성을 시작하면 202와 진행 상태를 응답한다")
+    @WithMockUser(roles = "ADMIN")
+    void rebuild() throws Exception {
+        // given
+        when(searchIndexRebuilder.start()).thenReturn(new SearchRebuildStatus(
+                SearchRebuildStatus.State.RUNNING, STARTED_AT, null, 0, 0, null));
+
+        // when & then
+        mockMvc.perform(post("/api/admin/search/rebuild").with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.state").value("RUNNING"))
+                .andExpect(jsonPath("$.message").value("검색 색인 재구성을 시작했습니다."));
+    }
+
+    @Test
+    @DisplayName("재구성 중에 다시 시작하면 409를 응답한다")
+    @WithMockUser(roles = "ADMIN")
+    void rebuildWhileRunning() throws Exception {
+        // given
+        when(searchIndexRebuilder.start()).thenThrow(new SearchRebuildInProgressException());
+
+        // when & then
+        mockMvc.perform(post("/api/admin/search/rebuild").with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("이미 검색 색인을 다시 만드는 중입니다."));
+    }
+
+    @Test
+    @DisplayName("읽은 행 수와 예상 행 수를 조회한다")
+    @WithMockUser(roles = "ADMIN")
+    void getStatus() throws Exception {
+        // given
+        when(searchIndexRebuilder.status()).thenReturn(new SearchRebuildStatus(
+                SearchRebuildStatus.State.RUNNING, STARTED_AT, null, 1000, 250, null));
+
+        // when & then
+        mockMvc.perform(get("/api/admin/search/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.estimatedRows").value(1000))
+                .andExpect(jsonPath("$.data.processedRows").value(250));
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 재구성을 시작할 수 없다")
+    @WithMockUser
+    void rebuildWithoutAdmin() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/admin/search/rebuild").with(csrf()))
+                .andExpect(status().isForbidden());
+        verify(searchIndexRebuilder, never()).start();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.communityboard.search.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.search.application.dto.SearchResult;
+import com.example.communityboard.search.application.service.SearchIndexService;
+import com.example.communityboard.trending.application.service.TrendingService;
+import com.example.communityboard.search.domain.SearchDocumentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+@Import(SecurityConfig.class)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchIndexService searchIndexService;
+
+    @MockBean
+    private TrendingService trendingService;
+
+    @Test
+    @DisplayName("검색 결과를 점수 순으로 응답한다")
+    @WithMockUser
+    void search() throws Exception {
+        // given
+        when(searchIndexService.search("여행", null, 20)).thenReturn(List.of(
+                new SearchResult(SearchDocumentType.POST, 7L, 1L, "제주 여행 후기", 2.5),
+                new SearchResult(SearchDocumentType.BOARD, 1L, 1L, "여행 게시판", 1.2)));
+
+        // when & then
+        mockMvc.perform(get("/api/search").param("q", "여행"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].type").value("POST"))
+                .andExpect(jsonPath("$.data[0].id").value(7))
+                .andExpect(jsonPath("$.data[0].boardId").value(1))
+                .andExpect(jsonPath("$.data[1].type").value("BOARD"))
+                .andExpect(jsonPath("$.data[1].title").value("여행 게시판"));
+        verify(trendingService).recordSearch("여행");
+    }
+
+    @Test
+    @DisplayName("검색 대상이 잘못되면 400을 응답한다")
+    @WithMockUser
+    void searchWithInvalidType() throws Exception {
+        // given
+        when(searchIndexService.search("여행", "member", 20))
+                .thenThrow(new IllegalArgumentException("검색 대상은 BOARD 또는 POST여야 합니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/search").param("q", "여행").param("type", "member"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("검색 대상은 BOARD 또는 POST여야 합니다."));
+        verifyNoInteractions(trendingService);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.communityboard.spam.application.service;
+
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.common.config.SpamProperties;
+import com.example.communityboard.spam.application.dto.SpamInspection;
+import com.example.communityboard.spam.application.exception.SpamDetectedException;
+import com.example.communityboard.spam.domain.SpamAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpamDetectionServiceTest {
+
+    private static final String TITLE = "오만원 지급 이벤트";
+    private static final String CONTENT = "지금 바로 가입하면 오만원 지급! 아래 링크에서 신청하세요 http://spam.example.com 선착순 마감";
+    private static final String VARIANT = "지금 바로 가입하면 오만원 지급!! 아래 링크에서 꼭 신청하세요 http://spam.example.com 선착순 마감";
+
+    private SpamProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SpamProperties();
+    }
+
+    @Test
+    @DisplayName("최근 글과 거의 같은 글은 거절한다")
+    void block() {
+        // given
+        SpamDetectionService service = new SpamDetectionService(properties);
+        service.record(1L, service.inspect(BoardType.FREE, TITLE, CONTENT));
+
+        // when & then
+        assertThatThrownBy(() -> service.inspect(BoardType.FREE, TITLE, VARIANT))
+                .isInstanceOf(SpamDetectedException.class)
+                .hasMessage("최근에 올라온 글과 거의 같은 내용은 작성할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 종류의 게시판에 올린 같은 글도 찾는다")
+    void acrossBoardTypes() {
+        // given
+        SpamDetectionService service = new SpamDetectionService(properties);
+        service.record(1L, service.inspect(BoardType.FREE, TITLE, CONTENT));
+
+        // when & then
+        assertThatThrownBy(() -> service.inspect(BoardType.QNA, TITLE, VARIANT))
+                .isInstanceOf(SpamDetectedException.class);
+    }
+
+    @Test
+    @DisplayName("FLAG인 게시판은 비슷한 글을 통과시키고 비슷한 글을 알려 준다")
+    void flag() {
+        // given
+        properties.getBoards().put(BoardType.ANONYMOUS, policy(SpamAction.FLAG, 0.8));
+        SpamDetectionService service = new SpamDetectionService(properties);
+        service.record(1L, service.inspect(BoardType.ANONYMOUS, TITLE, CONTENT));
+
+        // when
+        SpamInspection inspection = service.inspect(BoardType.ANONYMOUS, TITLE, VARIANT);
+        service.record(2L, inspection);
+
+        // then
+        assertThat(inspection.similar().id()).isEqualTo(1L);
+        assertThat(service.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("OFF인 게시판은 검사하지도 기억하지도 않는다")
+    void off() {
+        // given
+        properties.getBoards().put(BoardType.NOTICE, policy(SpamAction.OFF, 0.8));
+        SpamDetectionService service = new SpamDetectionService(properties);
+        service.record(1L, service.inspect(BoardType.NOTICE, TITLE, CONTENT));
+
+        // when
+        SpamInspection inspection = service.inspect(BoardType.NOTICE, TITLE, CONTENT);
+
+        // then
+        assertThat(inspection).isEqualTo(SpamInspection.SKIPPED);
+        assertThat(service.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시판 종류별 유사도 기준을 따른다")
+    void similarityPerBoardType() {
+        // given
+        properties.getBoards().put(BoardType.QNA, policy(SpamAction.BLOCK, 1.0));
+        SpamDetectionService service = new SpamDetectionService(properties);
+        service.record(1L, service.inspect(BoardType.FREE, TITLE, CONTENT));
+
+        // when
+        SpamInspection inspection = service.inspect(BoardType.QNA, TITLE, VARIANT);
+
+        // then
+        assertThat(inspection.similar()).isNull();
+    }
+
+    @Test
+    @DisplayName("짧은 글은 검사하지 않는다")
+    void shortText() {
+        // given
+        SpamDetectionService service = new SpamDetectionService(properties);
+        service.record(1L, service.inspect(BoardType.FREE, "감사합니다", "좋은 정보 감사합니다"));
+
+        // when
+        SpamInspection inspection = service.inspect(BoardType.FREE, "감사합니다", "좋은 정보 감사합니다");
+
+        // then
+        assertThat(inspection).isEqualTo(SpamInspection.SKIPPED);
+        assertThat(service.size()).isZero();
+    }
+
+    private static SpamProperties.Policy policy(SpamAction action, double similarity) {
+        SpamProperties.Policy policy = new SpamProperties.Policy();
+        policy.setAction(action);
+        policy.setSimilarity(similarity);
+        return policy;
+    }
+}
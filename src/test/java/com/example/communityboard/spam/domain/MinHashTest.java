@@ -0,0 +1,55 @@
+package com.example.communityboard.spam.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinHashTest {
+
+    private static final String SPAM = "지금 바로 가입하면 오만원 지급! 아래 링크에서 신청하세요 http://spam.example.com 선착순 마감";
+
+    @Test
+    @DisplayName("몇 글자만 바꾼 글은 유사도가 높다")
+    void similarText() {
+        // given
+        String variant = "지금 바로 가입하면 오만원 지급!! 아래 링크에서 꼭 신청하세요 http://spam.example.com 선착순 마감";
+
+        // when
+        double similarity = MinHash.similarity(MinHash.signature(SPAM, 64), MinHash.signature(variant, 64));
+
+        // then
+        assertThat(similarity).isGreaterThanOrEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("내용이 다른 글은 유사도가 낮다")
+    void differentText() {
+        // given
+        String other = "이번 주말에 등산 가실 분 계신가요? 북한산 코스로 생각하고 있고 아침 일찍 출발하려고 합니다";
+
+        // when
+        double similarity = MinHash.similarity(MinHash.signature(SPAM, 64), MinHash.signature(other, 64));
+
+        // then
+        assertThat(similarity).isLessThan(0.3);
+    }
+
+    @Test
+    @DisplayName("공백, 기호, 대소문자만 다른 글은 같은 서명을 가진다")
+    void ignoresSpacingAndSymbols() {
+        // when
+        int[] original = MinHash.signature("Free Coupon 지금 받으세요", 64);
+        int[] disguised = MinHash.signature("f.r.e.e  c-o-u-p-o-n 지금받으세요!!!", 64);
+
+        // then
+        assertThat(disguised).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("정규화하면 글자와 숫자만 소문자로 남는다")
+    void normalize() {
+        // when & then
+        assertThat(MinHash.normalize("Hello, 세계! 2024")).isEqualTo("hello세계2024");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.communityboard.spam.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearDuplicateIndexTest {
+
+    private static final Duration WINDOW = Duration.ofHours(1);
+
+    private static final int[] SPAM = MinHash.signature(
+            "지금 바로 가입하면 오만원 지급! 아래 링크에서 신청하세요 http://spam.example.com 선착순 마감", 64);
+    private static final int[] VARIANT = MinHash.signature(
+            "지금 바로 가입하면 오만원 지급!! 아래 링크에서 꼭 신청하세요 http://spam.example.com 선착순 마감", 64);
+    private static final int[] OTHER = MinHash.signature(
+            "이번 주말에 등산 가실 분 계신가요? 북한산 코스로 생각하고 있고 아침 일찍 출발하려고 합니다", 64);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("비슷한 최근 글을 찾는다")
+    void findSimilar() {
+        // given
+        NearDuplicateIndex index = new NearDuplicateIndex(16, 4, WINDOW, 100, clock::get);
+        index.add(1L, SPAM);
+        index.add(2L, OTHER);
+
+        // when
+        Optional<NearDuplicateIndex.Match> match = index.findMostSimilar(VARIANT, 0.8);
+
+        // then
+        assertThat(match).isPresent();
+        assertThat(match.get().id()).isEqualTo(1L);
+        assertThat(match.get().similarity()).isGreaterThanOrEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("유사도가 기준보다 낮으면 찾지 않는다")
+    void belowThreshold() {
+        // given
+        NearDuplicateIndex index = new NearDuplicateIndex(16, 4, WINDOW, 100, clock::get);
+        index.add(1L, SPAM);
+
+        // when & then
+        assertThat(index.findMostSimilar(OTHER, 0.8)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기간이 지난 글은 잊는다")
+    void expire() {
+        // given
+        NearDuplicateIndex index = new NearDuplicateIndex(16, 4, WINDOW, 100, clock::get);
+        index.add(1L, SPAM);
+
+        // when
+        clock.addAndGet(WINDOW.toNanos() + 1);
+
+        // then
+        assertThat(index.findMostSimilar(VARIANT, 0.8)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("기억하는 글 수를 넘으면 오래된 글부터 잊는다")
+    void evictOldest() {
+        // given
+        NearDuplicateIndex index = new NearDuplicateIndex(16, 4, WINDOW, 2, clock::get);
+        index.add(1L, SPAM);
+        index.add(2L, OTHER);
+
+        // when
+        index.add(3L, OTHER);
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findMostSimilar(VARIANT, 0.8)).isEmpty();
+        assertThat(index.findMostSimilar(OTHER, 1.0)).isPresent();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.communityboard.trending.application.service;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.common.config.TrendingProperties;
+import com.example.communityboard.moderation.domain.AhoCorasickMatcher;
+import com.example.communityboard.moderation.domain.ContentFilter;
+import com.example.communityboard.trending.application.dto.TrendingBoard;
+import com.example.communityboard.trending.application.dto.TrendingTerm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        trendingService = new TrendingService(boardRepository, new TrendingProperties());
+    }
+
+    @Test
+    @DisplayName("많이 읽힌 게시판을 제목과 함께 돌려주고, 지워진 게시판은 뺀다")
+    void getTrendingBoards() {
+        // given
+        Board travel = board(1L, "여행 게시판");
+        for (int i = 0; i < 3; i++) {
+            trendingService.recordBoardRead(1L);
+        }
+        trendingService.recordBoardRead(2L);
+        when(boardRepository.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(travel));
+
+        // when
+        List<TrendingBoard> trending = trendingService.getTrendingBoards(10);
+
+        // then
+        assertThat(trending).containsExactly(new TrendingBoard(1L, "여행 게시판", 3));
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백만 다른 검색어는 같은 검색어로 센다")
+    void normalizeTerms() {
+        // given
+        trendingService.recordSearch("Spring Boot");
+        trendingService.recordSearch("  spring   boot ");
+        trendingService.recordSearch("여행");
+
+        // when
+        List<TrendingTerm> trending = trendingService.getTrendingTerms(10);
+
+        // then
+        assertThat(trending).containsExactly(new TrendingTerm("spring boot", 2), new TrendingTerm("여행", 1));
+    }
+
+    @Test
+    @DisplayName("금칙어가 든 검색어와 너무 긴 검색어는 세지 않는다")
+    void skipBannedAndLongTerms() {
+        // given
+        ContentFilter.install(AhoCorasickMatcher.compile(List.of("금칙어")));
+        try {
+            trendingService.recordSearch("금칙어 검색");
+            trendingService.recordSearch("가".repeat(TrendingService.MAX_TERM_LENGTH + 1));
+
+            // when & then
+            assertThat(trendingService.getTrendingTerms(10)).isEmpty();
+        } finally {
+            ContentFilter.install(AhoCorasickMatcher.EMPTY);
+        }
+    }
+
+    @Test
+    @DisplayName("순위 개수가 범위를 벗어나면 예외가 발생한다")
+    void invalidSize() {
+        // when & then
+        assertThatThrownBy(() -> trendingService.getTrendingTerms(TrendingService.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("순위 개수는 1 이상 20 이하여야 합니다.");
+    }
+
+    private static Board board(Long id, String title) {
+        Board board = Board.create(title, "설명", BoardType.FREE);
+        ReflectionTestUtils.setField(board, "id", id);
+        return board;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.communityboard.trending.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("키별 횟수를 센다")
+    void count() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+
+        // when
+        sketch.add(1L, 3);
+        long estimate = sketch.add(1L, 2);
+        sketch.add(2L, 7);
+
+        // then
+        assertThat(estimate).isEqualTo(5);
+        assertThat(sketch.estimate(1L)).isEqualTo(5);
+        assertThat(sketch.estimate(2L)).isEqualTo(7);
+        assertThat(sketch.estimate(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("칸을 나눠 써도 실제보다 작게 어림하지 않는다")
+    void neverUnderestimate() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        long[] exact = new long[1000];
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(exact.length);
+            exact[key]++;
+            sketch.add(key, 1);
+        }
+
+        // then
+        for (int key = 0; key < exact.length; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(exact[key]);
+        }
+    }
+
+    @Test
+    @DisplayName("비우면 모든 키가 0이 된다")
+    void clear() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        sketch.add(1L, 3);
+
+        // when
+        sketch.clear();
+
+        // then
+        assertThat(sketch.estimate(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("크기가 1보다 작으면 만들 수 없다")
+    void invalidSize() {
+        // when & then
+        assertThatThrownBy(() -> new CountMinSketch(0, 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.communityboard.trending.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingHeavyHittersTest {
+
+    private static final Duration WINDOW = Duration.ofHours(1);
+    private static final long BUCKET_NANOS = WINDOW.toNanos() / 12;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("많이 나온 키를 횟수 순으로 돌려준다")
+    void top() {
+        // given
+        SlidingHeavyHitters<String> hitters = new SlidingHeavyHitters<>(WINDOW, 12, 4, 1024, 10, clock::get);
+        add(hitters, "여행", 5);
+        add(hitters, "맛집", 3);
+        add(hitters, "캠핑", 1);
+
+        // when & then
+        assertThat(hitters.top(2)).containsExactly(
+                new SlidingHeavyHitters.HeavyHitter<>("여행", 5),
+                new SlidingHeavyHitters.HeavyHitter<>("맛집", 3));
+    }
+
+    @Test
+    @DisplayName("여러 칸에 걸친 횟수를 더한다")
+    void sumAcrossBuckets() {
+        // given
+        SlidingHeavyHitters<String> hitters = new SlidingHeavyHitters<>(WINDOW, 12, 4, 1024, 10, clock::get);
+        add(hitters, "여행", 2);
+        clock.addAndGet(BUCKET_NANOS);
+        add(hitters, "맛집", 3);
+        clock.addAndGet(BUCKET_NANOS);
+        add(hitters, "여행", 2);
+
+        // when & then
+        assertThat(hitters.top(2)).containsExactly(
+                new SlidingHeavyHitters.HeavyHitter<>("여행", 4),
+                new SlidingHeavyHitters.HeavyHitter<>("맛집", 3));
+    }
+
+    @Test
+    @DisplayName("window가 지난 칸은 순위에서 빠진다")
+    void expire() {
+        // given
+        SlidingHeavyHitters<String> hitters = new SlidingHeavyHitters<>(WINDOW, 12, 4, 1024, 10, clock::get);
+        add(hitters, "여행", 5);
+        clock.addAndGet(BUCKET_NANOS * 11);
+        add(hitters, "맛집", 1);
+
+        // when
+        clock.addAndGet(BUCKET_NANOS);
+
+        // then
+        assertThat(hitters.top(10)).containsExactly(new SlidingHeavyHitters.HeavyHitter<>("맛집", 1));
+    }
+
+    @Test
+    @DisplayName("후보 수를 넘으면 횟수가 가장 적은 후보를 밀어낸다")
+    void evictSmallest() {
+        // given
+        SlidingHeavyHitters<Long> hitters = new SlidingHeavyHitters<>(WINDOW, 12, 4, 1024, 2, clock::get);
+        add(hitters, 1L, 3);
+        add(hitters, 2L, 1);
+        add(hitters, 3L, 2);
+
+        // when & then
+        assertThat(hitters.top(10)).extracting(SlidingHeavyHitters.HeavyHitter::key).containsExactly(1L, 3L);
+    }
+
+    private static <K> void add(SlidingHeavyHitters<K> hitters, K key, int times) {
+        for (int i = 0; i < times; i++) {
+            hitters.add(key);
+        }
+    }
+}
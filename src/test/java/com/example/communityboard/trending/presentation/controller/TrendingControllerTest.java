@@ -0,0 +1,50 @@
+package com.example.communityboard.trending.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.trending.application.dto.TrendingBoard;
+import com.example.communityboard.trending.application.dto.TrendingTerm;
+import com.example.communityboard.trending.application.service.TrendingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TrendingController.class)
+@Import(SecurityConfig.class)
+class TrendingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TrendingService trendingService;
+
+    @Test
+    @DisplayName("최근 많이 읽힌 게시판과 많이 검색된 검색어를 함께 응답한다")
+    @WithMockUser
+    void getTrending() throws Exception {
+        // given
+        when(trendingService.getTrendingBoards(5)).thenReturn(List.of(new TrendingBoard(1L, "여행 게시판", 42)));
+        when(trendingService.getTrendingTerms(5)).thenReturn(List.of(
+                new TrendingTerm("제주", 17), new TrendingTerm("캠핑", 9)));
+
+        // when & then
+        mockMvc.perform(get("/api/trending").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.boards[0].id").value(1))
+                .andExpect(jsonPath("$.data.boards[0].title").value("여행 게시판"))
+                .andExpect(jsonPath("$.data.boards[0].count").value(42))
+                .andExpect(jsonPath("$.data.terms.length()").value(2))
+                .andExpect(jsonPath("$.data.terms[0].term").value("제주"));
+    }
+}
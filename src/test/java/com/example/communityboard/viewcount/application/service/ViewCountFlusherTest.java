@@ -0,0 +1,91 @@
+package com.example.communityboard.viewcount.application.service;
+
+import com.example.communityboard.viewcount.domain.repository.ViewCountRepository;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountFlusherTest {
+
+    @Mock
+    private ViewCountRepository viewCountRepository;
+
+    private ViewCountService viewCountService;
+    private ViewCountFlusher viewCountFlusher;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService = new ViewCountService();
+        viewCountFlusher = new ViewCountFlusher(viewCountService, viewCountRepository);
+    }
+
+    @Test
+    @DisplayName("쌓인 증가분을 대상별로 한 번에 반영한다")
+    void flush() {
+        // given
+        viewCountService.recordView(ViewTarget.POST, 3L);
+        viewCountService.recordView(ViewTarget.POST, 1L);
+        viewCountService.recordView(ViewTarget.BOARD, 7L);
+
+        // when
+        viewCountFlusher.flush();
+
+        // then
+        verify(viewCountRepository).addViewCounts(ViewTarget.POST, new TreeMap<>(Map.of(1L, 1L, 3L, 1L)));
+        verify(viewCountRepository).addViewCounts(ViewTarget.BOARD, new TreeMap<>(Map.of(7L, 1L)));
+        assertThat(viewCountService.pendingCount(ViewTarget.POST, 1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 DB를 호출하지 않는다")
+    void flushNothing() {
+        // when
+        viewCountFlusher.flush();
+
+        // then
+        verifyNoInteractions(viewCountRepository);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 되돌려 다음 주기에 다시 시도한다")
+    void flushFailure() {
+        // given
+        viewCountService.recordView(ViewTarget.POST, 1L);
+        doThrow(new IllegalStateException("db down"))
+                .when(viewCountRepository).addViewCounts(eq(ViewTarget.POST), any());
+
+        // when
+        viewCountFlusher.flush();
+
+        // then
+        assertThat(viewCountService.pendingCount(ViewTarget.POST, 1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 증가분을 모두 반영한다")
+    void stopDrainsPending() {
+        // given
+        viewCountFlusher.start();
+        viewCountService.recordView(ViewTarget.BOARD, 1L);
+
+        // when
+        viewCountFlusher.stop();
+
+        // then
+        verify(viewCountRepository).addViewCounts(ViewTarget.BOARD, new TreeMap<>(Map.of(1L, 1L)));
+        assertThat(viewCountFlusher.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.communityboard.viewcount.application.service;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCountServiceTest {
+
+    private final ViewCountService viewCountService = new ViewCountService();
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회해도 조회수가 빠짐없이 쌓인다")
+    void concurrentRecordView() throws InterruptedException {
+        // given
+        int threads = 8;
+        int viewsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < viewsPerThread; j++) {
+                    viewCountService.recordView(ViewTarget.POST, 1L);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(viewCountService.pendingCount(ViewTarget.POST, 1L)).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("DB 조회수에 반영 전 증가분을 더해 보여준다")
+    void currentCount() {
+        // given
+        viewCountService.recordView(ViewTarget.BOARD, 1L);
+        viewCountService.recordView(ViewTarget.BOARD, 1L);
+
+        // when & then
+        assertThat(viewCountService.currentCount(ViewTarget.BOARD, 1L, 10L)).isEqualTo(12L);
+        assertThat(viewCountService.currentCount(ViewTarget.POST, 1L, 10L)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("꺼낸 증가분은 반영이 끝날 때까지 조회 결과에 남아 있다")
+    void drainKeepsFlushingVisible() {
+        // given
+        viewCountService.recordView(ViewTarget.POST, 2L);
+        viewCountService.recordView(ViewTarget.POST, 1L);
+        viewCountService.recordView(ViewTarget.POST, 1L);
+
+        // when
+        SortedMap<Long, Long> deltas = viewCountService.drain(ViewTarget.POST);
+        viewCountService.recordView(ViewTarget.POST, 1L);
+
+        // then
+        assertThat(deltas).containsExactly(Map.entry(1L, 2L), Map.entry(2L, 1L));
+        assertThat(viewCountService.pendingCount(ViewTarget.POST, 1L)).isEqualTo(3L);
+
+        viewCountService.completeFlush(ViewTarget.POST);
+        assertThat(viewCountService.pendingCount(ViewTarget.POST, 1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다음 주기에 다시 꺼내진다")
+    void restore() {
+        // given
+        viewCountService.recordView(ViewTarget.POST, 1L);
+        SortedMap<Long, Long> deltas = viewCountService.drain(ViewTarget.POST);
+
+        // when
+        viewCountService.restore(ViewTarget.POST, deltas);
+
+        // then
+        assertThat(viewCountService.pendingCount(ViewTarget.POST, 1L)).isEqualTo(1L);
+        assertThat(viewCountService.drain(ViewTarget.POST)).containsExactly(Map.entry(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 조회가 없던 항목은 정리되고 다시 조회하면 새로 쌓인다")
+    void idleEntryRemoved() {
+        // given
+        viewCountService.recordView(ViewTarget.POST, 1L);
+        viewCountService.drain(ViewTarget.POST);
+        viewCountService.completeFlush(ViewTarget.POST);
+
+        // when
+        SortedMap<Long, Long> idle = viewCountService.drain(ViewTarget.POST);
+        viewCountService.recordView(ViewTarget.POST, 1L);
+
+        // then
+        assertThat(idle).isEmpty();
+        assertThat(viewCountService.drain(ViewTarget.POST)).containsExactly(Map.entry(1L, 1L));
+    }
+}
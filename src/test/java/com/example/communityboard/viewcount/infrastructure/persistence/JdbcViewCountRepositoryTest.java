@@ -0,0 +1,75 @@
+package com.example.communityboard.viewcount.infrastructure.persistence;
+
+import com.example.communityboard.board.domain.entity.Board;
+import com.example.communityboard.board.domain.entity.BoardType;
+import com.example.communityboard.board.domain.repository.BoardRepository;
+import com.example.communityboard.board.infrastructure.persistence.BoardRepositoryImpl;
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.viewcount.domain.repository.ViewCountRepository;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcViewCountRepository.class, BoardRepositoryImpl.class, JpaConfig.class})
+class JdbcViewCountRepositoryTest {
+
+    @Autowired
+    private ViewCountRepository viewCountRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("여러 행의 증가분을 한 번의 배치로 더한다")
+    void addViewCounts() {
+        // given
+        Board first = boardRepository.save(Board.create("자유게시판", "설명", BoardType.FREE));
+        Board second = boardRepository.save(Board.create("질문게시판", "설명", BoardType.QNA));
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+        deltas.put(first.getId(), 5L);
+        deltas.put(second.getId(), 2L);
+
+        // when
+        viewCountRepository.addViewCounts(ViewTarget.BOARD, deltas);
+        viewCountRepository.addViewCounts(ViewTarget.BOARD, new TreeMap<>(deltas));
+        entityManager.clear();
+
+        // then
+        assertThat(boardRepository.findById(first.getId()).orElseThrow().getViewCount()).isEqualTo(10L);
+        assertThat(boardRepository.findById(second.getId()).orElseThrow().getViewCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("엔티티를 수정해 저장해도 반영된 조회수를 덮어쓰지 않는다")
+    void entityUpdateKeepsViewCount() {
+        // given
+        Board board = boardRepository.save(Board.create("자유게시판", "설명", BoardType.FREE));
+        entityManager.flush();
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+        deltas.put(board.getId(), 3L);
+        viewCountRepository.addViewCounts(ViewTarget.BOARD, deltas);
+
+        // when
+        board.updateBoardInfo("수정된 게시판", "설명");
+        boardRepository.save(board);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Board reloaded = boardRepository.findById(board.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("수정된 게시판");
+        assertThat(reloaded.getViewCount()).isEqualTo(3L);
+    }
+}
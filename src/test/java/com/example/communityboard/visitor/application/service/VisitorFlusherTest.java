@@ -0,0 +1,108 @@
+package com.example.communityboard.visitor.application.service;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.domain.HyperLogLog;
+import com.example.communityboard.visitor.domain.repository.VisitorSketchRepository;
+import com.example.communityboard.visitor.domain.vo.VisitorSketchKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorFlusherTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private VisitorSketchRepository visitorSketchRepository;
+
+    @Captor
+    private ArgumentCaptor<Map<VisitorSketchKey, HyperLogLog>> sketches;
+
+    private VisitorService visitorService;
+    private VisitorFlusher visitorFlusher;
+
+    @BeforeEach
+    void setUp() {
+        visitorService = new VisitorService(visitorSketchRepository);
+        visitorFlusher = new VisitorFlusher(visitorService, visitorSketchRepository);
+    }
+
+    @Test
+    @DisplayName("새 방문자가 있는 스케치만 한 번에 반영한다")
+    void flush() {
+        // given
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:1", DAY);
+        visitorService.recordVisit(ViewTarget.BOARD, 7L, "member:1", DAY);
+
+        // when
+        visitorFlusher.flush();
+
+        // then
+        verify(visitorSketchRepository).mergeSketches(sketches.capture());
+        assertThat(sketches.getValue()).containsOnlyKeys(
+                new VisitorSketchKey(ViewTarget.POST, 1L, DAY), new VisitorSketchKey(ViewTarget.BOARD, 7L, DAY));
+        assertThat(sketches.getValue().get(new VisitorSketchKey(ViewTarget.POST, 1L, DAY)).estimate()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 센 방문자만 다시 오면 DB를 호출하지 않는다")
+    void flushNothingAfterRepeatVisit() {
+        // given
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:1", DAY);
+        visitorFlusher.flush();
+
+        // when
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:1", DAY);
+        visitorFlusher.flush();
+
+        // then
+        verify(visitorSketchRepository, times(1)).mergeSketches(any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 주기에 다시 시도한다")
+    void flushFailure() {
+        // given
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:1", DAY);
+        doThrow(new IllegalStateException("db down")).doNothing()
+                .when(visitorSketchRepository).mergeSketches(any());
+        visitorFlusher.flush();
+
+        // when
+        visitorFlusher.flush();
+
+        // then
+        verify(visitorSketchRepository, times(2)).mergeSketches(sketches.capture());
+        assertThat(sketches.getValue()).containsOnlyKeys(new VisitorSketchKey(ViewTarget.POST, 1L, DAY));
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 새 방문자가 없던 스케치는 메모리에서 내린다")
+    void retireIdleSketch() {
+        // given
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:1", DAY);
+        visitorFlusher.flush();
+        visitorFlusher.flush();
+
+        // when
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:2", DAY);
+        visitorFlusher.flush();
+
+        // then
+        verify(visitorSketchRepository, times(2)).mergeSketches(sketches.capture());
+        assertThat(sketches.getValue().get(new VisitorSketchKey(ViewTarget.POST, 1L, DAY)).estimate()).isEqualTo(1);
+    }
+}
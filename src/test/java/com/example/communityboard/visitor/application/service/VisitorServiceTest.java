@@ -0,0 +1,94 @@
+package com.example.communityboard.visitor.application.service;
+
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.domain.HyperLogLog;
+import com.example.communityboard.visitor.domain.repository.VisitorSketchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private VisitorSketchRepository visitorSketchRepository;
+
+    @InjectMocks
+    private VisitorService visitorService;
+
+    @Test
+    @DisplayName("같은 날 같은 방문자는 한 번만 센다")
+    void countDistinctVisitors() {
+        // given
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:1", DAY);
+        visitorService.recordVisit(ViewTarget.POST, 1L, "member:1", DAY);
+        visitorService.recordVisit(ViewTarget.POST, 1L, "client:127.0.0.1", DAY);
+        visitorService.recordVisit(ViewTarget.POST, 2L, "member:2", DAY);
+        when(visitorSketchRepository.findSketches(ViewTarget.POST, 1L, DAY, DAY)).thenReturn(List.of());
+
+        // when
+        long visitors = visitorService.countVisitors(ViewTarget.POST, 1L, DAY, DAY);
+
+        // then
+        assertThat(visitors).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기간 조회는 저장된 날짜별 스케치와 아직 반영되지 않은 방문을 합쳐 중복 없이 센다")
+    void countVisitorsInRange() {
+        // given
+        HyperLogLog stored = new HyperLogLog();
+        stored.add("member:1");
+        stored.add("member:2");
+        visitorService.recordVisit(ViewTarget.BOARD, 1L, "member:2", DAY.plusDays(1));
+        visitorService.recordVisit(ViewTarget.BOARD, 1L, "member:3", DAY.plusDays(1));
+        when(visitorSketchRepository.findSketches(ViewTarget.BOARD, 1L, DAY, DAY.plusDays(6)))
+                .thenReturn(List.of(stored));
+
+        // when
+        long visitors = visitorService.countVisitors(ViewTarget.BOARD, 1L, DAY, DAY.plusDays(6));
+
+        // then
+        assertThat(visitors).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("방문자를 구별할 수 없으면 세지 않는다")
+    void ignoreUnknownVisitor() {
+        // when
+        visitorService.recordVisit(ViewTarget.POST, 1L, null, DAY);
+
+        // then
+        assertThat(visitorService.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외가 발생한다")
+    void invalidRange() {
+        // when & then
+        assertThatThrownBy(() -> visitorService.countVisitors(ViewTarget.POST, 1L, DAY, DAY.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시작일은 종료일보다 늦을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("조회 기간이 너무 길면 예외가 발생한다")
+    void rangeTooLong() {
+        // when & then
+        assertThatThrownBy(() -> visitorService.countVisitors(ViewTarget.POST, 1L, DAY, DAY.plusDays(366)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("방문자 수는 최대 366일까지 조회할 수 있습니다.");
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.communityboard.visitor.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 방문자는 한 번만 센다")
+    void countsDistinct() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        boolean first = sketch.add("member:1");
+        boolean again = sketch.add("member:1");
+        sketch.add("member:2");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(again).isFalse();
+        assertThat(sketch.estimate()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("방문자가 많아도 오차가 작다")
+    void estimateLargeCardinality() {
+        // given
+        HyperLogLog sketch = sketchOf(0, 100_000);
+
+        // when & then
+        assertThat(sketch.estimate()).isCloseTo(100_000L, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("합치면 두 스케치의 합집합을 센다")
+    void merge() {
+        // given
+        HyperLogLog first = sketchOf(0, 60_000);
+        HyperLogLog second = sketchOf(30_000, 90_000);
+
+        // when
+        first.merge(second);
+        first.merge(second);
+
+        // then
+        assertThat(first.estimate()).isCloseTo(90_000L, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("방문자가 적으면 0이 아닌 레지스터만 저장하고, 읽으면 같은 스케치가 된다")
+    void sparseBytes() {
+        // given
+        HyperLogLog sketch = sketchOf(0, 10);
+
+        // when
+        byte[] bytes = sketch.toBytes();
+
+        // then
+        assertThat(bytes.length).isLessThan(64);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("방문자가 많아도 저장 크기는 레지스터 수를 넘지 않는다")
+    void denseBytes() {
+        // given
+        HyperLogLog sketch = sketchOf(0, 100_000);
+
+        // when
+        byte[] bytes = sketch.toBytes();
+
+        // then
+        assertThat(bytes.length).isLessThanOrEqualTo(HyperLogLog.REGISTER_COUNT + 2);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("형식이 다른 바이트는 읽지 않는다")
+    void invalidBytes() {
+        // when & then
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{1, 14, 0}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("HyperLogLog 스케치 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 더해도 방문자를 잃지 않는다")
+    void concurrentAdd() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        HyperLogLog expected = sketchOf(0, 200_000);
+
+        // when
+        IntStream.range(0, 200_000).parallel().forEach(i -> sketch.add("member:" + i));
+
+        // then
+        assertThat(sketch.estimate()).isEqualTo(expected.estimate());
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add("member:" + i);
+        }
+        return sketch;
+    }
+}
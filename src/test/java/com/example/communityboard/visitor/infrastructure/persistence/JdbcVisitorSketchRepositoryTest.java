@@ -0,0 +1,70 @@
+package com.example.communityboard.visitor.infrastructure.persistence;
+
+import com.example.communityboard.common.config.JpaConfig;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.domain.HyperLogLog;
+import com.example.communityboard.visitor.domain.repository.VisitorSketchRepository;
+import com.example.communityboard.visitor.domain.vo.VisitorSketchKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcVisitorSketchRepository.class, JpaConfig.class})
+class JdbcVisitorSketchRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private VisitorSketchRepository visitorSketchRepository;
+
+    @Test
+    @DisplayName("같은 날의 스케치는 저장된 스케치에 합친다")
+    void mergeSketches() {
+        // given
+        VisitorSketchKey key = new VisitorSketchKey(ViewTarget.POST, 1L, DAY);
+        visitorSketchRepository.mergeSketches(Map.of(key, sketchOf("member:1", "member:2")));
+
+        // when
+        visitorSketchRepository.mergeSketches(Map.of(key, sketchOf("member:2", "member:3")));
+
+        // then
+        List<HyperLogLog> stored = visitorSketchRepository.findSketches(ViewTarget.POST, 1L, DAY, DAY);
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0).estimate()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기간 안의 날짜별 스케치만 대상별로 읽는다")
+    void findSketchesInRange() {
+        // given
+        visitorSketchRepository.mergeSketches(Map.of(
+                new VisitorSketchKey(ViewTarget.POST, 1L, DAY), sketchOf("member:1"),
+                new VisitorSketchKey(ViewTarget.POST, 1L, DAY.plusDays(1)), sketchOf("member:2"),
+                new VisitorSketchKey(ViewTarget.POST, 1L, DAY.plusDays(7)), sketchOf("member:3"),
+                new VisitorSketchKey(ViewTarget.POST, 2L, DAY), sketchOf("member:4"),
+                new VisitorSketchKey(ViewTarget.BOARD, 1L, DAY), sketchOf("member:5")));
+
+        // when
+        List<HyperLogLog> stored = visitorSketchRepository.findSketches(ViewTarget.POST, 1L, DAY, DAY.plusDays(6));
+
+        // then
+        assertThat(stored).hasSize(2);
+    }
+
+    private static HyperLogLog sketchOf(String... visitors) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (String visitor : visitors) {
+            sketch.add(visitor);
+        }
+        return sketch;
+    }
+}
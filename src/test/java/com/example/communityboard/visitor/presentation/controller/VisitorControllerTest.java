@@ -0,0 +1,78 @@
+package com.example.communityboard.visitor.presentation.controller;
+
+import com.example.communityboard.common.config.SecurityConfig;
+import com.example.communityboard.viewcount.domain.vo.ViewTarget;
+import com.example.communityboard.visitor.application.service.VisitorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(VisitorController.class)
+@Import(SecurityConfig.class)
+class VisitorControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VisitorService visitorService;
+
+    @Test
+    @DisplayName("게시글의 기간별 중복 없는 방문자 수를 조회한다")
+    @WithMockUser
+    void getPostVisitors() throws Exception {
+        // given
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 7);
+        when(visitorService.countVisitors(ViewTarget.POST, 5L, from, to)).thenReturn(42L);
+
+        // when & then
+        mockMvc.perform(get("/api/posts/5/visitors").param("from", "2025-03-01").param("to", "2025-03-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(5))
+                .andExpect(jsonPath("$.data.from").value("2025-03-01"))
+                .andExpect(jsonPath("$.data.to").value("2025-03-07"))
+                .andExpect(jsonPath("$.data.visitors").value(42));
+    }
+
+    @Test
+    @DisplayName("기간을 생략하면 오늘 하루의 게시판 방문자 수를 조회한다")
+    @WithMockUser
+    void getBoardVisitorsToday() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+        when(visitorService.countVisitors(ViewTarget.BOARD, 1L, today, today)).thenReturn(7L);
+
+        // when & then
+        mockMvc.perform(get("/api/boards/1/visitors"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.visitors").value(7));
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 400을 응답한다")
+    @WithMockUser
+    void invalidRange() throws Exception {
+        // given
+        LocalDate from = LocalDate.of(2025, 3, 7);
+        LocalDate to = LocalDate.of(2025, 3, 1);
+        when(visitorService.countVisitors(ViewTarget.POST, 5L, from, to))
+                .thenThrow(new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/5/visitors").param("from", "2025-03-07").param("to", "2025-03-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("시작일은 종료일보다 늦을 수 없습니다."));
+    }
+}